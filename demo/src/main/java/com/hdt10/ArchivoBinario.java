@@ -0,0 +1,418 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ArchivoBinario.java
+ * Descripción: Formato binario compacto del grafo: nombres de las ciudades, conexiones en orden CSR con sus cuatro
+ *              tiempos, condiciones actuales y, si se pide, las matrices de distancias y sucesores de floyd().
+ *              Cada sección empieza en un múltiplo de 8 bytes y usa el orden de bytes little-endian, así que se
+ *              carga con FileChannel.map y copias en bloque a los arreglos del grafo, sin convertir texto.
+ *              También convierte archivos de texto desde la línea de comandos:
+ *              java -cp target/classes com.hdt10.ArchivoBinario texto binario [--rutas]
+ */
+
+package com.hdt10;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class ArchivoBinario {
+    // Los bytes 'H', 'D', 'T', 'G' al inicio del archivo
+    public final static int MAGICO = 0x47544448;
+    public final static int VERSION = 1;
+
+    private final static int TAMANO_ENCABEZADO = 32;
+    private final static int BANDERA_RUTAS = 1;
+    private final static CondicionClimatica[] CONDICIONES = CondicionClimatica.values();
+
+    // Las secciones se mapean por partes de a lo sumo 1 GB, porque un MappedByteBuffer no pasa de 2 GB
+    private final static int TAMANO_PARTE = 1 << 30;
+
+    private ArchivoBinario() {
+    }
+
+    /**
+     * Convierte un archivo de texto a binario desde la línea de comandos.
+     *
+     * @param args Archivo de texto, archivo binario y, opcionalmente, --rutas para incluir las rutas de floyd().
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Uso: ArchivoBinario texto binario [--rutas]");
+            return;
+        }
+        boolean incluirRutas = args.length > 2 && args[2].equals("--rutas");
+        long inicio = System.nanoTime();
+        if (convertir(args[0], args[1], incluirRutas)) {
+            System.out.printf("Archivo binario creado en %.1f s%n", (System.nanoTime() - inicio) / 1e9);
+        }
+    }
+
+    /**
+     * Convierte un archivo de conexiones de texto al formato binario.
+     *
+     * @param rutaTexto Archivo de texto con el formato de LectorArchivo.
+     * @param rutaBinario Archivo binario a crear; se reemplaza si existe.
+     * @param incluirRutas true para calcular las rutas con floyd() y guardarlas también.
+     * @return true si se convirtió exitosamente, false en caso contrario.
+     */
+    public static boolean convertir(String rutaTexto, String rutaBinario, boolean incluirRutas) {
+        Grafo grafo = new Grafo(16);
+        if (!LectorArchivo.cargarConexiones(rutaTexto, grafo, incluirRutas)) {
+            return false;
+        }
+        try {
+            guardar(grafo, rutaBinario, incluirRutas);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error al crear el archivo: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Indica si un archivo empieza con el número mágico del formato binario.
+     *
+     * @param archivo Archivo a revisar.
+     * @return true si es un archivo binario de grafo.
+     * @throws IOException Si no se puede leer.
+     */
+    public static boolean esBinario(File archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo.toPath(), StandardOpenOption.READ)) {
+            return esBinario(canal);
+        }
+    }
+
+    static boolean esBinario(FileChannel canal) throws IOException {
+        ByteBuffer magico = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        return canal.read(magico, 0) == 4 && magico.getInt(0) == MAGICO;
+    }
+
+    /**
+     * Guarda el grafo en formato binario.
+     *
+     * @param grafo Grafo a guardar.
+     * @param ruta Archivo a crear; se reemplaza si existe.
+     * @param incluirRutas true para guardar también las rutas entre todas las ciudades, calculándolas si hace falta.
+     * @throws IOException Si no se puede escribir.
+     */
+    public static void guardar(Grafo grafo, String ruta, boolean incluirRutas) throws IOException {
+        GrafoCSR vista = grafo.getCSR();
+        int n = vista.getCantidadCiudades();
+        int m = vista.getCantidadConexiones();
+        ResultadoRutas rutas = incluirRutas ? grafo.getResultadoRutas() : null;
+
+        // Tabla de nombres: inicio de cada nombre dentro de los bytes de todos, en UTF-8
+        int[] inicioNombre = new int[n + 1];
+        byte[][] nombres = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            nombres[i] = grafo.getNombreCiudad(i).getBytes(StandardCharsets.UTF_8);
+            inicioNombre[i + 1] = inicioNombre[i] + nombres[i].length;
+        }
+        byte[] bytesNombres = new byte[inicioNombre[n]];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(nombres[i], 0, bytesNombres, inicioNombre[i], nombres[i].length);
+        }
+        byte[] condiciones = new byte[m];
+        for (int k = 0; k < m; k++) {
+            condiciones[k] = (byte) grafo.getCondicionArista(vista.aristas[k]);
+        }
+
+        try (FileChannel canal = FileChannel.open(new File(ruta).toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Escritor escritor = new Escritor(canal);
+            escritor.escribirEnteros(new int[] {MAGICO, VERSION, n, m, (rutas != null) ? BANDERA_RUTAS : 0,
+                                                inicioNombre[n], 0, 0});
+            escritor.escribirEnteros(inicioNombre);
+            escritor.escribirBytes(bytesNombres);
+            escritor.escribirEnteros(vista.desplazamientos);
+            escritor.escribirEnteros(vista.destinos);
+            for (int c = 0; c < CONDICIONES.length; c++) {
+                escritor.escribirDecimales(vista.pesos[c]);
+            }
+            escritor.escribirBytes(condiciones);
+            if (rutas != null) {
+                escritor.escribirDecimales(rutas.getDistancias());
+                escritor.escribirEnteros(rutas.getSiguientes());
+            }
+            escritor.vaciar();
+        }
+    }
+
+    /**
+     * Carga un grafo nuevo desde un archivo binario.
+     *
+     * @param ruta Archivo binario.
+     * @return Grafo con las ciudades, conexiones y condiciones guardadas, y las rutas si el archivo las incluye.
+     * @throws IOException Si no se puede leer o no tiene el formato binario.
+     */
+    public static Grafo cargar(String ruta) throws IOException {
+        Grafo grafo = new Grafo(16);
+        try (FileChannel canal = FileChannel.open(new File(ruta).toPath(), StandardOpenOption.READ)) {
+            cargar(canal, grafo);
+        }
+        return grafo;
+    }
+
+    /**
+     * Carga un archivo binario en un grafo. En un grafo vacío los arreglos leídos pasan directo al grafo junto con
+     * las rutas guardadas; si el grafo ya tiene ciudades, las conexiones se agregan como las de un archivo de texto
+     * y se les aplican las condiciones guardadas.
+     *
+     * @param canal Canal del archivo binario.
+     * @param grafo Grafo donde se cargarán los datos.
+     * @throws IOException Si no se puede leer o no tiene el formato binario.
+     */
+    static void cargar(FileChannel canal, Grafo grafo) throws IOException {
+        Lector lector = new Lector(canal);
+        int[] encabezado = new int[TAMANO_ENCABEZADO / 4];
+        lector.leerEnteros(encabezado);
+        if (encabezado[0] != MAGICO) {
+            throw new IOException("El archivo no tiene el formato binario de grafo");
+        }
+        if (encabezado[1] != VERSION) {
+            throw new IOException("Versión de formato binario no soportada: " + encabezado[1]);
+        }
+        int n = encabezado[2];
+        int m = encabezado[3];
+        boolean hayRutas = (encabezado[4] & BANDERA_RUTAS) != 0;
+        if (n < 0 || m < 0 || encabezado[5] < 0 || (hayRutas && (long) n * n > Integer.MAX_VALUE)) {
+            throw new IOException("Encabezado del archivo binario inválido");
+        }
+        // Antes de reservar los arreglos, para que un archivo cortado no pida memoria por lo que le falta
+        if (canal.size() < tamanoEsperado(n, m, encabezado[5], hayRutas)) {
+            throw new IOException("El archivo binario está incompleto");
+        }
+
+        int[] inicioNombre = new int[n + 1];
+        lector.leerEnteros(inicioNombre);
+        byte[] bytesNombres = new byte[encabezado[5]];
+        lector.leerBytes(bytesNombres);
+        String[] nombres = new String[n];
+        Set<String> distintos = new HashSet<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            if (inicioNombre[i] < 0 || inicioNombre[i] > inicioNombre[i + 1]
+                    || inicioNombre[i + 1] > bytesNombres.length) {
+                throw new IOException("Tabla de nombres inválida en el archivo binario");
+            }
+            nombres[i] = new String(bytesNombres, inicioNombre[i], inicioNombre[i + 1] - inicioNombre[i],
+                                    StandardCharsets.UTF_8);
+            if (!distintos.add(nombres[i])) {
+                throw new IOException("Ciudad repetida en el archivo binario: " + nombres[i]);
+            }
+        }
+
+        int[] desplazamientos = new int[n + 1];
+        lector.leerEnteros(desplazamientos);
+        int[] destinos = new int[m];
+        lector.leerEnteros(destinos);
+        double[][] pesos = new double[CONDICIONES.length][m];
+        for (int c = 0; c < CONDICIONES.length; c++) {
+            lector.leerDecimales(pesos[c]);
+        }
+        byte[] condiciones = new byte[m];
+        lector.leerBytes(condiciones);
+        validarConexiones(n, m, desplazamientos, destinos, condiciones);
+
+        if (grafo.getCiudades().isEmpty()) {
+            ResultadoRutas rutas = null;
+            if (hayRutas) {
+                double[] distancias = new double[n * n];
+                int[] siguientes = new int[n * n];
+                lector.leerDecimales(distancias);
+                lector.leerEnteros(siguientes);
+                rutas = new ResultadoRutas(n, distancias, siguientes);
+            }
+            grafo.cargarCSR(nombres, desplazamientos, destinos, pesos, condiciones, rutas);
+            return;
+        }
+
+        // Grafo con ciudades: los índices del archivo no coinciden con los del grafo y las rutas no sirven
+        ConstructorGrafo constructor = new ConstructorGrafo(m);
+        for (int i = 0; i < n; i++) {
+            constructor.agregarCiudad(nombres[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int k = desplazamientos[i]; k < desplazamientos[i + 1]; k++) {
+                constructor.agregarConexion(i, destinos[k], pesos[0][k], pesos[1][k], pesos[2][k], pesos[3][k]);
+            }
+        }
+        grafo.agregarConexiones(constructor);
+        int[] indice = new int[n];
+        for (int i = 0; i < n; i++) {
+            indice[i] = grafo.getIndiceCiudad(nombres[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int k = desplazamientos[i]; k < desplazamientos[i + 1]; k++) {
+                if (condiciones[k] != CondicionClimatica.NORMAL.ordinal()) {
+                    grafo.cambiarCondicionConexion(indice[i], indice[destinos[k]], CONDICIONES[condiciones[k]]);
+                }
+            }
+        }
+    }
+
+    // Tamaño mínimo del archivo según su encabezado; la última sección puede no tener relleno
+    private static long tamanoEsperado(int n, int m, int bytesNombres, boolean hayRutas) {
+        long tamano = TAMANO_ENCABEZADO;
+        tamano += alineado(4L * (n + 1)) + alineado(bytesNombres);
+        tamano += alineado(4L * (n + 1)) + alineado(4L * m) + CONDICIONES.length * 8L * m;
+        if (hayRutas) {
+            long celdas = (long) n * n;
+            return tamano + alineado(m) + 8L * celdas + 4L * celdas;
+        }
+        return tamano + m;
+    }
+
+    private static long alineado(long bytes) {
+        return (bytes + 7) / 8 * 8;
+    }
+
+    // Revisión O(n + m) para que un archivo dañado falle al cargarlo y no en una consulta posterior
+    private static void validarConexiones(int n, int m, int[] desplazamientos, int[] destinos, byte[] condiciones)
+            throws IOException {
+        if (desplazamientos[0] != 0 || desplazamientos[n] != m) {
+            throw new IOException("Conexiones inválidas en el archivo binario");
+        }
+        for (int i = 0; i < n; i++) {
+            if (desplazamientos[i] > desplazamientos[i + 1]) {
+                throw new IOException("Conexiones inválidas en el archivo binario");
+            }
+        }
+        for (int k = 0; k < m; k++) {
+            if (destinos[k] < 0 || destinos[k] >= n || condiciones[k] < 0 || condiciones[k] >= CONDICIONES.length) {
+                throw new IOException("Conexiones inválidas en el archivo binario");
+            }
+        }
+    }
+
+    /**
+     * Escribe cada arreglo como una sección, a través de un bloque intermedio, y rellena con ceros hasta que la
+     * siguiente sección empiece en un múltiplo de 8.
+     */
+    private static final class Escritor {
+        private final FileChannel canal;
+        private final ByteBuffer bloque = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+
+        Escritor(FileChannel canal) {
+            this.canal = canal;
+        }
+
+        void escribirEnteros(int[] valores) throws IOException {
+            for (int desde = 0; desde < valores.length; ) {
+                int cantidad = Math.min(valores.length - desde, espacio() / 4);
+                bloque.asIntBuffer().put(valores, desde, cantidad);
+                bloque.position(bloque.position() + cantidad * 4);
+                desde += cantidad;
+            }
+            alinear();
+        }
+
+        void escribirDecimales(double[] valores) throws IOException {
+            for (int desde = 0; desde < valores.length; ) {
+                int cantidad = Math.min(valores.length - desde, espacio() / 8);
+                bloque.asDoubleBuffer().put(valores, desde, cantidad);
+                bloque.position(bloque.position() + cantidad * 8);
+                desde += cantidad;
+            }
+            alinear();
+        }
+
+        void escribirBytes(byte[] valores) throws IOException {
+            for (int desde = 0; desde < valores.length; ) {
+                int cantidad = Math.min(valores.length - desde, espacio());
+                bloque.put(valores, desde, cantidad);
+                desde += cantidad;
+            }
+            alinear();
+        }
+
+        // El bloque siempre tiene al menos 8 bytes libres después de espacio(), así que el relleno cabe
+        private void alinear() throws IOException {
+            long posicion = canal.position() + bloque.position();
+            int relleno = (int) ((8 - posicion % 8) % 8);
+            espacio();
+            for (int b = 0; b < relleno; b++) bloque.put((byte) 0);
+        }
+
+        // Espacio libre en el bloque, vaciándolo si queda menos de un valor de 8 bytes
+        private int espacio() throws IOException {
+            if (bloque.remaining() < 8) vaciar();
+            return bloque.remaining();
+        }
+
+        void vaciar() throws IOException {
+            bloque.flip();
+            while (bloque.hasRemaining()) canal.write(bloque);
+            bloque.clear();
+        }
+    }
+
+    /**
+     * Lee secciones consecutivas del archivo mapeándolas a memoria y copiándolas en bloque a los arreglos; después
+     * de cada sección salta el relleno hasta el siguiente múltiplo de 8.
+     */
+    private static final class Lector {
+        private final FileChannel canal;
+        private final long tamano;
+        private long posicion = 0;
+
+        Lector(FileChannel canal) throws IOException {
+            this.canal = canal;
+            this.tamano = canal.size();
+        }
+
+        // Mapea la siguiente parte de la sección y avanza la posición
+        private ByteBuffer mapear(long bytes) throws IOException {
+            if (posicion + bytes > tamano) {
+                throw new IOException("El archivo binario está incompleto");
+            }
+            MappedByteBuffer parte = canal.map(FileChannel.MapMode.READ_ONLY, posicion, bytes);
+            posicion += bytes;
+            return parte.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void leerEnteros(int[] destino) throws IOException {
+            for (int desde = 0; desde < destino.length; ) {
+                int cantidad = Math.min(destino.length - desde, TAMANO_PARTE / 4);
+                mapear(cantidad * 4L).asIntBuffer().get(destino, desde, cantidad);
+                desde += cantidad;
+            }
+            alinear();
+        }
+
+        void leerDecimales(double[] destino) throws IOException {
+            for (int desde = 0; desde < destino.length; ) {
+                int cantidad = Math.min(destino.length - desde, TAMANO_PARTE / 8);
+                mapear(cantidad * 8L).asDoubleBuffer().get(destino, desde, cantidad);
+                desde += cantidad;
+            }
+            alinear();
+        }
+
+        void leerBytes(byte[] destino) throws IOException {
+            for (int desde = 0; desde < destino.length; ) {
+                int cantidad = Math.min(destino.length - desde, TAMANO_PARTE);
+                mapear(cantidad).get(destino, desde, cantidad);
+                desde += cantidad;
+            }
+            alinear();
+        }
+
+        private void alinear() {
+            posicion = (posicion + 7) / 8 * 8;
+        }
+    }
+}
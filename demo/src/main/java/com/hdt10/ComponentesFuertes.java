@@ -0,0 +1,304 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ComponentesFuertes.java
+ * Descripción: Índice de componentes fuertemente conexas del grafo, calculado con el algoritmo de Tarjan sin
+ *              recursión sobre la vista CSR. Las componentes se numeran en orden topológico: una conexión entre
+ *              componentes distintas siempre va de una de número menor a una de número mayor. Guarda el cierre
+ *              transitivo de las componentes como bits, así que saber si una ciudad llega a otra cuesta O(1);
+ *              con más de MAXIMO_COMPONENTES_CIERRE componentes no lo guarda y la consulta recorre las componentes.
+ *              También agrupa las componentes que no tienen ninguna conexión con las de otros grupos (por ejemplo,
+ *              países sin carreteras entre sí), que se pueden calcular por separado.
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+
+public final class ComponentesFuertes {
+    // Con más componentes, el cierre transitivo ocuparía más de 8 MB
+    public final static int MAXIMO_COMPONENTES_CIERRE = 8192;
+
+    private final int n;
+    private final int cantidad;
+    private final int[] componente;
+    // Ciudades ordenadas por componente; las de la componente c están en [inicio[c], inicio[c + 1])
+    private final int[] ciudades;
+    private final int[] inicio;
+
+    private final int cantidadGrupos;
+    private final int[] grupoDe;
+
+    // Componentes que alcanza cada componente, palabras bits por componente; null si son demasiadas
+    private final long[] alcance;
+    private final int palabras;
+
+    // Vista para recorrer las componentes cuando no hay cierre
+    private final GrafoCSR csr;
+
+    /**
+     * Calcula las componentes de una vista del grafo.
+     *
+     * @param csr Vista CSR del grafo; solo se usa su estructura, no sus pesos.
+     */
+    ComponentesFuertes(GrafoCSR csr) {
+        this.csr = csr;
+        this.n = csr.getCantidadCiudades();
+        this.componente = new int[n];
+        this.cantidad = tarjan();
+
+        // Ciudades ordenadas por componente
+        inicio = new int[cantidad + 1];
+        for (int v = 0; v < n; v++) inicio[componente[v] + 1]++;
+        for (int c = 0; c < cantidad; c++) inicio[c + 1] += inicio[c];
+        ciudades = new int[n];
+        int[] siguiente = Arrays.copyOf(inicio, cantidad);
+        for (int v = 0; v < n; v++) ciudades[siguiente[componente[v]]++] = v;
+
+        // Grupos: componentes unidas por alguna conexión, en cualquier sentido
+        int[] padre = new int[cantidad];
+        for (int c = 0; c < cantidad; c++) padre[c] = c;
+        for (int u = 0; u < n; u++) {
+            for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                int a = raiz(padre, componente[u]);
+                int b = raiz(padre, componente[csr.destinos[k]]);
+                if (a != b) padre[Math.max(a, b)] = Math.min(a, b);
+            }
+        }
+        grupoDe = new int[cantidad];
+        int grupos = 0;
+        for (int c = 0; c < cantidad; c++) {
+            int r = raiz(padre, c);
+            grupoDe[c] = (r == c) ? grupos++ : grupoDe[r];
+        }
+        cantidadGrupos = grupos;
+
+        if (cantidad > MAXIMO_COMPONENTES_CIERRE) {
+            alcance = null;
+            palabras = 0;
+            return;
+        }
+        // Cierre transitivo desde las últimas componentes, que solo alcanzan componentes de número mayor
+        palabras = (cantidad + 63) >>> 6;
+        alcance = new long[cantidad * palabras];
+        int[] ultimaUnion = new int[cantidad];
+        Arrays.fill(ultimaUnion, -1);
+        for (int c = cantidad - 1; c >= 0; c--) {
+            int base = c * palabras;
+            alcance[base + (c >>> 6)] |= 1L << c;
+            for (int p = inicio[c]; p < inicio[c + 1]; p++) {
+                int u = ciudades[p];
+                for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                    int d = componente[csr.destinos[k]];
+                    if (d == c || ultimaUnion[d] == c) continue;
+                    ultimaUnion[d] = c;
+                    int baseD = d * palabras;
+                    for (int w = d >>> 6; w < palabras; w++) alcance[base + w] |= alcance[baseD + w];
+                }
+            }
+        }
+    }
+
+    private static int raiz(int[] padre, int c) {
+        while (padre[c] != c) {
+            padre[c] = padre[padre[c]];
+            c = padre[c];
+        }
+        return c;
+    }
+
+    /**
+     * Tarjan con una pila de llamadas explícita. Numera las componentes en el orden en que se cierran (primero
+     * las que no salen a otras) y al final invierte la numeración para dejarla en orden topológico.
+     *
+     * @return Cantidad de componentes.
+     */
+    private int tarjan() {
+        int[] orden = new int[n];
+        int[] bajo = new int[n];
+        Arrays.fill(orden, -1);
+        boolean[] enPila = new boolean[n];
+        int[] pila = new int[n];
+        int tope = 0;
+        int[] llamadas = new int[n];
+        int[] conexion = new int[n];
+        int contador = 0;
+        int componentes = 0;
+
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (orden[raiz] != -1) continue;
+            int profundidad = 0;
+            llamadas[0] = raiz;
+            conexion[0] = csr.desplazamientos[raiz];
+            orden[raiz] = bajo[raiz] = contador++;
+            pila[tope++] = raiz;
+            enPila[raiz] = true;
+
+            while (profundidad >= 0) {
+                int u = llamadas[profundidad];
+                if (conexion[profundidad] < csr.desplazamientos[u + 1]) {
+                    int v = csr.destinos[conexion[profundidad]++];
+                    if (orden[v] == -1) {
+                        orden[v] = bajo[v] = contador++;
+                        pila[tope++] = v;
+                        enPila[v] = true;
+                        profundidad++;
+                        llamadas[profundidad] = v;
+                        conexion[profundidad] = csr.desplazamientos[v];
+                    } else if (enPila[v]) {
+                        bajo[u] = Math.min(bajo[u], orden[v]);
+                    }
+                    continue;
+                }
+                if (bajo[u] == orden[u]) {
+                    int x;
+                    do {
+                        x = pila[--tope];
+                        enPila[x] = false;
+                        componente[x] = componentes;
+                    } while (x != u);
+                    componentes++;
+                }
+                profundidad--;
+                if (profundidad >= 0) {
+                    int padre = llamadas[profundidad];
+                    bajo[padre] = Math.min(bajo[padre], bajo[u]);
+                }
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            componente[v] = componentes - 1 - componente[v];
+        }
+        return componentes;
+    }
+
+    /**
+     * Obtiene la cantidad de componentes.
+     *
+     * @return Cantidad de componentes fuertemente conexas.
+     */
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la componente de una ciudad.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Número de la componente, en orden topológico.
+     */
+    public int getComponente(int ciudad) {
+        return componente[ciudad];
+    }
+
+    /**
+     * Obtiene la cantidad de ciudades de una componente.
+     *
+     * @param c Número de la componente.
+     * @return Cantidad de ciudades.
+     */
+    public int getTamano(int c) {
+        return inicio[c + 1] - inicio[c];
+    }
+
+    /**
+     * Obtiene las ciudades de una componente.
+     *
+     * @param c Número de la componente.
+     * @return Índices de las ciudades, en orden creciente.
+     */
+    public int[] getCiudades(int c) {
+        return Arrays.copyOfRange(ciudades, inicio[c], inicio[c + 1]);
+    }
+
+    /**
+     * Obtiene la cantidad de grupos: conjuntos de componentes sin ninguna conexión hacia otro grupo.
+     *
+     * @return Cantidad de grupos.
+     */
+    public int getCantidadGrupos() {
+        return cantidadGrupos;
+    }
+
+    /**
+     * Obtiene el grupo de una componente; los grupos se numeran en el orden de su primera componente.
+     *
+     * @param c Número de la componente.
+     * @return Número del grupo.
+     */
+    public int getGrupo(int c) {
+        return grupoDe[c];
+    }
+
+    // Ciudades ordenadas por componente, en orden topológico; es el arreglo interno
+    int[] getCiudadesEnOrden() {
+        return ciudades;
+    }
+
+    /**
+     * Indica si existe una ruta de una ciudad a otra. Una ciudad siempre se alcanza a sí misma. Cuesta O(1)
+     * si hay a lo sumo MAXIMO_COMPONENTES_CIERRE componentes.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return true si hay ruta.
+     */
+    public boolean alcanza(int i, int j) {
+        return componenteAlcanza(componente[i], componente[j]);
+    }
+
+    /**
+     * Indica si una componente llega a otra.
+     *
+     * @param a Componente origen.
+     * @param b Componente destino.
+     * @return true si alguna ruta va de a a b.
+     */
+    public boolean componenteAlcanza(int a, int b) {
+        if (a == b) return true;
+        if (a > b || grupoDe[a] != grupoDe[b]) return false;
+        if (alcance != null) {
+            return (alcance[a * palabras + (b >>> 6)] & (1L << b)) != 0;
+        }
+        // Sin cierre: recorrer las componentes entre a y b, que son las únicas que pueden estar en la ruta
+        boolean[] visitada = new boolean[b - a + 1];
+        int[] pendientes = new int[b - a + 1];
+        int tope = 0;
+        pendientes[tope++] = a;
+        visitada[0] = true;
+        while (tope > 0) {
+            int c = pendientes[--tope];
+            for (int p = inicio[c]; p < inicio[c + 1]; p++) {
+                int u = ciudades[p];
+                for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                    int d = componente[csr.destinos[k]];
+                    if (d == b) return true;
+                    if (d < b && !visitada[d - a]) {
+                        visitada[d - a] = true;
+                        pendientes[tope++] = d;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si las ciudades de una componente llegan a todas las demás ciudades del grafo.
+     *
+     * @param c Número de la componente.
+     * @return true si la componente alcanza a todas las demás.
+     */
+    public boolean alcanzaTodas(int c) {
+        // Ninguna conexión llega a la componente 0 desde otra, así que solo ella puede alcanzar a todas
+        if (c != 0 || cantidadGrupos != 1) return false;
+        for (int b = 1; b < cantidad; b++) {
+            if (!componenteAlcanza(0, b)) return false;
+        }
+        return true;
+    }
+}
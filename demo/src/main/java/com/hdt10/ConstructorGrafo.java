@@ -0,0 +1,147 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ConstructorGrafo.java
+ * Descripción: Acumula ciudades y conexiones en arreglos primitivos para cargarlas de una vez en un grafo,
+ *              que reserva su memoria con el tamaño exacto en lugar de crecer conexión por conexión.
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class ConstructorGrafo {
+    private final TablaCiudades ciudades = new TablaCiudades(16);
+
+    // Conexiones en el orden en que se agregaron; los pesos se indexan por el ordinal de la condición
+    private int cantidadConexiones = 0;
+    private int[] origenes;
+    private int[] destinos;
+    private double[][] pesos;
+
+    /**
+     * Constructor con una capacidad inicial pequeña; los arreglos se duplican al llenarse.
+     */
+    public ConstructorGrafo() {
+        this(16);
+    }
+
+    /**
+     * Constructor con capacidad para la cantidad esperada de conexiones.
+     *
+     * @param capacidadConexiones Cantidad esperada de conexiones.
+     */
+    public ConstructorGrafo(int capacidadConexiones) {
+        int capacidad = Math.max(1, capacidadConexiones);
+        origenes = new int[capacidad];
+        destinos = new int[capacidad];
+        pesos = new double[CondicionClimatica.values().length][capacidad];
+    }
+
+    /**
+     * Agrega una ciudad si no existe.
+     *
+     * @param nombre Nombre de la ciudad.
+     * @return Índice de la ciudad dentro del constructor.
+     */
+    public int agregarCiudad(String nombre) {
+        return ciudades.agregar(nombre);
+    }
+
+    /**
+     * Agrega una conexión con sus tiempos según condiciones climáticas.
+     * Si la misma conexión se agrega varias veces, el grafo se queda con los últimos tiempos.
+     *
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @param tiempoNormal Tiempo en condiciones normales.
+     * @param tiempoLluvia Tiempo con lluvia.
+     * @param tiempoNieve Tiempo con nieve.
+     * @param tiempoTormenta Tiempo con tormenta.
+     */
+    public void agregarConexion(String ciudad1, String ciudad2, double tiempoNormal, double tiempoLluvia,
+                                double tiempoNieve, double tiempoTormenta) {
+        agregarConexion(agregarCiudad(ciudad1), agregarCiudad(ciudad2), tiempoNormal, tiempoLluvia, tiempoNieve,
+                        tiempoTormenta);
+    }
+
+    /**
+     * Agrega una conexión entre ciudades ya agregadas, dadas por los índices que devolvió agregarCiudad.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param tiempoNormal Tiempo en condiciones normales.
+     * @param tiempoLluvia Tiempo con lluvia.
+     * @param tiempoNieve Tiempo con nieve.
+     * @param tiempoTormenta Tiempo con tormenta.
+     */
+    void agregarConexion(int i, int j, double tiempoNormal, double tiempoLluvia, double tiempoNieve,
+                         double tiempoTormenta) {
+        if (cantidadConexiones == origenes.length) {
+            int nuevaCapacidad = origenes.length * 2;
+            origenes = Arrays.copyOf(origenes, nuevaCapacidad);
+            destinos = Arrays.copyOf(destinos, nuevaCapacidad);
+            for (int c = 0; c < pesos.length; c++) {
+                pesos[c] = Arrays.copyOf(pesos[c], nuevaCapacidad);
+            }
+        }
+        int e = cantidadConexiones++;
+        origenes[e] = i;
+        destinos[e] = j;
+        pesos[CondicionClimatica.NORMAL.ordinal()][e] = tiempoNormal;
+        pesos[CondicionClimatica.LLUVIA.ordinal()][e] = tiempoLluvia;
+        pesos[CondicionClimatica.NIEVE.ordinal()][e] = tiempoNieve;
+        pesos[CondicionClimatica.TORMENTA.ordinal()][e] = tiempoTormenta;
+    }
+
+    /**
+     * Crea un grafo con exactamente las ciudades y conexiones acumuladas.
+     *
+     * @return Grafo nuevo con todas las conexiones en condición NORMAL.
+     */
+    public Grafo construir() {
+        Grafo grafo = new Grafo(ciudades.size(), cantidadConexiones);
+        grafo.agregarConexiones(this);
+        return grafo;
+    }
+
+    /**
+     * Obtiene la cantidad de ciudades acumuladas.
+     *
+     * @return Cantidad de ciudades.
+     */
+    public int getCantidadCiudades() {
+        return ciudades.size();
+    }
+
+    /**
+     * Obtiene la cantidad de conexiones acumuladas, contando las repetidas.
+     *
+     * @return Cantidad de conexiones.
+     */
+    public int getCantidadConexiones() {
+        return cantidadConexiones;
+    }
+
+    String getNombre(int ciudad) {
+        return ciudades.getNombre(ciudad);
+    }
+
+    int getOrigen(int conexion) {
+        return origenes[conexion];
+    }
+
+    int getDestino(int conexion) {
+        return destinos[conexion];
+    }
+
+    double getPeso(CondicionClimatica condicion, int conexion) {
+        return pesos[condicion.ordinal()][conexion];
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ConsultaALT.java
+ * Descripción: Consultas de ruta entre dos ciudades con Dijkstra bidireccional y ALT (A*, landmarks y desigualdad
+ *              triangular). Para cada condición climática guarda las distancias desde y hacia unas pocas ciudades
+ *              de referencia (landmarks); con ellas obtiene cotas inferiores de la distancia restante que guían
+ *              ambas búsquedas hacia el destino, así que se visita una fracción pequeña del grafo.
+ *              Las cotas de una condición solo son válidas si ningún peso actual es menor que el de esa condición;
+ *              se usa la tabla válida más ajustada y, si no hay ninguna, un Dijkstra bidireccional sin cotas.
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class ConsultaALT {
+    private final static double INF = Double.POSITIVE_INFINITY;
+    private final static int CONDICIONES = CondicionClimatica.values().length;
+
+    private final GrafoCSR csr;
+    private final int n;
+    private final int[] landmarks;
+
+    // [condición][landmark][ciudad]: distancia desde el landmark y hacia el landmark
+    private final double[][][] desdeLandmark;
+    private final double[][][] haciaLandmark;
+
+    // Cantidad de conexiones cuyo peso actual es menor que su peso en cada condición
+    private final int[] violaciones = new int[CONDICIONES];
+
+    // Arreglos de trabajo de la búsqueda bidireccional, marcados por número de consulta
+    private final double[] distAdelante;
+    private final double[] distAtras;
+    private final int[] previo;
+    private final int[] siguiente;
+    private final int[] consultaAdelante;
+    private final int[] consultaAtras;
+    private final double[] potencial;
+    private final int[] consultaPotencial;
+    private final MonticuloIndexado monticuloAdelante;
+    private final MonticuloIndexado monticuloAtras;
+    private int consulta = 0;
+
+    // Datos de la última consulta
+    private int origen;
+    private int destino;
+    private int encuentro;
+    private double distancia;
+    private int asentadas;
+    private double[][] tablaDesde;
+    private double[][] tablaHacia;
+
+    /**
+     * Construye las tablas de landmarks para todas las condiciones climáticas.
+     *
+     * @param csr Vista CSR del grafo.
+     * @param cantidadLandmarks Cantidad de landmarks (0 para Dijkstra bidireccional sin cotas).
+     */
+    public ConsultaALT(GrafoCSR csr, int cantidadLandmarks) {
+        this.csr = csr;
+        this.n = csr.getCantidadCiudades();
+        int k = Math.min(cantidadLandmarks, n);
+        landmarks = new int[k];
+        desdeLandmark = new double[CONDICIONES][k][];
+        haciaLandmark = new double[CONDICIONES][k][];
+
+        distAdelante = new double[n];
+        distAtras = new double[n];
+        previo = new int[n];
+        siguiente = new int[n];
+        consultaAdelante = new int[n];
+        consultaAtras = new int[n];
+        potencial = new double[n];
+        consultaPotencial = new int[n];
+        monticuloAdelante = new MonticuloIndexado(n);
+        monticuloAtras = new MonticuloIndexado(n);
+
+        elegirLandmarks();
+        for (int c = 0; c < CONDICIONES; c++) {
+            if (c == CondicionClimatica.NORMAL.ordinal()) continue; // Ya calculada al elegir los landmarks
+            for (int l = 0; l < k; l++) {
+                desdeLandmark[c][l] = distanciasCompletas(csr.pesos[c], landmarks[l], false);
+                haciaLandmark[c][l] = distanciasCompletas(csr.pesos[c], landmarks[l], true);
+            }
+        }
+        for (int pos = 0; pos < csr.getCantidadConexiones(); pos++) {
+            for (int c = 0; c < CONDICIONES; c++) {
+                if (csr.pesosActuales[pos] < csr.pesos[c][pos]) violaciones[c]++;
+            }
+        }
+    }
+
+    /**
+     * Elige los landmarks lejos unos de otros: cada nuevo landmark es la ciudad más alejada (ida y vuelta,
+     * en condición NORMAL) de los ya elegidos. Las ciudades que ningún landmark alcanza se prefieren.
+     */
+    private void elegirLandmarks() {
+        if (landmarks.length == 0) return;
+        int normal = CondicionClimatica.NORMAL.ordinal();
+        double[] cercania = new double[n];
+        Arrays.fill(cercania, INF);
+        int candidato = 0;
+        for (int l = 0; l < landmarks.length; l++) {
+            landmarks[l] = candidato;
+            desdeLandmark[normal][l] = distanciasCompletas(csr.pesos[normal], candidato, false);
+            haciaLandmark[normal][l] = distanciasCompletas(csr.pesos[normal], candidato, true);
+            double mejor = -1;
+            for (int v = 0; v < n; v++) {
+                double idaVuelta = desdeLandmark[normal][l][v] + haciaLandmark[normal][l][v];
+                cercania[v] = Math.min(cercania[v], idaVuelta);
+                if (cercania[v] > mejor) {
+                    mejor = cercania[v];
+                    candidato = v;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dijkstra completo desde una ciudad, hacia adelante o sobre las conexiones de entrada.
+     */
+    private double[] distanciasCompletas(double[] pesos, int inicio, boolean reverso) {
+        double[] dist = new double[n];
+        Arrays.fill(dist, INF);
+        dist[inicio] = 0;
+        MonticuloIndexado monticulo = monticuloAdelante;
+        monticulo.limpiar();
+        monticulo.insertarODisminuir(inicio, 0);
+        int[] desplazamientos = reverso ? csr.desplazamientosEntrada : csr.desplazamientos;
+        while (!monticulo.estaVacio()) {
+            int u = monticulo.extraerMinimo();
+            for (int r = desplazamientos[u]; r < desplazamientos[u + 1]; r++) {
+                int v = reverso ? csr.origenesEntrada[r] : csr.destinos[r];
+                double candidato = dist[u] + pesos[reverso ? csr.posicionSalida[r] : r];
+                if (candidato < dist[v]) {
+                    dist[v] = candidato;
+                    monticulo.insertarODisminuir(v, candidato);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Registra que el peso actual de una conexión cambió, para saber qué tablas siguen siendo válidas.
+     *
+     * @param pos Posición de la conexión en la vista CSR.
+     * @param anterior Peso actual anterior.
+     * @param nuevo Peso actual nuevo.
+     */
+    void pesoCambiado(int pos, double anterior, double nuevo) {
+        for (int c = 0; c < CONDICIONES; c++) {
+            double pesoCondicion = csr.pesos[c][pos];
+            if (anterior < pesoCondicion) violaciones[c]--;
+            if (nuevo < pesoCondicion) violaciones[c]++;
+        }
+    }
+
+    /**
+     * Registra que cambiaron los pesos por condición de una conexión, y con ellos su peso actual. Solo sirve si
+     * ningún peso por condición bajó: las tablas calculadas con pesos menores siguen siendo cotas inferiores.
+     *
+     * @param pos Posición de la conexión en la vista CSR, que ya tiene los pesos nuevos.
+     * @param anteriores Pesos anteriores de la conexión, por ordinal de la condición.
+     * @param actualAnterior Peso actual anterior.
+     */
+    void pesosConexionCambiados(int pos, double[] anteriores, double actualAnterior) {
+        for (int c = 0; c < CONDICIONES; c++) {
+            if (actualAnterior < anteriores[c]) violaciones[c]--;
+            if (csr.pesosActuales[pos] < csr.pesos[c][pos]) violaciones[c]++;
+        }
+    }
+
+    /**
+     * Obtiene las ciudades elegidas como landmarks.
+     *
+     * @return Índices de los landmarks.
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * Obtiene la cantidad de landmarks con que se construyeron las tablas.
+     *
+     * @return Cantidad de landmarks.
+     */
+    public int getCantidadLandmarks() {
+        return landmarks.length;
+    }
+
+    /**
+     * Calcula la ruta más corta con los pesos actuales de las conexiones.
+     *
+     * @param origen Índice de la ciudad origen.
+     * @param destino Índice de la ciudad destino (distinta del origen).
+     * @return Distancia más corta, o infinito si no hay ruta.
+     */
+    public double consultar(int origen, int destino) {
+        // La tabla válida de la condición con pesos más altos da las cotas más ajustadas
+        int tabla = -1;
+        for (int c = CONDICIONES - 1; c >= 0 && landmarks.length > 0; c--) {
+            if (violaciones[c] == 0) {
+                tabla = c;
+                break;
+            }
+        }
+        return buscar(origen, destino, csr.pesosActuales, tabla);
+    }
+
+    /**
+     * Calcula la ruta más corta como si todas las conexiones tuvieran la misma condición climática.
+     *
+     * @param origen Índice de la ciudad origen.
+     * @param destino Índice de la ciudad destino (distinta del origen).
+     * @param condicion Condición climática para todas las conexiones.
+     * @return Distancia más corta, o infinito si no hay ruta.
+     */
+    public double consultar(int origen, int destino, CondicionClimatica condicion) {
+        int tabla = (landmarks.length > 0) ? condicion.ordinal() : -1;
+        return buscar(origen, destino, csr.pesos[condicion.ordinal()], tabla);
+    }
+
+    /**
+     * Dijkstra bidireccional con el potencial promedio p(v) = (cotaHacia(v) - cotaDesde(v)) / 2, que es
+     * consistente para ambas búsquedas; las claves son distancia + p(v) adelante y distancia - p(v) atrás,
+     * y la búsqueda termina cuando la suma de las claves mínimas alcanza la mejor ruta encontrada.
+     */
+    private double buscar(int s, int t, double[] pesos, int tabla) {
+        consulta++;
+        origen = s;
+        destino = t;
+        encuentro = -1;
+        distancia = INF;
+        asentadas = 0;
+        tablaDesde = (tabla == -1) ? null : desdeLandmark[tabla];
+        tablaHacia = (tabla == -1) ? null : haciaLandmark[tabla];
+        monticuloAdelante.limpiar();
+        monticuloAtras.limpiar();
+
+        double ps = potencial(s);
+        double pt = potencial(t);
+        if (ps == INF || pt == INF) return INF;
+        consultaAdelante[s] = consulta;
+        distAdelante[s] = 0;
+        previo[s] = -1;
+        monticuloAdelante.insertarODisminuir(s, ps);
+        consultaAtras[t] = consulta;
+        distAtras[t] = 0;
+        siguiente[t] = -1;
+        monticuloAtras.insertarODisminuir(t, -pt);
+
+        while (!monticuloAdelante.estaVacio() && !monticuloAtras.estaVacio()) {
+            double minimoAdelante = monticuloAdelante.claveMinima();
+            double minimoAtras = monticuloAtras.claveMinima();
+            if (minimoAdelante + minimoAtras >= distancia) break;
+            asentadas++;
+            if (minimoAdelante <= minimoAtras) {
+                int u = monticuloAdelante.extraerMinimo();
+                for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                    int v = csr.destinos[k];
+                    double pv = potencial(v);
+                    if (pv == INF) continue;
+                    double d = distAdelante[u] + pesos[k];
+                    if (consultaAdelante[v] != consulta || d < distAdelante[v]) {
+                        consultaAdelante[v] = consulta;
+                        distAdelante[v] = d;
+                        previo[v] = u;
+                        monticuloAdelante.insertarODisminuir(v, d + pv);
+                        if (consultaAtras[v] == consulta && d + distAtras[v] < distancia) {
+                            distancia = d + distAtras[v];
+                            encuentro = v;
+                        }
+                    }
+                }
+            } else {
+                int u = monticuloAtras.extraerMinimo();
+                for (int r = csr.desplazamientosEntrada[u]; r < csr.desplazamientosEntrada[u + 1]; r++) {
+                    int v = csr.origenesEntrada[r];
+                    double pv = potencial(v);
+                    if (pv == INF) continue;
+                    double d = distAtras[u] + pesos[csr.posicionSalida[r]];
+                    if (consultaAtras[v] != consulta || d < distAtras[v]) {
+                        consultaAtras[v] = consulta;
+                        distAtras[v] = d;
+                        siguiente[v] = u;
+                        monticuloAtras.insertarODisminuir(v, d - pv);
+                        if (consultaAdelante[v] == consulta && d + distAdelante[v] < distancia) {
+                            distancia = d + distAdelante[v];
+                            encuentro = v;
+                        }
+                    }
+                }
+            }
+        }
+        return distancia;
+    }
+
+    /**
+     * Potencial promedio de una ciudad para la consulta actual, o infinito si la ciudad no puede estar
+     * en ninguna ruta del origen al destino.
+     */
+    private double potencial(int v) {
+        if (consultaPotencial[v] == consulta) return potencial[v];
+        consultaPotencial[v] = consulta;
+        if (tablaDesde == null) {
+            potencial[v] = 0;
+            return 0;
+        }
+        double hacia = cota(v, destino);
+        double desde = cota(origen, v);
+        potencial[v] = (hacia == INF || desde == INF) ? INF : (hacia - desde) / 2;
+        return potencial[v];
+    }
+
+    /**
+     * Cota inferior de la distancia de a hacia b por la desigualdad triangular con cada landmark L:
+     * d(a, b) >= d(L, b) - d(L, a) y d(a, b) >= d(a, L) - d(b, L). Si un landmark alcanza a a pero no a b
+     * (o b alcanza a L pero a no), entonces a no puede llegar a b y la cota es infinito.
+     */
+    private double cota(int a, int b) {
+        double mejor = 0;
+        for (int l = 0; l < tablaDesde.length; l++) {
+            double desdeA = tablaDesde[l][a];
+            if (desdeA != INF) {
+                double desdeB = tablaDesde[l][b];
+                if (desdeB == INF) return INF;
+                mejor = Math.max(mejor, desdeB - desdeA);
+            }
+            double haciaB = tablaHacia[l][b];
+            if (haciaB != INF) {
+                double haciaA = tablaHacia[l][a];
+                if (haciaA == INF) return INF;
+                mejor = Math.max(mejor, haciaA - haciaB);
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Reconstruye el camino de la última consulta uniendo ambas búsquedas en la ciudad de encuentro.
+     *
+     * @return Índices de las ciudades del camino, o null si no hubo ruta.
+     */
+    public List<Integer> getCamino() {
+        if (encuentro == -1) return null;
+        List<Integer> camino = new ArrayList<>();
+        for (int at = encuentro; at != -1; at = previo[at]) {
+            camino.add(at);
+        }
+        Collections.reverse(camino);
+        for (int at = siguiente[encuentro]; at != -1; at = siguiente[at]) {
+            camino.add(at);
+        }
+        return camino;
+    }
+
+    /**
+     * Obtiene cuántas ciudades se asentaron (en ambas direcciones) en la última consulta.
+     *
+     * @return Cantidad de ciudades asentadas.
+     */
+    public int getAsentadas() {
+        return asentadas;
+    }
+}
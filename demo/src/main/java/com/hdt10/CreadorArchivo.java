@@ -3,18 +3,69 @@
  * Algoritmos y Estructuras de Datos
  * Ing. Douglas Barrios
  * Creación: 18/05/2025
+ * última modificación: 17/10/2026
  * File Name: CreadorArchivo.java
- * Descripción: Clase auxiliar para crear el archivo de conexiones si no existe
+ * Descripción: Clase auxiliar para crear el archivo de conexiones si no existe,
+ *              y para generar archivos sintéticos grandes para pruebas de capacidad:
+ *              java -cp target/classes com.hdt10.CreadorArchivo archivo topologia ciudades [semilla]
+ *              Los mismos grafos sintéticos se pueden generar en memoria (generar), como los usan las pruebas
+ *              y los benchmarks.
  */
 
 package com.hdt10;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
 
 public class CreadorArchivo {
+    // Conexiones que cada ciudad nueva crea hacia ciudades existentes en la topología libre de escala
+    public final static int CONEXIONES_LIBRE_ESCALA = 3;
+    
+    // Conexiones que salen de cada ciudad en la topología dispersa, contando la del anillo
+    public final static int CONEXIONES_DISPERSO = 5;
+    
+    // Lado en ciudades de las zonas que comparten la misma severidad del clima
+    private final static int LADO_ZONA = 32;
+    
+    public enum Topologia {
+        CUADRICULA,    // Cuadrícula con conexiones a los cuatro vecinos en ambos sentidos
+        DISPERSO,      // Un anillo más conexiones al azar en un sentido, sin lazos ni conexiones repetidas
+        CARRETERAS,    // Red plana de carreteras: cuadrícula irregular con tramos faltantes, diagonales y vías rápidas
+        DENSO,         // Cada par ordenado de ciudades conectado con probabilidad 1/2
+        LIBRE_ESCALA   // Crecimiento con enlace preferencial (Barabási-Albert): pocas ciudades muy conectadas
+    }
+    
+    /**
+     * Permite generar un archivo sintético desde la línea de comandos.
+     * 
+     * @param args Archivo, topología (CUADRICULA, DISPERSO, CARRETERAS, DENSO o LIBRE_ESCALA), cantidad de ciudades
+     *             y semilla opcional.
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println("Uso: CreadorArchivo archivo topologia ciudades [semilla]");
+            return;
+        }
+        Topologia topologia = Topologia.valueOf(args[1].toUpperCase(Locale.ROOT));
+        int ciudades = Integer.parseInt(args[2]);
+        long semilla = (args.length > 3) ? Long.parseLong(args[3]) : 42;
+        
+        long inicio = System.nanoTime();
+        long conexiones = crearArchivoSintetico(args[0], topologia, ciudades, semilla);
+        if (conexiones >= 0) {
+            System.out.printf("%d ciudades y %d conexiones escritas en %.1f s%n",
+                              ciudades, conexiones, (System.nanoTime() - inicio) / 1e9);
+        }
+    }
     
     /**
      * Crea un archivo de conexiones de ejemplo si no existe
@@ -78,4 +129,359 @@ public class CreadorArchivo {
             return false;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Genera un archivo de conexiones sintético con el formato de LectorArchivo, escribiéndolo conforme se generan
+     * las conexiones: la memoria no depende de la cantidad de conexiones, salvo en la topología libre de escala,
+     * que guarda un entero por extremo de cada conexión para elegir destinos según su grado.
+     * Los tiempos con mal clima están correlacionados: cada zona tiene una severidad que agranda los tres
+     * multiplicadores a la vez, y cada condición nunca es más rápida que la anterior.
+     * La misma semilla produce exactamente el mismo archivo.
+     * 
+     * @param rutaArchivo Ruta del archivo; se reemplaza si existe.
+     * @param topologia Forma de la red.
+     * @param ciudades Cantidad de ciudades, llamadas C0, C1, ...
+     * @param semilla Semilla del generador.
+     * @return Cantidad de conexiones escritas, o -1 si no se pudo escribir el archivo.
+     */
+    public static long crearArchivoSintetico(String rutaArchivo, Topologia topologia, int ciudades, long semilla) {
+        if (ciudades < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos 2 ciudades: " + ciudades);
+        }
+        File archivo = new File(rutaArchivo);
+        File directorio = archivo.getParentFile();
+        if (directorio != null && !directorio.exists() && !directorio.mkdirs()) {
+            System.out.println("No se pudo crear el directorio: " + directorio.getAbsolutePath());
+            return -1;
+        }
+        
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(archivo),
+                                                                       StandardCharsets.UTF_8), 1 << 16)) {
+            EscritorConexiones escritor = new EscritorArchivo(writer, semilla);
+            generar(topologia, escritor, ciudades);
+            return escritor.getCantidad();
+        } catch (IOException e) {
+            System.out.println("Error al crear el archivo: " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    /**
+     * Genera en memoria el mismo grafo que crearArchivoSintetico escribiría con la misma topología, cantidad de
+     * ciudades y semilla. Las ciudades C0, C1, ... se agregan primero, así que el índice de cada una coincide
+     * con su número.
+     * 
+     * @param topologia Forma de la red.
+     * @param ciudades Cantidad de ciudades.
+     * @param semilla Semilla del generador.
+     * @return Constructor con las ciudades y conexiones.
+     */
+    public static ConstructorGrafo generar(Topologia topologia, int ciudades, long semilla) {
+        if (ciudades < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos 2 ciudades: " + ciudades);
+        }
+        ConstructorGrafo constructor = new ConstructorGrafo(capacidadEstimada(topologia, ciudades));
+        for (int a = 0; a < ciudades; a++) {
+            constructor.agregarCiudad("C" + a);
+        }
+        try {
+            generar(topologia, new EscritorConstructor(constructor, semilla), ciudades);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // El constructor no escribe en disco
+        }
+        return constructor;
+    }
+    
+    private static void generar(Topologia topologia, EscritorConexiones escritor, int ciudades) throws IOException {
+        switch (topologia) {
+            case CUADRICULA:
+                generarCuadricula(escritor, ciudades);
+                break;
+            case DISPERSO:
+                generarDisperso(escritor, ciudades);
+                break;
+            case CARRETERAS:
+                generarCarreteras(escritor, ciudades);
+                break;
+            case DENSO:
+                generarDenso(escritor, ciudades);
+                break;
+            default:
+                generarLibreEscala(escritor, ciudades);
+                break;
+        }
+    }
+    
+    // Cantidad aproximada de conexiones, para reservar la memoria del constructor de una vez
+    private static int capacidadEstimada(Topologia topologia, int ciudades) {
+        switch (topologia) {
+            case DISPERSO:
+                return CONEXIONES_DISPERSO * ciudades;
+            case DENSO:
+                return (int) Math.min(Integer.MAX_VALUE - 8, (long) ciudades * (ciudades - 1) / 2 + ciudades);
+            case LIBRE_ESCALA:
+                return 2 * CONEXIONES_LIBRE_ESCALA * ciudades;
+            default:
+                return 5 * ciudades;
+        }
+    }
+    
+    // Las filas tienen ceil(sqrt(ciudades)) ciudades; la última puede quedar incompleta
+    private static int lado(int ciudades) {
+        return (int) Math.ceil(Math.sqrt(ciudades));
+    }
+    
+    private static int zona(int ciudad, int lado) {
+        return (ciudad / lado / LADO_ZONA) * (lado / LADO_ZONA + 1) + (ciudad % lado / LADO_ZONA);
+    }
+    
+    private static void generarCuadricula(EscritorConexiones escritor, int ciudades) throws IOException {
+        int lado = lado(ciudades);
+        for (int a = 0; a < ciudades; a++) {
+            int zona = zona(a, lado);
+            if (a % lado + 1 < lado && a + 1 < ciudades) {
+                escritor.escribirAmbas(a, a + 1, 1 + escritor.random.nextDouble() * 10, zona);
+            }
+            if (a + lado < ciudades) {
+                escritor.escribirAmbas(a, a + lado, 1 + escritor.random.nextDouble() * 10, zona);
+            }
+        }
+    }
+    
+    /**
+     * Un anillo C0 -> C1 -> ... -> C0, así que la red es fuertemente conexa, y de cada ciudad salen además
+     * conexiones hacia ciudades al azar hasta tener CONEXIONES_DISPERSO salidas distintas, sin lazos. Las zonas de
+     * clima agrupan ciudades consecutivas.
+     */
+    private static void generarDisperso(EscritorConexiones escritor, int ciudades) throws IOException {
+        int salidas = Math.min(CONEXIONES_DISPERSO, ciudades - 1);
+        int[] elegidas = new int[salidas];
+        for (int a = 0; a < ciudades; a++) {
+            int zona = a / (LADO_ZONA * LADO_ZONA);
+            elegidas[0] = (a + 1) % ciudades;
+            escritor.escribirUna(a, elegidas[0], 1 + escritor.random.nextDouble() * 20, zona);
+            for (int c = 1; c < salidas; c++) {
+                int destino;
+                boolean repetida;
+                do {
+                    destino = escritor.random.nextInt(ciudades);
+                    repetida = (destino == a);
+                    for (int d = 0; d < c; d++) repetida |= (elegidas[d] == destino);
+                } while (repetida);
+                elegidas[c] = destino;
+                escritor.escribirUna(a, destino, 1 + escritor.random.nextDouble() * 20, zona);
+            }
+        }
+    }
+    
+    // Cada par ordenado con probabilidad 1/2, con tiempos independientes en cada sentido
+    private static void generarDenso(EscritorConexiones escritor, int ciudades) throws IOException {
+        for (int a = 0; a < ciudades; a++) {
+            int zona = a / (LADO_ZONA * LADO_ZONA);
+            for (int b = 0; b < ciudades; b++) {
+                if (a != b && escritor.random.nextBoolean()) {
+                    escritor.escribirUna(a, b, 1 + escritor.random.nextDouble() * 50, zona);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Red plana: cada ciudad está en una posición desplazada al azar de su lugar en la cuadrícula, y el tiempo de
+     * cada tramo es su longitud entre su velocidad. Faltan algunos tramos, hay pocas diagonales sin cruces entre
+     * sí y cada octava fila y columna es una vía rápida. La red siempre es conexa: la primera fila está completa y
+     * cada tramo horizontal faltante obliga el tramo vertical hacia arriba de la ciudad a su derecha. Las posiciones
+     * y los tramos salen de un hash de la semilla, así que se pueden consultar sin guardarlos.
+     */
+    private static void generarCarreteras(EscritorConexiones escritor, int ciudades) throws IOException {
+        int lado = lado(ciudades);
+        for (int a = 0; a < ciudades; a++) {
+            int fila = a / lado;
+            int columna = a % lado;
+            int zona = zona(a, lado);
+            if (columna + 1 < lado && a + 1 < ciudades && escritor.hayTramoHorizontal(a, lado)) {
+                double velocidad = (fila % 8 == 0) ? 2.0 : 1.0;
+                escritor.escribirAmbas(a, a + 1, 10 * escritor.distancia(a, a + 1, lado) / velocidad, zona);
+            }
+            int abajo = a + lado;
+            if (abajo < ciudades && (escritor.hash(4L * a + 3) < 0.85 || abajo % lado == 0
+                                     || !escritor.hayTramoHorizontal(abajo - 1, lado))) {
+                double velocidad = (columna % 8 == 0) ? 2.0 : 1.0;
+                escritor.escribirAmbas(a, abajo, 10 * escritor.distancia(a, abajo, lado) / velocidad, zona);
+            }
+            // Solo diagonales hacia abajo a la derecha, así nunca se cruzan dos de ellas
+            if (columna + 1 < lado && abajo + 1 < ciudades && escritor.random.nextDouble() < 0.1) {
+                escritor.escribirAmbas(a, abajo + 1, 10 * escritor.distancia(a, abajo + 1, lado), zona);
+            }
+        }
+    }
+    
+    /**
+     * Modelo de Barabási-Albert: las primeras ciudades forman un grupo completo y cada ciudad nueva se conecta en
+     * ambos sentidos con CONEXIONES_LIBRE_ESCALA ciudades existentes distintas, elegidas con probabilidad
+     * proporcional a su grado al tomar un extremo al azar de las conexiones ya creadas.
+     */
+    private static void generarLibreEscala(EscritorConexiones escritor, int ciudades) throws IOException {
+        int m = Math.min(CONEXIONES_LIBRE_ESCALA, ciudades - 1);
+        int[] extremos = new int[2 * (m * (m + 1) / 2 + (ciudades - m - 1) * m)];
+        int cantidadExtremos = 0;
+        for (int a = 0; a <= m; a++) {
+            for (int b = a + 1; b <= m; b++) {
+                escritor.escribirAmbas(a, b, 1 + escritor.random.nextDouble() * 20, 0);
+                extremos[cantidadExtremos++] = a;
+                extremos[cantidadExtremos++] = b;
+            }
+        }
+        
+        int[] elegidas = new int[m];
+        for (int v = m + 1; v < ciudades; v++) {
+            int zona = v / (LADO_ZONA * LADO_ZONA);
+            for (int c = 0; c < m; c++) {
+                int destino;
+                boolean repetida;
+                do {
+                    destino = extremos[escritor.random.nextInt(cantidadExtremos)];
+                    repetida = false;
+                    for (int d = 0; d < c; d++) repetida |= (elegidas[d] == destino);
+                } while (repetida);
+                elegidas[c] = destino;
+                escritor.escribirAmbas(v, destino, 1 + escritor.random.nextDouble() * 20, zona);
+            }
+            // Los extremos se agregan después, para no elegir dos veces contra la misma ciudad nueva
+            for (int c = 0; c < m; c++) {
+                extremos[cantidadExtremos++] = v;
+                extremos[cantidadExtremos++] = elegidas[c];
+            }
+        }
+    }
+    
+    /**
+     * Calcula los tiempos con mal clima de las conexiones generadas y las entrega a su destino: un archivo o un
+     * constructor en memoria. Las dos formas consumen los mismos números al azar, así que dan el mismo grafo.
+     */
+    private abstract static class EscritorConexiones {
+        private final long semilla;
+        final SplittableRandom random;
+        private long cantidad = 0;
+        
+        EscritorConexiones(long semilla) {
+            this.semilla = semilla;
+            this.random = new SplittableRandom(semilla);
+        }
+        
+        long getCantidad() {
+            return cantidad;
+        }
+        
+        // Número en [0, 1) que depende solo de la semilla y de la clave (mezcla de SplitMix64)
+        double hash(long clave) {
+            long z = semilla + (clave + 1) * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z ^= z >>> 31;
+            return (z >>> 11) * 0x1.0p-53;
+        }
+        
+        // Distancia entre las posiciones desplazadas de dos ciudades de la cuadrícula
+        double distancia(int a, int b, int lado) {
+            double dx = (b % lado + 0.6 * (hash(4L * b) - 0.5)) - (a % lado + 0.6 * (hash(4L * a) - 0.5));
+            double dy = (b / lado + 0.6 * (hash(4L * b + 1) - 0.5)) - (a / lado + 0.6 * (hash(4L * a + 1) - 0.5));
+            return Math.hypot(dx, dy);
+        }
+        
+        // Si existe el tramo de a hacia la ciudad a su derecha; la primera fila siempre está completa
+        boolean hayTramoHorizontal(int a, int lado) {
+            return a < lado || hash(4L * a + 2) < 0.85;
+        }
+        
+        /**
+         * Escribe la conexión en ambos sentidos con los mismos tiempos.
+         * 
+         * @param a Ciudad de un extremo.
+         * @param b Ciudad del otro extremo.
+         * @param normal Tiempo en condiciones normales.
+         * @param zona Zona de clima de la conexión.
+         */
+        void escribirAmbas(int a, int b, double normal, int zona) throws IOException {
+            // Las claves de las zonas son negativas para no coincidir con las de las posiciones
+            double severidad = hash(-1L - zona);
+            double lluvia = normal * (1.1 + 0.4 * severidad + 0.1 * random.nextDouble());
+            double nieve = lluvia * (1.1 + 0.6 * severidad + 0.1 * random.nextDouble());
+            double tormenta = nieve * (1.2 + 1.0 * severidad + 0.2 * random.nextDouble());
+            escribir(a, b, normal, lluvia, nieve, tormenta);
+            escribir(b, a, normal, lluvia, nieve, tormenta);
+            cantidad += 2;
+        }
+        
+        /**
+         * Escribe la conexión solo de a hacia b.
+         * 
+         * @param a Ciudad origen.
+         * @param b Ciudad destino.
+         * @param normal Tiempo en condiciones normales.
+         * @param zona Zona de clima de la conexión.
+         */
+        void escribirUna(int a, int b, double normal, int zona) throws IOException {
+            double severidad = hash(-1L - zona);
+            double lluvia = normal * (1.1 + 0.4 * severidad + 0.1 * random.nextDouble());
+            double nieve = lluvia * (1.1 + 0.6 * severidad + 0.1 * random.nextDouble());
+            double tormenta = nieve * (1.2 + 1.0 * severidad + 0.2 * random.nextDouble());
+            escribir(a, b, normal, lluvia, nieve, tormenta);
+            cantidad++;
+        }
+        
+        abstract void escribir(int a, int b, double normal, double lluvia, double nieve, double tormenta)
+                throws IOException;
+    }
+    
+    /**
+     * Escribe conexiones en el formato de LectorArchivo con los números formateados a mano, sin crear cadenas
+     * por cada valor.
+     */
+    private static final class EscritorArchivo extends EscritorConexiones {
+        private final Writer writer;
+        private final StringBuilder linea = new StringBuilder(64);
+        
+        EscritorArchivo(Writer writer, long semilla) {
+            super(semilla);
+            this.writer = writer;
+        }
+        
+        @Override
+        void escribir(int a, int b, double normal, double lluvia, double nieve, double tormenta)
+                throws IOException {
+            linea.setLength(0);
+            linea.append('C').append(a).append(" C").append(b);
+            agregarTiempo(normal);
+            agregarTiempo(lluvia);
+            agregarTiempo(nieve);
+            agregarTiempo(tormenta);
+            linea.append('\n');
+            writer.append(linea);
+        }
+        
+        // Tiempo positivo con dos decimales; redondear conserva el orden entre condiciones
+        private void agregarTiempo(double tiempo) {
+            long centesimas = Math.round(tiempo * 100);
+            long decimales = centesimas % 100;
+            linea.append(' ').append(centesimas / 100).append('.');
+            if (decimales < 10) linea.append('0');
+            linea.append(decimales);
+        }
+    }
+    
+    // Agrega las conexiones a un constructor cuyas ciudades C0, C1, ... ya tienen los índices 0, 1, ...
+    private static final class EscritorConstructor extends EscritorConexiones {
+        private final ConstructorGrafo constructor;
+        
+        EscritorConstructor(ConstructorGrafo constructor, long semilla) {
+            super(semilla);
+            this.constructor = constructor;
+        }
+        
+        @Override
+        void escribir(int a, int b, double normal, double lluvia, double nieve, double tormenta) {
+            constructor.agregarConexion(a, b, normal, lluvia, nieve, tormenta);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: CursorRuta.java
+ * Descripción: Recorrido de una ruta ciudad por ciudad sin construir la lista del camino. Con las rutas de
+ *              floyd() sigue los sucesores de la matriz a medida que avanza; con las consultas puntuales copia
+ *              el camino a un arreglo propio que se reutiliza. Un mismo cursor sirve para cualquier cantidad de
+ *              rutas, así que recorrerlas no crea objetos una vez que el arreglo alcanzó su tamaño.
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class CursorRuta {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    // Recorrido por la matriz de sucesores, o null si el camino está en el arreglo
+    private ResultadoRutas rutas;
+    private TablaCiudades ciudades;
+    private int[] camino = new int[16];
+    private int largoCamino;
+
+    private int origen;
+    private int destino;
+    private double tiempo = INF;
+    private int actual;
+    private int posicion;
+    private boolean llego;
+
+    /**
+     * Crea un cursor sin ruta; se prepara con Grafo.recorrerRuta o InstantaneaRutas.recorrerRuta.
+     */
+    public CursorRuta() {
+    }
+
+    // Prepara el recorrido por los sucesores de un resultado de rutas entre todas las ciudades
+    void iniciar(ResultadoRutas rutas, TablaCiudades ciudades, int origen, int destino) {
+        this.rutas = rutas;
+        this.ciudades = ciudades;
+        this.origen = origen;
+        this.destino = destino;
+        this.tiempo = rutas.getDistancia(origen, destino);
+        reiniciar();
+    }
+
+    // Prepara el recorrido de un camino que se agregará con agregarCiudad
+    void iniciarCamino(TablaCiudades ciudades, double tiempo) {
+        this.rutas = null;
+        this.ciudades = ciudades;
+        this.tiempo = tiempo;
+        largoCamino = 0;
+        reiniciar();
+    }
+
+    void agregarCiudad(int ciudad) {
+        if (largoCamino == camino.length) {
+            camino = Arrays.copyOf(camino, camino.length * 2);
+        }
+        camino[largoCamino++] = ciudad;
+    }
+
+    void agregarCiudades(List<Integer> ciudadesCamino) {
+        for (int ciudad : ciudadesCamino) agregarCiudad(ciudad);
+    }
+
+    // Invierte lo agregado, para los caminos que se arman desde el destino
+    void invertirCamino() {
+        for (int a = 0, b = largoCamino - 1; a < b; a++, b--) {
+            int temporal = camino[a];
+            camino[a] = camino[b];
+            camino[b] = temporal;
+        }
+    }
+
+    // Deja el cursor sin ruta
+    void vaciar() {
+        rutas = null;
+        tiempo = INF;
+        largoCamino = 0;
+        reiniciar();
+    }
+
+    /**
+     * Vuelve al inicio de la ruta, para recorrerla otra vez.
+     */
+    public void reiniciar() {
+        posicion = -1;
+        actual = -1;
+        llego = false;
+    }
+
+    /**
+     * Indica si hay una ruta que recorrer.
+     *
+     * @return true si la ruta existe.
+     */
+    public boolean hayRuta() {
+        return tiempo != INF;
+    }
+
+    /**
+     * Avanza a la siguiente ciudad de la ruta; la primera llamada se detiene en la ciudad origen.
+     *
+     * @return true si hay una ciudad actual, false si la ruta terminó o no existe.
+     */
+    public boolean siguiente() {
+        if (tiempo == INF || posicion == -2) return false;
+        if (rutas == null) {
+            if (++posicion < largoCamino) {
+                actual = camino[posicion];
+                llego = (posicion == largoCamino - 1);
+                return true;
+            }
+        } else if (posicion == -1) {
+            posicion = 0;
+            actual = origen;
+            llego = (actual == destino);
+            return true;
+        } else if (actual != destino && posicion < rutas.getCantidadCiudades()) {
+            // El límite de pasos evita un ciclo si la matriz quedó inconsistente
+            actual = rutas.getSiguiente(actual, destino);
+            posicion++;
+            if (actual != -1) {
+                llego = (actual == destino);
+                return true;
+            }
+        }
+        posicion = -2;
+        actual = -1;
+        llego = false;
+        return false;
+    }
+
+    /**
+     * Obtiene el índice de la ciudad actual.
+     *
+     * @return Índice de la ciudad, o -1 antes de empezar o después de terminar.
+     */
+    public int getCiudad() {
+        return actual;
+    }
+
+    /**
+     * Obtiene el nombre de la ciudad actual. Es la instancia que guarda el grafo, así que no crea cadenas.
+     *
+     * @return Nombre de la ciudad.
+     * @throws IndexOutOfBoundsException Si no hay ciudad actual.
+     */
+    public String getNombreCiudad() {
+        return ciudades.getNombre(actual);
+    }
+
+    /**
+     * Obtiene el tiempo total de la ruta.
+     *
+     * @return Tiempo, o infinito si no hay ruta.
+     */
+    public double getTiempo() {
+        return tiempo;
+    }
+
+    /**
+     * Cuenta las conexiones de la ruta recorriéndola desde el inicio; deja el cursor al inicio.
+     *
+     * @return Cantidad de conexiones, o -1 si no hay ruta.
+     */
+    public int contarSaltos() {
+        if (tiempo == INF) return -1;
+        if (rutas == null) return largoCamino - 1;
+        reiniciar();
+        int ciudadesRecorridas = 0;
+        boolean completa = false;
+        while (siguiente()) {
+            ciudadesRecorridas++;
+            completa = llego;
+        }
+        reiniciar();
+        return completa ? ciudadesRecorridas - 1 : -1;
+    }
+
+    /**
+     * Indica si la ciudad actual es el destino de la ruta, es decir, si el recorrido llegó al final.
+     *
+     * @return true si la ciudad actual es la última de la ruta.
+     */
+    public boolean esUltima() {
+        return llego;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: Dijkstra.java
+ * Descripción: Algoritmo de Dijkstra con montículo binario sobre la vista CSR del grafo.
+ *              Reutiliza sus arreglos entre consultas: en lugar de reiniciar O(n) posiciones en cada consulta,
+ *              marca con un número de consulta las ciudades que tocó.
+ */
+
+package com.hdt10;
+
+public class Dijkstra {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    private final GrafoCSR csr;
+    private final double[] distancia;
+    private final int[] previo;
+    private final int[] consultaDe;
+    private int[] objetivoDe;
+    private final MonticuloIndexado monticulo;
+    private int consulta = 0;
+    private int origen = -1;
+    private int asentadas;
+
+    /**
+     * Constructor del algoritmo para una vista del grafo.
+     *
+     * @param csr Vista CSR del grafo.
+     */
+    public Dijkstra(GrafoCSR csr) {
+        this.csr = csr;
+        int n = csr.getCantidadCiudades();
+        distancia = new double[n];
+        previo = new int[n];
+        consultaDe = new int[n];
+        monticulo = new MonticuloIndexado(n);
+    }
+
+    /**
+     * Calcula las distancias más cortas desde un origen. Si se indica un destino, se detiene
+     * en cuanto ese destino queda asentado.
+     *
+     * @param origen Índice de la ciudad origen.
+     * @param destino Índice de la ciudad destino, o -1 para calcular hacia todas.
+     */
+    public void ejecutar(int origen, int destino) {
+        iniciar(origen);
+        if (destino == -1) {
+            buscar(-1, 0);
+        } else {
+            buscar(destino, 1);
+        }
+    }
+
+    /**
+     * Calcula las distancias más cortas desde un origen y se detiene en cuanto quedan asentadas todas las
+     * ciudades objetivo, para las consultas de un origen hacia muchos destinos.
+     *
+     * @param origen Índice de la ciudad origen.
+     * @param objetivos Índices de las ciudades objetivo; puede haber repetidos.
+     * @param cantidad Cantidad de objetivos a usar desde la posición 0.
+     */
+    public void ejecutar(int origen, int[] objetivos, int cantidad) {
+        iniciar(origen);
+        if (objetivoDe == null) {
+            objetivoDe = new int[distancia.length];
+        }
+        int pendientes = 0;
+        for (int k = 0; k < cantidad; k++) {
+            if (objetivoDe[objetivos[k]] != consulta) {
+                objetivoDe[objetivos[k]] = consulta;
+                pendientes++;
+            }
+        }
+        buscar(-2, pendientes);
+    }
+
+    private void iniciar(int origen) {
+        consulta++;
+        this.origen = origen;
+        asentadas = 0;
+        monticulo.limpiar();
+        visitar(origen, 0, -1);
+        monticulo.insertarODisminuir(origen, 0);
+    }
+
+    /**
+     * Asienta ciudades hasta vaciar el montículo o hasta asentar todos los objetivos pendientes.
+     *
+     * @param destino Único objetivo, -1 si no hay objetivos o -2 si están marcados en objetivoDe.
+     * @param pendientes Cantidad de objetivos distintos sin asentar.
+     */
+    private void buscar(int destino, int pendientes) {
+        if (destino == -2 && pendientes == 0) return;
+        while (!monticulo.estaVacio()) {
+            int u = monticulo.extraerMinimo();
+            asentadas++;
+            if (u == destino || (destino == -2 && objetivoDe[u] == consulta && --pendientes == 0)) return;
+            double du = distancia[u];
+            for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                int v = csr.destinos[k];
+                double candidato = du + csr.pesosActuales[k];
+                if (consultaDe[v] != consulta) {
+                    visitar(v, candidato, u);
+                    monticulo.insertarODisminuir(v, candidato);
+                } else if (candidato < distancia[v]) {
+                    distancia[v] = candidato;
+                    previo[v] = u;
+                    monticulo.insertarODisminuir(v, candidato);
+                }
+            }
+        }
+    }
+
+    private void visitar(int ciudad, double dist, int anterior) {
+        consultaDe[ciudad] = consulta;
+        distancia[ciudad] = dist;
+        previo[ciudad] = anterior;
+    }
+
+    /**
+     * Obtiene la distancia calculada hacia una ciudad en la última consulta.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Distancia, o infinito si no se alcanzó.
+     */
+    public double getDistancia(int ciudad) {
+        return (consultaDe[ciudad] == consulta) ? distancia[ciudad] : INF;
+    }
+
+    /**
+     * Obtiene la ciudad anterior en la ruta más corta desde el origen.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Índice de la ciudad anterior, o -1 si es el origen o no se alcanzó.
+     */
+    public int getPrevio(int ciudad) {
+        return (consultaDe[ciudad] == consulta) ? previo[ciudad] : -1;
+    }
+
+    /**
+     * Obtiene el origen de la última consulta.
+     *
+     * @return Índice de la ciudad origen.
+     */
+    public int getOrigen() {
+        return origen;
+    }
+
+    /**
+     * Obtiene cuántas ciudades quedaron asentadas en la última consulta.
+     *
+     * @return Cantidad de ciudades asentadas.
+     */
+    public int getAsentadas() {
+        return asentadas;
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: Excentricidades.java
+ * Descripción: Excentricidad de cada ciudad (el mayor tiempo desde ella hacia otra ciudad, infinito si alguna es
+ *              inalcanzable) y las medidas que dependen de ella: centro, radio, diámetro, periferia y ciudades
+ *              más centrales. Trabaja de dos formas:
+ *              - Sobre las rutas de floyd(): recorre todas las filas al crearse, repartidas entre varios hilos, y
+ *                después solo vuelve a recorrer las filas que las correcciones incrementales marcaron.
+ *              - Sin rutas entre todas las ciudades (grafos dispersos): guarda una cota inferior y una superior
+ *                por ciudad y solo ejecuta Dijkstra, hacia adelante y hacia atrás, desde las ciudades que todavía
+ *                pueden cambiar la respuesta (poda por cotas de Takes y Kosters). Con una ciudad w ya resuelta,
+ *                la desigualdad triangular da, para cada ciudad v:
+ *                  max(d(v, w), exc(w) - d(w, v)) <= exc(v) <= d(v, w) + exc(w)
+ *              Una ciudad es exacta cuando sus dos cotas coinciden. Las ciudades fuera de la primera componente
+ *              fuertemente conexa, o todas si esa componente no llega a las demás, no llegan a todas las ciudades
+ *              y empiezan ya resueltas con excentricidad infinita.
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+final class Excentricidades {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    // Margen relativo al descartar ciudades por sus cotas, para no perder un empate por errores de redondeo
+    private final static double HOLGURA = 1e-9;
+
+    private enum Objetivo {
+        CENTRO, PERIFERIA, MAS_CENTRALES
+    }
+
+    private final int n;
+    private final double[] inferior;
+    private final double[] superior;
+
+    // Sobre las rutas de floyd(): filas que cambiaron desde el último recorrido
+    private final ResultadoRutas rutas;
+    private final boolean[] filaCambiada;
+    private int cambiadas;
+
+    // Sin rutas de floyd(): búsquedas desde y hacia una ciudad
+    private final GrafoCSR csr;
+    private Dijkstra dijkstra;
+    private double[] hacia;
+    private MonticuloIndexado monticulo;
+    private int busquedas;
+
+    /**
+     * Calcula las excentricidades exactas recorriendo las filas de las rutas entre todas las ciudades.
+     *
+     * @param rutas Rutas de floyd().
+     * @param paralelismo Cantidad de hilos para el recorrido inicial (1 para recorrer en serie).
+     */
+    Excentricidades(ResultadoRutas rutas, int paralelismo) {
+        this.n = rutas.getCantidadCiudades();
+        this.rutas = rutas;
+        this.csr = null;
+        this.inferior = new double[n];
+        this.superior = new double[n];
+        this.filaCambiada = new boolean[n];
+        if (paralelismo == 1 || n < 2) {
+            recorrerFilas(0, n);
+            return;
+        }
+        // Hojas de tamaño suficiente para repartir bien la carga sin crear demasiadas tareas
+        int tamanoHoja = Math.max(1, n / (paralelismo * 8));
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            pool.invoke(new TareaFilas(0, n, tamanoHoja));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Prepara las cotas para calcular excentricidades sin rutas entre todas las ciudades; no ejecuta ninguna
+     * búsqueda hasta la primera consulta.
+     *
+     * @param csr Vista CSR con los pesos actuales; no debe cambiar mientras se use.
+     * @param componentes Componentes fuertemente conexas de la vista.
+     */
+    Excentricidades(GrafoCSR csr, ComponentesFuertes componentes) {
+        this.n = csr.getCantidadCiudades();
+        this.rutas = null;
+        this.csr = csr;
+        this.filaCambiada = null;
+        this.inferior = new double[n];
+        this.superior = new double[n];
+        Arrays.fill(superior, INF);
+        // Solo las ciudades de la primera componente pueden llegar a todas; las demás ya son exactas en infinito
+        boolean primeraAlcanzaTodas = n > 0 && componentes.alcanzaTodas(0);
+        for (int v = 0; v < n; v++) {
+            if (componentes.getComponente(v) != 0 || !primeraAlcanzaTodas) {
+                inferior[v] = INF;
+            }
+        }
+        if (n == 1) {
+            superior[0] = 0;
+        }
+    }
+
+    // Copia de las excentricidades de floyd() para una copia de las rutas, con las mismas filas pendientes
+    private Excentricidades(Excentricidades original, ResultadoRutas rutas) {
+        this.n = original.n;
+        this.rutas = rutas;
+        this.csr = null;
+        this.inferior = original.inferior.clone();
+        this.superior = original.superior.clone();
+        this.filaCambiada = original.filaCambiada.clone();
+        this.cambiadas = original.cambiadas;
+    }
+
+    /**
+     * Crea una copia que sigue a otra copia de las rutas.
+     *
+     * @param rutas Copia de las rutas con las mismas distancias.
+     * @return Copia de las excentricidades.
+     */
+    Excentricidades copiar(ResultadoRutas rutas) {
+        return new Excentricidades(this, rutas);
+    }
+
+    /**
+     * Marca una fila de las rutas cuyas distancias cambiaron; se vuelve a recorrer en la siguiente consulta.
+     *
+     * @param fila Índice de la ciudad origen de la fila.
+     */
+    void filaCambiada(int fila) {
+        if (!filaCambiada[fila]) {
+            filaCambiada[fila] = true;
+            cambiadas++;
+        }
+    }
+
+    /**
+     * Tarea que reparte el recorrido inicial de las filas; cada fila la escribe una sola hoja.
+     */
+    private final class TareaFilas extends RecursiveAction {
+        private final int desde;
+        private final int hasta;
+        private final int tamanoHoja;
+
+        TareaFilas(int desde, int hasta, int tamanoHoja) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.tamanoHoja = tamanoHoja;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde > tamanoHoja) {
+                int medio = (desde + hasta) >>> 1;
+                invokeAll(new TareaFilas(desde, medio, tamanoHoja), new TareaFilas(medio, hasta, tamanoHoja));
+                return;
+            }
+            recorrerFilas(desde, hasta);
+        }
+    }
+
+    private void recorrerFilas(int desde, int hasta) {
+        for (int i = desde; i < hasta; i++) {
+            recorrerFila(i);
+        }
+    }
+
+    private void recorrerFila(int i) {
+        double[] distancias = rutas.getDistancias();
+        int fila = i * n;
+        double excentricidad = 0;
+        for (int j = 0; j < n && excentricidad != INF; j++) {
+            if (j != i && distancias[fila + j] > excentricidad) {
+                excentricidad = distancias[fila + j];
+            }
+        }
+        inferior[i] = excentricidad;
+        superior[i] = excentricidad;
+    }
+
+    private void actualizarFilas() {
+        if (cambiadas == 0) return;
+        for (int i = 0; i < n; i++) {
+            if (filaCambiada[i]) {
+                recorrerFila(i);
+                filaCambiada[i] = false;
+            }
+        }
+        cambiadas = 0;
+    }
+
+    /**
+     * Calcula la excentricidad exacta de w con un Dijkstra desde w y otro hacia w, y ajusta las cotas de las
+     * demás ciudades con el resultado.
+     */
+    private void resolver(int w) {
+        if (dijkstra == null) {
+            dijkstra = new Dijkstra(csr);
+            hacia = new double[n];
+            monticulo = new MonticuloIndexado(n);
+        }
+        busquedas++;
+        dijkstra.ejecutar(w, -1);
+        double excentricidad = 0;
+        for (int x = 0; x < n && excentricidad != INF; x++) {
+            if (x != w) excentricidad = Math.max(excentricidad, dijkstra.getDistancia(x));
+        }
+        buscarHacia(w);
+
+        inferior[w] = excentricidad;
+        superior[w] = excentricidad;
+        for (int v = 0; v < n; v++) {
+            if (v == w || inferior[v] == superior[v]) continue;
+            double desdeW = dijkstra.getDistancia(v);
+            double haciaW = hacia[v];
+            double cotaInferior = haciaW;
+            if (desdeW != INF) cotaInferior = Math.max(cotaInferior, excentricidad - desdeW);
+            inferior[v] = Math.max(inferior[v], cotaInferior);
+            superior[v] = Math.min(superior[v], haciaW + excentricidad);
+            if (inferior[v] > superior[v]) {
+                superior[v] = inferior[v]; // Solo por redondeo: la cota inferior ya es la excentricidad
+            }
+        }
+    }
+
+    // Dijkstra sobre las conexiones de entrada: tiempo de cada ciudad hacia w
+    private void buscarHacia(int w) {
+        Arrays.fill(hacia, INF);
+        hacia[w] = 0;
+        monticulo.insertarODisminuir(w, 0);
+        while (!monticulo.estaVacio()) {
+            int x = monticulo.extraerMinimo();
+            double dx = hacia[x];
+            for (int r = csr.desplazamientosEntrada[x]; r < csr.desplazamientosEntrada[x + 1]; r++) {
+                int p = csr.origenesEntrada[r];
+                double candidato = dx + csr.pesosActuales[csr.posicionSalida[r]];
+                if (candidato < hacia[p]) {
+                    hacia[p] = candidato;
+                    monticulo.insertarODisminuir(p, candidato);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resuelve ciudades hasta que todas las que pueden cambiar la respuesta del objetivo son exactas. Alterna
+     * entre la ciudad con la menor cota inferior y la de mayor cota superior, como Takes y Kosters.
+     */
+    private void resolverObjetivo(Objetivo objetivo, int k) {
+        if (rutas != null) {
+            actualizarFilas();
+            return;
+        }
+        double[] orden = (objetivo == Objetivo.MAS_CENTRALES) ? new double[n] : null;
+        for (boolean porInferior = true; ; porInferior = !porInferior) {
+            double umbral;
+            if (objetivo == Objetivo.CENTRO) {
+                umbral = INF;
+                for (int v = 0; v < n; v++) umbral = Math.min(umbral, superior[v]);
+            } else if (objetivo == Objetivo.PERIFERIA) {
+                umbral = 0;
+                for (int v = 0; v < n; v++) umbral = Math.max(umbral, inferior[v]);
+            } else {
+                System.arraycopy(superior, 0, orden, 0, n);
+                Arrays.sort(orden);
+                umbral = orden[Math.min(k, n) - 1];
+            }
+
+            int elegida = -1;
+            for (int v = 0; v < n; v++) {
+                if (inferior[v] == superior[v]) continue;
+                boolean importa = (objetivo == Objetivo.PERIFERIA) ? superior[v] >= umbral * (1 - HOLGURA)
+                                                                   : inferior[v] <= umbral * (1 + HOLGURA);
+                if (!importa) continue;
+                if (elegida == -1 || (porInferior ? inferior[v] < inferior[elegida]
+                                                  : superior[v] > superior[elegida])) {
+                    elegida = v;
+                }
+            }
+            if (elegida == -1) return;
+            resolver(elegida);
+        }
+    }
+
+    /**
+     * Obtiene la excentricidad de una ciudad.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Mayor tiempo hacia otra ciudad, infinito si alguna es inalcanzable (0 si es la única ciudad).
+     */
+    double getExcentricidad(int ciudad) {
+        if (rutas != null) {
+            actualizarFilas();
+        } else if (inferior[ciudad] != superior[ciudad]) {
+            resolver(ciudad);
+        }
+        return inferior[ciudad];
+    }
+
+    /**
+     * Obtiene el centro: la ciudad de menor excentricidad, la de menor índice si hay empate.
+     *
+     * @return Índice del centro, o -1 si ninguna ciudad llega a todas las demás.
+     */
+    int getCentro() {
+        resolverObjetivo(Objetivo.CENTRO, 0);
+        int centro = -1;
+        for (int v = 0; v < n; v++) {
+            if (inferior[v] == superior[v] && inferior[v] != INF
+                    && (centro == -1 || inferior[v] < inferior[centro])) {
+                centro = v;
+            }
+        }
+        return centro;
+    }
+
+    /**
+     * Obtiene el radio: la menor excentricidad.
+     *
+     * @return Radio, o infinito si ninguna ciudad llega a todas las demás o no hay ciudades.
+     */
+    double getRadio() {
+        int centro = getCentro();
+        return (centro == -1) ? INF : inferior[centro];
+    }
+
+    /**
+     * Obtiene el diámetro: la mayor excentricidad.
+     *
+     * @return Diámetro, infinito si alguna ciudad no llega a todas las demás o no hay ciudades.
+     */
+    double getDiametro() {
+        if (n == 0) return INF;
+        resolverObjetivo(Objetivo.PERIFERIA, 0);
+        double diametro = 0;
+        for (int v = 0; v < n; v++) {
+            if (inferior[v] == superior[v]) diametro = Math.max(diametro, inferior[v]);
+        }
+        return diametro;
+    }
+
+    /**
+     * Obtiene la periferia: las ciudades cuya excentricidad es el diámetro.
+     *
+     * @return Índices de la periferia en orden creciente.
+     */
+    List<Integer> getPeriferia() {
+        double diametro = getDiametro();
+        List<Integer> periferia = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            if (inferior[v] == superior[v] && inferior[v] == diametro) periferia.add(v);
+        }
+        return periferia;
+    }
+
+    /**
+     * Obtiene las ciudades más centrales, de menor a mayor excentricidad (por índice si hay empate).
+     * Solo cuentan las que llegan a todas las demás.
+     *
+     * @param k Cantidad máxima de ciudades.
+     * @return Índices de hasta k ciudades.
+     */
+    List<Integer> getMasCentrales(int k) {
+        List<Integer> centrales = new ArrayList<>();
+        if (k <= 0 || n == 0) return centrales;
+        resolverObjetivo(Objetivo.MAS_CENTRALES, k);
+        for (int v = 0; v < n; v++) {
+            if (inferior[v] == superior[v] && inferior[v] != INF) centrales.add(v);
+        }
+        centrales.sort((a, b) -> (inferior[a] != inferior[b]) ? Double.compare(inferior[a], inferior[b])
+                                                              : Integer.compare(a, b));
+        return new ArrayList<>(centrales.subList(0, Math.min(k, centrales.size())));
+    }
+
+    /**
+     * Obtiene cuántas ciudades se resolvieron con búsquedas; las demás se descartaron o resolvieron por sus cotas.
+     *
+     * @return Cantidad de búsquedas (0 sobre las rutas de floyd()).
+     */
+    int getBusquedas() {
+        return busquedas;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: FloydBloques.java
+ * Descripción: Motor de Floyd-Warshall por bloques (tiled) que trabaja sobre arreglos planos y contiguos.
+ *              La matriz de distancias y la de sucesores se guardan fila por fila en un solo double[] e int[],
+ *              y se recorren en bloques de tamaño configurable para que cada bloque quepa en la caché.
+ *              Con paralelismo mayor a 1, las fases 2 y 3 de cada iteración se reparten entre los hilos de un
+ *              ForkJoinPool; cada bloque lo escribe una sola tarea, así que el resultado es el mismo que en serie.
+ */
+
+package com.hdt10;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class FloydBloques {
+    public static final int TAMANO_BLOQUE_DEFECTO = 64;
+
+    private final int tamanoBloque;
+    private final int paralelismo;
+
+    /**
+     * Constructor del motor por bloques en serie.
+     *
+     * @param tamanoBloque Cantidad de ciudades por lado de cada bloque.
+     */
+    public FloydBloques(int tamanoBloque) {
+        this(tamanoBloque, 1);
+    }
+
+    /**
+     * Constructor del motor por bloques.
+     *
+     * @param tamanoBloque Cantidad de ciudades por lado de cada bloque.
+     * @param paralelismo Cantidad de hilos a utilizar (1 para ejecutar en serie).
+     */
+    public FloydBloques(int tamanoBloque, int paralelismo) {
+        if (tamanoBloque <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo: " + tamanoBloque);
+        }
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + paralelismo);
+        }
+        this.tamanoBloque = tamanoBloque;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Obtiene el tamaño de bloque configurado.
+     *
+     * @return Tamaño de bloque.
+     */
+    public int getTamanoBloque() {
+        return tamanoBloque;
+    }
+
+    /**
+     * Obtiene la cantidad de hilos configurada.
+     *
+     * @return Paralelismo.
+     */
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    /**
+     * Ejecuta Floyd-Warshall por bloques. Ambos arreglos se modifican en el lugar.
+     * La celda (i, j) está en la posición i * n + j.
+     *
+     * @param dist Distancias iniciales (pesos directos o infinito), n * n posiciones.
+     * @param next Sucesores iniciales (j si hay conexión directa, -1 si no), n * n posiciones.
+     * @param n Cantidad de ciudades.
+     */
+    public void ejecutar(double[] dist, int[] next, int n) {
+        int bloques = (n + tamanoBloque - 1) / tamanoBloque;
+        if (paralelismo == 1 || bloques < 2) {
+            for (int kb = 0; kb < bloques; kb++) {
+                relajarDiagonal(dist, next, n, kb);
+                relajarFilaYColumna(dist, next, n, bloques, kb, 0, bloques);
+                relajarResto(dist, next, n, bloques, kb, 0, bloques * bloques);
+            }
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            for (int kb = 0; kb < bloques; kb++) {
+                relajarDiagonal(dist, next, n, kb);
+                pool.invoke(new TareaBloques(dist, next, n, bloques, kb, false, 0, bloques));
+                pool.invoke(new TareaBloques(dist, next, n, bloques, kb, true, 0, bloques * bloques));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Fase 1: bloque diagonal kb, depende solo de sí mismo.
+     */
+    private void relajarDiagonal(double[] dist, int[] next, int n, int kb) {
+        int k0 = kb * tamanoBloque;
+        int k1 = Math.min(n, k0 + tamanoBloque);
+        relajarBloque(dist, next, n, k0, k1, k0, k1, k0, k1);
+    }
+
+    /**
+     * Fase 2: bloques [desde, hasta) de la fila y la columna del bloque diagonal kb.
+     */
+    private void relajarFilaYColumna(double[] dist, int[] next, int n, int bloques, int kb, int desde, int hasta) {
+        int k0 = kb * tamanoBloque;
+        int k1 = Math.min(n, k0 + tamanoBloque);
+        for (int b = desde; b < hasta; b++) {
+            if (b == kb) continue;
+            int b0 = b * tamanoBloque;
+            int b1 = Math.min(n, b0 + tamanoBloque);
+            relajarBloque(dist, next, n, k0, k1, b0, b1, k0, k1);
+            relajarBloque(dist, next, n, b0, b1, k0, k1, k0, k1);
+        }
+    }
+
+    /**
+     * Fase 3: bloques [desde, hasta) fuera de la fila y columna kb, numerados ib * bloques + jb.
+     * Usan la fila y columna ya terminadas en la fase 2.
+     */
+    private void relajarResto(double[] dist, int[] next, int n, int bloques, int kb, int desde, int hasta) {
+        int k0 = kb * tamanoBloque;
+        int k1 = Math.min(n, k0 + tamanoBloque);
+        for (int t = desde; t < hasta; t++) {
+            int ib = t / bloques;
+            int jb = t % bloques;
+            if (ib == kb || jb == kb) continue;
+            int i0 = ib * tamanoBloque;
+            int j0 = jb * tamanoBloque;
+            relajarBloque(dist, next, n, i0, Math.min(n, i0 + tamanoBloque),
+                          j0, Math.min(n, j0 + tamanoBloque), k0, k1);
+        }
+    }
+
+    /**
+     * Tarea que divide un rango de bloques de la fase 2 o 3 hasta llegar a un solo bloque.
+     */
+    private final class TareaBloques extends RecursiveAction {
+        private final double[] dist;
+        private final int[] next;
+        private final int n;
+        private final int bloques;
+        private final int kb;
+        private final boolean faseResto;
+        private final int desde;
+        private final int hasta;
+
+        TareaBloques(double[] dist, int[] next, int n, int bloques, int kb, boolean faseResto, int desde, int hasta) {
+            this.dist = dist;
+            this.next = next;
+            this.n = n;
+            this.bloques = bloques;
+            this.kb = kb;
+            this.faseResto = faseResto;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= 1) {
+                if (faseResto) {
+                    relajarResto(dist, next, n, bloques, kb, desde, hasta);
+                } else {
+                    relajarFilaYColumna(dist, next, n, bloques, kb, desde, hasta);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new TareaBloques(dist, next, n, bloques, kb, faseResto, desde, medio),
+                      new TareaBloques(dist, next, n, bloques, kb, faseResto, medio, hasta));
+        }
+    }
+
+    /**
+     * Relaja las celdas [i0, i1) x [j0, j1) usando como intermedias las ciudades [k0, k1).
+     */
+    static void relajarBloque(double[] dist, int[] next, int n,
+                              int i0, int i1, int j0, int j1, int k0, int k1) {
+        for (int k = k0; k < k1; k++) {
+            int filaK = k * n;
+            for (int i = i0; i < i1; i++) {
+                int filaI = i * n;
+                double dik = dist[filaI + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                int nik = next[filaI + k];
+                for (int j = j0; j < j1; j++) {
+                    double candidato = dik + dist[filaK + j];
+                    if (candidato < dist[filaI + j]) {
+                        dist[filaI + j] = candidato;
+                        next[filaI + j] = nik;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -4,38 +4,104 @@
  * Ing. Douglas Barrios
  * @author: Marcelo Detlefsen, Julián Divas
  * Creación: 17/05/2025
- * última modificación: 17/05/2025
+ * última modificación: 17/10/2026
  * File Name: Grafo.java
  * Descripción: Clase que representa un grafo dirigido con pesos, implementando el algoritmo de Floyd-Warshall para encontrar caminos más cortos entre todas las ciudades.
  *              Esta clase permite agregar ciudades, conexiones entre ellas, eliminar conexiones, calcular rutas más cortas y encontrar el centro del grafo.
  *              Ahora soporta diferentes pesos según condiciones climáticas por conexión específica.
+ *              Las conexiones se guardan como lista de aristas (O(n + m) de memoria) con una vista CSR para recorrerlas;
+ *              las matrices n x n solo existen cuando se calculan las rutas entre todas las ciudades con floyd().
+ *              Puede precalcular las rutas de los escenarios de clima uniforme, uno por núcleo, para cambiar de
+ *              escenario sin volver a calcularlas.
+ *              El grafo no es seguro para varios hilos; para atender consultas desde otros hilos publica
+ *              instantáneas inmutables de las rutas (publicarRutas) que se leen sin bloqueos.
+ *              El centro, el radio, el diámetro y la periferia salen de excentricidades guardadas entre consultas.
+ *              Un índice de componentes fuertemente conexas responde si una ciudad llega a otra, da el centro de
+ *              cada componente y deja que floyd() calcule por separado las partes del grafo sin conexiones entre sí.
  */
 
 package com.hdt10;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class Grafo {
-    private final Map<String, Integer> ciudades = new HashMap<>();
-    private final List<String> nombresCiudades = new ArrayList<>();
+    // Nombre e índice de cada ciudad, sin Integer ni entradas de mapa
+    private final TablaCiudades ciudades;
     
-    // Matrices para cada condición climática (valores base)
-    private double[][] matrizNormal;
-    private double[][] matrizLluvia;
-    private double[][] matrizNieve;
-    private double[][] matrizTormenta;
+    // Capa de pesos de las conexiones: floyd() y las consultas nunca la modifican.
+    // Cada conexión tiene un índice; sus pesos por condición climática se indexan por el ordinal de la condición.
+    private int cantidadAristas = 0;
+    private int[] origenArista;
+    private int[] destinoArista;
+    private double[][] pesosArista;
+    private double[] pesoActualArista;
     
-    // Matriz actual de trabajo y mapa de condiciones por conexión
-    private double[][] matrizActual;
-    private Map<String, CondicionClimatica> condicionesPorConexion = new HashMap<>();
+    // Listas enlazadas de las conexiones que salen de cada ciudad (-1 marca el final)
+    private int[] primeraArista;
+    private int[] siguienteArista;
+    // Posiciones de conexiones eliminadas, enlazadas por siguienteArista; agregarConexion las reutiliza
+    private int primeraLibre = -1;
     
-    private int[][] next;
+    // Ordinal de la condición climática actual de cada conexión, alineado con los demás arreglos por conexión
+    private byte[] condicionArista;
+    
+    // Vista CSR de las conexiones, se reconstruye cuando se agregan o eliminan conexiones
+    private GrafoCSR csr;
+    private Dijkstra dijkstra;
+    private ConsultaALT consultaALT;
+    private JerarquiaContraccion jerarquia;
+    // Componentes fuertemente conexas; solo dependen de la estructura, no de los pesos
+    private ComponentesFuertes componentes;
+    // Cotas de excentricidad sin rutas de floyd(); se descartan cuando cambia algún peso
+    private Excentricidades excentricidadesCotas;
+    // Cursor de las consultas que arman una ruta o cuentan saltos, reutilizado para no crear uno por consulta
+    private final CursorRuta cursorInterno = new CursorRuta();
+    
+    // Motor de las consultas entre dos ciudades cuando no hay rutas de floyd() vigentes
+    private ConsultaPuntual consultaPuntual = ConsultaPuntual.ALT;
+    private int cantidadLandmarks = CANTIDAD_LANDMARKS_DEFECTO;
+    public final static int CANTIDAD_LANDMARKS_DEFECTO = 8;
+    
+    // Resultado de floyd(): distancias más cortas y sucesores, separado de los pesos de las conexiones
+    private ResultadoRutas resultado;
+    private boolean rutasVigentes = false;
+    
+    // Rutas precalculadas con todas las conexiones en una misma condición, indexadas por el ordinal de la condición.
+    // Si el resultado activo es uno de ellos o ya se publicó, se copia antes de corregirlo de forma incremental.
+    private ResultadoRutas[] escenarios;
+    private boolean resultadoCompartido = false;
+    
+    // Última instantánea publicada para lectores de otros hilos; solo el hilo que modifica el grafo la reemplaza.
+    // Al publicar, el resultado queda compartido y la siguiente corrección incremental trabaja sobre una copia.
+    private volatile InstantaneaRutas instantanea;
+    private long versionInstantanea = 0;
+    private TablaCiudades ciudadesPublicadas;
+    
+    // Regiones con nombre para aplicar un clima a todas sus conexiones, guardadas como índices de ciudades
+    private final Map<String, int[]> regiones = new HashMap<>();
+    private boolean actualizacionIncremental = true;
     private final static double INF = Double.POSITIVE_INFINITY;
+    private final static CondicionClimatica[] CONDICIONES = CondicionClimatica.values();
+    
+    // Con una densidad de conexiones menor a esta, AUTOMATICO usa Johnson en lugar de Floyd-Warshall
+    public final static double DENSIDAD_MAXIMA_JOHNSON = 0.05;
+    
+    // Un lote se corrige de forma incremental si cambia a lo sumo una conexión por cada tantas ciudades;
+    // cada corrección cuesta hasta O(n^2), así que con más cambios conviene recalcular todas las rutas
+    public final static int CIUDADES_POR_CAMBIO_INCREMENTAL = 16;
+    
+    // Motor usado por floyd() y su configuración
+    private MotorRutas motorRutas = MotorRutas.AUTOMATICO;
+    private int tamanoBloque = FloydBloques.TAMANO_BLOQUE_DEFECTO;
+    private int paralelismo = Runtime.getRuntime().availableProcessors();
     
     /**
      * Enumeración que representa las posibles condiciones climáticas que afectan los pesos de las conexiones.
@@ -44,30 +110,64 @@ public class Grafo {
         NORMAL, LLUVIA, NIEVE, TORMENTA
     }
 
+    /**
+     * Enumeración de los motores disponibles para calcular las rutas más cortas entre todas las ciudades.
+     * CLASICO es el triple ciclo sobre las matrices; BLOQUES es Floyd-Warshall por bloques sobre arreglos planos;
+     * PARALELO es el mismo motor por bloques repartido entre varios hilos; JOHNSON ejecuta un Dijkstra por ciudad
+     * en paralelo, conveniente en grafos dispersos; AUTOMATICO elige entre Floyd-Warshall y Johnson según la
+     * densidad de conexiones.
+     */
+    public enum MotorRutas {
+        CLASICO, BLOQUES, PARALELO, JOHNSON, AUTOMATICO
+    }
+
+    /**
+     * Enumeración de los motores para consultar la ruta entre dos ciudades sin rutas de floyd() vigentes.
+     * DIJKSTRA busca desde el origen; BIDIRECCIONAL busca desde ambos extremos a la vez; ALT es la búsqueda
+     * bidireccional guiada por cotas inferiores calculadas con landmarks; JERARQUIA usa una jerarquía de contracción,
+     * con el preproceso más caro y las consultas más rápidas.
+     */
+    public enum ConsultaPuntual {
+        DIJKSTRA, BIDIRECCIONAL, ALT, JERARQUIA
+    }
+
+    /**
+     * Enumeración de las formas en que aplicarLote actualiza las rutas de floyd().
+     * NINGUNA si no había rutas vigentes o ningún tiempo cambió; INCREMENTAL si corrigió las rutas conexión por
+     * conexión; COMPLETA si aplicó todos los cambios y recalculó las rutas una sola vez.
+     */
+    public enum EstrategiaRecalculo {
+        NINGUNA, INCREMENTAL, COMPLETA
+    }
+
     /**
      * Constructor del grafo.
      * 
-     * @param capacidadInicial Capacidad inicial para las matrices de adyacencia.
+     * @param capacidadInicial Capacidad inicial de ciudades.
      */
     public Grafo(int capacidadInicial) {
-        // Inicializar todas las matrices
-        matrizNormal = new double[capacidadInicial][capacidadInicial];
-        matrizLluvia = new double[capacidadInicial][capacidadInicial];
-        matrizNieve = new double[capacidadInicial][capacidadInicial];
-        matrizTormenta = new double[capacidadInicial][capacidadInicial];
-        matrizActual = new double[capacidadInicial][capacidadInicial];
-        next = new int[capacidadInicial][capacidadInicial];
-        
-        // Inicializar todas las matrices con infinito
-        for (double[] fila : matrizNormal) Arrays.fill(fila, INF);
-        for (double[] fila : matrizLluvia) Arrays.fill(fila, INF);
-        for (double[] fila : matrizNieve) Arrays.fill(fila, INF);
-        for (double[] fila : matrizTormenta) Arrays.fill(fila, INF);
-        for (double[] fila : matrizActual) Arrays.fill(fila, INF);
+        // Se reservan unas 4 conexiones por ciudad, típico de una red de carreteras
+        this(capacidadInicial, Math.max(4, capacidadInicial * 4));
+    }
+    
+    /**
+     * Constructor con capacidad exacta, usado por ConstructorGrafo.
+     * 
+     * @param capacidadInicial Capacidad inicial de ciudades.
+     * @param capacidadAristas Capacidad inicial de conexiones.
+     */
+    Grafo(int capacidadInicial, int capacidadAristas) {
+        ciudades = new TablaCiudades(capacidadInicial);
+        primeraArista = new int[capacidadInicial];
+        Arrays.fill(primeraArista, -1);
         
-        // Inicializar next con -1
-        for (int i = 0; i < capacidadInicial; i++)
-            Arrays.fill(next[i], -1);
+        capacidadAristas = Math.max(1, capacidadAristas);
+        origenArista = new int[capacidadAristas];
+        destinoArista = new int[capacidadAristas];
+        siguienteArista = new int[capacidadAristas];
+        pesoActualArista = new double[capacidadAristas];
+        pesosArista = new double[CONDICIONES.length][capacidadAristas];
+        condicionArista = new byte[capacidadAristas];
     }
 
     /**
@@ -76,67 +176,102 @@ public class Grafo {
      * @param nombre Nombre de la ciudad a agregar.
      */
     public void agregarCiudad(String nombre) {
-        if (!ciudades.containsKey(nombre)) {
-            int index = ciudades.size();
-            ciudades.put(nombre, index);
-            nombresCiudades.add(nombre);
+        int index = ciudades.size();
+        if (ciudades.agregar(nombre) == index) {
+            // Si hemos excedido la capacidad, duplicarla para que agregar n ciudades copie O(n) en total
+            if (index >= primeraArista.length) {
+                redimensionarCiudades(Math.max(index + 1, primeraArista.length * 2));
+            }
+            csr = null;
+            escenarios = null;
             
-            // Si hemos excedido la capacidad inicial, redimensionar
-            if (index >= matrizNormal.length) {
-                redimensionarMatrices(index + 10); // Aumentar en 10 por seguridad
+            // Una ciudad nueva no tiene conexiones, así que las rutas calculadas siguen siendo exactas
+            if (rutasVigentes) {
+                resultado = resultado.ampliar(ciudades.size());
+                resultadoCompartido = false;
             }
         }
     }
     
     /**
-     * Redimensiona las matrices del grafo para aumentar su capacidad.
+     * Redimensiona los arreglos indexados por ciudad para aumentar su capacidad.
      * 
      * @param nuevaCapacidad Nueva capacidad deseada.
      */
-    private void redimensionarMatrices(int nuevaCapacidad) {
-        double[][] nuevaMatrizNormal = new double[nuevaCapacidad][nuevaCapacidad];
-        double[][] nuevaMatrizLluvia = new double[nuevaCapacidad][nuevaCapacidad];
-        double[][] nuevaMatrizNieve = new double[nuevaCapacidad][nuevaCapacidad];
-        double[][] nuevaMatrizTormenta = new double[nuevaCapacidad][nuevaCapacidad];
-        double[][] nuevaMatrizActual = new double[nuevaCapacidad][nuevaCapacidad];
-        int[][] nuevoNext = new int[nuevaCapacidad][nuevaCapacidad];
-        
-        // Inicializar todas las matrices nuevas con infinito
-        for (double[] fila : nuevaMatrizNormal) Arrays.fill(fila, INF);
-        for (double[] fila : nuevaMatrizLluvia) Arrays.fill(fila, INF);
-        for (double[] fila : nuevaMatrizNieve) Arrays.fill(fila, INF);
-        for (double[] fila : nuevaMatrizTormenta) Arrays.fill(fila, INF);
-        for (double[] fila : nuevaMatrizActual) Arrays.fill(fila, INF);
-        
-        // Inicializar next con -1
-        for (int i = 0; i < nuevaCapacidad; i++)
-            Arrays.fill(nuevoNext[i], -1);
-        
-        // Copiar datos antiguos
-        int viejaCapacidad = matrizNormal.length;
-        for (int i = 0; i < viejaCapacidad; i++) {
-            for (int j = 0; j < viejaCapacidad; j++) {
-                nuevaMatrizNormal[i][j] = matrizNormal[i][j];
-                nuevaMatrizLluvia[i][j] = matrizLluvia[i][j];
-                nuevaMatrizNieve[i][j] = matrizNieve[i][j];
-                nuevaMatrizTormenta[i][j] = matrizTormenta[i][j];
-                nuevaMatrizActual[i][j] = matrizActual[i][j];
-                nuevoNext[i][j] = next[i][j];
-            }
+    private void redimensionarCiudades(int nuevaCapacidad) {
+        int viejaCapacidad = primeraArista.length;
+        primeraArista = Arrays.copyOf(primeraArista, nuevaCapacidad);
+        Arrays.fill(primeraArista, viejaCapacidad, nuevaCapacidad, -1);
+    }
+    
+    /**
+     * Duplica la capacidad de los arreglos indexados por conexión.
+     */
+    private void redimensionarAristas() {
+        redimensionarAristas(origenArista.length * 2);
+    }
+    
+    /**
+     * Cambia la capacidad de los arreglos indexados por conexión.
+     * 
+     * @param nuevaCapacidad Nueva capacidad, no menor a la cantidad de conexiones.
+     */
+    private void redimensionarAristas(int nuevaCapacidad) {
+        origenArista = Arrays.copyOf(origenArista, nuevaCapacidad);
+        destinoArista = Arrays.copyOf(destinoArista, nuevaCapacidad);
+        siguienteArista = Arrays.copyOf(siguienteArista, nuevaCapacidad);
+        pesoActualArista = Arrays.copyOf(pesoActualArista, nuevaCapacidad);
+        condicionArista = Arrays.copyOf(condicionArista, nuevaCapacidad);
+        for (int c = 0; c < pesosArista.length; c++) {
+            pesosArista[c] = Arrays.copyOf(pesosArista[c], nuevaCapacidad);
         }
-        
-        // Reemplazar matrices
-        matrizNormal = nuevaMatrizNormal;
-        matrizLluvia = nuevaMatrizLluvia;
-        matrizNieve = nuevaMatrizNieve;
-        matrizTormenta = nuevaMatrizTormenta;
-        matrizActual = nuevaMatrizActual;
-        next = nuevoNext;
+    }
+    
+    /**
+     * Obtiene la capacidad de los arreglos indexados por conexión.
+     * 
+     * @return Cantidad de posiciones reservadas.
+     */
+    int getCapacidadAristas() {
+        return origenArista.length;
+    }
+    
+    /**
+     * Busca la conexión directa i -> j recorriendo las conexiones que salen de i.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Índice de la conexión, o -1 si no existe.
+     */
+    int buscarArista(int i, int j) {
+        for (int e = primeraArista[i]; e != -1; e = siguienteArista[e]) {
+            if (destinoArista[e] == j) return e;
+        }
+        return -1;
+    }
+    
+    /**
+     * Obtiene la vista CSR de las conexiones, construyéndola si cambió la estructura del grafo.
+     * 
+     * @return Vista CSR actual.
+     */
+    GrafoCSR getCSR() {
+        if (csr == null) {
+            csr = new GrafoCSR(ciudades.size(), cantidadAristas, origenArista, destinoArista,
+                               pesosArista, pesoActualArista);
+            dijkstra = null;
+            consultaALT = null;
+            jerarquia = null;
+            componentes = null;
+            excentricidadesCotas = null;
+        }
+        return csr;
     }
 
     /**
      * Agrega una conexión entre dos ciudades con diferentes tiempos según condiciones climáticas.
      * Por defecto, la conexión inicia con condición NORMAL.
+     * Si las rutas ya estaban calculadas, se actualizan de forma incremental.
      * 
      * @param ciudad1 Ciudad origen.
      * @param ciudad2 Ciudad destino.
@@ -149,47 +284,280 @@ public class Grafo {
                                 double tiempoNieve, double tiempoTormenta) {
         agregarCiudad(ciudad1);
         agregarCiudad(ciudad2);
-        int i = ciudades.get(ciudad1);
-        int j = ciudades.get(ciudad2);
+        agregarConexion(ciudades.buscar(ciudad1), ciudades.buscar(ciudad2), tiempoNormal, tiempoLluvia,
+                        tiempoNieve, tiempoTormenta);
+    }
+    
+    /**
+     * Agrega o reemplaza la conexión i -> j entre ciudades que ya existen, dadas por sus índices.
+     * Si las rutas ya estaban calculadas, se actualizan de forma incremental.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param tiempoNormal Tiempo en condiciones normales.
+     * @param tiempoLluvia Tiempo con lluvia.
+     * @param tiempoNieve Tiempo con nieve.
+     * @param tiempoTormenta Tiempo con tormenta.
+     * @throws IndexOutOfBoundsException Si alguna ciudad no existe.
+     */
+    public void agregarConexion(int i, int j, double tiempoNormal, double tiempoLluvia,
+                                double tiempoNieve, double tiempoTormenta) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) {
+            throw new IndexOutOfBoundsException("No existe la ciudad con índice " + (esIndiceValido(i) ? j : i));
+        }
+        // Si la conexión ya existe se reemplazan sus tiempos; si no, se crea una nueva
+        int e = buscarArista(i, j);
+        escenarios = null; // Cambian los pesos por condición
+        if (e != -1) {
+            double pesoAnterior = pesoActualArista[e];
+            reemplazarPesos(e, tiempoNormal, tiempoLluvia, tiempoNieve, tiempoTormenta);
+            actualizarRutas(i, j, pesoAnterior);
+            return;
+        }
+        if (primeraLibre != -1) {
+            // Reutilizar la posición de una conexión eliminada, para que los arreglos no crezcan sin límite
+            e = primeraLibre;
+            primeraLibre = siguienteArista[e];
+            origenArista[e] = i;
+            destinoArista[e] = j;
+            siguienteArista[e] = primeraArista[i];
+            primeraArista[i] = e;
+            csr = null;
+        } else {
+            if (cantidadAristas == origenArista.length) {
+                redimensionarAristas();
+            }
+            e = cantidadAristas++;
+            origenArista[e] = i;
+            destinoArista[e] = j;
+            siguienteArista[e] = primeraArista[i];
+            primeraArista[i] = e;
+            csr = null;
+        }
         
-        matrizNormal[i][j] = tiempoNormal;
-        matrizLluvia[i][j] = tiempoLluvia;
-        matrizNieve[i][j] = tiempoNieve;
-        matrizTormenta[i][j] = tiempoTormenta;
+        pesosArista[CondicionClimatica.NORMAL.ordinal()][e] = tiempoNormal;
+        pesosArista[CondicionClimatica.LLUVIA.ordinal()][e] = tiempoLluvia;
+        pesosArista[CondicionClimatica.NIEVE.ordinal()][e] = tiempoNieve;
+        pesosArista[CondicionClimatica.TORMENTA.ordinal()][e] = tiempoTormenta;
         
         // Por defecto, la conexión inicia en condición NORMAL
-        String claveConexion = ciudad1 + "->" + ciudad2;
-        condicionesPorConexion.put(claveConexion, CondicionClimatica.NORMAL);
-        matrizActual[i][j] = tiempoNormal;
+        condicionArista[e] = (byte) CondicionClimatica.NORMAL.ordinal();
+        cambiarPesoActual(e, tiempoNormal);
+        
+        actualizarRutas(i, j, INF);
+    }
+    
+    /**
+     * Reemplaza los tiempos de una conexión que ya existe y la deja en condición NORMAL. Como la estructura no
+     * cambia, la vista CSR se corrige en su lugar y se conservan la jerarquía de contracción, las componentes y
+     * Dijkstra; las tablas de ALT se descartan solo si algún tiempo por condición bajó, porque dejarían de ser
+     * cotas inferiores.
+     * 
+     * @param e Índice de la conexión.
+     * @param tiempoNormal Tiempo en condiciones normales.
+     * @param tiempoLluvia Tiempo con lluvia.
+     * @param tiempoNieve Tiempo con nieve.
+     * @param tiempoTormenta Tiempo con tormenta.
+     */
+    private void reemplazarPesos(int e, double tiempoNormal, double tiempoLluvia, double tiempoNieve,
+                                 double tiempoTormenta) {
+        double[] anteriores = new double[CONDICIONES.length];
+        for (int c = 0; c < CONDICIONES.length; c++) {
+            anteriores[c] = pesosArista[c][e];
+        }
+        double actualAnterior = pesoActualArista[e];
+        pesosArista[CondicionClimatica.NORMAL.ordinal()][e] = tiempoNormal;
+        pesosArista[CondicionClimatica.LLUVIA.ordinal()][e] = tiempoLluvia;
+        pesosArista[CondicionClimatica.NIEVE.ordinal()][e] = tiempoNieve;
+        pesosArista[CondicionClimatica.TORMENTA.ordinal()][e] = tiempoTormenta;
+        condicionArista[e] = (byte) CondicionClimatica.NORMAL.ordinal();
+        pesoActualArista[e] = tiempoNormal;
+        if (csr == null) return;
+        
+        csr.actualizarPesos(e, pesosArista, tiempoNormal);
+        if (consultaALT != null) {
+            boolean bajo = false;
+            for (int c = 0; c < CONDICIONES.length; c++) {
+                bajo |= pesosArista[c][e] < anteriores[c];
+            }
+            if (bajo) {
+                consultaALT = null;
+            } else {
+                consultaALT.pesosConexionCambiados(csr.posicion(e), anteriores, actualAnterior);
+            }
+        }
+        if (jerarquia != null) {
+            jerarquia.pesosCambiados();
+        }
+        excentricidadesCotas = null;
+    }
+    
+    /**
+     * Agrega de una vez las ciudades y conexiones acumuladas en un constructor. Reserva la memoria necesaria
+     * antes de empezar, así que los arreglos no se copian durante la carga. Las rutas calculadas se descartan
+     * y se vuelven a calcular en la siguiente consulta, porque corregirlas conexión por conexión costaría más.
+     * 
+     * @param datos Ciudades y conexiones a agregar.
+     */
+    public void agregarConexiones(ConstructorGrafo datos) {
+        agregarConexiones(new ConstructorGrafo[] {datos});
+    }
+    
+    /**
+     * Agrega de una vez las ciudades y conexiones de varios constructores, como si fueran uno solo con las
+     * conexiones del primero, luego las del segundo, etc. Cada constructor tiene sus propios índices de ciudades;
+     * se traducen a los del grafo con una pasada por las ciudades de cada uno, así que las ciudades quedan en el
+     * orden en que aparecieron por primera vez. La memoria se reserva una sola vez para todos.
+     * 
+     * @param trozos Constructores en orden.
+     */
+    public void agregarConexiones(ConstructorGrafo[] trozos) {
+        rutasVigentes = false;
+        int nuevasCiudades = 0;
+        int nuevasConexiones = 0;
+        for (ConstructorGrafo datos : trozos) {
+            // Una cota: una ciudad repetida entre trozos se cuenta en cada uno
+            for (int c = 0; c < datos.getCantidadCiudades(); c++) {
+                if (ciudades.buscar(datos.getNombre(c)) == -1) nuevasCiudades++;
+            }
+            nuevasConexiones += datos.getCantidadConexiones();
+        }
+        int capacidadCiudades = ciudades.size() + nuevasCiudades;
+        if (capacidadCiudades > primeraArista.length) {
+            redimensionarCiudades(capacidadCiudades);
+        }
+        ciudades.asegurarCapacidad(capacidadCiudades);
+        int capacidadAristas = cantidadAristas + nuevasConexiones;
+        if (capacidadAristas > origenArista.length) {
+            redimensionarAristas(capacidadAristas);
+        }
+        
+        for (ConstructorGrafo datos : trozos) {
+            int cantidadCiudades = datos.getCantidadCiudades();
+            int[] indice = new int[cantidadCiudades];
+            for (int c = 0; c < cantidadCiudades; c++) {
+                agregarCiudad(datos.getNombre(c));
+                indice[c] = ciudades.buscar(datos.getNombre(c));
+            }
+            for (int e = 0; e < datos.getCantidadConexiones(); e++) {
+                agregarConexion(indice[datos.getOrigen(e)], indice[datos.getDestino(e)],
+                                datos.getPeso(CondicionClimatica.NORMAL, e), datos.getPeso(CondicionClimatica.LLUVIA, e),
+                                datos.getPeso(CondicionClimatica.NIEVE, e), datos.getPeso(CondicionClimatica.TORMENTA, e));
+            }
+        }
+    }
+
+    /**
+     * Carga en un grafo vacío las conexiones en orden CSR, tomando los arreglos como propios sin copiarlos:
+     * la posición k de la vista pasa a ser la conexión k, y las conexiones de cada ciudad quedan seguidas.
+     * 
+     * @param nombres Nombre de cada ciudad por índice.
+     * @param desplazamientos Inicio de las conexiones de cada ciudad; n + 1 valores.
+     * @param destinos Ciudad destino de cada conexión.
+     * @param pesos Peso de cada conexión por ordinal de condición.
+     * @param condiciones Ordinal de la condición actual de cada conexión.
+     * @param rutas Rutas ya calculadas con estos mismos pesos, o null para calcularlas en la siguiente consulta.
+     * @throws IllegalStateException Si el grafo ya tiene ciudades.
+     */
+    void cargarCSR(String[] nombres, int[] desplazamientos, int[] destinos, double[][] pesos, byte[] condiciones,
+                   ResultadoRutas rutas) {
+        if (!ciudades.isEmpty()) {
+            throw new IllegalStateException("Solo se puede cargar una vista CSR en un grafo vacío");
+        }
+        int n = nombres.length;
+        int m = destinos.length;
+        redimensionarCiudades(Math.max(n, primeraArista.length));
+        ciudades.asegurarCapacidad(n);
+        for (int i = 0; i < n; i++) {
+            if (ciudades.agregar(nombres[i]) != i) {
+                throw new IllegalArgumentException("Ciudad repetida: " + nombres[i]);
+            }
+        }
+        
+        if (m > 0) { // Sin conexiones se conservan los arreglos actuales, que tienen capacidad para crecer
+            origenArista = new int[m];
+            siguienteArista = new int[m];
+            pesoActualArista = new double[m];
+            destinoArista = destinos;
+            pesosArista = pesos;
+            condicionArista = condiciones;
+        }
+        for (int i = 0; i < n; i++) {
+            int inicio = desplazamientos[i];
+            int fin = desplazamientos[i + 1];
+            primeraArista[i] = (inicio < fin) ? inicio : -1;
+            for (int k = inicio; k < fin; k++) {
+                origenArista[k] = i;
+                siguienteArista[k] = (k + 1 < fin) ? k + 1 : -1;
+                pesoActualArista[k] = pesos[condiciones[k]][k];
+            }
+        }
+        cantidadAristas = m;
+        primeraLibre = -1;
+        csr = null;
+        escenarios = null;
         
-        next[i][j] = j;
+        resultado = rutas;
+        rutasVigentes = (rutas != null);
+        resultadoCompartido = false;
+        republicar();
+    }
+    
+    /**
+     * Obtiene el ordinal de la condición actual de una conexión.
+     * 
+     * @param arista Índice de la conexión.
+     * @return Ordinal de la condición.
+     */
+    int getCondicionArista(int arista) {
+        return condicionArista[arista];
     }
 
     /**
      * Elimina una conexión entre dos ciudades.
+     * Si las rutas ya estaban calculadas, se actualizan de forma incremental.
      * 
      * @param ciudad1 Ciudad origen.
      * @param ciudad2 Ciudad destino.
      */
     public void eliminarConexion(String ciudad1, String ciudad2) {
-        int i = ciudades.get(ciudad1);
-        int j = ciudades.get(ciudad2);
-        
-        matrizNormal[i][j] = INF;
-        matrizLluvia[i][j] = INF;
-        matrizNieve[i][j] = INF;
-        matrizTormenta[i][j] = INF;
-        matrizActual[i][j] = INF;
+        eliminarConexion(getIndiceCiudad(ciudad1), getIndiceCiudad(ciudad2));
+    }
+    
+    /**
+     * Elimina una conexión dada por los índices de sus ciudades; si no existe, no hace nada.
+     * Si las rutas ya estaban calculadas, se actualizan de forma incremental.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     */
+    public void eliminarConexion(int i, int j) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) return;
+        int e = buscarArista(i, j);
+        if (e == -1) return;
+        double pesoAnterior = pesoActualArista[e];
         
-        // Remover de las condiciones
-        String claveConexion = ciudad1 + "->" + ciudad2;
-        condicionesPorConexion.remove(claveConexion);
+        // Quitar la conexión de la lista de i; su posición queda marcada como eliminada y pasa a la lista de libres
+        if (primeraArista[i] == e) {
+            primeraArista[i] = siguienteArista[e];
+        } else {
+            int anterior = primeraArista[i];
+            while (siguienteArista[anterior] != e) anterior = siguienteArista[anterior];
+            siguienteArista[anterior] = siguienteArista[e];
+        }
+        origenArista[e] = -1;
+        pesoActualArista[e] = INF;
+        siguienteArista[e] = primeraLibre;
+        primeraLibre = e;
+        csr = null;
+        escenarios = null;
         
-        next[i][j] = -1;
+        actualizarRutas(i, j, pesoAnterior);
     }
     
     /**
      * Cambia la condición climática de una conexión específica.
+     * Si las rutas ya estaban calculadas, se actualizan de forma incremental.
      * 
      * @param ciudad1 Ciudad origen.
      * @param ciudad2 Ciudad destino.
@@ -197,191 +565,1562 @@ public class Grafo {
      * @return true si se cambió exitosamente, false si la conexión no existe.
      */
     public boolean cambiarCondicionConexion(String ciudad1, String ciudad2, CondicionClimatica condicion) {
-        if (!ciudades.containsKey(ciudad1) || !ciudades.containsKey(ciudad2)) {
+        return cambiarCondicionConexion(getIndiceCiudad(ciudad1), getIndiceCiudad(ciudad2), condicion);
+    }
+    
+    /**
+     * Cambia la condición climática de una conexión dada por los índices de sus ciudades, sin crear objetos.
+     * Si las rutas ya estaban calculadas, se actualizan de forma incremental.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param condicion Nueva condición climática.
+     * @return true si se cambió exitosamente, false si la conexión no existe.
+     */
+    public boolean cambiarCondicionConexion(int i, int j, CondicionClimatica condicion) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) {
             return false;
         }
         
-        int i = ciudades.get(ciudad1);
-        int j = ciudades.get(ciudad2);
-        
         // Verificar que la conexión existe
-        if (matrizNormal[i][j] == INF) {
+        int e = buscarArista(i, j);
+        if (e == -1) {
             return false;
         }
         
-        String claveConexion = ciudad1 + "->" + ciudad2;
-        condicionesPorConexion.put(claveConexion, condicion);
+        condicionArista[e] = (byte) condicion.ordinal();
+        double pesoAnterior = pesoActualArista[e];
         
-        // Actualizar la matriz actual con el tiempo correspondiente
-        switch (condicion) {
-            case NORMAL:
-                matrizActual[i][j] = matrizNormal[i][j];
-                break;
-            case LLUVIA:
-                matrizActual[i][j] = matrizLluvia[i][j];
-                break;
-            case NIEVE:
-                matrizActual[i][j] = matrizNieve[i][j];
-                break;
-            case TORMENTA:
-                matrizActual[i][j] = matrizTormenta[i][j];
-                break;
-        }
+        // Actualizar el peso actual con el tiempo correspondiente
+        cambiarPesoActual(e, pesosArista[condicion.ordinal()][e]);
         
+        actualizarRutas(i, j, pesoAnterior);
         return true;
     }
     
     /**
-     * Obtiene la condición climática actual de una conexión específica.
+     * Cambia la condición climática de varias conexiones con una sola actualización de rutas, igual que
+     * aplicarLote. Los cambios sobre conexiones que no existen se ignoran; si algún cambio no tiene condición,
+     * no se aplica ninguno.
      * 
-     * @param ciudad1 Ciudad origen.
-     * @param ciudad2 Ciudad destino.
-     * @return Condición climática de la conexión, o null si no existe.
+     * @param origenes Índice de la ciudad origen de cada cambio.
+     * @param destinos Índice de la ciudad destino de cada cambio.
+     * @param condiciones Nueva condición de cada cambio.
+     * @param cantidad Cantidad de cambios a aplicar desde la posición 0.
+     * @return Cantidad de conexiones distintas que existían y se cambiaron.
+     * @throws IllegalArgumentException si algún cambio no tiene condición.
      */
-    public CondicionClimatica getCondicionConexion(String ciudad1, String ciudad2) {
-        String claveConexion = ciudad1 + "->" + ciudad2;
-        return condicionesPorConexion.get(claveConexion);
+    public int cambiarCondiciones(int[] origenes, int[] destinos, CondicionClimatica[] condiciones, int cantidad) {
+        long inicio = System.nanoTime();
+        
+        // Validar todos los cambios antes de modificar algo
+        int[] aristas = new int[cantidad];
+        CondicionClimatica[] existentes = new CondicionClimatica[cantidad];
+        int encontradas = 0;
+        for (int k = 0; k < cantidad; k++) {
+            int i = origenes[k];
+            int j = destinos[k];
+            if (condiciones[k] == null) {
+                throw new IllegalArgumentException("La conexión " + nombreOIndice(i) + " -> " + nombreOIndice(j)
+                                                   + " no tiene condición");
+            }
+            int e = (esIndiceValido(i) && esIndiceValido(j)) ? buscarArista(i, j) : -1;
+            if (e == -1) continue;
+            aristas[encontradas] = e;
+            existentes[encontradas++] = condiciones[k];
+        }
+        return aplicarCondiciones(aristas, existentes, encontradas, inicio).getConexionesTocadas();
     }
-
+    
     /**
-     * Ejecuta el algoritmo de Floyd-Warshall para calcular las rutas más cortas.
+     * Aplica un lote de cambios de condición climática y actualiza las rutas de floyd() una sola vez al final.
+     * El lote es transaccional: si alguna conexión no existe o algún cambio no tiene condición, no se aplica
+     * ningún cambio. Si una conexión aparece varias veces, solo cuenta su última condición.
+     * Con rutas vigentes se corrigen de forma incremental si cambiaron pocas conexiones
+     * (ver CIUDADES_POR_CAMBIO_INCREMENTAL); si no, se recalculan completas.
+     * 
+     * @param lote Cambios a aplicar.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     * @throws IllegalArgumentException si alguna conexión del lote no existe o algún cambio no tiene condición.
      */
-    public void floyd() {
+    public ResumenLote aplicarLote(LoteClima lote) {
+        long inicio = System.nanoTime();
         int n = ciudades.size();
-        // Resetear la matriz next
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (matrizActual[i][j] != INF) {
-                    next[i][j] = j;
-                } else {
-                    next[i][j] = -1;
-                }
+        int cantidad = lote.getCantidad();
+        
+        // Validar todo el lote antes de modificar algo
+        int[] aristas = new int[cantidad];
+        CondicionClimatica[] condiciones = new CondicionClimatica[cantidad];
+        for (int k = 0; k < cantidad; k++) {
+            int i = lote.getOrigen(k);
+            int j = lote.getDestino(k);
+            int e = (i < 0 || j < 0 || i >= n || j >= n) ? -1 : buscarArista(i, j);
+            if (e == -1) {
+                throw new IllegalArgumentException("La conexión " + nombreOIndice(i) + " -> " + nombreOIndice(j)
+                                                   + " no existe");
+            }
+            if (lote.getCondicion(k) == null) {
+                throw new IllegalArgumentException("La conexión " + nombreOIndice(i) + " -> " + nombreOIndice(j)
+                                                   + " no tiene condición");
             }
+            aristas[k] = e;
+            condiciones[k] = lote.getCondicion(k);
         }
-        // Algoritmo de Floyd-Warshall
-        for (int k = 0; k < n; k++)
-            for (int i = 0; i < n; i++)
-                for (int j = 0; j < n; j++)
-                    if (matrizActual[i][k] + matrizActual[k][j] < matrizActual[i][j]) {
-                        matrizActual[i][j] = matrizActual[i][k] + matrizActual[k][j];
-                        next[i][j] = next[i][k];
-                    }
+        return aplicarCondiciones(aristas, condiciones, cantidad, inicio);
     }
-
+    
     /**
-     * Obtiene la ruta más corta entre dos ciudades.
+     * Define o reemplaza una región con nombre, formada por un grupo de ciudades.
      * 
-     * @param origen Ciudad origen.
-     * @param destino Ciudad destino.
-     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     * @param nombre Nombre de la región.
+     * @param ciudadesRegion Ciudades de la región.
+     * @throws IllegalArgumentException si alguna ciudad no existe.
      */
-    public Ruta obtenerRuta(String origen, String destino) {
-        if (!ciudades.containsKey(origen) || !ciudades.containsKey(destino)) {
-            return null;
+    public void definirRegion(String nombre, Collection<String> ciudadesRegion) {
+        int[] indices = new int[ciudadesRegion.size()];
+        int k = 0;
+        for (String ciudad : ciudadesRegion) {
+            indices[k] = getIndiceCiudad(ciudad);
+            if (indices[k] == -1) {
+                throw new IllegalArgumentException("La ciudad " + ciudad + " no existe");
+            }
+            k++;
         }
-        
-        int i = ciudades.get(origen);
-        int j = ciudades.get(destino);
-        
-        if (matrizActual[i][j] == INF) return null;
-        
-        List<String> camino = new ArrayList<>();
-        for (int at = i; at != j; at = next[at][j]) {
-            if (at == -1) return null; // Si no hay camino
-            camino.add(nombresCiudades.get(at));
+        regiones.put(nombre, indices);
+    }
+    
+    /**
+     * Pone en la condición dada todas las conexiones entre ciudades de una región definida con definirRegion.
+     * 
+     * @param region Nombre de la región.
+     * @param condicion Nueva condición de las conexiones.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     * @throws IllegalArgumentException si la región no está definida.
+     */
+    public ResumenLote aplicarClimaRegion(String region, CondicionClimatica condicion) {
+        long inicio = System.nanoTime();
+        int[] indices = regiones.get(region);
+        if (indices == null) {
+            throw new IllegalArgumentException("La región " + region + " no está definida");
+        }
+        boolean[] enRegion = new boolean[ciudades.size()];
+        for (int ciudad : indices) {
+            enRegion[ciudad] = true;
         }
-        camino.add(destino);
-        return new Ruta(camino, matrizActual[i][j]);
+        return aplicarClimaEnCiudades(enRegion, condicion, inicio);
     }
-
+    
     /**
-     * Calcula la ciudad que está en el centro del grafo (menor excentricidad máxima).
+     * Pone en la condición dada todas las conexiones entre ciudades a lo sumo a k saltos de una ciudad,
+     * contando las conexiones en ambos sentidos.
      * 
-     * @return Nombre de la ciudad centro, o mensaje de error si no se puede determinar.
+     * @param centro Ciudad central.
+     * @param saltos Cantidad máxima de saltos; 0 solo toca las conexiones de la ciudad consigo misma.
+     * @param condicion Nueva condición de las conexiones.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     * @throws IllegalArgumentException si la ciudad no existe o los saltos son negativos.
      */
-    public String obtenerCentro() {
-        int centro = -1;
-        double menorExcentricidad = Double.POSITIVE_INFINITY;
+    public ResumenLote aplicarClimaPorSaltos(String centro, int saltos, CondicionClimatica condicion) {
+        return aplicarClimaPorSaltos(indiceCentro(centro), saltos, condicion);
+    }
+    
+    /**
+     * Pone en la condición dada todas las conexiones entre ciudades a lo sumo a k saltos de una ciudad dada
+     * por su índice, contando las conexiones en ambos sentidos.
+     * 
+     * @param c Índice de la ciudad central.
+     * @param saltos Cantidad máxima de saltos; 0 solo toca las conexiones de la ciudad consigo misma.
+     * @param condicion Nueva condición de las conexiones.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     * @throws IllegalArgumentException si la ciudad no existe o los saltos son negativos.
+     */
+    public ResumenLote aplicarClimaPorSaltos(int c, int saltos, CondicionClimatica condicion) {
+        long inicio = System.nanoTime();
+        validarCentro(c);
+        if (saltos < 0) {
+            throw new IllegalArgumentException("La cantidad de saltos no puede ser negativa: " + saltos);
+        }
         
-        for (int i = 0; i < ciudades.size(); i++) {
-            double excentricidad = 0;
-            boolean esValido = true;
-            
-            for (int j = 0; j < ciudades.size(); j++) {
-                if (i == j) continue;
-                if (matrizActual[i][j] == INF) {
-                    esValido = false;
-                    break;
+        // Recorrido en anchura por las conexiones de salida y de entrada
+        GrafoCSR vista = getCSR();
+        int n = ciudades.size();
+        boolean[] enRegion = new boolean[n];
+        int[] cola = new int[n];
+        int frente = 0;
+        int fin = 0;
+        cola[fin++] = c;
+        enRegion[c] = true;
+        for (int nivel = 0; nivel < saltos && frente < fin; nivel++) {
+            int finNivel = fin;
+            while (frente < finNivel) {
+                int x = cola[frente++];
+                for (int k = vista.desplazamientos[x]; k < vista.desplazamientos[x + 1]; k++) {
+                    int z = vista.destinos[k];
+                    if (!enRegion[z]) {
+                        enRegion[z] = true;
+                        cola[fin++] = z;
+                    }
+                }
+                for (int r = vista.desplazamientosEntrada[x]; r < vista.desplazamientosEntrada[x + 1]; r++) {
+                    int z = vista.origenesEntrada[r];
+                    if (!enRegion[z]) {
+                        enRegion[z] = true;
+                        cola[fin++] = z;
+                    }
                 }
-                excentricidad = Math.max(excentricidad, matrizActual[i][j]);
-            }
-            
-            if (esValido && excentricidad < menorExcentricidad) {
-                menorExcentricidad = excentricidad;
-                centro = i;
             }
         }
-        
-        return (centro == -1) ? "No hay centro" : nombresCiudades.get(centro);
+        return aplicarClimaEnCiudades(enRegion, condicion, inicio);
     }
-
+    
     /**
-     * Imprime la matriz de adyacencia actual.
+     * Pone en la condición dada todas las conexiones entre ciudades a las que se llega desde una ciudad
+     * en un tiempo a lo sumo igual al radio, con los tiempos actuales de las conexiones.
+     * 
+     * @param centro Ciudad central.
+     * @param radio Tiempo máximo desde la ciudad central.
+     * @param condicion Nueva condición de las conexiones.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     * @throws IllegalArgumentException si la ciudad no existe o el radio es negativo.
      */
-    public void imprimirMatriz() {
-        System.out.println("Matriz de adyacencia actual:");
-        for (int i = 0; i < ciudades.size(); i++) {
-            for (int j = 0; j < ciudades.size(); j++) {
-                double d = matrizActual[i][j];
-                System.out.printf("%10s", d == INF ? "INF" : String.format("%.2f", d));
-            }
-            System.out.println();
-        }
+    public ResumenLote aplicarClimaPorRadio(String centro, double radio, CondicionClimatica condicion) {
+        return aplicarClimaPorRadio(indiceCentro(centro), radio, condicion);
     }
-
+    
     /**
-     * Verifica si una ciudad existe en el grafo.
+     * Pone en la condición dada todas las conexiones entre ciudades a las que se llega desde una ciudad dada
+     * por su índice en un tiempo a lo sumo igual al radio, con los tiempos actuales de las conexiones.
      * 
-     * @param ciudad Nombre de la ciudad.
-     * @return true si existe, false en caso contrario.
+     * @param c Índice de la ciudad central.
+     * @param radio Tiempo máximo desde la ciudad central.
+     * @param condicion Nueva condición de las conexiones.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     * @throws IllegalArgumentException si la ciudad no existe o el radio es negativo.
      */
-    public boolean contieneCiudad(String ciudad) {
-        return ciudades.containsKey(ciudad);
+    public ResumenLote aplicarClimaPorRadio(int c, double radio, CondicionClimatica condicion) {
+        long inicio = System.nanoTime();
+        validarCentro(c);
+        if (!(radio >= 0)) {
+            throw new IllegalArgumentException("El radio debe ser mayor o igual a 0: " + radio);
+        }
+        GrafoCSR vista = getCSR();
+        if (dijkstra == null) {
+            dijkstra = new Dijkstra(vista);
+        }
+        dijkstra.ejecutar(c, -1);
+        boolean[] enRegion = new boolean[ciudades.size()];
+        for (int x = 0; x < enRegion.length; x++) {
+            enRegion[x] = dijkstra.getDistancia(x) <= radio;
+        }
+        enRegion[c] = true;
+        return aplicarClimaEnCiudades(enRegion, condicion, inicio);
     }
-
+    
     /**
-     * Obtiene el conjunto de ciudades en el grafo.
+     * Obtiene el índice de la ciudad central de una región.
      * 
-     * @return Conjunto de nombres de ciudades.
+     * @param centro Nombre de la ciudad.
+     * @return Índice de la ciudad.
+     * @throws IllegalArgumentException si la ciudad no existe.
      */
-    public Set<String> getCiudades() {
-        return ciudades.keySet();
+    private int indiceCentro(String centro) {
+        int c = getIndiceCiudad(centro);
+        if (c == -1) {
+            throw new IllegalArgumentException("La ciudad " + centro + " no existe");
+        }
+        return c;
+    }
+    
+    private void validarCentro(int c) {
+        if (!esIndiceValido(c)) {
+            throw new IllegalArgumentException("No existe la ciudad con índice " + c);
+        }
     }
     
     /**
-     * Verifica si existe una conexión directa entre dos ciudades.
+     * Pone en la condición dada las conexiones cuyos dos extremos están en la región.
      * 
-     * @param ciudad1 Ciudad origen.
-     * @param ciudad2 Ciudad destino.
-     * @return true si existe la conexión, false en caso contrario.
+     * @param enRegion Marca de las ciudades de la región.
+     * @param condicion Nueva condición de las conexiones.
+     * @param inicio Instante en que empezó la operación, para el resumen.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
      */
-    public boolean existeConexion(String ciudad1, String ciudad2) {
-        if (!ciudades.containsKey(ciudad1) || !ciudades.containsKey(ciudad2)) {
-            return false;
+    private ResumenLote aplicarClimaEnCiudades(boolean[] enRegion, CondicionClimatica condicion, long inicio) {
+        int cantidad = 0;
+        for (int x = 0; x < enRegion.length; x++) {
+            if (!enRegion[x]) continue;
+            for (int e = primeraArista[x]; e != -1; e = siguienteArista[e]) {
+                if (enRegion[destinoArista[e]]) cantidad++;
+            }
+        }
+        int[] aristas = new int[cantidad];
+        CondicionClimatica[] condiciones = new CondicionClimatica[cantidad];
+        Arrays.fill(condiciones, condicion);
+        int k = 0;
+        for (int x = 0; x < enRegion.length; x++) {
+            if (!enRegion[x]) continue;
+            for (int e = primeraArista[x]; e != -1; e = siguienteArista[e]) {
+                if (enRegion[destinoArista[e]]) aristas[k++] = e;
+            }
         }
+        return aplicarCondiciones(aristas, condiciones, cantidad, inicio);
+    }
+    
+    /**
+     * Aplica los cambios de condición a las conexiones dadas y actualiza las rutas de floyd() una sola vez.
+     * En la corrección incremental, los pares cuya ruta usaba alguna conexión que se encareció se reparan
+     * juntos, destino por destino, y después se relaja cada conexión que se abarató; el resto de la matriz
+     * no se toca.
+     * 
+     * @param aristas Índices de las conexiones, que deben existir.
+     * @param condiciones Nueva condición de cada conexión.
+     * @param cantidad Cantidad de cambios.
+     * @param inicio Instante en que empezó la operación, para el resumen.
+     * @return Resumen con las conexiones tocadas y la estrategia de recálculo.
+     */
+    private ResumenLote aplicarCondiciones(int[] aristas, CondicionClimatica[] condiciones, int cantidad, long inicio) {
+        int n = ciudades.size();
+        cantidad = quitarRepetidas(aristas, condiciones, cantidad);
+        int[] origenesSuben = new int[cantidad];
+        int[] destinosSuben = new int[cantidad];
+        int[] bajan = new int[cantidad];
+        int suben = 0;
+        int cantidadBajan = 0;
+        int cambiadas = 0;
         
-        int i = ciudades.get(ciudad1);
-        int j = ciudades.get(ciudad2);
+        for (int k = 0; k < cantidad; k++) {
+            int e = aristas[k];
+            int c = condiciones[k].ordinal();
+            double anterior = pesoActualArista[e];
+            double nuevo = pesosArista[c][e];
+            condicionArista[e] = (byte) c;
+            if (nuevo == anterior) continue;
+            cambiadas++;
+            cambiarPesoActual(e, nuevo);
+            if (nuevo > anterior) {
+                origenesSuben[suben] = origenArista[e];
+                destinosSuben[suben++] = destinoArista[e];
+            } else {
+                bajan[cantidadBajan++] = e;
+            }
+        }
         
-        return matrizNormal[i][j] != INF;
+        EstrategiaRecalculo estrategia;
+        if (!rutasVigentes || cambiadas == 0) {
+            estrategia = EstrategiaRecalculo.NINGUNA;
+        } else if (actualizacionIncremental && (long) cambiadas * CIUDADES_POR_CAMBIO_INCREMENTAL <= n) {
+            estrategia = EstrategiaRecalculo.INCREMENTAL;
+            if (resultadoCompartido) {
+                resultado = resultado.copiar(); // No alterar el escenario precalculado ni la instantánea publicada
+                resultadoCompartido = false;
+            }
+            resultado.repararPorConexiones(origenesSuben, destinosSuben, suben, getCSR());
+            for (int b = 0; b < cantidadBajan; b++) {
+                int e = bajan[b];
+                resultado.relajarPorConexion(origenArista[e], destinoArista[e], pesoActualArista[e]);
+            }
+        } else {
+            estrategia = EstrategiaRecalculo.COMPLETA;
+            floyd();
+        }
+        republicar();
+        return new ResumenLote(cantidad, cambiadas, estrategia, (System.nanoTime() - inicio) / 1e6);
     }
     
     /**
-     * Obtiene todas las conexiones existentes con sus condiciones climáticas.
+     * Deja una sola vez cada conexión de un lote, con la última condición que se le dio, conservando el orden
+     * de las que quedan. Así un cambio y su contrario sobre la misma conexión no cuentan como cambios.
      * 
-     * @return Mapa con las conexiones y sus condiciones climáticas.
+     * @param aristas Índice de la conexión de cada cambio; se compacta en el mismo arreglo.
+     * @param condiciones Condición de cada cambio; se compacta igual que las conexiones.
+     * @param cantidad Cantidad de cambios.
+     * @return Cantidad de conexiones distintas.
      */
-    public Map<String, CondicionClimatica> getTodasLasCondiciones() {
-        return new HashMap<>(condicionesPorConexion);
+    private static int quitarRepetidas(int[] aristas, CondicionClimatica[] condiciones, int cantidad) {
+        // Ordenar por conexión y, dentro de cada una, por posición en el lote
+        long[] claves = new long[cantidad];
+        for (int k = 0; k < cantidad; k++) {
+            claves[k] = ((long) aristas[k] << 32) | k;
+        }
+        Arrays.sort(claves);
+        boolean[] ultima = new boolean[cantidad];
+        boolean repetidas = false;
+        for (int p = 0; p < cantidad; p++) {
+            if (p + 1 < cantidad && (claves[p] >>> 32) == (claves[p + 1] >>> 32)) {
+                repetidas = true;
+            } else {
+                ultima[(int) claves[p]] = true;
+            }
+        }
+        if (!repetidas) return cantidad;
+        int distintas = 0;
+        for (int k = 0; k < cantidad; k++) {
+            if (!ultima[k]) continue;
+            aristas[distintas] = aristas[k];
+            condiciones[distintas++] = condiciones[k];
+        }
+        return distintas;
+    }
+    
+    /**
+     * Nombre de una ciudad para los mensajes de error, o su índice si no existe.
+     * 
+     * @param ciudad Índice de la ciudad.
+     * @return Nombre o índice.
+     */
+    private String nombreOIndice(int ciudad) {
+        return esIndiceValido(ciudad) ? ciudades.getNombre(ciudad) : String.valueOf(ciudad);
+    }
+    
+    /**
+     * Cambia el peso actual de una conexión y lo refleja en la vista CSR si ya existe.
+     * 
+     * @param e Índice de la conexión.
+     * @param peso Nuevo peso actual.
+     */
+    private void cambiarPesoActual(int e, double peso) {
+        double anterior = pesoActualArista[e];
+        pesoActualArista[e] = peso;
+        if (csr != null) {
+            csr.actualizarPesoActual(e, peso);
+            if (consultaALT != null) {
+                consultaALT.pesoCambiado(csr.posicion(e), anterior, peso);
+            }
+            if (jerarquia != null) {
+                jerarquia.pesosCambiados();
+            }
+            excentricidadesCotas = null;
+        }
+    }
+    
+    /**
+     * Primera mitad de un cambio de condición de GrafoConcurrente: solo escribe la condición y el peso actual
+     * de la conexión, datos que pertenecen a la franja de su ciudad origen.
+     * 
+     * @param e Índice de la conexión.
+     * @param condicion Nueva condición.
+     */
+    void fijarCondicionArista(int e, CondicionClimatica condicion) {
+        condicionArista[e] = (byte) condicion.ordinal();
+        pesoActualArista[e] = pesosArista[condicion.ordinal()][e];
+    }
+    
+    /**
+     * Segunda mitad de un cambio de GrafoConcurrente: lleva el peso actual de la conexión a la vista CSR, a las
+     * consultas puntuales y a las rutas de floyd(). El peso anterior se toma de la vista, así que propagar varias
+     * veces la misma conexión, o en otro orden que los cambios, deja el mismo estado.
+     * 
+     * @param e Índice de la conexión.
+     */
+    void propagarPesoArista(int e) {
+        if (origenArista[e] == -1) return; // Se eliminó entre las dos mitades
+        double peso = pesoActualArista[e];
+        if (csr == null) {
+            // La vista se construirá con el peso nuevo; sin el anterior no se pueden corregir las rutas
+            rutasVigentes = false;
+            return;
+        }
+        int posicion = csr.posicion(e);
+        double anterior = csr.pesoActual(posicion);
+        if (anterior == peso) return;
+        csr.actualizarPesoActual(e, peso);
+        if (consultaALT != null) {
+            consultaALT.pesoCambiado(posicion, anterior, peso);
+        }
+        if (jerarquia != null) {
+            jerarquia.pesosCambiados();
+        }
+        excentricidadesCotas = null;
+        actualizarRutas(origenArista[e], destinoArista[e], anterior, peso);
+    }
+    
+    /**
+     * Propaga todas las conexiones cuyo peso actual todavía no llegó a la vista CSR, antes de un cambio
+     * de estructura que la reconstruiría.
+     */
+    void propagarPesosPendientes() {
+        if (csr == null) return;
+        for (int e = 0; e < cantidadAristas; e++) {
+            propagarPesoArista(e);
+        }
+    }
+    
+    /**
+     * Obtiene el resultado de rutas solo si está vigente, sin calcularlo.
+     * 
+     * @return Resultado vigente, o null.
+     */
+    ResultadoRutas getResultadoVigente() {
+        return rutasVigentes ? resultado : null;
+    }
+    
+    /**
+     * Obtiene la condición climática actual de una conexión específica.
+     * 
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @return Condición climática de la conexión, o null si no existe.
+     */
+    public CondicionClimatica getCondicionConexion(String ciudad1, String ciudad2) {
+        return getCondicionConexion(getIndiceCiudad(ciudad1), getIndiceCiudad(ciudad2));
+    }
+    
+    /**
+     * Obtiene la condición climática actual de una conexión dada por los índices de sus ciudades, sin crear objetos.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Condición climática de la conexión, o null si no existe.
+     */
+    public CondicionClimatica getCondicionConexion(int i, int j) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) {
+            return null;
+        }
+        int e = buscarArista(i, j);
+        return (e == -1) ? null : CONDICIONES[condicionArista[e]];
+    }
+    
+    /**
+     * Obtiene el índice de una ciudad, para usarlo con los métodos que reciben índices.
+     * Los índices se asignan en orden de creación y no cambian.
+     * 
+     * @param nombre Nombre de la ciudad.
+     * @return Índice de la ciudad, o -1 si no existe.
+     */
+    public int getIndiceCiudad(String nombre) {
+        return ciudades.buscar(nombre);
+    }
+    
+    /**
+     * Obtiene el nombre de la ciudad con el índice dado. Siempre devuelve la misma instancia para cada ciudad.
+     * 
+     * @param indice Índice de la ciudad.
+     * @return Nombre de la ciudad.
+     * @throws IndexOutOfBoundsException Si no existe la ciudad.
+     */
+    public String getNombreCiudad(int indice) {
+        return ciudades.getNombre(indice);
+    }
+    
+    /**
+     * Obtiene la cantidad de ciudades; los índices válidos van de 0 a esta cantidad menos 1.
+     * 
+     * @return Cantidad de ciudades.
+     */
+    public int getCantidadCiudades() {
+        return ciudades.size();
+    }
+    
+    private boolean esIndiceValido(int ciudad) {
+        return ciudad >= 0 && ciudad < ciudades.size();
+    }
+
+    /**
+     * Selecciona el motor que usará floyd() para calcular las rutas.
+     * 
+     * @param motor Motor a utilizar.
+     */
+    public void setMotorRutas(MotorRutas motor) {
+        this.motorRutas = motor;
+    }
+    
+    /**
+     * Obtiene el motor que usa floyd() para calcular las rutas.
+     * 
+     * @return Motor actual.
+     */
+    public MotorRutas getMotorRutas() {
+        return motorRutas;
+    }
+    
+    /**
+     * Configura el tamaño de bloque usado por el motor BLOQUES.
+     * 
+     * @param tamanoBloque Cantidad de ciudades por lado de cada bloque.
+     */
+    public void setTamanoBloque(int tamanoBloque) {
+        if (tamanoBloque <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo: " + tamanoBloque);
+        }
+        this.tamanoBloque = tamanoBloque;
+    }
+    
+    /**
+     * Selecciona el motor de las consultas entre dos ciudades cuando no hay rutas de floyd() vigentes.
+     * 
+     * @param consulta Motor a utilizar.
+     */
+    public void setConsultaPuntual(ConsultaPuntual consulta) {
+        this.consultaPuntual = consulta;
+    }
+    
+    /**
+     * Obtiene el motor de las consultas entre dos ciudades.
+     * 
+     * @return Motor actual.
+     */
+    public ConsultaPuntual getConsultaPuntual() {
+        return consultaPuntual;
+    }
+    
+    /**
+     * Configura la cantidad de landmarks de ALT. Las tablas se calculan en la siguiente consulta:
+     * dos Dijkstra completos por landmark y condición climática.
+     * 
+     * @param cantidad Cantidad de landmarks.
+     */
+    public void setCantidadLandmarks(int cantidad) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad de landmarks debe ser positiva: " + cantidad);
+        }
+        this.cantidadLandmarks = cantidad;
+        consultaALT = null;
+    }
+
+    /**
+     * Configura la cantidad de hilos usados por los motores PARALELO y JOHNSON.
+     * Por defecto es la cantidad de procesadores disponibles.
+     * 
+     * @param paralelismo Cantidad de hilos.
+     */
+    public void setParalelismo(int paralelismo) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + paralelismo);
+        }
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Ejecuta el algoritmo de Floyd-Warshall para calcular las rutas más cortas, o el motor seleccionado
+     * con setMotorRutas (con AUTOMATICO, Johnson si el grafo es disperso).
+     * Siempre parte de los pesos actuales de las conexiones y construye un resultado nuevo;
+     * el resultado anterior no se modifica y se reemplaza solo al terminar.
+     */
+    public void floyd() {
+        GrafoCSR vista = getCSR();
+        resultado = calcularRutas(vista, vista.pesosActuales, motorParaCalcular(), paralelismo, getComponentes());
+        resultadoCompartido = false;
+        rutasVigentes = true;
+        republicar();
+    }
+    
+    /**
+     * Publica una instantánea inmutable de las rutas actuales para consultarlas desde otros hilos,
+     * calculando las rutas si hace falta. No copia las matrices: el grafo deja de modificar este resultado
+     * y la siguiente corrección incremental trabaja sobre una copia.
+     * Después de la primera publicación, floyd(), aplicarLote, los cambios por región y activarEscenario
+     * publican solos al terminar; los cambios de una sola conexión se publican al llamar de nuevo a este método.
+     * 
+     * @return Instantánea publicada.
+     */
+    public InstantaneaRutas publicarRutas() {
+        asegurarRutas();
+        if (ciudadesPublicadas == null || ciudadesPublicadas.size() != ciudades.size()) {
+            // Las ciudades solo se agregan al final, así que basta con comparar la cantidad
+            ciudadesPublicadas = ciudades.copiar();
+        }
+        resultadoCompartido = true;
+        InstantaneaRutas nueva = new InstantaneaRutas(resultado, ciudadesPublicadas, ++versionInstantanea);
+        instantanea = nueva;
+        return nueva;
+    }
+    
+    /**
+     * Obtiene la última instantánea publicada. Se puede llamar desde cualquier hilo y nunca bloquea.
+     * 
+     * @return Instantánea, o null si nunca se publicó una.
+     */
+    public InstantaneaRutas getInstantanea() {
+        return instantanea;
+    }
+    
+    /**
+     * Vuelve a publicar si ya se publicó alguna instantánea y las rutas vigentes son otras.
+     */
+    private void republicar() {
+        InstantaneaRutas actual = instantanea;
+        if (actual != null && rutasVigentes
+                && (actual.getRutas() != resultado || actual.getCantidadCiudades() != ciudades.size())) {
+            publicarRutas();
+        }
+    }
+    
+    /**
+     * Calcula las rutas más cortas entre todas las ciudades con el motor indicado y los pesos dados.
+     * Con más de una componente fuertemente conexa, Floyd-Warshall se ejecuta por separado en cada grupo de
+     * componentes conectadas entre sí, con las ciudades en orden topológico de sus componentes: entre grupos
+     * no hay nada que relajar, y dentro de un grupo una ciudad no llega a las de componentes anteriores, así
+     * que el motor por bloques salta esas filas.
+     * 
+     * @param vista Vista CSR del grafo.
+     * @param pesos Peso de cada posición de la vista.
+     * @param motor Motor concreto (no AUTOMATICO).
+     * @param hilos Hilos para los motores PARALELO y JOHNSON.
+     * @param componentes Componentes fuertemente conexas de la vista.
+     * @return Resultado nuevo.
+     */
+    private ResultadoRutas calcularRutas(GrafoCSR vista, double[] pesos, MotorRutas motor, int hilos,
+                                         ComponentesFuertes componentes) {
+        int n = vista.getCantidadCiudades();
+        if (motor == MotorRutas.JOHNSON) {
+            return new Johnson(hilos).ejecutar(vista, pesos);
+        }
+        
+        ResultadoRutas nuevo;
+        if (componentes.getCantidad() == 1) {
+            nuevo = ResultadoRutas.desdeConexiones(vista, pesos);
+            ejecutarFloyd(nuevo.getDistancias(), nuevo.getSiguientes(), n, motor, hilos);
+            return nuevo;
+        }
+        
+        // Ciudades de cada grupo, en orden topológico de sus componentes
+        int grupos = componentes.getCantidadGrupos();
+        int[] orden = componentes.getCiudadesEnOrden();
+        int[] inicioGrupo = new int[grupos + 1];
+        for (int v = 0; v < n; v++) inicioGrupo[componentes.getGrupo(componentes.getComponente(v)) + 1]++;
+        for (int g = 0; g < grupos; g++) inicioGrupo[g + 1] += inicioGrupo[g];
+        int[] porGrupo = new int[n];
+        int[] siguiente = Arrays.copyOf(inicioGrupo, grupos);
+        for (int v : orden) porGrupo[siguiente[componentes.getGrupo(componentes.getComponente(v))]++] = v;
+        int[] local = new int[n];
+        
+        nuevo = new ResultadoRutas(n);
+        double[] dist = nuevo.getDistancias();
+        int[] sucesores = nuevo.getSiguientes();
+        for (int g = 0; g < grupos; g++) {
+            int desde = inicioGrupo[g];
+            int m = inicioGrupo[g + 1] - desde;
+            for (int a = 0; a < m; a++) local[porGrupo[desde + a]] = a;
+            
+            // Conexiones directas del grupo; ninguna sale hacia otro grupo
+            double[] distGrupo = new double[m * m];
+            int[] sucesoresGrupo = new int[m * m];
+            Arrays.fill(distGrupo, INF);
+            Arrays.fill(sucesoresGrupo, -1);
+            for (int a = 0; a < m; a++) {
+                int u = porGrupo[desde + a];
+                for (int k = vista.desplazamientos[u]; k < vista.desplazamientos[u + 1]; k++) {
+                    int b = local[vista.destinos[k]];
+                    if (pesos[k] < distGrupo[a * m + b]) {
+                        distGrupo[a * m + b] = pesos[k];
+                        sucesoresGrupo[a * m + b] = b;
+                    }
+                }
+            }
+            ejecutarFloyd(distGrupo, sucesoresGrupo, m, motor, hilos);
+            
+            for (int a = 0; a < m; a++) {
+                int fila = porGrupo[desde + a] * n;
+                for (int b = 0; b < m; b++) {
+                    int columna = porGrupo[desde + b];
+                    dist[fila + columna] = distGrupo[a * m + b];
+                    int sucesor = sucesoresGrupo[a * m + b];
+                    sucesores[fila + columna] = (sucesor == -1) ? -1 : porGrupo[desde + sucesor];
+                }
+            }
+        }
+        return nuevo;
+    }
+    
+    /**
+     * Ejecuta Floyd-Warshall sobre matrices planas con el motor indicado.
+     * 
+     * @param dist Distancias iniciales, n * n posiciones.
+     * @param sucesores Sucesores iniciales, n * n posiciones.
+     * @param n Cantidad de ciudades.
+     * @param motor CLASICO, BLOQUES o PARALELO.
+     * @param hilos Hilos para el motor PARALELO.
+     */
+    private void ejecutarFloyd(double[] dist, int[] sucesores, int n, MotorRutas motor, int hilos) {
+        if (motor != MotorRutas.CLASICO) {
+            new FloydBloques(tamanoBloque, (motor == MotorRutas.PARALELO) ? hilos : 1).ejecutar(dist, sucesores, n);
+        } else {
+            // Algoritmo de Floyd-Warshall
+            for (int k = 0; k < n; k++)
+                for (int i = 0; i < n; i++)
+                    for (int j = 0; j < n; j++)
+                        if (dist[i * n + k] + dist[k * n + j] < dist[i * n + j]) {
+                            dist[i * n + j] = dist[i * n + k] + dist[k * n + j];
+                            sucesores[i * n + j] = sucesores[i * n + k];
+                        }
+        }
+    }
+    
+    /**
+     * Precalcula las rutas entre todas las ciudades para cada escenario de clima uniforme, es decir, con todas
+     * las conexiones en la misma condición. Cada escenario se calcula en su propio hilo con el motor de floyd();
+     * si el paralelismo supera la cantidad de condiciones, los hilos sobrantes se reparten entre los escenarios.
+     * Ocupa una matriz n x n de distancias y otra de sucesores por condición. Se descartan al agregar o eliminar
+     * conexiones o ciudades; los cambios de condición de una conexión no las afectan.
+     */
+    public void precalcularEscenarios() {
+        GrafoCSR vista = getCSR();
+        MotorRutas motor = motorParaCalcular();
+        ComponentesFuertes componentesVista = getComponentes(); // Antes de repartir los escenarios entre hilos
+        int condiciones = CONDICIONES.length;
+        ResultadoRutas[] nuevos = new ResultadoRutas[condiciones];
+        int hilos = Math.min(paralelismo, condiciones);
+        int hilosPorEscenario = Math.max(1, paralelismo / condiciones);
+        
+        if (hilos == 1) {
+            for (int c = 0; c < condiciones; c++) {
+                nuevos[c] = calcularRutas(vista, vista.pesos[c], motor, hilosPorEscenario, componentesVista);
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            try {
+                List<ForkJoinTask<ResultadoRutas>> tareas = new ArrayList<>();
+                for (int c = 0; c < condiciones; c++) {
+                    double[] pesos = vista.pesos[c];
+                    tareas.add(pool.submit(() -> calcularRutas(vista, pesos, motor, hilosPorEscenario,
+                                                                componentesVista)));
+                }
+                for (int c = 0; c < condiciones; c++) {
+                    nuevos[c] = tareas.get(c).join();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+        escenarios = nuevos;
+    }
+    
+    /**
+     * Indica si las rutas de los escenarios de clima uniforme están precalculadas y al día.
+     * 
+     * @return true si hay escenarios vigentes.
+     */
+    public boolean hayEscenariosCalculados() {
+        return escenarios != null;
+    }
+    
+    /**
+     * Obtiene las rutas del escenario con todas las conexiones en la condición dada,
+     * precalculando los escenarios si hace falta.
+     * 
+     * @param condicion Condición de todas las conexiones.
+     * @return Distancias y sucesores del escenario; no se deben modificar.
+     */
+    public ResultadoRutas getResultadoEscenario(CondicionClimatica condicion) {
+        if (escenarios == null) {
+            precalcularEscenarios();
+        }
+        return escenarios[condicion.ordinal()];
+    }
+    
+    /**
+     * Pone todas las conexiones en la misma condición climática. Con los escenarios precalculados,
+     * las rutas vigentes pasan a ser las del escenario sin recalcularlas: cambiar las rutas cuesta O(1), pero
+     * la condición y el peso actual de cada conexión se reescriben, así que el cambio completo cuesta O(m).
+     * Sigue siendo mucho menos que recalcular las rutas, que cuesta al menos O(n * m).
+     * 
+     * @param condicion Condición para todas las conexiones.
+     */
+    public void activarEscenario(CondicionClimatica condicion) {
+        ResultadoRutas precalculado = getResultadoEscenario(condicion);
+        int c = condicion.ordinal();
+        for (int e = 0; e < cantidadAristas; e++) {
+            if (origenArista[e] == -1) continue;
+            condicionArista[e] = (byte) c;
+            cambiarPesoActual(e, pesosArista[c][e]);
+        }
+        resultado = precalculado;
+        resultadoCompartido = true;
+        rutasVigentes = true;
+        republicar();
+    }
+    
+    /**
+     * Resuelve el motor AUTOMATICO según la densidad de conexiones m / (n * (n - 1)).
+     * 
+     * @return Motor concreto que usará floyd().
+     */
+    MotorRutas motorParaCalcular() {
+        if (motorRutas != MotorRutas.AUTOMATICO) {
+            return motorRutas;
+        }
+        if (esDisperso()) {
+            return MotorRutas.JOHNSON;
+        }
+        return (paralelismo > 1) ? MotorRutas.PARALELO : MotorRutas.BLOQUES;
+    }
+    
+    /**
+     * Indica si la densidad de conexiones m / (n * (n - 1)) es menor a DENSIDAD_MAXIMA_JOHNSON.
+     * 
+     * @return true si el grafo es disperso.
+     */
+    private boolean esDisperso() {
+        int n = ciudades.size();
+        double densidad = (n < 2) ? 1 : getCSR().getCantidadConexiones() / ((double) n * (n - 1));
+        return densidad < DENSIDAD_MAXIMA_JOHNSON;
+    }
+    
+    /**
+     * Obtiene el resultado del último cálculo de rutas, calculándolo si hace falta.
+     * 
+     * @return Distancias y sucesores entre todas las ciudades.
+     */
+    public ResultadoRutas getResultadoRutas() {
+        asegurarRutas();
+        return resultado;
+    }
+    
+    /**
+     * Activa o desactiva la actualización incremental de las rutas. Si está activa (por defecto),
+     * agregar, eliminar o cambiar la condición de una conexión corrige las rutas ya calculadas sin
+     * volver a ejecutar floyd(). Si está desactivada, las rutas se recalculan completas en la siguiente consulta.
+     * 
+     * @param incremental true para actualizar de forma incremental.
+     */
+    public void setActualizacionIncremental(boolean incremental) {
+        this.actualizacionIncremental = incremental;
+    }
+    
+    /**
+     * Indica si hay rutas entre todas las ciudades calculadas y al día con las conexiones actuales.
+     * Si no las hay, obtenerRuta responde con Dijkstra sin crear matrices n x n.
+     * 
+     * @return true si el resultado de floyd() está vigente.
+     */
+    public boolean hayRutasCalculadas() {
+        return rutasVigentes;
+    }
+    
+    /**
+     * Ejecuta floyd() si las rutas no están calculadas o quedaron desactualizadas.
+     */
+    private void asegurarRutas() {
+        if (!rutasVigentes) {
+            floyd();
+        }
+    }
+    
+    /**
+     * Corrige las rutas calculadas después de que el peso de la conexión u -> v cambió.
+     * 
+     * @param u Índice de la ciudad origen de la conexión.
+     * @param v Índice de la ciudad destino de la conexión.
+     * @param pesoAnterior Peso que tenía la conexión (INF si no existía).
+     */
+    private void actualizarRutas(int u, int v, double pesoAnterior) {
+        if (!rutasVigentes) return;
+        int e = buscarArista(u, v);
+        actualizarRutas(u, v, pesoAnterior, (e == -1) ? INF : pesoActualArista[e]);
+    }
+    
+    /**
+     * Corrige las rutas calculadas con los pesos anterior y nuevo de la conexión u -> v ya conocidos.
+     * 
+     * @param u Índice de la ciudad origen de la conexión.
+     * @param v Índice de la ciudad destino de la conexión.
+     * @param pesoAnterior Peso que tenía la conexión (INF si no existía).
+     * @param pesoNuevo Peso que tiene ahora (INF si se eliminó).
+     */
+    private void actualizarRutas(int u, int v, double pesoAnterior, double pesoNuevo) {
+        if (!rutasVigentes || pesoNuevo == pesoAnterior) return;
+        
+        if (!actualizacionIncremental) {
+            rutasVigentes = false;
+            return;
+        }
+        if (resultadoCompartido) {
+            resultado = resultado.copiar(); // No alterar el escenario precalculado ni la instantánea publicada
+            resultadoCompartido = false;
+        }
+        if (pesoNuevo < pesoAnterior) {
+            resultado.relajarPorConexion(u, v, pesoNuevo);
+        } else {
+            resultado.repararPorConexion(u, v, getCSR());
+        }
+    }
+
+    /**
+     * Obtiene la ruta más corta entre dos ciudades.
+     * Usa las rutas de floyd() si están vigentes; si no, consulta solo ese par con el motor de setConsultaPuntual.
+     * 
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     */
+    public Ruta obtenerRuta(String origen, String destino) {
+        return obtenerRuta(ciudades.buscar(origen), ciudades.buscar(destino));
+    }
+    
+    /**
+     * Obtiene la ruta más corta entre dos ciudades dadas por sus índices, sin buscar sus nombres.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta o alguna ciudad no existe.
+     */
+    public Ruta obtenerRuta(int i, int j) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) {
+            return null;
+        }
+        if (rutasVigentes) {
+            return construirRuta(resultado, i, j);
+        }
+        
+        rutaPuntual(i, j, cursorInterno);
+        if (!cursorInterno.hayRuta()) return null;
+        List<String> camino = new ArrayList<>();
+        while (cursorInterno.siguiente()) {
+            camino.add(cursorInterno.getNombreCiudad());
+        }
+        return new Ruta(camino, cursorInterno.getTiempo());
+    }
+    
+    /**
+     * Obtiene la ruta más corta entre dos ciudades dadas por sus índices, escribiéndola en una ruta que se
+     * reutiliza entre consultas. Con las rutas de floyd() vigentes no crea objetos una vez que la lista del
+     * camino alcanzó su tamaño.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param ruta Ruta creada con new Ruta(), donde se escribe el camino y el tiempo.
+     * @return true si hay ruta; si no, la ruta queda vacía con tiempo infinito.
+     * @throws IllegalArgumentException Si la ruta no se creó para reutilizarse.
+     */
+    public boolean obtenerRuta(int i, int j, Ruta ruta) {
+        recorrerRuta(i, j, cursorInterno);
+        return ruta.llenar(cursorInterno);
+    }
+    
+    /**
+     * Prepara un cursor para recorrer la ruta más corta entre dos ciudades sin construir la lista del camino.
+     * Con las rutas de floyd() vigentes el cursor sigue los sucesores de la matriz a medida que avanza;
+     * si no, la consulta puntual copia el camino al arreglo del cursor. El cursor vale hasta la siguiente
+     * modificación del grafo.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param cursor Cursor a preparar, reutilizable entre consultas.
+     * @return true si hay ruta, false si no la hay o alguna ciudad no existe.
+     */
+    public boolean recorrerRuta(int i, int j, CursorRuta cursor) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) {
+            cursor.vaciar();
+        } else if (rutasVigentes) {
+            cursor.iniciar(resultado, ciudades, i, j);
+        } else {
+            rutaPuntual(i, j, cursor);
+        }
+        return cursor.hayRuta();
+    }
+    
+    /**
+     * Prepara un cursor para recorrer la ruta más corta entre dos ciudades.
+     * 
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @param cursor Cursor a preparar, reutilizable entre consultas.
+     * @return true si hay ruta, false si no la hay o alguna ciudad no existe.
+     */
+    public boolean recorrerRuta(String origen, String destino, CursorRuta cursor) {
+        return recorrerRuta(ciudades.buscar(origen), ciudades.buscar(destino), cursor);
+    }
+    
+    /**
+     * Obtiene solo el tiempo de la ruta más corta, sin reconstruir el camino ni crear objetos.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Tiempo, o infinito si no hay ruta o alguna ciudad no existe.
+     */
+    public double getTiempo(int i, int j) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) return INF;
+        return rutasVigentes ? resultado.getDistancia(i, j) : rutaPuntual(i, j, null);
+    }
+    
+    /**
+     * Obtiene solo el tiempo de la ruta más corta entre dos ciudades.
+     * 
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return Tiempo, o infinito si no hay ruta o alguna ciudad no existe.
+     */
+    public double getTiempo(String origen, String destino) {
+        return getTiempo(ciudades.buscar(origen), ciudades.buscar(destino));
+    }
+    
+    /**
+     * Obtiene la cantidad de conexiones de la ruta más corta. Con las rutas de floyd() vigentes solo cuenta
+     * los sucesores, sin crear objetos.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Cantidad de conexiones, o -1 si no hay ruta o alguna ciudad no existe.
+     */
+    public int getSaltos(int i, int j) {
+        recorrerRuta(i, j, cursorInterno);
+        return cursorInterno.contarSaltos();
+    }
+    
+    /**
+     * Obtiene la cantidad de conexiones de la ruta más corta entre dos ciudades.
+     * 
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return Cantidad de conexiones, o -1 si no hay ruta o alguna ciudad no existe.
+     */
+    public int getSaltos(String origen, String destino) {
+        return getSaltos(ciudades.buscar(origen), ciudades.buscar(destino));
+    }
+
+    /**
+     * Calcula los tiempos de todos los orígenes hacia todos los destinos en una sola llamada.
+     *
+     * @param origenes Índices de las ciudades origen; pueden repetirse.
+     * @param destinos Índices de las ciudades destino; pueden repetirse.
+     * @return Tiempos por filas: el del origen f al destino c está en f * destinos.length + c,
+     *         con infinito donde no hay ruta o alguna ciudad no existe.
+     */
+    public double[] calcularTiempos(int[] origenes, int[] destinos) {
+        return calcularTablaRutas(origenes, destinos, false).getTiempos();
+    }
+
+    /**
+     * Calcula los tiempos de todos los orígenes hacia todos los destinos dados por nombre.
+     *
+     * @param origenes Ciudades origen; pueden repetirse.
+     * @param destinos Ciudades destino; pueden repetirse.
+     * @return Tiempos por filas, con infinito donde no hay ruta o alguna ciudad no existe.
+     */
+    public double[] calcularTiempos(List<String> origenes, List<String> destinos) {
+        return calcularTiempos(indicesDe(origenes), indicesDe(destinos));
+    }
+
+    /**
+     * Calcula la tabla de rutas de todos los orígenes hacia todos los destinos. Usa las rutas de floyd() si
+     * están vigentes; si no, ejecuta un Dijkstra por origen distinto, repartidos entre los hilos de
+     * setParalelismo, que se detiene al asentar todos los destinos. Con caminos y sin floyd() la tabla guarda
+     * n enteros por origen distinto.
+     *
+     * @param origenes Índices de las ciudades origen; pueden repetirse.
+     * @param destinos Índices de las ciudades destino; pueden repetirse.
+     * @param conCaminos true para poder recorrer las rutas de la tabla.
+     * @return Tabla de rutas; sus caminos valen hasta la siguiente modificación del grafo.
+     */
+    public TablaRutas calcularTablaRutas(int[] origenes, int[] destinos, boolean conCaminos) {
+        if (rutasVigentes) {
+            if (conCaminos) {
+                resultadoCompartido = true; // La tabla recorre los sucesores; las correcciones trabajan sobre una copia
+            }
+            return TablaRutas.desdeMatriz(resultado, ciudades, origenes.clone(), destinos.clone(), conCaminos);
+        }
+        GrafoCSR vista = getCSR();
+        if (paralelismo == 1 && dijkstra == null) {
+            dijkstra = new Dijkstra(vista);
+        }
+        return TablaRutas.desdeDijkstra(vista, ciudades, origenes.clone(), destinos.clone(), conCaminos, paralelismo,
+                                        dijkstra);
+    }
+
+    /**
+     * Calcula la tabla de rutas de todos los orígenes hacia todos los destinos dados por nombre.
+     *
+     * @param origenes Ciudades origen; pueden repetirse.
+     * @param destinos Ciudades destino; pueden repetirse.
+     * @param conCaminos true para poder recorrer las rutas de la tabla.
+     * @return Tabla de rutas.
+     */
+    public TablaRutas calcularTablaRutas(List<String> origenes, List<String> destinos, boolean conCaminos) {
+        return calcularTablaRutas(indicesDe(origenes), indicesDe(destinos), conCaminos);
+    }
+
+    // Índice de cada nombre, -1 para los que no existen
+    private int[] indicesDe(List<String> nombres) {
+        int[] indices = new int[nombres.size()];
+        for (int k = 0; k < indices.length; k++) {
+            indices[k] = ciudades.buscar(nombres.get(k));
+        }
+        return indices;
+    }
+    
+    /**
+     * Obtiene la ruta más corta entre dos ciudades si todas las conexiones estuvieran en la condición dada,
+     * sin cambiar las condiciones actuales. Usa los escenarios precalculados, calculándolos si hace falta.
+     * 
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @param condicion Condición de todas las conexiones.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     */
+    public Ruta obtenerRuta(String origen, String destino, CondicionClimatica condicion) {
+        return obtenerRuta(ciudades.buscar(origen), ciudades.buscar(destino), condicion);
+    }
+    
+    /**
+     * Obtiene la ruta más corta entre dos ciudades dadas por sus índices si todas las conexiones estuvieran en
+     * la condición dada.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param condicion Condición de todas las conexiones.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta o alguna ciudad no existe.
+     */
+    public Ruta obtenerRuta(int i, int j, CondicionClimatica condicion) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) {
+            return null;
+        }
+        return construirRuta(getResultadoEscenario(condicion), i, j);
+    }
+    
+    /**
+     * Reconstruye una ruta siguiendo los sucesores de un resultado de rutas entre todas las ciudades.
+     * 
+     * @param rutas Resultado a recorrer.
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     */
+    Ruta construirRuta(ResultadoRutas rutas, int i, int j) {
+        return rutas.construirRuta(ciudades, i, j);
+    }
+
+    /**
+     * Consulta solo un par con el motor de setConsultaPuntual, sin matrices n x n. La ruta de una ciudad
+     * a sí misma es su ciclo más corto, igual que con floyd(), y siempre se calcula con Dijkstra.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param cursor Cursor donde se copia el camino, o null si solo se quiere el tiempo.
+     * @return Tiempo de la ruta, o infinito si no hay ruta.
+     */
+    private double rutaPuntual(int i, int j, CursorRuta cursor) {
+        GrafoCSR vista = getCSR();
+        double tiempo;
+        if (consultaPuntual == ConsultaPuntual.DIJKSTRA || i == j) {
+            if (dijkstra == null) {
+                dijkstra = new Dijkstra(vista);
+            }
+            if (i == j) {
+                // Ciclo más corto: llegar a una ciudad con conexión de regreso hacia i
+                dijkstra.ejecutar(i, -1);
+                tiempo = INF;
+                for (int r = vista.desplazamientosEntrada[i]; r < vista.desplazamientosEntrada[i + 1]; r++) {
+                    int p = vista.origenesEntrada[r];
+                    tiempo = Math.min(tiempo, dijkstra.getDistancia(p) + vista.pesosActuales[vista.posicionSalida[r]]);
+                }
+                if (cursor != null && tiempo != INF) {
+                    cursor.iniciarCamino(ciudades, tiempo);
+                    cursor.agregarCiudad(i);
+                }
+            } else {
+                dijkstra.ejecutar(i, j);
+                tiempo = dijkstra.getDistancia(j);
+                if (cursor != null && tiempo != INF) {
+                    cursor.iniciarCamino(ciudades, tiempo);
+                    for (int at = j; at != -1; at = dijkstra.getPrevio(at)) {
+                        cursor.agregarCiudad(at);
+                    }
+                    cursor.invertirCamino();
+                }
+            }
+        } else if (consultaPuntual == ConsultaPuntual.JERARQUIA) {
+            // La jerarquía se construye si cambió la estructura; los cambios de clima solo vuelven a personalizarla
+            if (jerarquia == null) {
+                jerarquia = new JerarquiaContraccion(vista);
+            }
+            tiempo = jerarquia.consultar(i, j);
+            if (cursor != null && tiempo != INF) {
+                cursor.iniciarCamino(ciudades, tiempo);
+                cursor.agregarCiudades(jerarquia.getCamino());
+            }
+        } else {
+            // Búsqueda bidireccional, guiada por landmarks si el motor es ALT
+            int landmarks = Math.min((consultaPuntual == ConsultaPuntual.ALT) ? cantidadLandmarks : 0,
+                                     vista.getCantidadCiudades());
+            if (consultaALT == null || consultaALT.getCantidadLandmarks() != landmarks) {
+                consultaALT = new ConsultaALT(vista, landmarks);
+            }
+            tiempo = consultaALT.consultar(i, j);
+            if (cursor != null && tiempo != INF) {
+                cursor.iniciarCamino(ciudades, tiempo);
+                cursor.agregarCiudades(consultaALT.getCamino());
+            }
+        }
+        if (cursor != null && tiempo == INF) {
+            cursor.vaciar();
+        }
+        return tiempo;
+    }
+
+    /**
+     * Obtiene el motor de excentricidades: sobre las rutas de floyd() si están vigentes; si no, en un grafo
+     * disperso, con cotas y búsquedas solo desde las ciudades necesarias; en un grafo denso calcula las rutas.
+     */
+    private Excentricidades excentricidades() {
+        if (rutasVigentes) {
+            return resultado.getExcentricidades(paralelismo);
+        }
+        if (esDisperso()) {
+            if (excentricidadesCotas == null) {
+                excentricidadesCotas = new Excentricidades(getCSR(), getComponentes());
+            }
+            return excentricidadesCotas;
+        }
+        asegurarRutas();
+        return resultado.getExcentricidades(paralelismo);
+    }
+
+    /**
+     * Calcula la ciudad que está en el centro del grafo (menor excentricidad máxima).
+     * Las excentricidades se guardan entre consultas y solo se recalculan las filas que cambiaron; en un grafo
+     * disperso sin rutas de floyd() no hace falta calcular las rutas entre todas las ciudades.
+     * 
+     * @return Nombre de la ciudad centro, o mensaje de error si no se puede determinar.
+     */
+    public String obtenerCentro() {
+        int centro = excentricidades().getCentro();
+        return (centro == -1) ? "No hay centro" : ciudades.getNombre(centro);
+    }
+
+    /**
+     * Obtiene la excentricidad de una ciudad: el mayor tiempo desde ella hacia otra ciudad.
+     * 
+     * @param ciudad Índice de la ciudad.
+     * @return Excentricidad, infinito si alguna ciudad es inalcanzable desde ella.
+     * @throws IndexOutOfBoundsException Si la ciudad no existe.
+     */
+    public double getExcentricidad(int ciudad) {
+        if (!esIndiceValido(ciudad)) {
+            throw new IndexOutOfBoundsException("La ciudad " + ciudad + " no existe");
+        }
+        return excentricidades().getExcentricidad(ciudad);
+    }
+
+    /**
+     * Obtiene la excentricidad de una ciudad.
+     * 
+     * @param ciudad Nombre de la ciudad.
+     * @return Excentricidad, infinito si alguna ciudad es inalcanzable desde ella.
+     * @throws IllegalArgumentException Si la ciudad no existe.
+     */
+    public double getExcentricidad(String ciudad) {
+        int indice = ciudades.buscar(ciudad);
+        if (indice == -1) {
+            throw new IllegalArgumentException("La ciudad " + ciudad + " no existe");
+        }
+        return getExcentricidad(indice);
+    }
+
+    /**
+     * Obtiene el radio del grafo: la excentricidad del centro.
+     * 
+     * @return Radio, o infinito si ninguna ciudad llega a todas las demás.
+     */
+    public double getRadio() {
+        return excentricidades().getRadio();
+    }
+
+    /**
+     * Obtiene el diámetro del grafo: la mayor excentricidad.
+     * 
+     * @return Diámetro, o infinito si alguna ciudad no llega a todas las demás.
+     */
+    public double getDiametro() {
+        return excentricidades().getDiametro();
+    }
+
+    /**
+     * Obtiene la periferia del grafo: las ciudades cuya excentricidad es el diámetro. Si alguna ciudad no llega
+     * a todas las demás, son todas las que no llegan.
+     * 
+     * @return Nombres de las ciudades en orden de índice.
+     */
+    public List<String> obtenerPeriferia() {
+        return nombresDe(excentricidades().getPeriferia());
+    }
+
+    /**
+     * Obtiene las ciudades más centrales, de menor a mayor excentricidad; solo cuentan las que llegan a todas
+     * las demás.
+     * 
+     * @param k Cantidad máxima de ciudades.
+     * @return Nombres de hasta k ciudades; la primera es el centro.
+     */
+    public List<String> obtenerMasCentrales(int k) {
+        return nombresDe(excentricidades().getMasCentrales(k));
+    }
+
+    /**
+     * Obtiene el centro de la componente fuertemente conexa de una ciudad: la ciudad de la componente con el
+     * menor de los mayores tiempos hacia las demás ciudades de la misma componente. Dentro de una componente
+     * todas las ciudades se alcanzan entre sí, así que siempre hay centro aunque el grafo no tenga.
+     * 
+     * @param ciudad Nombre de una ciudad de la componente.
+     * @return Nombre del centro de la componente.
+     * @throws IllegalArgumentException Si la ciudad no existe.
+     */
+    public String obtenerCentroComponente(String ciudad) {
+        int indice = ciudades.buscar(ciudad);
+        if (indice == -1) {
+            throw new IllegalArgumentException("La ciudad " + ciudad + " no existe");
+        }
+        return ciudades.getNombre(centroComponente(getComponentes().getComponente(indice)));
+    }
+
+    /**
+     * Obtiene el centro de cada componente fuertemente conexa, en orden topológico de las componentes.
+     * 
+     * @return Nombres de los centros, uno por componente.
+     */
+    public List<String> obtenerCentrosPorComponente() {
+        ComponentesFuertes vista = getComponentes();
+        List<String> centros = new ArrayList<>(vista.getCantidad());
+        for (int c = 0; c < vista.getCantidad(); c++) {
+            centros.add(ciudades.getNombre(centroComponente(c)));
+        }
+        return centros;
+    }
+
+    /**
+     * Centro de una componente, con las rutas de floyd() si están vigentes o con un Dijkstra por ciudad de la
+     * componente que se detiene al asentar todas las demás; las rutas entre ciudades de una misma componente
+     * no salen de ella.
+     */
+    private int centroComponente(int c) {
+        int[] miembros = getComponentes().getCiudades(c);
+        int m = miembros.length;
+        double[] tiempos;
+        if (rutasVigentes) {
+            tiempos = TablaRutas.desdeMatriz(resultado, ciudades, miembros, miembros, false).getTiempos();
+        } else {
+            tiempos = TablaRutas.desdeDijkstra(getCSR(), ciudades, miembros, miembros, false, paralelismo, null)
+                                .getTiempos();
+        }
+        int centro = -1;
+        double menorExcentricidad = INF;
+        for (int a = 0; a < m; a++) {
+            double excentricidad = 0;
+            for (int b = 0; b < m; b++) {
+                if (a != b) excentricidad = Math.max(excentricidad, tiempos[a * m + b]);
+            }
+            if (centro == -1 || excentricidad < menorExcentricidad) {
+                menorExcentricidad = excentricidad;
+                centro = miembros[a];
+            }
+        }
+        return centro;
+    }
+
+    /**
+     * Obtiene el índice de componentes fuertemente conexas, calculándolo si cambió la estructura del grafo.
+     * Vale hasta que se agregue o elimine una ciudad o una conexión.
+     * 
+     * @return Componentes fuertemente conexas.
+     */
+    public ComponentesFuertes getComponentes() {
+        GrafoCSR vista = getCSR();
+        if (componentes == null) {
+            componentes = new ComponentesFuertes(vista);
+        }
+        return componentes;
+    }
+
+    /**
+     * Indica si existe una ruta de una ciudad a otra, sin calcular rutas. Cuesta O(1) con el índice de
+     * componentes ya calculado.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return true si hay ruta (una ciudad siempre se alcanza a sí misma), false si no o alguna ciudad no existe.
+     */
+    public boolean esAlcanzable(int i, int j) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) return false;
+        return getComponentes().alcanza(i, j);
+    }
+
+    /**
+     * Indica si existe una ruta de una ciudad a otra.
+     * 
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return true si hay ruta, false si no o alguna ciudad no existe.
+     */
+    public boolean esAlcanzable(String origen, String destino) {
+        return esAlcanzable(ciudades.buscar(origen), ciudades.buscar(destino));
+    }
+
+    private List<String> nombresDe(List<Integer> indices) {
+        List<String> nombres = new ArrayList<>(indices.size());
+        for (int indice : indices) {
+            nombres.add(ciudades.getNombre(indice));
+        }
+        return nombres;
+    }
+
+    /**
+     * Imprime la matriz de distancias más cortas actual.
+     */
+    public void imprimirMatriz() {
+        asegurarRutas();
+        System.out.println("Matriz de adyacencia actual:");
+        for (int i = 0; i < ciudades.size(); i++) {
+            for (int j = 0; j < ciudades.size(); j++) {
+                double d = resultado.getDistancia(i, j);
+                System.out.printf("%10s", d == INF ? "INF" : String.format("%.2f", d));
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Verifica si una ciudad existe en el grafo.
+     * 
+     * @param ciudad Nombre de la ciudad.
+     * @return true si existe, false en caso contrario.
+     */
+    public boolean contieneCiudad(String ciudad) {
+        return ciudades.buscar(ciudad) != -1;
+    }
+
+    /**
+     * Obtiene el conjunto de ciudades en el grafo, en orden de índice. Es una vista de solo lectura que
+     * refleja las ciudades que se agreguen después.
+     * 
+     * @return Conjunto de nombres de ciudades.
+     */
+    public Set<String> getCiudades() {
+        return ciudades.comoConjunto();
+    }
+    
+    /**
+     * Verifica si existe una conexión directa entre dos ciudades.
+     * 
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @return true si existe la conexión, false en caso contrario.
+     */
+    public boolean existeConexion(String ciudad1, String ciudad2) {
+        return existeConexion(ciudades.buscar(ciudad1), ciudades.buscar(ciudad2));
+    }
+    
+    /**
+     * Verifica si existe una conexión directa entre dos ciudades dadas por sus índices.
+     * 
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return true si existe la conexión, false en caso contrario o si alguna ciudad no existe.
+     */
+    public boolean existeConexion(int i, int j) {
+        return esIndiceValido(i) && esIndiceValido(j) && buscarArista(i, j) != -1;
+    }
+    
+    /**
+     * Obtiene todas las conexiones existentes con sus condiciones climáticas.
+     * 
+     * @return Mapa con las conexiones y sus condiciones climáticas.
+     */
+    public Map<String, CondicionClimatica> getTodasLasCondiciones() {
+        Map<String, CondicionClimatica> condiciones = new HashMap<>();
+        for (int e = 0; e < cantidadAristas; e++) {
+            if (origenArista[e] == -1) continue;
+            String claveConexion = ciudades.getNombre(origenArista[e]) + "->" + ciudades.getNombre(destinoArista[e]);
+            condiciones.put(claveConexion, CONDICIONES[condicionArista[e]]);
+        }
+        return condiciones;
     }
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: GrafoCSR.java
+ * Descripción: Vista compacta (compressed sparse row) de las conexiones del grafo. Las conexiones que salen
+ *              de la ciudad i ocupan las posiciones [desplazamientos[i], desplazamientos[i + 1]) de los arreglos
+ *              de destinos y pesos; también guarda las conexiones de entrada para recorrer el grafo al revés.
+ *              Usa O(n + m) de memoria. Los pesos se guardan por condición climática y el peso actual de cada
+ *              conexión se puede cambiar sin reconstruir la vista.
+ */
+
+package com.hdt10;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class GrafoCSR {
+    private final int n;
+    private final int m;
+
+    // Conexiones de salida, ordenadas por ciudad origen
+    final int[] desplazamientos;
+    final int[] destinos;
+    final int[] aristas;
+    final double[][] pesos;
+    final double[] pesosActuales;
+
+    // Conexiones de entrada, ordenadas por ciudad destino; posicionSalida apunta a los arreglos de salida
+    final int[] desplazamientosEntrada;
+    final int[] origenesEntrada;
+    final int[] posicionSalida;
+
+    // Posición de cada conexión del grafo en los arreglos de salida (-1 si fue eliminada)
+    private final int[] posicionPorArista;
+
+    /**
+     * Construye la vista a partir de la lista de conexiones del grafo.
+     *
+     * @param n Cantidad de ciudades.
+     * @param cantidadAristas Cantidad de posiciones usadas en los arreglos de conexiones.
+     * @param origenArista Ciudad origen de cada conexión (-1 si fue eliminada).
+     * @param destinoArista Ciudad destino de cada conexión.
+     * @param pesosArista Pesos de cada conexión, indexados por el ordinal de la condición climática.
+     * @param pesoActualArista Peso actual de cada conexión.
+     */
+    GrafoCSR(int n, int cantidadAristas, int[] origenArista, int[] destinoArista,
+             double[][] pesosArista, double[] pesoActualArista) {
+        this.n = n;
+        int activas = 0;
+        desplazamientos = new int[n + 1];
+        desplazamientosEntrada = new int[n + 1];
+        for (int e = 0; e < cantidadAristas; e++) {
+            if (origenArista[e] == -1) continue;
+            activas++;
+            desplazamientos[origenArista[e] + 1]++;
+            desplazamientosEntrada[destinoArista[e] + 1]++;
+        }
+        this.m = activas;
+        for (int i = 0; i < n; i++) {
+            desplazamientos[i + 1] += desplazamientos[i];
+            desplazamientosEntrada[i + 1] += desplazamientosEntrada[i];
+        }
+
+        int condiciones = CondicionClimatica.values().length;
+        destinos = new int[m];
+        aristas = new int[m];
+        pesos = new double[condiciones][m];
+        pesosActuales = new double[m];
+        posicionPorArista = new int[cantidadAristas];
+        int[] siguiente = new int[n];
+        System.arraycopy(desplazamientos, 0, siguiente, 0, n);
+        for (int e = 0; e < cantidadAristas; e++) {
+            int origen = origenArista[e];
+            if (origen == -1) {
+                posicionPorArista[e] = -1;
+                continue;
+            }
+            int k = siguiente[origen]++;
+            destinos[k] = destinoArista[e];
+            aristas[k] = e;
+            for (int c = 0; c < condiciones; c++) {
+                pesos[c][k] = pesosArista[c][e];
+            }
+            pesosActuales[k] = pesoActualArista[e];
+            posicionPorArista[e] = k;
+        }
+
+        origenesEntrada = new int[m];
+        posicionSalida = new int[m];
+        System.arraycopy(desplazamientosEntrada, 0, siguiente, 0, n);
+        for (int i = 0; i < n; i++) {
+            for (int k = desplazamientos[i]; k < desplazamientos[i + 1]; k++) {
+                int r = siguiente[destinos[k]]++;
+                origenesEntrada[r] = i;
+                posicionSalida[r] = k;
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de ciudades.
+     *
+     * @return Cantidad de ciudades.
+     */
+    public int getCantidadCiudades() {
+        return n;
+    }
+
+    /**
+     * Obtiene la cantidad de conexiones.
+     *
+     * @return Cantidad de conexiones.
+     */
+    public int getCantidadConexiones() {
+        return m;
+    }
+
+    /**
+     * Primera posición de las conexiones que salen de una ciudad.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Posición inicial (inclusiva).
+     */
+    public int inicio(int ciudad) {
+        return desplazamientos[ciudad];
+    }
+
+    /**
+     * Posición siguiente a la última conexión que sale de una ciudad.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Posición final (exclusiva).
+     */
+    public int fin(int ciudad) {
+        return desplazamientos[ciudad + 1];
+    }
+
+    /**
+     * Ciudad destino de la conexión en una posición.
+     *
+     * @param k Posición de la conexión.
+     * @return Índice de la ciudad destino.
+     */
+    public int destino(int k) {
+        return destinos[k];
+    }
+
+    /**
+     * Peso actual de la conexión en una posición.
+     *
+     * @param k Posición de la conexión.
+     * @return Peso según la condición climática actual de la conexión.
+     */
+    public double pesoActual(int k) {
+        return pesosActuales[k];
+    }
+
+    /**
+     * Peso de la conexión en una posición para una condición climática.
+     *
+     * @param condicion Condición climática.
+     * @param k Posición de la conexión.
+     * @return Peso con esa condición.
+     */
+    public double peso(CondicionClimatica condicion, int k) {
+        return pesos[condicion.ordinal()][k];
+    }
+
+    /**
+     * Cambia el peso actual de una conexión del grafo sin reconstruir la vista.
+     *
+     * @param arista Índice de la conexión en el grafo.
+     * @param peso Nuevo peso actual.
+     */
+    void actualizarPesoActual(int arista, double peso) {
+        pesosActuales[posicionPorArista[arista]] = peso;
+    }
+
+    /**
+     * Copia los pesos por condición y el peso actual de una conexión del grafo sin reconstruir la vista.
+     *
+     * @param arista Índice de la conexión en el grafo.
+     * @param pesosArista Pesos de cada conexión, indexados por el ordinal de la condición climática.
+     * @param peso Nuevo peso actual.
+     */
+    void actualizarPesos(int arista, double[][] pesosArista, double peso) {
+        int k = posicionPorArista[arista];
+        for (int c = 0; c < pesos.length; c++) {
+            pesos[c][k] = pesosArista[c][arista];
+        }
+        pesosActuales[k] = peso;
+    }
+
+    /**
+     * Posición de una conexión del grafo en los arreglos de salida.
+     *
+     * @param arista Índice de la conexión en el grafo.
+     * @return Posición en la vista, o -1 si fue eliminada.
+     */
+    int posicion(int arista) {
+        return posicionPorArista[arista];
+    }
+}
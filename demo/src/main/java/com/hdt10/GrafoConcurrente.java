@@ -0,0 +1,314 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: GrafoConcurrente.java
+ * Descripción: Envoltura de Grafo para usarlo desde varios hilos modificándolo en su lugar, sin instantáneas.
+ *              Las rutas se leen de la matriz de floyd() con lecturas optimistas de un StampedLock que también
+ *              protege la estructura del grafo. Las condiciones de las conexiones se protegen por franjas de
+ *              ciudades origen: cambiar la condición de conexiones en franjas distintas no se bloquea entre sí,
+ *              y solo la corrección de las rutas se hace de una en una.
+ */
+
+package com.hdt10;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class GrafoConcurrente {
+    // Cantidad de ciudades origen consecutivas que comparten una franja
+    public final static int FILAS_POR_FRANJA = 64;
+
+    private final Grafo grafo;
+    private final StampedLock rutas = new StampedLock();
+    private final StampedLock[] franjas;
+
+    // Índices de las ciudades, para resolver nombres sin tomar ningún bloqueo
+    private final Map<String, Integer> indices = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor con una franja por cada FILAS_POR_FRANJA ciudades que ya tiene el grafo y al menos cuatro por
+     * procesador. Las ciudades que se agreguen después comparten las franjas existentes.
+     *
+     * @param grafo Grafo a envolver; desde ahora solo se debe usar a través de esta clase.
+     */
+    public GrafoConcurrente(Grafo grafo) {
+        this(grafo, Math.max((grafo.getCantidadCiudades() + FILAS_POR_FRANJA - 1) / FILAS_POR_FRANJA,
+                             4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Constructor con la cantidad de franjas dada, redondeada a una potencia de 2.
+     *
+     * @param grafo Grafo a envolver; desde ahora solo se debe usar a través de esta clase.
+     * @param cantidadFranjas Cantidad de franjas de bloqueo de las conexiones.
+     */
+    public GrafoConcurrente(Grafo grafo, int cantidadFranjas) {
+        if (cantidadFranjas <= 0) {
+            throw new IllegalArgumentException("La cantidad de franjas debe ser positiva: " + cantidadFranjas);
+        }
+        this.grafo = grafo;
+        int potencia = 1;
+        while (potencia < cantidadFranjas) potencia <<= 1;
+        franjas = new StampedLock[potencia];
+        for (int f = 0; f < franjas.length; f++) {
+            franjas[f] = new StampedLock();
+        }
+        for (String ciudad : grafo.getCiudades()) {
+            indices.put(ciudad, grafo.getIndiceCiudad(ciudad));
+        }
+        grafo.getCSR();
+    }
+
+    // Cantidad de franjas, para las pruebas
+    int getCantidadFranjas() {
+        return franjas.length;
+    }
+
+    private StampedLock franja(int ciudad) {
+        return franjas[(ciudad / FILAS_POR_FRANJA) & (franjas.length - 1)];
+    }
+
+    /**
+     * Obtiene la ruta más corta entre dos ciudades desde la matriz de floyd(), calculándola si no está vigente.
+     * Casi siempre se responde sin bloquear; si un escritor modificó las rutas durante la lectura, se repite
+     * con el bloqueo de lectura.
+     *
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     */
+    public Ruta obtenerRuta(String origen, String destino) {
+        Integer i = indices.get(origen);
+        Integer j = indices.get(destino);
+        if (i == null || j == null) return null;
+
+        long sello = rutas.tryOptimisticRead();
+        if (sello != 0) {
+            try {
+                ResultadoRutas vigente = grafo.getResultadoVigente();
+                if (vigente != null) {
+                    Ruta ruta = grafo.construirRuta(vigente, i, j);
+                    if (rutas.validate(sello)) return ruta;
+                }
+            } catch (RuntimeException e) {
+                // Lectura inconsistente por una escritura simultánea; se repite con bloqueo
+            }
+        }
+
+        sello = rutas.readLock();
+        try {
+            ResultadoRutas vigente = grafo.getResultadoVigente();
+            if (vigente != null) {
+                return grafo.construirRuta(vigente, i, j);
+            }
+            long escritura = rutas.tryConvertToWriteLock(sello);
+            if (escritura == 0) {
+                rutas.unlockRead(sello);
+                escritura = rutas.writeLock();
+            }
+            sello = escritura;
+            return grafo.construirRuta(grafo.getResultadoRutas(), i, j);
+        } finally {
+            rutas.unlock(sello);
+        }
+    }
+
+    /**
+     * Verifica si existe una conexión directa entre dos ciudades.
+     *
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @return true si existe la conexión, false en caso contrario.
+     */
+    public boolean existeConexion(String ciudad1, String ciudad2) {
+        return getCondicionConexion(ciudad1, ciudad2) != null;
+    }
+
+    /**
+     * Obtiene la condición climática actual de una conexión.
+     *
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @return Condición climática de la conexión, o null si no existe.
+     */
+    public CondicionClimatica getCondicionConexion(String ciudad1, String ciudad2) {
+        Integer i = indices.get(ciudad1);
+        Integer j = indices.get(ciudad2);
+        return (i == null || j == null) ? null : getCondicionConexion(i, j);
+    }
+
+    /**
+     * Obtiene la condición climática actual de una conexión dada por los índices de sus ciudades.
+     * Solo depende de la franja de la ciudad origen.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Condición climática de la conexión, o null si no existe.
+     */
+    public CondicionClimatica getCondicionConexion(int i, int j) {
+        if (i < 0) return null;
+        StampedLock bloqueo = franja(i);
+        long sello = bloqueo.tryOptimisticRead();
+        if (sello != 0) {
+            try {
+                CondicionClimatica condicion = grafo.getCondicionConexion(i, j);
+                if (bloqueo.validate(sello)) return condicion;
+            } catch (RuntimeException e) {
+                // Lectura inconsistente por una escritura simultánea; se repite con bloqueo
+            }
+        }
+        sello = bloqueo.readLock();
+        try {
+            return grafo.getCondicionConexion(i, j);
+        } finally {
+            bloqueo.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Obtiene el índice de una ciudad sin bloquear.
+     *
+     * @param nombre Nombre de la ciudad.
+     * @return Índice de la ciudad, o -1 si no existe.
+     */
+    public int getIndiceCiudad(String nombre) {
+        Integer indice = indices.get(nombre);
+        return (indice == null) ? -1 : indice;
+    }
+
+    /**
+     * Cambia la condición climática de una conexión.
+     *
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @param condicion Nueva condición climática.
+     * @return true si se cambió exitosamente, false si la conexión no existe.
+     */
+    public boolean cambiarCondicionConexion(String ciudad1, String ciudad2, CondicionClimatica condicion) {
+        return cambiarCondicionConexion(getIndiceCiudad(ciudad1), getIndiceCiudad(ciudad2), condicion);
+    }
+
+    /**
+     * Cambia la condición climática de una conexión dada por los índices de sus ciudades. La condición se escribe
+     * con el bloqueo de la franja de la ciudad origen; después las rutas se corrigen con el bloqueo de escritura
+     * de las rutas. Entre ambos pasos, las consultas de rutas todavía pueden ver los tiempos anteriores.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param condicion Nueva condición climática.
+     * @return true si se cambió exitosamente, false si la conexión no existe.
+     */
+    public boolean cambiarCondicionConexion(int i, int j, CondicionClimatica condicion) {
+        if (i < 0 || j < 0) return false;
+        StampedLock bloqueo = franja(i);
+        long sello = bloqueo.writeLock();
+        int e;
+        try {
+            if (i >= indices.size() || j >= indices.size()) return false;
+            e = grafo.buscarArista(i, j);
+            if (e == -1) return false;
+            grafo.fijarCondicionArista(e, condicion);
+        } finally {
+            bloqueo.unlockWrite(sello);
+        }
+
+        sello = rutas.writeLock();
+        try {
+            grafo.propagarPesoArista(e);
+        } finally {
+            rutas.unlockWrite(sello);
+        }
+        return true;
+    }
+
+    /**
+     * Agrega una ciudad si no existe. Bloquea todo el grafo.
+     *
+     * @param nombre Nombre de la ciudad.
+     */
+    public void agregarCiudad(String nombre) {
+        if (indices.containsKey(nombre)) return;
+        long[] sellos = bloquearTodo();
+        try {
+            grafo.propagarPesosPendientes();
+            grafo.agregarCiudad(nombre);
+            indices.put(nombre, grafo.getIndiceCiudad(nombre));
+            grafo.getCSR();
+        } finally {
+            desbloquearTodo(sellos);
+        }
+    }
+
+    /**
+     * Agrega o reemplaza una conexión con sus tiempos según condiciones climáticas. Bloquea todo el grafo,
+     * porque puede agregar ciudades y redimensionar los arreglos de conexiones.
+     *
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     * @param tiempoNormal Tiempo en condiciones normales.
+     * @param tiempoLluvia Tiempo con lluvia.
+     * @param tiempoNieve Tiempo con nieve.
+     * @param tiempoTormenta Tiempo con tormenta.
+     */
+    public void agregarConexion(String ciudad1, String ciudad2, double tiempoNormal, double tiempoLluvia,
+                                double tiempoNieve, double tiempoTormenta) {
+        long[] sellos = bloquearTodo();
+        try {
+            grafo.propagarPesosPendientes();
+            grafo.agregarConexion(ciudad1, ciudad2, tiempoNormal, tiempoLluvia, tiempoNieve, tiempoTormenta);
+            indices.put(ciudad1, grafo.getIndiceCiudad(ciudad1));
+            indices.put(ciudad2, grafo.getIndiceCiudad(ciudad2));
+            grafo.getCSR(); // Reconstruir la vista aquí y no en el siguiente cambio de condición
+        } finally {
+            desbloquearTodo(sellos);
+        }
+    }
+
+    /**
+     * Elimina una conexión entre dos ciudades. Bloquea todo el grafo.
+     *
+     * @param ciudad1 Ciudad origen.
+     * @param ciudad2 Ciudad destino.
+     */
+    public void eliminarConexion(String ciudad1, String ciudad2) {
+        if (!indices.containsKey(ciudad1) || !indices.containsKey(ciudad2)) return;
+        long[] sellos = bloquearTodo();
+        try {
+            grafo.propagarPesosPendientes();
+            grafo.eliminarConexion(ciudad1, ciudad2);
+            grafo.getCSR();
+        } finally {
+            desbloquearTodo(sellos);
+        }
+    }
+
+    /**
+     * Toma el bloqueo de escritura de las rutas y de todas las franjas, siempre en el mismo orden.
+     * Quien lo toma debe propagar primero los cambios de condición a medias (propagarPesosPendientes),
+     * porque reconstruir la vista CSR pierde el peso anterior que necesitan para corregir las rutas.
+     *
+     * @return Sellos de los bloqueos: el de las rutas y luego uno por franja.
+     */
+    private long[] bloquearTodo() {
+        long[] sellos = new long[franjas.length + 1];
+        sellos[0] = rutas.writeLock();
+        for (int f = 0; f < franjas.length; f++) {
+            sellos[f + 1] = franjas[f].writeLock();
+        }
+        return sellos;
+    }
+
+    private void desbloquearTodo(long[] sellos) {
+        for (int f = franjas.length - 1; f >= 0; f--) {
+            franjas[f].unlockWrite(sellos[f + 1]);
+        }
+        rutas.unlockWrite(sellos[0]);
+    }
+}
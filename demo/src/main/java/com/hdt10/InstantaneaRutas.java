@@ -0,0 +1,155 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: InstantaneaRutas.java
+ * Descripción: Copia inmutable de las rutas entre todas las ciudades junto con los nombres de las ciudades.
+ *              Grafo la publica con una escritura volatile y nunca vuelve a modificar sus arreglos, así que
+ *              cualquier cantidad de hilos puede consultarla sin bloqueos mientras el grafo sigue cambiando.
+ */
+
+package com.hdt10;
+
+public final class InstantaneaRutas {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    private final ResultadoRutas rutas;
+    private final TablaCiudades ciudades;
+    private final long version;
+
+    /**
+     * Constructor de la instantánea. Quien la crea se compromete a no modificar más el resultado ni la tabla.
+     *
+     * @param rutas Resultado de rutas que no se volverá a modificar.
+     * @param ciudades Nombre e índice de cada ciudad, en una tabla que no se volverá a modificar.
+     * @param version Número de publicación, creciente.
+     */
+    InstantaneaRutas(ResultadoRutas rutas, TablaCiudades ciudades, long version) {
+        this.rutas = rutas;
+        this.ciudades = ciudades;
+        this.version = version;
+    }
+
+    /**
+     * Obtiene la ruta más corta entre dos ciudades según esta instantánea.
+     *
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta o alguna ciudad no existía al publicarla.
+     */
+    public Ruta obtenerRuta(String origen, String destino) {
+        return obtenerRuta(ciudades.buscar(origen), ciudades.buscar(destino));
+    }
+
+    /**
+     * Obtiene la ruta más corta entre dos ciudades dadas por sus índices en el grafo.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta o alguna ciudad no existía al publicarla.
+     */
+    public Ruta obtenerRuta(int i, int j) {
+        if (!esIndiceValido(i) || !esIndiceValido(j)) return null;
+        return rutas.construirRuta(ciudades, i, j);
+    }
+
+    /**
+     * Prepara un cursor para recorrer la ruta más corta entre dos ciudades sin construir el camino. Como la
+     * instantánea no cambia, el cursor sigue valiendo aunque el grafo se modifique; cada hilo usa su propio cursor.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param cursor Cursor a preparar, reutilizable entre consultas.
+     * @return true si hay ruta, false si no la hay o alguna ciudad no existía al publicarla.
+     */
+    public boolean recorrerRuta(int i, int j, CursorRuta cursor) {
+        if (esIndiceValido(i) && esIndiceValido(j)) {
+            cursor.iniciar(rutas, ciudades, i, j);
+        } else {
+            cursor.vaciar();
+        }
+        return cursor.hayRuta();
+    }
+
+    /**
+     * Obtiene la ruta más corta entre dos ciudades escribiéndola en una ruta reutilizable, sin crear objetos una
+     * vez que la lista del camino alcanzó su tamaño.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @param cursor Cursor de trabajo del hilo que consulta.
+     * @param ruta Ruta creada con new Ruta(), donde se escribe el camino y el tiempo.
+     * @return true si hay ruta; si no, la ruta queda vacía con tiempo infinito.
+     * @throws IllegalArgumentException Si la ruta no se creó para reutilizarse.
+     */
+    public boolean obtenerRuta(int i, int j, CursorRuta cursor, Ruta ruta) {
+        recorrerRuta(i, j, cursor);
+        return ruta.llenar(cursor);
+    }
+
+    /**
+     * Obtiene el tiempo de la ruta más corta entre dos ciudades sin construir el camino.
+     *
+     * @param origen Ciudad origen.
+     * @param destino Ciudad destino.
+     * @return Tiempo, o infinito si no hay ruta o alguna ciudad no existía al publicarla.
+     */
+    public double getTiempo(String origen, String destino) {
+        return getTiempo(ciudades.buscar(origen), ciudades.buscar(destino));
+    }
+
+    /**
+     * Obtiene el tiempo de la ruta más corta entre dos ciudades dadas por sus índices.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Tiempo, o infinito si no hay ruta o alguna ciudad no existía al publicarla.
+     */
+    public double getTiempo(int i, int j) {
+        return (esIndiceValido(i) && esIndiceValido(j)) ? rutas.getDistancia(i, j) : INF;
+    }
+
+    /**
+     * Obtiene el índice que tenía una ciudad al publicar la instantánea; es el mismo que en el grafo.
+     *
+     * @param nombre Nombre de la ciudad.
+     * @return Índice de la ciudad, o -1 si no existía al publicarla.
+     */
+    public int getIndiceCiudad(String nombre) {
+        return ciudades.buscar(nombre);
+    }
+
+    private boolean esIndiceValido(int ciudad) {
+        return ciudad >= 0 && ciudad < ciudades.size();
+    }
+
+    /**
+     * Obtiene el resultado de rutas de la instantánea, que no se debe modificar.
+     *
+     * @return Distancias y sucesores.
+     */
+    public ResultadoRutas getRutas() {
+        return rutas;
+    }
+
+    /**
+     * Obtiene la cantidad de ciudades al momento de publicarla.
+     *
+     * @return Cantidad de ciudades.
+     */
+    public int getCantidadCiudades() {
+        return ciudades.size();
+    }
+
+    /**
+     * Obtiene el número de publicación; cada instantánea nueva de un grafo tiene uno mayor.
+     *
+     * @return Versión.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: JerarquiaContraccion.java
+ * Descripción: Jerarquía de contracción personalizable (Customizable Contraction Hierarchies) sobre las conexiones
+ *              del grafo. El preproceso ordena las ciudades por disección anidada y las contrae en ese orden; los
+ *              atajos resultantes solo dependen de qué ciudades están conectadas, no de los pesos. La personalización
+ *              calcula los pesos de todos los atajos con los pesos actuales y descarta los que no son rutas más
+ *              cortas; cuando cambia la condición climática de una conexión basta con volver a personalizar, sin
+ *              reordenar ni contraer. Una consulta sube desde el origen y desde el destino por el árbol de
+ *              eliminación, sin montículo, y los atajos del camino se desempacan en las conexiones originales.
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JerarquiaContraccion {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    private final GrafoCSR csr;
+    private final int n;
+
+    // Internamente cada ciudad se identifica por su nivel (orden de contracción)
+    private final int[] nivel;
+    private final int[] ciudadEnNivel;
+
+    // Aristas de la jerarquía: las de la ciudad de nivel r ocupan [inicio[r], inicio[r + 1]) y van hacia vecinos
+    // de mayor nivel, ordenados de menor a mayor. El padre en el árbol de eliminación es el primero de ellos.
+    private final int[] inicio;
+    private final int[] superior;
+    private final int[] inferior;
+    private final int[] padre;
+
+    // Posición en la vista CSR de la conexión que sube (inferior -> superior) o baja (superior -> inferior), o -1
+    private final int[] posicionSubida;
+    private final int[] posicionBajada;
+
+    // Pesos personalizados; un atajo se forma con la arista viaA recorrida hacia abajo y viaB hacia arriba
+    private final double[] subida;
+    private final double[] bajada;
+    private final int[] viaSubidaA;
+    private final int[] viaSubidaB;
+    private final int[] viaBajadaA;
+    private final int[] viaBajadaB;
+
+    // Pesos usados en las consultas: infinito si la arista no es la ruta más corta entre sus extremos
+    private final double[] consultaSubida;
+    private final double[] consultaBajada;
+    private boolean pesosVigentes = false;
+
+    // Solo las aristas útiles en cada dirección, compactadas después de cada personalización
+    private AristasConsulta aristasAdelante;
+    private AristasConsulta aristasAtras;
+
+    // Arreglos de trabajo de las consultas; las distancias vuelven a infinito al terminar cada consulta
+    private final double[] distAdelante;
+    private final double[] distAtras;
+    private final int[] aristaPrevia;
+    private final int[] aristaSiguiente;
+    private final int[] visitadasAdelante;
+    private final int[] visitadasAtras;
+    private int origen;
+    private int destino;
+    private int encuentro = -1;
+    private int asentadas;
+
+    /**
+     * Ordena y contrae todas las ciudades y personaliza los pesos con los pesos actuales.
+     *
+     * @param csr Vista CSR del grafo (a lo sumo una conexión por cada par ordenado de ciudades).
+     */
+    public JerarquiaContraccion(GrafoCSR csr) {
+        this.csr = csr;
+        this.n = csr.getCantidadCiudades();
+        ciudadEnNivel = ordenarPorDiseccion();
+        nivel = new int[n];
+        for (int r = 0; r < n; r++) {
+            nivel[ciudadEnNivel[r]] = r;
+        }
+
+        // Contracción: los vecinos superiores de r, salvo el padre, pasan a ser vecinos del padre
+        int[][] vecinos = new int[n][];
+        int[] cantidad = new int[n];
+        for (int r = 0; r < n; r++) {
+            vecinos[r] = new int[4];
+        }
+        for (int u = 0; u < n; u++) {
+            for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                int v = csr.destinos[k];
+                if (v == u) continue; // Un ciclo de una conexión nunca está en una ruta entre ciudades distintas
+                agregarVecino(vecinos, cantidad, Math.min(nivel[u], nivel[v]), Math.max(nivel[u], nivel[v]));
+            }
+        }
+        inicio = new int[n + 1];
+        padre = new int[n];
+        for (int r = 0; r < n; r++) {
+            int[] lista = vecinos[r];
+            Arrays.sort(lista, 0, cantidad[r]);
+            int unicos = 0;
+            for (int i = 0; i < cantidad[r]; i++) {
+                if (unicos == 0 || lista[unicos - 1] != lista[i]) lista[unicos++] = lista[i];
+            }
+            cantidad[r] = unicos;
+            padre[r] = (unicos > 0) ? lista[0] : -1;
+            for (int i = 1; i < unicos; i++) {
+                agregarVecino(vecinos, cantidad, lista[0], lista[i]);
+            }
+            inicio[r + 1] = inicio[r] + unicos;
+        }
+
+        int aristas = inicio[n];
+        superior = new int[aristas];
+        inferior = new int[aristas];
+        for (int r = 0; r < n; r++) {
+            System.arraycopy(vecinos[r], 0, superior, inicio[r], cantidad[r]);
+            Arrays.fill(inferior, inicio[r], inicio[r + 1], r);
+            vecinos[r] = null;
+        }
+
+        posicionSubida = new int[aristas];
+        posicionBajada = new int[aristas];
+        Arrays.fill(posicionSubida, -1);
+        Arrays.fill(posicionBajada, -1);
+        for (int u = 0; u < n; u++) {
+            for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                int v = csr.destinos[k];
+                if (v == u) continue;
+                if (nivel[u] < nivel[v]) posicionSubida[buscarArista(nivel[u], nivel[v])] = k;
+                else posicionBajada[buscarArista(nivel[v], nivel[u])] = k;
+            }
+        }
+
+        subida = new double[aristas];
+        bajada = new double[aristas];
+        viaSubidaA = new int[aristas];
+        viaSubidaB = new int[aristas];
+        viaBajadaA = new int[aristas];
+        viaBajadaB = new int[aristas];
+        consultaSubida = new double[aristas];
+        consultaBajada = new double[aristas];
+        distAdelante = new double[n];
+        distAtras = new double[n];
+        Arrays.fill(distAdelante, INF);
+        Arrays.fill(distAtras, INF);
+        aristaPrevia = new int[n];
+        aristaSiguiente = new int[n];
+        visitadasAdelante = new int[n];
+        visitadasAtras = new int[n];
+        customizar();
+    }
+
+    private static void agregarVecino(int[][] vecinos, int[] cantidad, int r, int vecino) {
+        if (cantidad[r] == vecinos[r].length) {
+            vecinos[r] = Arrays.copyOf(vecinos[r], vecinos[r].length * 2);
+        }
+        vecinos[r][cantidad[r]++] = vecino;
+    }
+
+    private int buscarArista(int r, int vecino) {
+        return Arrays.binarySearch(superior, inicio[r], inicio[r + 1], vecino);
+    }
+
+    /**
+     * Recalcula los pesos de todas las aristas con los pesos actuales de las conexiones, sin cambiar el orden
+     * de las ciudades ni los atajos. Primero sube por niveles (cada atajo por su ciudad intermedia de menor nivel)
+     * y después baja (personalización perfecta): si una arista mejora pasando por una ciudad de mayor nivel, las
+     * consultas la ignoran, porque la búsqueda hacia arriba encontrará ese otro camino.
+     */
+    public void customizar() {
+        for (int e = 0; e < subida.length; e++) {
+            subida[e] = (posicionSubida[e] >= 0) ? csr.pesosActuales[posicionSubida[e]] : INF;
+            bajada[e] = (posicionBajada[e] >= 0) ? csr.pesosActuales[posicionBajada[e]] : INF;
+            viaSubidaA[e] = -1;
+            viaSubidaB[e] = -1;
+            viaBajadaA[e] = -1;
+            viaBajadaB[e] = -1;
+        }
+        for (int r = 0; r < n; r++) {
+            recorrerTriangulos(r, false);
+        }
+        System.arraycopy(subida, 0, consultaSubida, 0, subida.length);
+        System.arraycopy(bajada, 0, consultaBajada, 0, bajada.length);
+        for (int r = n - 1; r >= 0; r--) {
+            recorrerTriangulos(r, true);
+        }
+        for (int e = 0; e < subida.length; e++) {
+            if (subida[e] < consultaSubida[e]) consultaSubida[e] = INF;
+            if (bajada[e] < consultaBajada[e]) consultaBajada[e] = INF;
+        }
+        aristasAdelante = new AristasConsulta(consultaSubida);
+        aristasAtras = new AristasConsulta(consultaBajada);
+        pesosVigentes = true;
+    }
+
+    /**
+     * Recorre los triángulos {r, x, y} con r de menor nivel y x < y. Como la jerarquía es cordal, todo vecino
+     * superior y de r con y > x también es vecino de x, así que la arista x - y se encuentra avanzando en paralelo
+     * por las dos listas ordenadas.
+     */
+    private void recorrerTriangulos(int r, boolean perfecta) {
+        for (int i = inicio[r]; i < inicio[r + 1]; i++) {
+            int k = inicio[superior[i]];
+            for (int j = i + 1; j < inicio[r + 1]; j++) {
+                int y = superior[j];
+                while (superior[k] != y) k++;
+                if (perfecta) {
+                    // Aristas de r mejoradas pasando por x o por y, que están más arriba
+                    subida[i] = Math.min(subida[i], subida[j] + bajada[k]);
+                    bajada[i] = Math.min(bajada[i], subida[k] + bajada[j]);
+                    subida[j] = Math.min(subida[j], subida[i] + subida[k]);
+                    bajada[j] = Math.min(bajada[j], bajada[k] + bajada[i]);
+                    continue;
+                }
+                // x -> r -> y y y -> r -> x como atajos de la arista x - y
+                double candidato = bajada[i] + subida[j];
+                if (candidato < subida[k]) {
+                    subida[k] = candidato;
+                    viaSubidaA[k] = i;
+                    viaSubidaB[k] = j;
+                }
+                candidato = bajada[j] + subida[i];
+                if (candidato < bajada[k]) {
+                    bajada[k] = candidato;
+                    viaBajadaA[k] = j;
+                    viaBajadaB[k] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indica que cambió el peso actual de alguna conexión; los pesos se personalizan en la siguiente consulta.
+     */
+    void pesosCambiados() {
+        pesosVigentes = false;
+    }
+
+    /**
+     * Obtiene la cantidad de atajos agregados por la contracción.
+     *
+     * @return Aristas de la jerarquía que no corresponden a ninguna conexión.
+     */
+    public int getCantidadAtajos() {
+        int atajos = 0;
+        for (int e = 0; e < superior.length; e++) {
+            if (posicionSubida[e] == -1 && posicionBajada[e] == -1) atajos++;
+        }
+        return atajos;
+    }
+
+    /**
+     * Obtiene el nivel de una ciudad en la jerarquía (orden de contracción).
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return Nivel, de 0 a n - 1.
+     */
+    public int getNivel(int ciudad) {
+        return nivel[ciudad];
+    }
+
+    /**
+     * Calcula la ruta más corta entre dos ciudades distintas. Cada búsqueda sube por los ancestros de su ciudad
+     * en el árbol de eliminación, en orden de nivel, relajando solo aristas hacia arriba; la ruta se une en el
+     * ancestro común con menor suma de distancias.
+     *
+     * @param origen Índice de la ciudad origen.
+     * @param destino Índice de la ciudad destino (distinta del origen).
+     * @return Distancia más corta, o infinito si no hay ruta.
+     */
+    public double consultar(int origen, int destino) {
+        if (!pesosVigentes) customizar();
+        this.origen = nivel[origen];
+        this.destino = nivel[destino];
+        int adelante = subir(this.origen, distAdelante, aristasAdelante, aristaPrevia, visitadasAdelante);
+        int atras = subir(this.destino, distAtras, aristasAtras, aristaSiguiente, visitadasAtras);
+        asentadas = adelante + atras;
+
+        double mejor = INF;
+        encuentro = -1;
+        for (int i = 0; i < adelante; i++) {
+            int r = visitadasAdelante[i];
+            if (distAdelante[r] + distAtras[r] < mejor) {
+                mejor = distAdelante[r] + distAtras[r];
+                encuentro = r;
+            }
+        }
+
+        // Toda ciudad alcanzada es un ancestro visitado, así que basta con limpiar los ancestros
+        for (int i = 0; i < adelante; i++) distAdelante[visitadasAdelante[i]] = INF;
+        for (int i = 0; i < atras; i++) distAtras[visitadasAtras[i]] = INF;
+        return mejor;
+    }
+
+    /**
+     * Recorre los ancestros de una ciudad relajando sus aristas hacia arriba.
+     *
+     * @return Cantidad de ancestros visitados (incluida la ciudad).
+     */
+    private int subir(int desde, double[] dist, AristasConsulta aristas, int[] arista, int[] visitadas) {
+        int cantidad = 0;
+        dist[desde] = 0;
+        for (int r = desde; r != -1; r = padre[r]) {
+            visitadas[cantidad++] = r;
+            double dr = dist[r];
+            if (dr == INF) continue;
+            for (int c = aristas.inicio[r]; c < aristas.inicio[r + 1]; c++) {
+                double d = dr + aristas.peso[c];
+                int q = aristas.destino[c];
+                if (d < dist[q]) {
+                    dist[q] = d;
+                    arista[q] = aristas.arista[c];
+                }
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Aristas hacia arriba con peso finito en una dirección, agrupadas por la ciudad de menor nivel, con el
+     * destino y el peso contiguos para recorrerlas sin saltos en memoria.
+     */
+    private final class AristasConsulta {
+        final int[] inicio = new int[n + 1];
+        final int[] destino;
+        final double[] peso;
+        final int[] arista;
+
+        AristasConsulta(double[] pesos) {
+            for (int r = 0; r < n; r++) {
+                int utiles = 0;
+                for (int e = JerarquiaContraccion.this.inicio[r]; e < JerarquiaContraccion.this.inicio[r + 1]; e++) {
+                    if (pesos[e] != INF) utiles++;
+                }
+                inicio[r + 1] = inicio[r] + utiles;
+            }
+            destino = new int[inicio[n]];
+            peso = new double[inicio[n]];
+            arista = new int[inicio[n]];
+            int c = 0;
+            for (int e = 0; e < pesos.length; e++) {
+                if (pesos[e] == INF) continue;
+                destino[c] = superior[e];
+                peso[c] = pesos[e];
+                arista[c++] = e;
+            }
+        }
+    }
+
+    /**
+     * Reconstruye el camino de la última consulta, desempacando los atajos en las conexiones originales.
+     *
+     * @return Índices de las ciudades del camino, o null si no hubo ruta.
+     */
+    public List<Integer> getCamino() {
+        if (encuentro == -1) return null;
+        // Tramos codificados como 2 * arista + 1 si la arista se recorre hacia arriba y 2 * arista si hacia abajo
+        List<Integer> tramos = new ArrayList<>();
+        for (int r = encuentro; r != origen; r = inferior[aristaPrevia[r]]) {
+            tramos.add(2 * aristaPrevia[r] + 1);
+        }
+        Collections.reverse(tramos);
+        for (int r = encuentro; r != destino; r = inferior[aristaSiguiente[r]]) {
+            tramos.add(2 * aristaSiguiente[r]);
+        }
+
+        List<Integer> camino = new ArrayList<>();
+        camino.add(ciudadEnNivel[origen]);
+        int[] pila = new int[16];
+        for (int tramo : tramos) {
+            int tope = 0;
+            pila[tope++] = tramo;
+            while (tope > 0) {
+                int actual = pila[--tope];
+                int e = actual >> 1;
+                boolean sube = (actual & 1) == 1;
+                int viaA = sube ? viaSubidaA[e] : viaBajadaA[e];
+                if (viaA == -1) {
+                    camino.add(ciudadEnNivel[sube ? superior[e] : inferior[e]]);
+                    continue;
+                }
+                int viaB = sube ? viaSubidaB[e] : viaBajadaB[e];
+                if (tope + 2 > pila.length) pila = Arrays.copyOf(pila, pila.length * 2);
+                pila[tope++] = 2 * viaB + 1; // Segundo tramo: desde la ciudad intermedia hacia arriba
+                pila[tope++] = 2 * viaA;     // Primer tramo: hacia abajo hasta la ciudad intermedia
+            }
+        }
+        return camino;
+    }
+
+    /**
+     * Obtiene cuántas ciudades visitaron las dos búsquedas en la última consulta.
+     *
+     * @return Cantidad de ciudades visitadas.
+     */
+    public int getAsentadas() {
+        return asentadas;
+    }
+
+    /**
+     * Orden de contracción por disección anidada, que no depende de los pesos: cada parte del grafo se divide
+     * con un separador (un nivel de un recorrido en anchura desde una ciudad periférica), las ciudades del
+     * separador quedan al final de la parte, es decir, en los niveles más altos, y las dos mitades se ordenan
+     * de la misma forma. Los atajos de una mitad nunca cruzan a la otra.
+     *
+     * @return Ciudades en orden de contracción.
+     */
+    private int[] ordenarPorDiseccion() {
+        int[] orden = new int[n];
+        for (int v = 0; v < n; v++) orden[v] = v;
+        int[] parte = new int[n];
+        int[] distancia = new int[n];
+        int[] fila = new int[n];
+        int[] conteo = new int[n + 1];
+        int[] copia = new int[n];
+        // Pila de partes pendientes: cada parte es el rango [desde, hasta) de orden y ocupa esos mismos niveles
+        int[] pila = new int[64];
+        int tope = 0;
+        pila[tope++] = 0;
+        pila[tope++] = n;
+        int siguienteParte = 0;
+
+        while (tope > 0) {
+            int hasta = pila[--tope];
+            int desde = pila[--tope];
+            int tamano = hasta - desde;
+            if (tamano <= 2) continue;
+            int id = ++siguienteParte;
+            for (int p = desde; p < hasta; p++) parte[orden[p]] = id;
+
+            // Dos recorridos: el primero encuentra una ciudad periférica, el segundo mide niveles desde ella
+            int alcanzadas = recorrer(orden, desde, hasta, orden[desde], id, parte, distancia, fila);
+            alcanzadas = recorrer(orden, desde, hasta, fila[alcanzadas - 1], id, parte, distancia, fila);
+
+            int separadorNivel = -1;
+            if (alcanzadas == tamano) {
+                int profundidad = distancia[fila[alcanzadas - 1]];
+                Arrays.fill(conteo, 0, profundidad + 1, 0);
+                for (int q = 0; q < alcanzadas; q++) conteo[distancia[fila[q]]]++;
+                // El nivel más pequeño entre el primer y el segundo tercio de la parte, o la mediana
+                int acumulado = 0;
+                int mejor = Integer.MAX_VALUE;
+                int mediana = -1;
+                for (int d = 0; d <= profundidad; d++) {
+                    if (mediana == -1 && 2 * (acumulado + conteo[d]) >= tamano) mediana = d;
+                    if (3 * acumulado >= tamano && 3 * (acumulado + conteo[d]) <= 2 * tamano && conteo[d] < mejor) {
+                        mejor = conteo[d];
+                        separadorNivel = d;
+                    }
+                    acumulado += conteo[d];
+                }
+                if (separadorNivel == -1) separadorNivel = mediana;
+            }
+
+            // Reordenar la parte: primera mitad, segunda mitad y separador al final.
+            // Si la parte no es conexa, lo alcanzado y el resto se separan sin separador.
+            int[] tamanos = new int[3];
+            for (int p = desde; p < hasta; p++) {
+                tamanos[grupo(distancia[orden[p]], separadorNivel)]++;
+            }
+            int[] posicion = {desde, desde + tamanos[0], desde + tamanos[0] + tamanos[1]};
+            for (int p = desde; p < hasta; p++) {
+                copia[posicion[grupo(distancia[orden[p]], separadorNivel)]++] = orden[p];
+            }
+            System.arraycopy(copia, desde, orden, desde, tamano);
+
+            if (tope + 4 > pila.length) pila = Arrays.copyOf(pila, pila.length * 2);
+            pila[tope++] = desde;
+            pila[tope++] = desde + tamanos[0];
+            pila[tope++] = desde + tamanos[0];
+            pila[tope++] = desde + tamanos[0] + tamanos[1];
+        }
+        return orden;
+    }
+
+    // 0 = primera mitad, 1 = segunda mitad, 2 = separador; distancia -1 marca las ciudades no alcanzadas
+    private static int grupo(int distancia, int separadorNivel) {
+        if (separadorNivel == -1) return (distancia >= 0) ? 0 : 1;
+        if (distancia < separadorNivel) return 0;
+        return (distancia > separadorNivel) ? 1 : 2;
+    }
+
+    /**
+     * Recorrido en anchura sin considerar la dirección de las conexiones, limitado a una parte.
+     * Las ciudades de la parte que no se alcanzan quedan con distancia -1.
+     *
+     * @return Cantidad de ciudades alcanzadas; quedan en fila en orden de visita.
+     */
+    private int recorrer(int[] orden, int desde, int hasta, int inicial, int id, int[] parte,
+                         int[] distancia, int[] fila) {
+        for (int p = desde; p < hasta; p++) distancia[orden[p]] = -1;
+        int cabezaFila = 0;
+        int finFila = 0;
+        fila[finFila++] = inicial;
+        distancia[inicial] = 0;
+        while (cabezaFila < finFila) {
+            int u = fila[cabezaFila++];
+            for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                int v = csr.destinos[k];
+                if (parte[v] == id && distancia[v] == -1) {
+                    distancia[v] = distancia[u] + 1;
+                    fila[finFila++] = v;
+                }
+            }
+            for (int r = csr.desplazamientosEntrada[u]; r < csr.desplazamientosEntrada[u + 1]; r++) {
+                int v = csr.origenesEntrada[r];
+                if (parte[v] == id && distancia[v] == -1) {
+                    distancia[v] = distancia[u] + 1;
+                    fila[finFila++] = v;
+                }
+            }
+        }
+        return finFila;
+    }
+}
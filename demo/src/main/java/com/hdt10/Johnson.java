@@ -0,0 +1,200 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: Johnson.java
+ * Descripción: Algoritmo de Johnson para calcular las rutas más cortas entre todas las ciudades en grafos dispersos.
+ *              Primero calcula potenciales con Bellman-Ford para que ningún peso repesado sea negativo y luego ejecuta
+ *              un Dijkstra por ciudad origen sobre la vista CSR, repartiendo los orígenes entre varios hilos.
+ *              Cuesta O(n * m log n) en lugar de O(n³), y llena el mismo ResultadoRutas que Floyd-Warshall.
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class Johnson {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    private final int paralelismo;
+
+    /**
+     * Constructor del algoritmo.
+     *
+     * @param paralelismo Cantidad de hilos a utilizar (1 para ejecutar en serie).
+     */
+    public Johnson(int paralelismo) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + paralelismo);
+        }
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Calcula las rutas más cortas entre todas las ciudades.
+     *
+     * @param csr Vista CSR con los pesos actuales de las conexiones.
+     * @return Distancias y sucesores; la diagonal guarda el ciclo más corto de cada ciudad.
+     * @throws IllegalStateException si el grafo tiene un ciclo de peso negativo.
+     */
+    public ResultadoRutas ejecutar(GrafoCSR csr) {
+        return ejecutar(csr, csr.pesosActuales);
+    }
+
+    /**
+     * Calcula las rutas más cortas entre todas las ciudades con otros pesos para las mismas conexiones,
+     * por ejemplo los de una condición climática en todas ellas.
+     *
+     * @param csr Vista CSR del grafo.
+     * @param pesos Peso de cada posición de la vista.
+     * @return Distancias y sucesores; la diagonal guarda el ciclo más corto de cada ciudad.
+     * @throws IllegalStateException si el grafo tiene un ciclo de peso negativo.
+     */
+    public ResultadoRutas ejecutar(GrafoCSR csr, double[] pesos) {
+        int n = csr.getCantidadCiudades();
+        ResultadoRutas resultado = new ResultadoRutas(n);
+        double[] potencial = calcularPotenciales(csr, pesos);
+
+        if (paralelismo == 1 || n < 2) {
+            new TareaOrigenes(csr, pesos, potencial, resultado, 0, n, n).compute();
+            return resultado;
+        }
+        // Hojas de tamaño suficiente para repartir bien la carga sin crear demasiados arreglos de trabajo
+        int tamanoHoja = Math.max(1, n / (paralelismo * 8));
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            pool.invoke(new TareaOrigenes(csr, pesos, potencial, resultado, 0, n, tamanoHoja));
+        } finally {
+            pool.shutdown();
+        }
+        return resultado;
+    }
+
+    /**
+     * Bellman-Ford desde un origen virtual conectado con peso 0 a todas las ciudades. Si ningún peso es
+     * negativo, termina después de una sola pasada y todos los potenciales quedan en 0.
+     *
+     * @param csr Vista CSR del grafo.
+     * @param pesos Peso de cada posición de la vista.
+     * @return Potencial de cada ciudad, o null si todos son 0 y no hace falta repesar.
+     */
+    static double[] calcularPotenciales(GrafoCSR csr, double[] pesos) {
+        int n = csr.getCantidadCiudades();
+        double[] potencial = new double[n];
+        boolean repesar = false;
+        for (int pasada = 0; pasada <= n; pasada++) {
+            boolean cambio = false;
+            for (int u = 0; u < n; u++) {
+                double pu = potencial[u];
+                for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                    int v = csr.destinos[k];
+                    double candidato = pu + pesos[k];
+                    if (candidato < potencial[v]) {
+                        potencial[v] = candidato;
+                        cambio = true;
+                    }
+                }
+            }
+            if (!cambio) {
+                return repesar ? potencial : null;
+            }
+            repesar = true;
+        }
+        throw new IllegalStateException("El grafo tiene un ciclo de peso negativo");
+    }
+
+    /**
+     * Tarea que reparte un rango de ciudades origen; cada hoja tiene sus propios arreglos de trabajo y
+     * escribe solo las filas de sus orígenes en el resultado.
+     */
+    private static final class TareaOrigenes extends RecursiveAction {
+        private final GrafoCSR csr;
+        private final double[] pesos;
+        private final double[] potencial;
+        private final ResultadoRutas resultado;
+        private final int desde;
+        private final int hasta;
+        private final int tamanoHoja;
+
+        TareaOrigenes(GrafoCSR csr, double[] pesos, double[] potencial, ResultadoRutas resultado,
+                      int desde, int hasta, int tamanoHoja) {
+            this.csr = csr;
+            this.pesos = pesos;
+            this.potencial = potencial;
+            this.resultado = resultado;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.tamanoHoja = tamanoHoja;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde > tamanoHoja) {
+                int medio = (desde + hasta) >>> 1;
+                invokeAll(new TareaOrigenes(csr, pesos, potencial, resultado, desde, medio, tamanoHoja),
+                          new TareaOrigenes(csr, pesos, potencial, resultado, medio, hasta, tamanoHoja));
+                return;
+            }
+            int n = csr.getCantidadCiudades();
+            double[] distancia = new double[n];
+            int[] primerSalto = new int[n];
+            MonticuloIndexado monticulo = new MonticuloIndexado(n);
+            for (int s = desde; s < hasta; s++) {
+                dijkstraDesde(s, distancia, primerSalto, monticulo);
+            }
+        }
+
+        /**
+         * Dijkstra sobre los pesos repesados; guarda en la fila s la primera ciudad de cada ruta.
+         */
+        private void dijkstraDesde(int s, double[] distancia, int[] primerSalto, MonticuloIndexado monticulo) {
+            int n = csr.getCantidadCiudades();
+            Arrays.fill(distancia, INF);
+            Arrays.fill(primerSalto, -1);
+            distancia[s] = 0;
+            primerSalto[s] = s;
+            monticulo.insertarODisminuir(s, 0);
+            while (!monticulo.estaVacio()) {
+                int u = monticulo.extraerMinimo();
+                double du = distancia[u];
+                for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                    int v = csr.destinos[k];
+                    double peso = pesos[k];
+                    if (potencial != null) peso += potencial[u] - potencial[v];
+                    double candidato = du + peso;
+                    if (candidato < distancia[v]) {
+                        distancia[v] = candidato;
+                        primerSalto[v] = (u == s) ? v : primerSalto[u];
+                        monticulo.insertarODisminuir(v, candidato);
+                    }
+                }
+            }
+
+            double[] dist = resultado.getDistancias();
+            int[] next = resultado.getSiguientes();
+            int fila = s * n;
+            for (int v = 0; v < n; v++) {
+                if (v == s || distancia[v] == INF) continue;
+                dist[fila + v] = (potencial == null) ? distancia[v] : distancia[v] - potencial[s] + potencial[v];
+                next[fila + v] = primerSalto[v];
+            }
+
+            // Ciclo más corto de s: ruta hasta una ciudad p con conexión p -> s
+            for (int r = csr.desplazamientosEntrada[s]; r < csr.desplazamientosEntrada[s + 1]; r++) {
+                int p = csr.origenesEntrada[r];
+                double hastaP = (p == s) ? 0 : dist[fila + p];
+                if (hastaP == INF) continue;
+                double ciclo = hastaP + pesos[csr.posicionSalida[r]];
+                if (ciclo < dist[fila + s]) {
+                    dist[fila + s] = ciclo;
+                    next[fila + s] = (p == s) ? s : next[fila + p];
+                }
+            }
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * Algoritmos y Estructuras de Datos
  * Ing. Douglas Barrios
  * Creación: 17/05/2025
- * última modificación: 17/05/2025
+ * última modificación: 17/10/2026
  * File Name: LectorArchivo.java
  * Descripción: Clase para leer archivos de conexiones entre ciudades
  *              y cargarlos en el grafo.
@@ -11,12 +11,20 @@
 
 package com.hdt10;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class LectorArchivo {
+    // Tamaño mínimo de cada trozo leído en paralelo; los archivos más chicos se leen en un solo hilo
+    public final static long TAMANO_MINIMO_TROZO = 8L << 20;
     
     /**
      * Lee un archivo de conexiones y carga los datos en el grafo
@@ -28,50 +36,91 @@ public class LectorArchivo {
      * @return true si la lectura fue exitosa, false en caso contrario
      */
     public static boolean cargarConexiones(String nombreArchivo, Grafo grafo) {
+        return cargarConexiones(nombreArchivo, grafo, true);
+    }
+    
+    /**
+     * Lee un archivo de conexiones y carga los datos en el grafo, usando un hilo por procesador si el archivo
+     * es grande.
+     * 
+     * @param nombreArchivo Ruta del archivo a leer
+     * @param grafo Grafo donde se cargarán los datos
+     * @param calcularRutas true para ejecutar floyd() al terminar la carga
+     * @return true si la lectura fue exitosa, false en caso contrario
+     */
+    public static boolean cargarConexiones(String nombreArchivo, Grafo grafo, boolean calcularRutas) {
+        return cargarConexiones(nombreArchivo, grafo, calcularRutas, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Lee un archivo de conexiones y carga los datos en el grafo.
+     * Si el archivo empieza con el número mágico de ArchivoBinario, se carga en formato binario, con las rutas
+     * guardadas si las incluye; si no, se lee como texto.
+     * El archivo de texto se divide en trozos que terminan en un salto de línea, de al menos TAMANO_MINIMO_TROZO bytes,
+     * y cada hilo lee uno con su propio TokenizadorConexiones, que acumula las conexiones y sus propias ciudades
+     * en un ConstructorGrafo. Al terminar, los constructores se agregan al grafo de una vez y en orden, así que
+     * el resultado y los errores reportados (con su número de línea en el archivo) son los mismos que al leerlo
+     * en un solo hilo.
+     * Sin calcular las rutas, el grafo responde cada consulta con Dijkstra y no crea matrices n x n,
+     * lo cual conviene para archivos con muchas ciudades.
+     * 
+     * @param nombreArchivo Ruta del archivo a leer
+     * @param grafo Grafo donde se cargarán los datos
+     * @param calcularRutas true para ejecutar floyd() al terminar la carga
+     * @param hilos Cantidad máxima de hilos de lectura
+     * @return true si la lectura fue exitosa, false en caso contrario
+     */
+    public static boolean cargarConexiones(String nombreArchivo, Grafo grafo, boolean calcularRutas, int hilos) {
+        return cargarConexiones(nombreArchivo, grafo, calcularRutas, hilos, TAMANO_MINIMO_TROZO);
+    }
+    
+    // Con un tamaño mínimo de trozo dado, para probar la lectura en paralelo con archivos pequeños
+    static boolean cargarConexiones(String nombreArchivo, Grafo grafo, boolean calcularRutas, int hilos,
+                                    long tamanoMinimoTrozo) {
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser positiva: " + hilos);
+        }
         File archivo = new File(nombreArchivo);
         if (!archivo.exists() || !archivo.isFile()) {
             System.out.println("Error: El archivo " + nombreArchivo + " no existe o no es un archivo válido.");
             return false;
         }
         
-        try (BufferedReader br = new BufferedReader(new FileReader(archivo))) {
-            String linea;
-            int numeroLinea = 0;
-            
-            while ((linea = br.readLine()) != null) {
-                numeroLinea++;
-                // Omitir líneas vacías o comentarios
-                if (linea.trim().isEmpty() || linea.trim().startsWith("#")) {
-                    continue;
-                }
-                
-                // Dividir la línea en partes separadas por espacios
-                String[] partes = linea.trim().split("\\s+");
-                
-                // Verificar que tenga el formato correcto
-                if (partes.length < 6) {
-                    System.out.println("Error en línea " + numeroLinea + ": formato incorrecto. Se esperan al menos 6 valores.");
-                    continue;
-                }
-                
-                try {
-                    String ciudad1 = partes[0];
-                    String ciudad2 = partes[1];
-                    double tiempoNormal = Double.parseDouble(partes[2]);
-                    double tiempoLluvia = Double.parseDouble(partes[3]);
-                    double tiempoNieve = Double.parseDouble(partes[4]);
-                    double tiempoTormenta = Double.parseDouble(partes[5]);
-                    
-                    // Agregar la conexión al grafo
-                    grafo.agregarConexion(ciudad1, ciudad2, tiempoNormal, tiempoLluvia, tiempoNieve, tiempoTormenta);
-                    
-                } catch (NumberFormatException e) {
-                    System.out.println("Error en línea " + numeroLinea + ": formato de número incorrecto.");
+        try (FileChannel canal = FileChannel.open(archivo.toPath(), StandardOpenOption.READ)) {
+            if (ArchivoBinario.esBinario(canal)) {
+                ArchivoBinario.cargar(canal, grafo);
+                if (calcularRutas && !grafo.hayRutasCalculadas()) {
+                    grafo.floyd();
                 }
+                return true;
             }
             
+            long[] limites = dividirEnTrozos(canal, hilos, tamanoMinimoTrozo);
+            int trozos = limites.length - 1;
+            ConstructorGrafo[] constructores = new ConstructorGrafo[trozos];
+            TokenizadorConexiones[] tokenizadores = new TokenizadorConexiones[trozos];
+            for (int t = 0; t < trozos; t++) {
+                // Unos 40 bytes por línea; el constructor crece si hay más conexiones
+                constructores[t] = new ConstructorGrafo((int) Math.min((limites[t + 1] - limites[t]) / 40, 1 << 24));
+                tokenizadores[t] = new TokenizadorConexiones(constructores[t]);
+            }
+            
+            if (trozos == 1) {
+                tokenizadores[0].leer(canal, 0, limites[1]);
+            } else {
+                leerEnParalelo(canal, limites, tokenizadores);
+            }
+            int lineasAnteriores = 0;
+            for (TokenizadorConexiones tokenizador : tokenizadores) {
+                tokenizador.reportarErrores(lineasAnteriores);
+                lineasAnteriores += tokenizador.getLineasLeidas();
+            }
+            grafo.agregarConexiones(constructores);
+            
             // Ejecutar el algoritmo de Floyd-Warshall después de cargar todas las conexiones
-            grafo.floyd();
+            if (calcularRutas) {
+                grafo.floyd();
+            }
             return true;
             
         } catch (IOException e) {
@@ -79,4 +128,75 @@ public class LectorArchivo {
             return false;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Divide el archivo en a lo sumo la cantidad de hilos dada de trozos de al menos el tamaño mínimo,
+     * moviendo cada límite justo después del siguiente salto de línea.
+     * 
+     * @param canal Canal del archivo.
+     * @param hilos Cantidad máxima de trozos.
+     * @param tamanoMinimo Tamaño mínimo de cada trozo en bytes.
+     * @return Límites de los trozos: el trozo t va de limites[t] a limites[t + 1].
+     * @throws IOException Si falla la lectura.
+     */
+    static long[] dividirEnTrozos(FileChannel canal, int hilos, long tamanoMinimo) throws IOException {
+        long tamano = canal.size();
+        int trozos = (int) Math.max(1, Math.min(hilos, tamano / tamanoMinimo));
+        long[] limites = new long[trozos + 1];
+        limites[trozos] = tamano;
+        ByteBuffer bloque = ByteBuffer.allocate(1 << 16);
+        for (int t = 1; t < trozos; t++) {
+            long posicion = Math.max(limites[t - 1], tamano / trozos * t);
+            limites[t] = tamano;
+            buscar:
+            while (posicion < tamano) {
+                bloque.clear();
+                int leidos = canal.read(bloque, posicion);
+                if (leidos < 0) break;
+                for (int p = 0; p < leidos; p++) {
+                    if (bloque.get(p) == '\n') {
+                        limites[t] = posicion + p + 1;
+                        break buscar;
+                    }
+                }
+                posicion += leidos;
+            }
+        }
+        return limites;
+    }
+    
+    /**
+     * Lee cada trozo en su propio hilo.
+     * 
+     * @param canal Canal del archivo; las lecturas por posición no comparten estado.
+     * @param limites Límites de los trozos.
+     * @param tokenizadores Tokenizador de cada trozo.
+     * @throws IOException Si falla la lectura de algún trozo.
+     */
+    private static void leerEnParalelo(FileChannel canal, long[] limites, TokenizadorConexiones[] tokenizadores)
+            throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(tokenizadores.length);
+        try {
+            List<ForkJoinTask<?>> tareas = new ArrayList<>();
+            for (int t = 0; t < tokenizadores.length; t++) {
+                TokenizadorConexiones tokenizador = tokenizadores[t];
+                long desde = limites[t];
+                long hasta = limites[t + 1];
+                tareas.add(pool.submit(() -> {
+                    try {
+                        tokenizador.leer(canal, desde, hasta);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            for (ForkJoinTask<?> tarea : tareas) {
+                tarea.join();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
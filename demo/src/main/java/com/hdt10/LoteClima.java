@@ -0,0 +1,85 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: LoteClima.java
+ * Descripción: Lote de cambios de condición climática por conexión, identificadas por los índices de sus ciudades.
+ *              Se aplica de una vez con Grafo.aplicarLote y se puede limpiar y reutilizar sin crear objetos.
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class LoteClima {
+    private int cantidad = 0;
+    private int[] origenes;
+    private int[] destinos;
+    private CondicionClimatica[] condiciones;
+
+    /**
+     * Constructor con una capacidad inicial; los arreglos se duplican al llenarse.
+     *
+     * @param capacidad Cantidad esperada de cambios por lote.
+     */
+    public LoteClima(int capacidad) {
+        int inicial = Math.max(1, capacidad);
+        origenes = new int[inicial];
+        destinos = new int[inicial];
+        condiciones = new CondicionClimatica[inicial];
+    }
+
+    /**
+     * Agrega un cambio al lote. Si la misma conexión aparece varias veces, queda la última condición y se
+     * cuenta una sola vez en el resumen.
+     *
+     * @param origen Índice de la ciudad origen (Grafo.getIndiceCiudad).
+     * @param destino Índice de la ciudad destino.
+     * @param condicion Nueva condición de la conexión.
+     */
+    public void agregar(int origen, int destino, CondicionClimatica condicion) {
+        if (cantidad == origenes.length) {
+            int nuevaCapacidad = origenes.length * 2;
+            origenes = Arrays.copyOf(origenes, nuevaCapacidad);
+            destinos = Arrays.copyOf(destinos, nuevaCapacidad);
+            condiciones = Arrays.copyOf(condiciones, nuevaCapacidad);
+        }
+        origenes[cantidad] = origen;
+        destinos[cantidad] = destino;
+        condiciones[cantidad] = condicion;
+        cantidad++;
+    }
+
+    /**
+     * Vacía el lote conservando la capacidad de sus arreglos.
+     */
+    public void limpiar() {
+        cantidad = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de cambios del lote.
+     *
+     * @return Cantidad de cambios.
+     */
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    int getOrigen(int k) {
+        return origenes[k];
+    }
+
+    int getDestino(int k) {
+        return destinos[k];
+    }
+
+    CondicionClimatica getCondicion(int k) {
+        return condiciones[k];
+    }
+}
@@ -3,7 +3,7 @@
  * Algoritmos y Estructuras de Datos
  * Ing. Douglas Barrios
  * Creación: 17/05/2025
- * última modificación: 18/05/2025
+ * última modificación: 17/10/2026
  * File Name: Main.java
  * Descripción: Clase principal que implementa la interfaz del usuario
  *              y coordina las operaciones del grafo.
@@ -165,6 +165,12 @@ public class Main {
         
         String centro = grafo.obtenerCentro();
         System.out.println("La ciudad que se encuentra en el centro del grafo es: " + centro);
+        System.out.printf("Radio: %.2f  Diámetro: %.2f%n", grafo.getRadio(), grafo.getDiametro());
+        System.out.println("Ciudades más centrales: " + grafo.obtenerMasCentrales(3));
+        System.out.println("Periferia: " + grafo.obtenerPeriferia());
+        if (grafo.getComponentes().getCantidad() > 1) {
+            System.out.println("Centros de cada componente fuertemente conexa: " + grafo.obtenerCentrosPorComponente());
+        }
     }
     
     /**
@@ -240,8 +246,7 @@ public class Main {
         grafo.eliminarConexion(origen, destino);
         System.out.println("Se ha eliminado la conexión entre " + origen + " y " + destino + ".");
         
-        // Recalcular rutas
-        grafo.floyd();
+        // Las rutas ya se actualizaron de forma incremental al eliminar la conexión
         
         // Mostrar matriz actualizada
         grafo.imprimirMatriz();
@@ -292,8 +297,7 @@ public class Main {
             grafo.agregarConexion(origen, destino, tiempoNormal, tiempoLluvia, tiempoNieve, tiempoTormenta);
             System.out.println("Conexión establecida exitosamente con condición climática NORMAL.");
             
-            // Recalcular rutas
-            grafo.floyd();
+            // Las rutas ya se actualizaron de forma incremental al agregar la conexión
             
             // Mostrar matriz actualizada
             grafo.imprimirMatriz();
@@ -373,8 +377,7 @@ public class Main {
                 System.out.println("Condición climática de " + origen + " -> " + destino + 
                                  " cambiada a: " + nuevaCondicion);
                 
-                // Recalcular rutas
-                grafo.floyd();
+                // Las rutas ya se actualizaron de forma incremental al cambiar la condición
                 
                 // Mostrar matriz actualizada
                 grafo.imprimirMatriz();
@@ -0,0 +1,141 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: MonticuloIndexado.java
+ * Descripción: Montículo binario de mínimos sobre índices de ciudades con claves double.
+ *              Guarda la posición de cada ciudad para poder disminuir su clave en O(log n),
+ *              sin crear objetos por inserción como haría PriorityQueue.
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+
+public class MonticuloIndexado {
+    private final int[] elementos;
+    private final double[] claves;
+    private final int[] posicion; // -1 si la ciudad no está en el montículo
+    private int tamano;
+
+    /**
+     * Constructor del montículo.
+     *
+     * @param capacidad Cantidad máxima de ciudades (índices de 0 a capacidad - 1).
+     */
+    public MonticuloIndexado(int capacidad) {
+        elementos = new int[capacidad];
+        claves = new double[capacidad];
+        posicion = new int[capacidad];
+        Arrays.fill(posicion, -1);
+    }
+
+    /**
+     * Indica si el montículo está vacío.
+     *
+     * @return true si no tiene elementos.
+     */
+    public boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    /**
+     * Indica si una ciudad está en el montículo.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @return true si está.
+     */
+    public boolean contiene(int ciudad) {
+        return posicion[ciudad] != -1;
+    }
+
+    /**
+     * Inserta una ciudad o disminuye su clave si ya estaba con una clave mayor.
+     *
+     * @param ciudad Índice de la ciudad.
+     * @param clave Nueva clave.
+     */
+    public void insertarODisminuir(int ciudad, double clave) {
+        int i = posicion[ciudad];
+        if (i == -1) {
+            i = tamano++;
+            elementos[i] = ciudad;
+            posicion[ciudad] = i;
+        } else if (clave >= claves[ciudad]) {
+            return;
+        }
+        claves[ciudad] = clave;
+        subir(i);
+    }
+
+    /**
+     * Obtiene la clave mínima sin extraerla.
+     *
+     * @return Clave mínima.
+     */
+    public double claveMinima() {
+        return claves[elementos[0]];
+    }
+
+    /**
+     * Extrae la ciudad con la clave mínima.
+     *
+     * @return Índice de la ciudad extraída.
+     */
+    public int extraerMinimo() {
+        int minimo = elementos[0];
+        posicion[minimo] = -1;
+        tamano--;
+        if (tamano > 0) {
+            elementos[0] = elementos[tamano];
+            posicion[elementos[0]] = 0;
+            bajar(0);
+        }
+        return minimo;
+    }
+
+    /**
+     * Vacía el montículo en O(tamaño) para poder reutilizarlo.
+     */
+    public void limpiar() {
+        for (int i = 0; i < tamano; i++) {
+            posicion[elementos[i]] = -1;
+        }
+        tamano = 0;
+    }
+
+    private void subir(int i) {
+        int ciudad = elementos[i];
+        double clave = claves[ciudad];
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            int ciudadPadre = elementos[padre];
+            if (claves[ciudadPadre] <= clave) break;
+            elementos[i] = ciudadPadre;
+            posicion[ciudadPadre] = i;
+            i = padre;
+        }
+        elementos[i] = ciudad;
+        posicion[ciudad] = i;
+    }
+
+    private void bajar(int i) {
+        int ciudad = elementos[i];
+        double clave = claves[ciudad];
+        while (true) {
+            int hijo = 2 * i + 1;
+            if (hijo >= tamano) break;
+            if (hijo + 1 < tamano && claves[elementos[hijo + 1]] < claves[elementos[hijo]]) hijo++;
+            int ciudadHijo = elementos[hijo];
+            if (claves[ciudadHijo] >= clave) break;
+            elementos[i] = ciudadHijo;
+            posicion[ciudadHijo] = i;
+            i = hijo;
+        }
+        elementos[i] = ciudad;
+        posicion[ciudad] = i;
+    }
+}
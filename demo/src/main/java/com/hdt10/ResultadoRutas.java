@@ -0,0 +1,382 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ResultadoRutas.java
+ * Descripción: Resultado de calcular las rutas más cortas entre todas las ciudades: distancias y sucesores
+ *              guardados en arreglos planos (la celda (i, j) está en i * n + j). Es independiente de los pesos
+ *              de las conexiones del grafo, que nunca se sobrescriben; cada cálculo completo crea un resultado
+ *              nuevo y el anterior sigue disponible mientras tanto.
+ *              La diagonal guarda el ciclo más corto de cada ciudad a sí misma (infinito si no hay).
+ *              Guarda las excentricidades de sus filas una vez calculadas; las correcciones incrementales marcan
+ *              las filas que cambian para volver a recorrer solo esas.
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ResultadoRutas {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    private final int n;
+    private final double[] distancias;
+    private final int[] next;
+    private Excentricidades excentricidades;
+
+    /**
+     * Crea un resultado sin rutas (todas las distancias en infinito).
+     *
+     * @param n Cantidad de ciudades.
+     */
+    ResultadoRutas(int n) {
+        this.n = n;
+        this.distancias = new double[n * n];
+        this.next = new int[n * n];
+        Arrays.fill(distancias, INF);
+        Arrays.fill(next, -1);
+    }
+
+    /**
+     * Crea un resultado con arreglos ya calculados, que pasan a ser suyos.
+     *
+     * @param n Cantidad de ciudades.
+     * @param distancias Distancias en orden (i, j) -> i * n + j.
+     * @param next Sucesores en el mismo orden.
+     */
+    ResultadoRutas(int n, double[] distancias, int[] next) {
+        if (distancias.length != n * n || next.length != n * n) {
+            throw new IllegalArgumentException("Las matrices deben tener " + n + " x " + n + " celdas");
+        }
+        this.n = n;
+        this.distancias = distancias;
+        this.next = next;
+    }
+
+    /**
+     * Crea un resultado inicial con solo las conexiones directas, listo para ejecutar Floyd-Warshall.
+     *
+     * @param csr Vista CSR con los pesos actuales de las conexiones.
+     * @return Resultado inicial.
+     */
+    static ResultadoRutas desdeConexiones(GrafoCSR csr) {
+        return desdeConexiones(csr, csr.pesosActuales);
+    }
+
+    /**
+     * Crea un resultado inicial con solo las conexiones directas y otros pesos para ellas.
+     *
+     * @param csr Vista CSR del grafo.
+     * @param pesos Peso de cada posición de la vista.
+     * @return Resultado inicial.
+     */
+    static ResultadoRutas desdeConexiones(GrafoCSR csr, double[] pesos) {
+        int n = csr.getCantidadCiudades();
+        ResultadoRutas resultado = new ResultadoRutas(n);
+        for (int i = 0; i < n; i++) {
+            for (int k = csr.desplazamientos[i]; k < csr.desplazamientos[i + 1]; k++) {
+                int j = csr.destinos[k];
+                if (pesos[k] < resultado.distancias[i * n + j]) {
+                    resultado.distancias[i * n + j] = pesos[k];
+                    resultado.next[i * n + j] = j;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene la cantidad de ciudades que cubre el resultado.
+     *
+     * @return Cantidad de ciudades.
+     */
+    public int getCantidadCiudades() {
+        return n;
+    }
+
+    /**
+     * Obtiene la distancia más corta entre dos ciudades.
+     *
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Distancia, o infinito si no hay ruta.
+     */
+    public double getDistancia(int i, int j) {
+        return distancias[i * n + j];
+    }
+
+    /**
+     * Obtiene la siguiente ciudad en la ruta más corta de i hacia j.
+     *
+     * @param i Índice de la ciudad actual.
+     * @param j Índice de la ciudad destino.
+     * @return Índice de la siguiente ciudad, o -1 si no hay ruta.
+     */
+    public int getSiguiente(int i, int j) {
+        return next[i * n + j];
+    }
+
+    /**
+     * Reconstruye una ruta siguiendo los sucesores, con los nombres de una tabla de ciudades. Es la única
+     * reconstrucción de rutas completas; la usan Grafo e InstantaneaRutas.
+     *
+     * @param ciudades Nombres de las ciudades, con al menos las ciudades del resultado.
+     * @param i Índice de la ciudad origen.
+     * @param j Índice de la ciudad destino.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     */
+    Ruta construirRuta(TablaCiudades ciudades, int i, int j) {
+        if (getDistancia(i, j) == Double.POSITIVE_INFINITY) return null;
+
+        List<String> camino = new ArrayList<>();
+        for (int at = i; at != j; at = getSiguiente(at, j)) {
+            if (at == -1 || camino.size() > n) return null; // Si no hay camino
+            camino.add(ciudades.getNombre(at));
+        }
+        camino.add(ciudades.getNombre(j));
+        return new Ruta(camino, getDistancia(i, j));
+    }
+
+    // Arreglos planos para los motores de cálculo
+    double[] getDistancias() {
+        return distancias;
+    }
+
+    int[] getSiguientes() {
+        return next;
+    }
+
+    /**
+     * Crea una copia independiente, para modificarla sin alterar el original.
+     *
+     * @return Copia del resultado.
+     */
+    ResultadoRutas copiar() {
+        ResultadoRutas copia = ampliar(n);
+        if (excentricidades != null) {
+            copia.excentricidades = excentricidades.copiar(copia);
+        }
+        return copia;
+    }
+
+    /**
+     * Obtiene las excentricidades de las filas, recorriéndolas todas la primera vez.
+     *
+     * @param paralelismo Cantidad de hilos para el primer recorrido.
+     * @return Excentricidades, que siguen las correcciones incrementales de este resultado.
+     */
+    Excentricidades getExcentricidades(int paralelismo) {
+        if (excentricidades == null) {
+            excentricidades = new Excentricidades(this, paralelismo);
+        }
+        return excentricidades;
+    }
+
+    /**
+     * Crea una copia que cubre más ciudades; las nuevas quedan sin rutas, lo cual es exacto para
+     * ciudades recién agregadas que aún no tienen conexiones.
+     *
+     * @param nuevaCantidad Nueva cantidad de ciudades.
+     * @return Resultado ampliado.
+     */
+    ResultadoRutas ampliar(int nuevaCantidad) {
+        ResultadoRutas ampliado = new ResultadoRutas(nuevaCantidad);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(distancias, i * n, ampliado.distancias, i * nuevaCantidad, n);
+            System.arraycopy(next, i * n, ampliado.next, i * nuevaCantidad, n);
+        }
+        return ampliado;
+    }
+
+    /**
+     * La conexión u -> v se volvió más barata: cada par (x, y) puede mejorar pasando por ella. O(n²).
+     * Como la diagonal guarda ciclos, el tramo vacío x = u o v = y cuenta como 0.
+     *
+     * @param u Índice de la ciudad origen de la conexión.
+     * @param v Índice de la ciudad destino de la conexión.
+     * @param peso Nuevo peso de la conexión.
+     */
+    void relajarPorConexion(int u, int v, double peso) {
+        int filaV = v * n;
+        for (int x = 0; x < n; x++) {
+            int filaX = x * n;
+            double hastaU = (x == u) ? 0 : distancias[filaX + u];
+            if (hastaU == INF) continue;
+            int primerSalto = (x == u) ? v : next[filaX + u];
+            double base = hastaU + peso;
+            boolean mejoro = false;
+            for (int y = 0; y < n; y++) {
+                double candidato = base + ((y == v) ? 0 : distancias[filaV + y]);
+                if (candidato < distancias[filaX + y]) {
+                    distancias[filaX + y] = candidato;
+                    next[filaX + y] = primerSalto;
+                    mejoro = true;
+                }
+            }
+            if (mejoro && excentricidades != null) {
+                excentricidades.filaCambiada(x);
+            }
+        }
+    }
+
+    /**
+     * La conexión u -> v se volvió más cara o se eliminó: recalcula solo los pares cuya ruta la usaba.
+     *
+     * @param u Índice de la ciudad origen de la conexión.
+     * @param v Índice de la ciudad destino de la conexión.
+     * @param csr Vista de las conexiones, ya con el nuevo peso de u -> v.
+     */
+    void repararPorConexion(int u, int v, GrafoCSR csr) {
+        repararPorConexiones(new int[] {u}, new int[] {v}, 1, csr);
+    }
+
+    /**
+     * Varias conexiones se volvieron más caras o se eliminaron: recalcula solo los pares cuya ruta usaba alguna.
+     * Cada destino se repara una sola vez aunque su ruta cruce varias de las conexiones.
+     *
+     * @param origenes Índice de la ciudad origen de cada conexión.
+     * @param destinos Índice de la ciudad destino de cada conexión.
+     * @param cantidad Cantidad de conexiones.
+     * @param csr Vista de las conexiones, ya con los nuevos pesos.
+     */
+    void repararPorConexiones(int[] origenes, int[] destinos, int cantidad, GrafoCSR csr) {
+        if (cantidad == 0) return;
+        Reparacion reparacion = new Reparacion(csr);
+        for (int y = 0; y < n; y++) {
+            reparacion.repararDestino(origenes, destinos, cantidad, y);
+        }
+    }
+
+    /**
+     * Arreglos de trabajo de una reparación, reutilizados entre destinos.
+     */
+    private final class Reparacion {
+        private final GrafoCSR csr;
+        private final byte[] estado = new byte[n];
+        private final int[] pila = new int[n];
+        private final boolean[] afectada = new boolean[n];
+        private final int[] lista = new int[n];
+        private final double[] clave = new double[n];
+        private final int[] sucesor = new int[n];
+        private final MonticuloIndexado monticulo = new MonticuloIndexado(n);
+
+        Reparacion(GrafoCSR csr) {
+            this.csr = csr;
+        }
+
+        /**
+         * Recalcula solo las ciudades x cuya ruta hacia y pasaba por alguna de las conexiones u -> v dadas.
+         * Las demás distancias hacia y siguen siendo exactas, así que las afectadas se resuelven con un Dijkstra
+         * limitado a ellas sobre las conexiones de entrada, partiendo de sus conexiones hacia ciudades no afectadas.
+         */
+        void repararDestino(int[] origenes, int[] destinos, int conexiones, int y) {
+            boolean diagonalAfectada = false;
+            boolean hayAfectadas = false;
+            for (int c = 0; c < conexiones; c++) {
+                int u = origenes[c];
+                int v = destinos[c];
+                if (y == u) {
+                    diagonalAfectada |= (next[u * n + u] == v);
+                } else if (next[u * n + y] == v) {
+                    if (!hayAfectadas) {
+                        // 0 = desconocido, 1 = afectada, 2 = no afectada, 3 = en el recorrido actual
+                        Arrays.fill(estado, (byte) 0);
+                        estado[y] = 2;
+                        hayAfectadas = true;
+                    }
+                    estado[u] = 1;
+                }
+            }
+            int cantidad = 0;
+
+            if (hayAfectadas) {
+                // Marcar las ciudades cuyo recorrido por next hacia y pasa por alguna conexión afectada
+                for (int x = 0; x < n; x++) {
+                    int tope = 0;
+                    int at = x;
+                    while (at != -1 && estado[at] == 0) {
+                        estado[at] = 3;
+                        pila[tope++] = at;
+                        at = next[at * n + y];
+                    }
+                    byte marca = (at != -1 && estado[at] == 1) ? (byte) 1 : (byte) 2;
+                    while (tope > 0) estado[pila[--tope]] = marca;
+                }
+                for (int x = 0; x < n; x++) {
+                    if (estado[x] == 1) {
+                        afectada[x] = true;
+                        lista[cantidad++] = x;
+                    }
+                }
+                int primerSalto = next[y * n + y];
+                if (primerSalto != -1 && primerSalto != y && afectada[primerSalto]) {
+                    diagonalAfectada = true;
+                }
+            }
+            if (cantidad == 0 && !diagonalAfectada) return;
+
+            // Estimación inicial: salir directo hacia una ciudad no afectada
+            for (int a = 0; a < cantidad; a++) {
+                int x = lista[a];
+                clave[x] = INF;
+                sucesor[x] = -1;
+                for (int k = csr.desplazamientos[x]; k < csr.desplazamientos[x + 1]; k++) {
+                    int z = csr.destinos[k];
+                    if (afectada[z]) continue;
+                    double candidato = csr.pesosActuales[k] + ((z == y) ? 0 : distancias[z * n + y]);
+                    if (candidato < clave[x]) {
+                        clave[x] = candidato;
+                        sucesor[x] = z;
+                    }
+                }
+                if (clave[x] != INF) monticulo.insertarODisminuir(x, clave[x]);
+            }
+
+            // Dijkstra entre las afectadas usando las conexiones que llegan a cada ciudad asentada
+            while (!monticulo.estaVacio()) {
+                int x = monticulo.extraerMinimo();
+                afectada[x] = false;
+                for (int r = csr.desplazamientosEntrada[x]; r < csr.desplazamientosEntrada[x + 1]; r++) {
+                    int p = csr.origenesEntrada[r];
+                    if (!afectada[p]) continue;
+                    double candidato = csr.pesosActuales[csr.posicionSalida[r]] + clave[x];
+                    if (candidato < clave[p]) {
+                        clave[p] = candidato;
+                        sucesor[p] = x;
+                        monticulo.insertarODisminuir(p, candidato);
+                    }
+                }
+            }
+            for (int a = 0; a < cantidad; a++) {
+                int x = lista[a];
+                distancias[x * n + y] = clave[x];
+                next[x * n + y] = (clave[x] == INF) ? -1 : sucesor[x];
+                afectada[x] = false;
+                if (excentricidades != null) {
+                    excentricidades.filaCambiada(x);
+                }
+            }
+
+            // Ciclo más corto de y a sí misma
+            if (diagonalAfectada) {
+                double mejorCiclo = INF;
+                int mejorSalto = -1;
+                for (int k = csr.desplazamientos[y]; k < csr.desplazamientos[y + 1]; k++) {
+                    int z = csr.destinos[k];
+                    double candidato = csr.pesosActuales[k] + ((z == y) ? 0 : distancias[z * n + y]);
+                    if (candidato < mejorCiclo) {
+                        mejorCiclo = candidato;
+                        mejorSalto = z;
+                    }
+                }
+                distancias[y * n + y] = mejorCiclo;
+                next[y * n + y] = mejorSalto;
+            }
+        }
+    }
+}
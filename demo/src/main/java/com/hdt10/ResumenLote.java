@@ -0,0 +1,80 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ResumenLote.java
+ * Descripción: Estadísticas de un lote de cambios de clima aplicado con Grafo.aplicarLote:
+ *              conexiones tocadas, conexiones cuyo tiempo cambió y cómo se actualizaron las rutas.
+ */
+
+package com.hdt10;
+
+import com.hdt10.Grafo.EstrategiaRecalculo;
+
+public class ResumenLote {
+    private final int conexionesTocadas;
+    private final int conexionesCambiadas;
+    private final EstrategiaRecalculo estrategia;
+    private final double milisegundos;
+
+    /**
+     * Constructor del resumen.
+     *
+     * @param conexionesTocadas Cantidad de conexiones distintas del lote.
+     * @param conexionesCambiadas Cantidad de cambios que alteraron el tiempo actual de su conexión.
+     * @param estrategia Forma en que se actualizaron las rutas.
+     * @param milisegundos Tiempo total de aplicar el lote.
+     */
+    public ResumenLote(int conexionesTocadas, int conexionesCambiadas, EstrategiaRecalculo estrategia,
+                       double milisegundos) {
+        this.conexionesTocadas = conexionesTocadas;
+        this.conexionesCambiadas = conexionesCambiadas;
+        this.estrategia = estrategia;
+        this.milisegundos = milisegundos;
+    }
+
+    /**
+     * Obtiene la cantidad de conexiones distintas del lote; una conexión repetida cuenta una vez.
+     *
+     * @return Conexiones tocadas.
+     */
+    public int getConexionesTocadas() {
+        return conexionesTocadas;
+    }
+
+    /**
+     * Obtiene la cantidad de cambios que alteraron el tiempo actual de su conexión.
+     *
+     * @return Conexiones cambiadas.
+     */
+    public int getConexionesCambiadas() {
+        return conexionesCambiadas;
+    }
+
+    /**
+     * Obtiene la forma en que se actualizaron las rutas.
+     *
+     * @return Estrategia usada.
+     */
+    public EstrategiaRecalculo getEstrategia() {
+        return estrategia;
+    }
+
+    /**
+     * Obtiene el tiempo total de aplicar el lote, incluido el recálculo.
+     *
+     * @return Tiempo en milisegundos.
+     */
+    public double getMilisegundos() {
+        return milisegundos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Conexiones tocadas: %d, cambiadas: %d, recálculo: %s (%.2f ms)",
+                conexionesTocadas, conexionesCambiadas, estrategia, milisegundos);
+    }
+}
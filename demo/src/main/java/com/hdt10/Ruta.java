@@ -4,19 +4,24 @@
  * Ing. Douglas Barrios
  * @author: Marcelo Detlefsen, Julián Divas
  * Creación: 17/05/2025
- * última modificación: 17/05/2025
+ * última modificación: 17/10/2026
  * File Name: Ruta.java
  * Descripción: Clase que representa una ruta entre dos ciudades en un grafo dirigido con pesos.
  *              Esta clase almacena el camino y el costo total de la ruta.
+ *              Una ruta creada sin argumentos se puede reutilizar en varias consultas (Grafo.obtenerRuta con
+ *              una ruta de destino), sin crear una lista por consulta.
  */
 
 package com.hdt10;
 
+import java.util.ArrayList;
+import java.util.Formatter;
 import java.util.List;
 
 public class Ruta {
     private List<String> camino;
     private double tiempo;
+    private final boolean reutilizable;
     
     /**
      * Constructor de la clase Ruta.
@@ -27,10 +32,47 @@ public class Ruta {
     public Ruta(List<String> camino, double tiempo) {
         this.camino = camino;
         this.tiempo = tiempo;
+        this.reutilizable = false;
     }
     
     /**
-     * Obtiene la lista de ciudades que forman la ruta.
+     * Constructor de una ruta vacía para reutilizarla: cada consulta reemplaza su camino y su tiempo.
+     */
+    public Ruta() {
+        this.camino = new ArrayList<>();
+        this.tiempo = Double.POSITIVE_INFINITY;
+        this.reutilizable = true;
+    }
+    
+    /**
+     * Reemplaza el camino y el tiempo con los del cursor, reutilizando la lista.
+     * 
+     * @param cursor Cursor al inicio de una ruta, o sin ruta.
+     * @return true si el cursor tenía una ruta completa.
+     * @throws IllegalArgumentException Si la ruta no se creó para reutilizarse.
+     */
+    boolean llenar(CursorRuta cursor) {
+        if (!reutilizable) {
+            throw new IllegalArgumentException("Solo una ruta creada con new Ruta() se puede reutilizar");
+        }
+        camino.clear();
+        tiempo = cursor.getTiempo();
+        boolean completa = false;
+        while (cursor.siguiente()) {
+            camino.add(cursor.getNombreCiudad());
+            completa = cursor.esUltima();
+        }
+        if (!completa) {
+            camino.clear();
+            tiempo = Double.POSITIVE_INFINITY;
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Obtiene la lista de ciudades que forman la ruta. En una ruta reutilizable, la lista cambia con la siguiente
+     * consulta.
      * 
      * @return Lista de ciudades.
      */
@@ -47,6 +89,15 @@ public class Ruta {
         return tiempo;
     }
     
+    /**
+     * Cantidad de conexiones de la ruta.
+     * 
+     * @return Cantidad de conexiones, o -1 si la ruta está vacía.
+     */
+    public int getSaltos() {
+        return camino.size() - 1;
+    }
+    
     /**
      * Representación en String de la ruta.
      * 
@@ -55,6 +106,17 @@ public class Ruta {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
+        escribir(sb);
+        return sb.toString();
+    }
+    
+    /**
+     * Agrega la representación de la ruta al final de un StringBuilder, para armar varias sin copias intermedias.
+     * El tiempo se escribe con "%.2f" en el idioma por defecto, igual que String.format.
+     * 
+     * @param sb Destino del texto.
+     */
+    public void escribir(StringBuilder sb) {
         sb.append("Ruta: ");
         for (int i = 0; i < camino.size(); i++) {
             sb.append(camino.get(i));
@@ -62,7 +124,7 @@ public class Ruta {
                 sb.append(" -> ");
             }
         }
-        sb.append("\nTiempo: ").append(String.format("%.2f", tiempo));
-        return sb.toString();
+        sb.append("\nTiempo: ");
+        new Formatter(sb).format("%.2f", tiempo);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: TablaCiudades.java
+ * Descripción: Tabla de símbolos de los nombres de las ciudades: asigna a cada nombre un índice consecutivo y
+ *              guarda una sola instancia de cada nombre. Busca con direccionamiento abierto sobre un arreglo de
+ *              long (hash en los 32 bits altos e índice + 1 en los bajos), sin crear Integer ni entradas de mapa;
+ *              casi siempre descarta las casillas ocupadas por otros nombres sin comparar las cadenas.
+ */
+
+package com.hdt10;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+final class TablaCiudades {
+    private int cantidad = 0;
+    private String[] nombres;
+    private int[] hashes;
+    private long[] tabla;
+
+    /**
+     * Constructor con capacidad para la cantidad esperada de ciudades.
+     *
+     * @param capacidad Cantidad esperada de ciudades.
+     */
+    TablaCiudades(int capacidad) {
+        nombres = new String[Math.max(1, capacidad)];
+        hashes = new int[nombres.length];
+        tabla = new long[tamanoTabla(nombres.length)];
+    }
+
+    // Potencia de 2 con a lo sumo la mitad de las casillas ocupadas
+    private static int tamanoTabla(int capacidad) {
+        return Integer.highestOneBit(Math.max(8, capacidad) * 2 - 1) * 2;
+    }
+
+    private static int hash(String nombre) {
+        int h = nombre.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Busca el índice de un nombre.
+     *
+     * @param nombre Nombre de la ciudad.
+     * @return Índice de la ciudad, o -1 si no existe o el nombre es null.
+     */
+    int buscar(String nombre) {
+        if (nombre == null) return -1;
+        int h = hash(nombre);
+        int mascara = tabla.length - 1;
+        for (int casilla = h & mascara; ; casilla = (casilla + 1) & mascara) {
+            long valor = tabla[casilla];
+            if (valor == 0) return -1;
+            int indice = (int) valor - 1;
+            if ((int) (valor >>> 32) == h && nombres[indice].equals(nombre)) return indice;
+        }
+    }
+
+    /**
+     * Agrega un nombre si no existe.
+     *
+     * @param nombre Nombre de la ciudad.
+     * @return Índice de la ciudad; los nuevos reciben el siguiente índice consecutivo.
+     */
+    int agregar(String nombre) {
+        int h = hash(nombre);
+        int mascara = tabla.length - 1;
+        int casilla = h & mascara;
+        for (long valor; (valor = tabla[casilla]) != 0; casilla = (casilla + 1) & mascara) {
+            int indice = (int) valor - 1;
+            if ((int) (valor >>> 32) == h && nombres[indice].equals(nombre)) return indice;
+        }
+
+        if (cantidad == nombres.length) {
+            asegurarCapacidad(nombres.length * 2);
+            casilla = casillaLibre(h);
+        }
+        int indice = cantidad++;
+        nombres[indice] = nombre;
+        hashes[indice] = h;
+        tabla[casilla] = ((long) h << 32) | (indice + 1);
+        return indice;
+    }
+
+    private int casillaLibre(int h) {
+        int mascara = tabla.length - 1;
+        int casilla = h & mascara;
+        while (tabla[casilla] != 0) casilla = (casilla + 1) & mascara;
+        return casilla;
+    }
+
+    /**
+     * Reserva espacio para la cantidad de ciudades dada, para que agregarlas no copie los arreglos.
+     *
+     * @param capacidad Cantidad de ciudades.
+     */
+    void asegurarCapacidad(int capacidad) {
+        if (capacidad <= nombres.length) return;
+        nombres = Arrays.copyOf(nombres, capacidad);
+        hashes = Arrays.copyOf(hashes, capacidad);
+        if (tamanoTabla(capacidad) > tabla.length) {
+            tabla = new long[tamanoTabla(capacidad)];
+            // Los nombres ya guardados son distintos, así que basta con buscarles una casilla libre
+            for (int indice = 0; indice < cantidad; indice++) {
+                tabla[casillaLibre(hashes[indice])] = ((long) hashes[indice] << 32) | (indice + 1);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la instancia guardada del nombre con el índice dado.
+     *
+     * @param indice Índice de la ciudad.
+     * @return Nombre de la ciudad.
+     * @throws IndexOutOfBoundsException Si no hay una ciudad con ese índice.
+     */
+    String getNombre(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndexOutOfBoundsException("No existe la ciudad con índice " + indice);
+        }
+        return nombres[indice];
+    }
+
+    int size() {
+        return cantidad;
+    }
+
+    boolean isEmpty() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Copia la tabla, para publicarla en una instantánea que no cambia aunque se agreguen ciudades a esta.
+     *
+     * @return Tabla independiente con los mismos nombres e índices.
+     */
+    TablaCiudades copiar() {
+        TablaCiudades copia = new TablaCiudades(1);
+        copia.cantidad = cantidad;
+        copia.nombres = Arrays.copyOf(nombres, Math.max(1, cantidad));
+        copia.hashes = Arrays.copyOf(hashes, copia.nombres.length);
+        copia.tabla = tabla.clone();
+        return copia;
+    }
+
+    /**
+     * Obtiene los nombres como conjunto de solo lectura, en orden de índice. Refleja las ciudades que se
+     * agreguen después.
+     *
+     * @return Vista de los nombres.
+     */
+    Set<String> comoConjunto() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Iterator<String>() {
+                    private int siguiente = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return siguiente < cantidad;
+                    }
+
+                    @Override
+                    public String next() {
+                        if (siguiente >= cantidad) throw new NoSuchElementException();
+                        return nombres[siguiente++];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return cantidad;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return (o instanceof String) && buscar((String) o) != -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: TablaRutas.java
+ * Descripción: Tabla de tiempos entre una lista de orígenes y una lista de destinos, guardada en un solo arreglo
+ *              por filas (fila = origen, columna = destino). Se llena con las rutas de floyd() si están vigentes;
+ *              si no, con un Dijkstra por origen distinto que se detiene al asentar todos los destinos, repartidos
+ *              entre varios hilos. Los caminos son opcionales: sin ellos la tabla solo guarda los tiempos; con
+ *              ellos guarda la ciudad anterior de cada ciudad por origen distinto (n enteros por origen) o, con
+ *              floyd(), usa la matriz de sucesores.
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class TablaRutas {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    private final int[] origenes;
+    private final int[] destinos;
+    private final double[] tiempos;
+    private final TablaCiudades ciudades;
+    private final boolean conCaminos;
+
+    // Caminos por la matriz de sucesores, o null si se calcularon con Dijkstra
+    private final ResultadoRutas rutas;
+    // Ciudad anterior de cada ciudad por fila, compartida entre filas del mismo origen; null sin caminos
+    private final int[][] previos;
+
+    private TablaRutas(int[] origenes, int[] destinos, double[] tiempos, TablaCiudades ciudades,
+                       boolean conCaminos, ResultadoRutas rutas, int[][] previos) {
+        this.origenes = origenes;
+        this.destinos = destinos;
+        this.tiempos = tiempos;
+        this.ciudades = ciudades;
+        this.conCaminos = conCaminos;
+        this.rutas = rutas;
+        this.previos = previos;
+    }
+
+    /**
+     * Llena la tabla con las rutas entre todas las ciudades ya calculadas.
+     *
+     * @param resultado Rutas de floyd(); si se piden caminos, no se debe modificar mientras se use la tabla.
+     * @param ciudades Nombres de las ciudades.
+     * @param origenes Índices de los orígenes; los que no existen dan filas sin ruta.
+     * @param destinos Índices de los destinos; los que no existen dan columnas sin ruta.
+     * @param conCaminos true para poder recorrer los caminos.
+     * @return Tabla de tiempos.
+     */
+    static TablaRutas desdeMatriz(ResultadoRutas resultado, TablaCiudades ciudades, int[] origenes, int[] destinos,
+                                  boolean conCaminos) {
+        int n = resultado.getCantidadCiudades();
+        double[] tiempos = new double[origenes.length * destinos.length];
+        Arrays.fill(tiempos, INF);
+        for (int f = 0; f < origenes.length; f++) {
+            int s = origenes[f];
+            if (s < 0 || s >= n) continue;
+            int fila = f * destinos.length;
+            for (int c = 0; c < destinos.length; c++) {
+                int d = destinos[c];
+                if (d >= 0 && d < n) {
+                    tiempos[fila + c] = resultado.getDistancia(s, d);
+                }
+            }
+        }
+        return new TablaRutas(origenes, destinos, tiempos, ciudades, conCaminos, conCaminos ? resultado : null,
+                              null);
+    }
+
+    /**
+     * Llena la tabla con un Dijkstra por origen distinto; los orígenes repetidos copian la fila ya calculada.
+     * La ruta de una ciudad a sí misma es su ciclo más corto, igual que con floyd().
+     *
+     * @param csr Vista CSR del grafo con los pesos actuales.
+     * @param ciudades Nombres de las ciudades.
+     * @param origenes Índices de los orígenes; los que no existen dan filas sin ruta.
+     * @param destinos Índices de los destinos; los que no existen dan columnas sin ruta.
+     * @param conCaminos true para guardar la ciudad anterior de cada ciudad por origen distinto.
+     * @param paralelismo Cantidad de hilos (1 para calcular en serie).
+     * @param dijkstra Dijkstra sobre la misma vista para el cálculo en serie, o null para crear uno.
+     * @return Tabla de tiempos.
+     */
+    static TablaRutas desdeDijkstra(GrafoCSR csr, TablaCiudades ciudades, int[] origenes, int[] destinos,
+                                    boolean conCaminos, int paralelismo, Dijkstra dijkstra) {
+        int n = csr.getCantidadCiudades();
+        double[] tiempos = new double[origenes.length * destinos.length];
+        Arrays.fill(tiempos, INF);
+        int[][] previos = conCaminos ? new int[origenes.length][] : null;
+
+        // Destinos válidos sin repetir; cada búsqueda se detiene cuando todos quedan asentados
+        boolean[] esDestino = new boolean[n];
+        int[] objetivos = new int[destinos.length];
+        int cantidadObjetivos = 0;
+        for (int d : destinos) {
+            if (d >= 0 && d < n && !esDestino[d]) {
+                esDestino[d] = true;
+                objetivos[cantidadObjetivos++] = d;
+            }
+        }
+
+        // Primera fila de cada origen válido; las demás filas del mismo origen se copian de ella
+        int[] primeraFila = new int[n];
+        Arrays.fill(primeraFila, -1);
+        int[] filasDistintas = new int[origenes.length];
+        int distintas = 0;
+        for (int f = 0; f < origenes.length; f++) {
+            int s = origenes[f];
+            if (s >= 0 && s < n && primeraFila[s] == -1) {
+                primeraFila[s] = f;
+                filasDistintas[distintas++] = f;
+            }
+        }
+
+        if (cantidadObjetivos > 0 && distintas > 0) {
+            Trabajo trabajo = new Trabajo(csr, origenes, destinos, tiempos, previos, esDestino,
+                                          Arrays.copyOf(objetivos, cantidadObjetivos));
+            if (paralelismo == 1 || distintas < 2) {
+                trabajo.calcular(filasDistintas, 0, distintas, (dijkstra != null) ? dijkstra : new Dijkstra(csr));
+            } else {
+                // Hojas de tamaño suficiente para repartir bien la carga sin crear demasiados arreglos de trabajo
+                int tamanoHoja = Math.max(1, distintas / (paralelismo * 8));
+                ForkJoinPool pool = new ForkJoinPool(paralelismo);
+                try {
+                    pool.invoke(new TareaOrigenes(trabajo, filasDistintas, 0, distintas, tamanoHoja));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        int columnas = destinos.length;
+        for (int f = 0; f < origenes.length; f++) {
+            int s = origenes[f];
+            if (s < 0 || s >= n || primeraFila[s] == f) continue;
+            System.arraycopy(tiempos, primeraFila[s] * columnas, tiempos, f * columnas, columnas);
+            if (previos != null) {
+                previos[f] = previos[primeraFila[s]];
+            }
+        }
+        return new TablaRutas(origenes, destinos, tiempos, ciudades, conCaminos, null, previos);
+    }
+
+    /**
+     * Datos compartidos por todas las búsquedas; cada fila distinta solo la escribe una búsqueda.
+     */
+    private static final class Trabajo {
+        private final GrafoCSR csr;
+        private final int[] origenes;
+        private final int[] destinos;
+        private final double[] tiempos;
+        private final int[][] previos;
+        private final boolean[] esDestino;
+        private final int[] objetivos;
+
+        Trabajo(GrafoCSR csr, int[] origenes, int[] destinos, double[] tiempos, int[][] previos,
+                boolean[] esDestino, int[] objetivos) {
+            this.csr = csr;
+            this.origenes = origenes;
+            this.destinos = destinos;
+            this.tiempos = tiempos;
+            this.previos = previos;
+            this.esDestino = esDestino;
+            this.objetivos = objetivos;
+        }
+
+        void calcular(int[] filas, int desde, int hasta, Dijkstra dijkstra) {
+            int n = csr.getCantidadCiudades();
+            int[] buscados = objetivos;
+            for (int k = desde; k < hasta; k++) {
+                int f = filas[k];
+                int s = origenes[f];
+                int cantidad = objetivos.length;
+                boolean conCiclo = esDestino[s];
+                if (conCiclo) {
+                    // Para el ciclo más corto también hay que asentar las ciudades con conexión de regreso hacia s
+                    int entrantes = csr.desplazamientosEntrada[s + 1] - csr.desplazamientosEntrada[s];
+                    if (buscados == objetivos || buscados.length < cantidad + entrantes) {
+                        buscados = Arrays.copyOf(objetivos, cantidad + entrantes);
+                    }
+                    System.arraycopy(csr.origenesEntrada, csr.desplazamientosEntrada[s], buscados, cantidad,
+                                     entrantes);
+                    cantidad += entrantes;
+                    dijkstra.ejecutar(s, buscados, cantidad);
+                } else {
+                    dijkstra.ejecutar(s, objetivos, cantidad);
+                }
+
+                double ciclo = INF;
+                if (conCiclo) {
+                    for (int r = csr.desplazamientosEntrada[s]; r < csr.desplazamientosEntrada[s + 1]; r++) {
+                        ciclo = Math.min(ciclo, dijkstra.getDistancia(csr.origenesEntrada[r])
+                                                + csr.pesosActuales[csr.posicionSalida[r]]);
+                    }
+                }
+                int fila = f * destinos.length;
+                for (int c = 0; c < destinos.length; c++) {
+                    int d = destinos[c];
+                    if (d == s) {
+                        tiempos[fila + c] = ciclo;
+                    } else if (d >= 0 && d < n) {
+                        tiempos[fila + c] = dijkstra.getDistancia(d);
+                    }
+                }
+                if (previos != null) {
+                    int[] previo = new int[n];
+                    for (int v = 0; v < n; v++) {
+                        previo[v] = dijkstra.getPrevio(v);
+                    }
+                    previos[f] = previo;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tarea que reparte un rango de orígenes distintos; cada hoja tiene su propio Dijkstra.
+     */
+    private static final class TareaOrigenes extends RecursiveAction {
+        private final Trabajo trabajo;
+        private final int[] filas;
+        private final int desde;
+        private final int hasta;
+        private final int tamanoHoja;
+
+        TareaOrigenes(Trabajo trabajo, int[] filas, int desde, int hasta, int tamanoHoja) {
+            this.trabajo = trabajo;
+            this.filas = filas;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.tamanoHoja = tamanoHoja;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde > tamanoHoja) {
+                int medio = (desde + hasta) >>> 1;
+                invokeAll(new TareaOrigenes(trabajo, filas, desde, medio, tamanoHoja),
+                          new TareaOrigenes(trabajo, filas, medio, hasta, tamanoHoja));
+                return;
+            }
+            trabajo.calcular(filas, desde, hasta, new Dijkstra(trabajo.csr));
+        }
+    }
+
+    /**
+     * Obtiene los tiempos por filas: el tiempo del origen f al destino c está en la posición
+     * f * getCantidadDestinos() + c. Es el arreglo de la tabla, no una copia.
+     *
+     * @return Tiempos, con infinito donde no hay ruta.
+     */
+    public double[] getTiempos() {
+        return tiempos;
+    }
+
+    /**
+     * Obtiene el tiempo de un origen a un destino de la tabla.
+     *
+     * @param fila Posición del origen en la lista de orígenes.
+     * @param columna Posición del destino en la lista de destinos.
+     * @return Tiempo, o infinito si no hay ruta.
+     */
+    public double getTiempo(int fila, int columna) {
+        return tiempos[posicion(fila, columna)];
+    }
+
+    /**
+     * Obtiene la cantidad de orígenes (filas) de la tabla.
+     *
+     * @return Cantidad de orígenes.
+     */
+    public int getCantidadOrigenes() {
+        return origenes.length;
+    }
+
+    /**
+     * Obtiene la cantidad de destinos (columnas) de la tabla.
+     *
+     * @return Cantidad de destinos.
+     */
+    public int getCantidadDestinos() {
+        return destinos.length;
+    }
+
+    /**
+     * Indica si la tabla se calculó con caminos.
+     *
+     * @return true si se pueden recorrer las rutas.
+     */
+    public boolean tieneCaminos() {
+        return conCaminos;
+    }
+
+    /**
+     * Prepara un cursor para recorrer la ruta de un origen a un destino de la tabla.
+     *
+     * @param fila Posición del origen en la lista de orígenes.
+     * @param columna Posición del destino en la lista de destinos.
+     * @param cursor Cursor a preparar, reutilizable entre consultas.
+     * @return true si hay ruta.
+     * @throws IllegalStateException Si la tabla se calculó sin caminos.
+     */
+    public boolean recorrerRuta(int fila, int columna, CursorRuta cursor) {
+        if (!conCaminos) {
+            throw new IllegalStateException("La tabla se calculó sin caminos");
+        }
+        double tiempo = tiempos[posicion(fila, columna)];
+        int s = origenes[fila];
+        int d = destinos[columna];
+        if (tiempo == INF) {
+            cursor.vaciar();
+        } else if (rutas != null) {
+            cursor.iniciar(rutas, ciudades, s, d);
+        } else {
+            cursor.iniciarCamino(ciudades, tiempo);
+            if (s == d) {
+                cursor.agregarCiudad(s);
+            } else {
+                int[] previo = previos[fila];
+                for (int at = d; at != -1; at = previo[at]) {
+                    cursor.agregarCiudad(at);
+                }
+                cursor.invertirCamino();
+            }
+        }
+        return cursor.hayRuta();
+    }
+
+    /**
+     * Obtiene la ruta de un origen a un destino de la tabla.
+     *
+     * @param fila Posición del origen en la lista de orígenes.
+     * @param columna Posición del destino en la lista de destinos.
+     * @return Objeto Ruta con el camino y tiempo, o null si no hay ruta.
+     * @throws IllegalStateException Si la tabla se calculó sin caminos.
+     */
+    public Ruta obtenerRuta(int fila, int columna) {
+        CursorRuta cursor = new CursorRuta();
+        if (!recorrerRuta(fila, columna, cursor)) return null;
+        List<String> camino = new ArrayList<>();
+        while (cursor.siguiente()) {
+            camino.add(cursor.getNombreCiudad());
+        }
+        return new Ruta(camino, cursor.getTiempo());
+    }
+
+    private int posicion(int fila, int columna) {
+        if (fila < 0 || fila >= origenes.length || columna < 0 || columna >= destinos.length) {
+            throw new IndexOutOfBoundsException("Posición fuera de la tabla: " + fila + ", " + columna);
+        }
+        return fila * destinos.length + columna;
+    }
+}
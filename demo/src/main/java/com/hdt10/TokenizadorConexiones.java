@@ -0,0 +1,339 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: TokenizadorConexiones.java
+ * Descripción: Lector de archivos de conexiones que trabaja directamente sobre los bytes leídos de un FileChannel
+ *              en bloques grandes. No crea una cadena por línea ni por valor: los nombres de las ciudades se
+ *              buscan por sus bytes en una tabla propia y solo se convierten a String la primera vez, y los
+ *              tiempos decimales se convierten sin subcadenas. Acepta lo mismo que la lectura con split y
+ *              Double.parseDouble: los valores con otra notación (exponentes, NaN, ...) usan Double.parseDouble.
+ *              Puede leer solo un trozo del archivo, para que varios hilos lean trozos distintos a la vez.
+ */
+
+package com.hdt10;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TokenizadorConexiones {
+    // Tamaño del bloque de lectura; crece si una línea no cabe
+    public final static int TAMANO_BUFFER = 1 << 20;
+
+    // Potencias de 10 exactas en double; dividir entre ellas redondea igual que Double.parseDouble
+    private final static double[] POTENCIAS = new double[23];
+    static {
+        POTENCIAS[0] = 1;
+        for (int p = 1; p < POTENCIAS.length; p++) POTENCIAS[p] = POTENCIAS[p - 1] * 10;
+    }
+    private final static long MANTISA_EXACTA = 1L << 53;
+
+    // Separadores de valores como en split("\\s+"); SEPARADOR también incluye el salto de línea
+    private final static boolean[] ESPACIO = new boolean[256];
+    private final static boolean[] SEPARADOR = new boolean[256];
+    static {
+        for (char c : new char[] {' ', '\t', '\r', '\f', 0x0B}) {
+            ESPACIO[c] = true;
+            SEPARADOR[c] = true;
+        }
+        SEPARADOR['\n'] = true;
+    }
+
+    private final ConstructorGrafo constructor;
+    private byte[] datos;
+
+    // Inicio y fin de los primeros 6 valores de la línea actual
+    private final int[] inicios = new int[6];
+    private final int[] fines = new int[6];
+    private final double[] tiempos = new double[4];
+    private boolean numeroValido;
+    private int numeroLinea = 0;
+
+    // Errores en el orden de sus líneas; se imprimen al terminar para numerarlas desde el inicio del archivo
+    private final List<Integer> lineasError = new ArrayList<>();
+    private final List<String> mensajesError = new ArrayList<>();
+
+    // Tabla de nombres con direccionamiento abierto: hash en los 32 bits altos y posición + 1 del nombre en los
+    // bajos, o 0 si la casilla está libre; así casi nunca hay que ir a los arreglos de nombres para descartar uno
+    private long[] tabla = new long[1024];
+    private int cantidadNombres = 0;
+    private int[] hashNombre = new int[512];
+    private int[] inicioNombre = new int[512];
+    private int[] largoNombre = new int[512];
+    private int[] ciudadNombre = new int[512];
+    private byte[] bytesNombres = new byte[8192];
+    private int usadosNombres = 0;
+
+    /**
+     * Constructor con el tamaño de bloque por defecto.
+     *
+     * @param constructor Destino de las ciudades y conexiones leídas.
+     */
+    public TokenizadorConexiones(ConstructorGrafo constructor) {
+        this(constructor, TAMANO_BUFFER);
+    }
+
+    /**
+     * Constructor con un tamaño de bloque dado.
+     *
+     * @param constructor Destino de las ciudades y conexiones leídas.
+     * @param tamanoBuffer Tamaño inicial del bloque de lectura en bytes.
+     */
+    TokenizadorConexiones(ConstructorGrafo constructor, int tamanoBuffer) {
+        this.constructor = constructor;
+        this.datos = new byte[Math.max(16, tamanoBuffer)];
+    }
+
+    /**
+     * Lee todas las líneas del canal desde su posición actual hasta el final y agrega sus conexiones al
+     * constructor. Las líneas vacías y las que empiezan con # se omiten; las líneas con menos de 6 valores o con
+     * tiempos inválidos se guardan como errores con su número y se omiten.
+     *
+     * @param canal Canal abierto para lectura.
+     * @throws IOException Si falla la lectura.
+     */
+    public void leer(FileChannel canal) throws IOException {
+        leer(canal, canal.position(), canal.size());
+    }
+
+    /**
+     * Lee las líneas entre dos posiciones del canal sin mover su posición, así que varios tokenizadores pueden
+     * leer trozos distintos del mismo canal a la vez. El trozo debe empezar al inicio de una línea y terminar
+     * después de un salto de línea o al final del archivo. Los números de línea de los errores cuentan desde el
+     * inicio del trozo.
+     *
+     * @param canal Canal abierto para lectura.
+     * @param desde Posición del primer byte del trozo.
+     * @param hasta Posición siguiente al último byte del trozo.
+     * @throws IOException Si falla la lectura.
+     */
+    public void leer(FileChannel canal, long desde, long hasta) throws IOException {
+        long posicion = desde;
+        int limite = 0;     // Fin de los bytes válidos en datos
+        int revisado = 0;   // Hasta dónde ya se buscó un salto de línea
+        while (posicion < hasta) {
+            if (limite == datos.length) {
+                datos = Arrays.copyOf(datos, datos.length * 2); // Una línea más larga que el bloque
+            }
+            int maximo = (int) Math.min(datos.length - limite, hasta - posicion);
+            int leidos = canal.read(ByteBuffer.wrap(datos, limite, maximo), posicion);
+            if (leidos < 0) break;
+            posicion += leidos;
+            limite += leidos;
+
+            // Se procesan de una pasada todas las líneas completas, hasta el último salto de línea
+            int ultimo = limite - 1;
+            while (ultimo >= revisado && datos[ultimo] != '\n') ultimo--;
+            if (ultimo < revisado) {
+                revisado = limite;
+                continue;
+            }
+            for (int p = 0; p <= ultimo; ) {
+                p = procesarLinea(p, ultimo + 1);
+            }
+            // La línea incompleta pasa al inicio del bloque
+            System.arraycopy(datos, ultimo + 1, datos, 0, limite - ultimo - 1);
+            limite -= ultimo + 1;
+            revisado = limite;
+        }
+        if (limite > 0) {
+            procesarLinea(0, limite); // Última línea sin salto de línea
+        }
+    }
+
+    /**
+     * Imprime los errores encontrados, en el orden de sus líneas.
+     *
+     * @param lineasAnteriores Cantidad de líneas del archivo antes del trozo leído, para numerar las líneas
+     *                         desde el inicio del archivo.
+     */
+    public void reportarErrores(int lineasAnteriores) {
+        for (int e = 0; e < lineasError.size(); e++) {
+            System.out.println("Error en línea " + (lineasAnteriores + lineasError.get(e)) + ": " + mensajesError.get(e));
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de líneas leídas, incluidas las vacías, los comentarios y las que tenían errores.
+     *
+     * @return Cantidad de líneas.
+     */
+    public int getLineasLeidas() {
+        return numeroLinea;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas reportadas con error y omitidas.
+     *
+     * @return Cantidad de líneas con error.
+     */
+    public int getLineasConError() {
+        return lineasError.size();
+    }
+
+    private void agregarError(String mensaje) {
+        lineasError.add(numeroLinea);
+        mensajesError.add(mensaje);
+    }
+
+    /**
+     * Procesa la línea que empieza en inicio y termina en el siguiente salto de línea o en fin.
+     *
+     * @return Posición donde empieza la siguiente línea.
+     */
+    private int procesarLinea(int inicio, int fin) {
+        numeroLinea++;
+        int p = inicio;
+        while (p < fin && ESPACIO[datos[p] & 0xFF]) p++;
+        // Omitir líneas vacías o comentarios
+        if (p == fin || datos[p] == '\n') return p + 1;
+        if (datos[p] == '#') return saltarLinea(p, fin);
+
+        int valores = 0;
+        while (valores < 6) {
+            inicios[valores] = p;
+            while (p < fin && !SEPARADOR[datos[p] & 0xFF]) p++;
+            fines[valores++] = p;
+            while (p < fin && ESPACIO[datos[p] & 0xFF]) p++;
+            if (p == fin || datos[p] == '\n') break;
+        }
+        int siguiente = saltarLinea(p, fin); // Los valores después del sexto se ignoran
+        if (valores < 6) {
+            agregarError("formato incorrecto. Se esperan al menos 6 valores.");
+            return siguiente;
+        }
+
+        for (int t = 0; t < 4; t++) {
+            tiempos[t] = convertirDecimal(inicios[t + 2], fines[t + 2]);
+            if (!numeroValido) {
+                agregarError("formato de número incorrecto.");
+                return siguiente;
+            }
+        }
+        int i = buscarCiudad(inicios[0], fines[0]);
+        int j = buscarCiudad(inicios[1], fines[1]);
+        constructor.agregarConexion(i, j, tiempos[0], tiempos[1], tiempos[2], tiempos[3]);
+        return siguiente;
+    }
+
+    private int saltarLinea(int p, int fin) {
+        while (p < fin && datos[p] != '\n') p++;
+        return p + 1;
+    }
+
+    /**
+     * Convierte un número decimal sin crear cadenas. Con una mantisa de a lo sumo 2^53 y 22 decimales, la mantisa
+     * y la potencia de 10 son exactas y una sola división da el mismo resultado que Double.parseDouble; cualquier otro
+     * caso se delega a Double.parseDouble.
+     */
+    private double convertirDecimal(int inicio, int fin) {
+        numeroValido = true;
+        int p = inicio;
+        boolean negativo = false;
+        if (datos[p] == '-' || datos[p] == '+') {
+            negativo = (datos[p] == '-');
+            p++;
+        }
+        long mantisa = 0;
+        int digitos = 0;
+        int decimales = 0;
+        boolean punto = false;
+        for (; p < fin; p++) {
+            byte b = datos[p];
+            if (b >= '0' && b <= '9') {
+                if (mantisa > MANTISA_EXACTA) return convertirConCadena(inicio, fin);
+                mantisa = mantisa * 10 + (b - '0');
+                digitos++;
+                if (punto) decimales++;
+            } else if (b == '.' && !punto) {
+                punto = true;
+            } else {
+                return convertirConCadena(inicio, fin);
+            }
+        }
+        if (digitos == 0 || mantisa > MANTISA_EXACTA || decimales >= POTENCIAS.length) {
+            return convertirConCadena(inicio, fin);
+        }
+        double valor = mantisa / POTENCIAS[decimales];
+        return negativo ? -valor : valor;
+    }
+
+    private double convertirConCadena(int inicio, int fin) {
+        try {
+            return Double.parseDouble(new String(datos, inicio, fin - inicio, StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            numeroValido = false;
+            return 0;
+        }
+    }
+
+    /**
+     * Busca el índice de la ciudad cuyo nombre está en los bytes dados, agregándola al constructor
+     * la primera vez que aparece.
+     */
+    private int buscarCiudad(int inicio, int fin) {
+        int largo = fin - inicio;
+        int hash = 1;
+        for (int p = inicio; p < fin; p++) hash = 31 * hash + datos[p];
+        hash ^= hash >>> 16;
+
+        int mascara = tabla.length - 1;
+        for (int casilla = hash & mascara; ; casilla = (casilla + 1) & mascara) {
+            long valor = tabla[casilla];
+            if (valor == 0) break;
+            int entrada = (int) valor - 1;
+            if ((int) (valor >>> 32) == hash && largoNombre[entrada] == largo
+                    && Arrays.equals(bytesNombres, inicioNombre[entrada], inicioNombre[entrada] + largo,
+                                     datos, inicio, fin)) {
+                return ciudadNombre[entrada];
+            }
+        }
+
+        int ciudad = constructor.agregarCiudad(new String(datos, inicio, largo, StandardCharsets.UTF_8));
+        guardarNombre(inicio, largo, hash, ciudad);
+        return ciudad;
+    }
+
+    private void guardarNombre(int inicio, int largo, int hash, int ciudad) {
+        int entrada = cantidadNombres++;
+        if (entrada == hashNombre.length) {
+            int capacidad = hashNombre.length * 2;
+            hashNombre = Arrays.copyOf(hashNombre, capacidad);
+            inicioNombre = Arrays.copyOf(inicioNombre, capacidad);
+            largoNombre = Arrays.copyOf(largoNombre, capacidad);
+            ciudadNombre = Arrays.copyOf(ciudadNombre, capacidad);
+        }
+        if (usadosNombres + largo > bytesNombres.length) {
+            bytesNombres = Arrays.copyOf(bytesNombres, Math.max(usadosNombres + largo, bytesNombres.length * 2));
+        }
+        System.arraycopy(datos, inicio, bytesNombres, usadosNombres, largo);
+        hashNombre[entrada] = hash;
+        inicioNombre[entrada] = usadosNombres;
+        largoNombre[entrada] = largo;
+        ciudadNombre[entrada] = ciudad;
+        usadosNombres += largo;
+
+        // La tabla se mantiene a lo sumo medio llena
+        if (2 * cantidadNombres > tabla.length) {
+            tabla = new long[tabla.length * 2];
+            for (int e = 0; e < cantidadNombres; e++) insertarEnTabla(e);
+        } else {
+            insertarEnTabla(entrada);
+        }
+    }
+
+    private void insertarEnTabla(int entrada) {
+        int mascara = tabla.length - 1;
+        int casilla = hashNombre[entrada] & mascara;
+        while (tabla[casilla] != 0) casilla = (casilla + 1) & mascara;
+        tabla[casilla] = ((long) hashNombre[entrada] << 32) | (entrada + 1);
+    }
+}
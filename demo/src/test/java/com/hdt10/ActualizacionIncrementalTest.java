@@ -0,0 +1,120 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ActualizacionIncrementalTest.java
+ * Descripción: Pruebas que comparan la actualización incremental de rutas contra recalcular con floyd()
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+class ActualizacionIncrementalTest {
+    private static final int CIUDADES = 40;
+
+    private Grafo crearGrafo(boolean incremental) {
+        Grafo grafo = new Grafo(CIUDADES);
+        grafo.setActualizacionIncremental(incremental);
+        Random random = new Random(3);
+        for (int i = 0; i < CIUDADES; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int c = 0; c < 120; c++) {
+            agregarAleatoria(grafo, random);
+        }
+        grafo.floyd();
+        return grafo;
+    }
+
+    private void agregarAleatoria(Grafo grafo, Random random) {
+        int origen = random.nextInt(CIUDADES);
+        int destino = random.nextInt(CIUDADES);
+        double normal = 1 + random.nextDouble() * 20;
+        grafo.agregarConexion("C" + origen, "C" + destino, normal, normal * 1.3, normal * 1.7, normal * 3);
+    }
+
+    // Aplica la misma secuencia de cambios aleatorios a ambos grafos
+    private void aplicarCambio(Grafo grafo, Random random) {
+        int tipo = random.nextInt(3);
+        int origen = random.nextInt(CIUDADES);
+        int destino = random.nextInt(CIUDADES);
+        if (tipo == 0) {
+            double normal = 1 + random.nextDouble() * 20;
+            grafo.agregarConexion("C" + origen, "C" + destino, normal, normal * 1.3, normal * 1.7, normal * 3);
+        } else if (tipo == 1) {
+            if (grafo.existeConexion("C" + origen, "C" + destino)) {
+                grafo.eliminarConexion("C" + origen, "C" + destino);
+            }
+        } else {
+            CondicionClimatica condicion = CondicionClimatica.values()[random.nextInt(4)];
+            grafo.cambiarCondicionConexion("C" + origen, "C" + destino, condicion);
+        }
+    }
+
+    private void compararRutas(Grafo esperado, Grafo obtenido) {
+        for (int i = 0; i < CIUDADES; i++) {
+            for (int j = 0; j < CIUDADES; j++) {
+                Ruta rutaEsperada = esperado.obtenerRuta("C" + i, "C" + j);
+                Ruta rutaObtenida = obtenido.obtenerRuta("C" + i, "C" + j);
+                if (rutaEsperada == null) {
+                    assertNull(rutaObtenida, "C" + i + " -> C" + j);
+                    continue;
+                }
+                assertNotNull(rutaObtenida, "C" + i + " -> C" + j);
+                assertEquals(rutaEsperada.getTiempo(), rutaObtenida.getTiempo(), 1e-9, "C" + i + " -> C" + j);
+                assertEquals(rutaEsperada.getCamino(), rutaObtenida.getCamino());
+            }
+        }
+    }
+
+    @Test
+    //Después de cada cambio, las rutas incrementales coinciden con un floyd() completo
+    void testCambiosAleatorios() {
+        Grafo completo = crearGrafo(false);
+        Grafo incremental = crearGrafo(true);
+        Random cambiosCompleto = new Random(11);
+        Random cambiosIncremental = new Random(11);
+
+        for (int paso = 0; paso < 200; paso++) {
+            aplicarCambio(completo, cambiosCompleto);
+            aplicarCambio(incremental, cambiosIncremental);
+            compararRutas(completo, incremental);
+        }
+    }
+
+    @Test
+    //Una tormenta en la conexión más usada desvía la ruta sin llamar a floyd()
+    void testTormentaDesviaRuta() {
+        Grafo grafo = new Grafo(10);
+        grafo.agregarConexion("Guatemala", "Quetzaltenango", 5.0, 6.0, 7.0, 10.0);
+        grafo.agregarConexion("Quetzaltenango", "Antigua", 3.0, 4.0, 5.0, 8.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        grafo.agregarConexion("Guatemala", "Escuintla", 15.0, 18.0, 20.0, 25.0);
+        grafo.floyd();
+
+        grafo.cambiarCondicionConexion("Quetzaltenango", "Antigua", CondicionClimatica.TORMENTA);
+        Ruta ruta = grafo.obtenerRuta("Guatemala", "Escuintla");
+        assertEquals(15.0, ruta.getTiempo(), 0.001);
+        assertEquals(2, ruta.getCamino().size());
+
+        grafo.cambiarCondicionConexion("Quetzaltenango", "Antigua", CondicionClimatica.NORMAL);
+        ruta = grafo.obtenerRuta("Guatemala", "Escuintla");
+        assertEquals(10.0, ruta.getTiempo(), 0.001);
+        assertEquals(4, ruta.getCamino().size());
+
+        grafo.eliminarConexion("Guatemala", "Escuintla");
+        grafo.eliminarConexion("Antigua", "Escuintla");
+        assertNull(grafo.obtenerRuta("Guatemala", "Escuintla"));
+    }
+}
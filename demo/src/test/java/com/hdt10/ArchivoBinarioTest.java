@@ -0,0 +1,192 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ArchivoBinarioTest.java
+ * Descripción: Pruebas del formato binario del grafo y su detección en LectorArchivo
+ */
+
+package com.hdt10;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+
+class ArchivoBinarioTest {
+    @TempDir
+    Path directorio;
+
+    private Grafo crearGrafo() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("Guatemala", "Quetzaltenango", 3, 4, 6, 8);
+        grafo.agregarConexion("Quetzaltenango", "Huehuetenango", 2, 3, 5, 7);
+        grafo.agregarConexion("Guatemala", "Cobán", 4, 5, 7, 9);
+        grafo.agregarConexion("Cobán", "Huehuetenango", 5, 6, 8, 10);
+        grafo.agregarCiudad("Petén");
+        grafo.cambiarCondicionConexion("Guatemala", "Quetzaltenango", CondicionClimatica.TORMENTA);
+        return grafo;
+    }
+
+    private void assertMismasRutas(Grafo esperado, Grafo obtenido) {
+        assertEquals(esperado.getCiudades(), obtenido.getCiudades());
+        for (String origen : esperado.getCiudades()) {
+            for (String destino : esperado.getCiudades()) {
+                Ruta ruta = esperado.obtenerRuta(origen, destino);
+                Ruta cargada = obtenido.obtenerRuta(origen, destino);
+                if (ruta == null) {
+                    assertNull(cargada);
+                } else {
+                    assertEquals(ruta.getCamino(), cargada.getCamino());
+                    assertEquals(ruta.getTiempo(), cargada.getTiempo());
+                }
+            }
+        }
+    }
+
+    @Test
+    //Guardar y cargar conserva nombres en UTF-8, ciudades sin conexiones y condiciones actuales
+    void testIdaYVuelta() throws IOException {
+        Grafo grafo = crearGrafo();
+        Path archivo = directorio.resolve("grafo.bin");
+        ArchivoBinario.guardar(grafo, archivo.toString(), false);
+        assertTrue(ArchivoBinario.esBinario(archivo.toFile()));
+
+        Grafo cargado = ArchivoBinario.cargar(archivo.toString());
+        assertFalse(cargado.hayRutasCalculadas());
+        assertEquals(CondicionClimatica.TORMENTA, cargado.getCondicionConexion("Guatemala", "Quetzaltenango"));
+        assertEquals(CondicionClimatica.NORMAL, cargado.getCondicionConexion("Guatemala", "Cobán"));
+        assertMismasRutas(grafo, cargado);
+
+        // Los cuatro tiempos se conservan: al volver a NORMAL se usa el tiempo normal
+        cargado.cambiarCondicionConexion("Guatemala", "Quetzaltenango", CondicionClimatica.NORMAL);
+        assertEquals(5, cargado.obtenerRuta("Guatemala", "Huehuetenango").getTiempo());
+        cargado.agregarConexion("Petén", "Cobán", 1, 1, 1, 1);
+        assertEquals(List.of("Petén", "Cobán", "Huehuetenango"),
+                     cargado.obtenerRuta("Petén", "Huehuetenango").getCamino());
+    }
+
+    @Test
+    //Con las rutas incluidas, el grafo cargado las usa sin ejecutar floyd() y son iguales a las calculadas
+    void testRutasIncluidas() throws IOException {
+        Path texto = directorio.resolve("red.txt");
+        CreadorArchivo.crearArchivoSintetico(texto.toString(), Topologia.CARRETERAS, 300, 3);
+        Path binario = directorio.resolve("red.bin");
+        assertTrue(ArchivoBinario.convertir(texto.toString(), binario.toString(), true));
+
+        Grafo cargado = ArchivoBinario.cargar(binario.toString());
+        assertTrue(cargado.hayRutasCalculadas());
+        Grafo calculado = new Grafo(16);
+        assertTrue(LectorArchivo.cargarConexiones(texto.toString(), calculado, true));
+        assertArrayEquals(calculado.getResultadoRutas().getDistancias(),
+                          cargado.getResultadoRutas().getDistancias());
+        assertArrayEquals(calculado.getResultadoRutas().getSiguientes(),
+                          cargado.getResultadoRutas().getSiguientes());
+
+        // Las rutas cargadas se actualizan igual que las calculadas
+        calculado.cambiarCondicionConexion("C0", "C1", CondicionClimatica.NIEVE);
+        cargado.cambiarCondicionConexion("C0", "C1", CondicionClimatica.NIEVE);
+        assertMismasRutas(calculado, cargado);
+    }
+
+    @Test
+    //LectorArchivo reconoce el formato binario y calcula las rutas solo si el archivo no las trae
+    void testDeteccionEnLectorArchivo() throws IOException {
+        Grafo grafo = crearGrafo();
+        Path sinRutas = directorio.resolve("sin_rutas.bin");
+        Path conRutas = directorio.resolve("con_rutas.bin");
+        ArchivoBinario.guardar(grafo, sinRutas.toString(), false);
+        ArchivoBinario.guardar(grafo, conRutas.toString(), true);
+
+        Grafo perezoso = new Grafo(16);
+        assertTrue(LectorArchivo.cargarConexiones(sinRutas.toString(), perezoso, false));
+        assertFalse(perezoso.hayRutasCalculadas());
+        Grafo calculado = new Grafo(16);
+        assertTrue(LectorArchivo.cargarConexiones(sinRutas.toString(), calculado, true));
+        assertTrue(calculado.hayRutasCalculadas());
+        Grafo guardado = new Grafo(16);
+        assertTrue(LectorArchivo.cargarConexiones(conRutas.toString(), guardado));
+        assertTrue(guardado.hayRutasCalculadas());
+
+        assertMismasRutas(grafo, perezoso);
+        assertMismasRutas(grafo, calculado);
+        assertMismasRutas(grafo, guardado);
+    }
+
+    @Test
+    //En un grafo con ciudades, las del archivo se agregan como las de un archivo de texto
+    void testCargarEnGrafoConCiudades() throws IOException {
+        Path archivo = directorio.resolve("grafo.bin");
+        ArchivoBinario.guardar(crearGrafo(), archivo.toString(), true);
+
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("Escuintla", "Guatemala", 1, 1, 1, 1);
+        assertTrue(LectorArchivo.cargarConexiones(archivo.toString(), grafo, false));
+        assertEquals(6, grafo.getCiudades().size());
+        assertEquals(CondicionClimatica.TORMENTA, grafo.getCondicionConexion("Guatemala", "Quetzaltenango"));
+        assertEquals(List.of("Escuintla", "Guatemala", "Cobán", "Huehuetenango"),
+                     grafo.obtenerRuta("Escuintla", "Huehuetenango").getCamino());
+        assertEquals(10, grafo.obtenerRuta("Escuintla", "Huehuetenango").getTiempo());
+    }
+
+    @Test
+    //Un grafo vacío también se puede guardar y cargar
+    void testGrafoVacio() throws IOException {
+        Path archivo = directorio.resolve("vacio.bin");
+        ArchivoBinario.guardar(new Grafo(4), archivo.toString(), true);
+        Grafo cargado = ArchivoBinario.cargar(archivo.toString());
+        assertTrue(cargado.getCiudades().isEmpty());
+        cargado.agregarConexion("A", "B", 1, 2, 3, 4);
+        assertEquals(1, cargado.obtenerRuta("A", "B").getTiempo());
+    }
+
+    @Test
+    //Un archivo cortado o dañado falla al cargarlo y LectorArchivo lo reporta sin modificar el grafo
+    void testArchivoDanado() throws IOException {
+        Path archivo = directorio.resolve("grafo.bin");
+        ArchivoBinario.guardar(crearGrafo(), archivo.toString(), true);
+        byte[] bytes = Files.readAllBytes(archivo);
+
+        Path cortado = directorio.resolve("cortado.bin");
+        // Sin el relleno final el archivo sigue completo; se quitan también datos de la última sección
+        Files.write(cortado, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> ArchivoBinario.cargar(cortado.toString()));
+        Grafo grafo = new Grafo(4);
+        assertFalse(LectorArchivo.cargarConexiones(cortado.toString(), grafo, true));
+        assertTrue(grafo.getCiudades().isEmpty());
+
+        // Versión desconocida
+        byte[] version = bytes.clone();
+        version[4] = 99;
+        Path otraVersion = directorio.resolve("version.bin");
+        Files.write(otraVersion, version);
+        assertThrows(IOException.class, () -> ArchivoBinario.cargar(otraVersion.toString()));
+
+        // Destino de la primera conexión fuera de rango, después de nombres y desplazamientos
+        ArchivoBinario.guardar(crearGrafo(), archivo.toString(), false);
+        bytes = Files.readAllBytes(archivo);
+        int n = 5;
+        int bytesNombres = bytes[20] & 0xFF;
+        int destinos = 32 + (4 * (n + 1) + 7) / 8 * 8 + (bytesNombres + 7) / 8 * 8 + (4 * (n + 1) + 7) / 8 * 8;
+        bytes[destinos] = 50;
+        Path danado = directorio.resolve("danado.bin");
+        Files.write(danado, bytes);
+        assertThrows(IOException.class, () -> ArchivoBinario.cargar(danado.toString()));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: CargaBenchmark.java
+ * Descripción: Reporte del tiempo de carga de un grafo agregando las conexiones una por una contra
+ *              cargarlas en bloque con ConstructorGrafo, para 1 000, 5 000 y 10 000 ciudades.
+ *              No es una prueba unitaria; se ejecuta a mano después de compilar las pruebas:
+ *              java -cp target/classes:target/test-classes com.hdt10.CargaBenchmark [conexionesPorCiudad]
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+public class CargaBenchmark {
+    private static final int REPETICIONES = 5;
+    private static final int[] TAMANOS = {1000, 5000, 10000};
+
+    public static void main(String[] args) {
+        int conexionesPorCiudad = (args.length > 0) ? Integer.parseInt(args[0]) : 4;
+        System.out.printf("%10s %12s %15s %15s%n", "ciudades", "conexiones", "incremental ms", "en bloque ms");
+
+        for (int n : TAMANOS) {
+            int m = n * conexionesPorCiudad;
+            String[] origenes = new String[m];
+            String[] destinos = new String[m];
+            double[] tiempos = new double[m];
+            Random random = new Random(42);
+            for (int e = 0; e < m; e++) {
+                origenes[e] = "C" + (e / conexionesPorCiudad);
+                destinos[e] = "C" + random.nextInt(n);
+                tiempos[e] = 1 + random.nextDouble() * 10;
+            }
+
+            double incremental = Double.MAX_VALUE;
+            double enBloque = Double.MAX_VALUE;
+            for (int r = 0; r < REPETICIONES; r++) {
+                long inicio = System.nanoTime();
+                Grafo grafo = new Grafo(10);
+                for (int e = 0; e < m; e++) {
+                    double t = tiempos[e];
+                    grafo.agregarConexion(origenes[e], destinos[e], t, t * 1.2, t * 1.5, t * 2);
+                }
+                incremental = Math.min(incremental, (System.nanoTime() - inicio) / 1e6);
+
+                inicio = System.nanoTime();
+                ConstructorGrafo constructor = new ConstructorGrafo(m);
+                for (int e = 0; e < m; e++) {
+                    double t = tiempos[e];
+                    constructor.agregarConexion(origenes[e], destinos[e], t, t * 1.2, t * 1.5, t * 2);
+                }
+                constructor.construir();
+                enBloque = Math.min(enBloque, (System.nanoTime() - inicio) / 1e6);
+            }
+            System.out.printf("%10d %12d %15.1f %15.1f%n", n, m, incremental, enBloque);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ComponentesFuertesTest.java
+ * Descripción: Pruebas del índice de componentes fuertemente conexas, de floyd() por grupos de componentes y de
+ *              los centros por componente
+ */
+
+package com.hdt10;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+import com.hdt10.Grafo.MotorRutas;
+
+class ComponentesFuertesTest {
+    // Varios "países" generados por separado, con algunas carreteras de un solo sentido entre los dos primeros
+    private static Grafo variosPaises(int ciudadesPorPais) {
+        Grafo grafo = new Grafo(4 * ciudadesPorPais);
+        Topologia[] topologias = {Topologia.CARRETERAS, Topologia.DISPERSO, Topologia.CUADRICULA};
+        for (int p = 0; p < topologias.length; p++) {
+            ConstructorGrafo pais = GeneradorGrafos.generar(topologias[p], ciudadesPorPais, p + 1);
+            for (int e = 0; e < pais.getCantidadConexiones(); e++) {
+                grafo.agregarConexion("P" + p + "-" + pais.getNombre(pais.getOrigen(e)),
+                                      "P" + p + "-" + pais.getNombre(pais.getDestino(e)),
+                                      pais.getPeso(CondicionClimatica.NORMAL, e),
+                                      pais.getPeso(CondicionClimatica.LLUVIA, e),
+                                      pais.getPeso(CondicionClimatica.NIEVE, e),
+                                      pais.getPeso(CondicionClimatica.TORMENTA, e));
+            }
+        }
+        grafo.agregarConexion("P0-" + "C3", "P1-" + "C5", 4, 5, 6, 7);
+        grafo.agregarConexion("P0-" + "C10", "P1-" + "C0", 2, 3, 4, 5);
+        return grafo;
+    }
+
+    @Test
+    //Componentes, grupos y alcance de un grafo pequeño, con las componentes en orden topológico
+    void testGrafoPequeno() {
+        Grafo grafo = new Grafo(8);
+        grafo.agregarConexion("A", "B", 1, 1, 1, 1);
+        grafo.agregarConexion("B", "A", 1, 1, 1, 1);
+        grafo.agregarConexion("B", "C", 1, 1, 1, 1);
+        grafo.agregarConexion("C", "D", 1, 1, 1, 1);
+        grafo.agregarConexion("D", "C", 1, 1, 1, 1);
+        grafo.agregarCiudad("E");
+        grafo.agregarConexion("F", "G", 1, 1, 1, 1);
+        ComponentesFuertes componentes = grafo.getComponentes();
+
+        assertEquals(5, componentes.getCantidad());
+        assertEquals(3, componentes.getCantidadGrupos());
+        int a = grafo.getIndiceCiudad("A");
+        int b = grafo.getIndiceCiudad("B");
+        int c = grafo.getIndiceCiudad("C");
+        assertEquals(componentes.getComponente(a), componentes.getComponente(b));
+        assertTrue(componentes.getComponente(a) < componentes.getComponente(c));
+        assertEquals(2, componentes.getTamano(componentes.getComponente(c)));
+
+        assertTrue(grafo.esAlcanzable("A", "D"));
+        assertTrue(grafo.esAlcanzable("B", "A"));
+        assertFalse(grafo.esAlcanzable("D", "A"));
+        assertFalse(grafo.esAlcanzable("A", "E"));
+        assertTrue(grafo.esAlcanzable("E", "E"));
+        assertFalse(grafo.esAlcanzable("G", "F"));
+        assertFalse(grafo.esAlcanzable("A", "Z"));
+
+        assertEquals("No hay centro", grafo.obtenerCentro());
+        assertEquals("A", grafo.obtenerCentroComponente("B"));
+        assertEquals("E", grafo.obtenerCentroComponente("E"));
+        assertEquals(5, grafo.obtenerCentrosPorComponente().size());
+
+        // Una conexión nueva cambia la estructura y el índice se vuelve a calcular
+        grafo.agregarConexion("D", "A", 1, 1, 1, 1);
+        assertTrue(grafo.esAlcanzable("D", "B"));
+        assertEquals(4, grafo.getComponentes().getCantidad());
+    }
+
+    @Test
+    //El alcance del índice coincide con las rutas de floyd() en todos los pares, y las conexiones van hacia adelante
+    void testAlcanceIgualARutas() {
+        for (Topologia topologia : new Topologia[] {Topologia.DISPERSO, Topologia.CARRETERAS}) {
+            Grafo grafo = GeneradorGrafos.generar(topologia, 120, 3).construir();
+            ComponentesFuertes componentes = grafo.getComponentes();
+            GrafoCSR csr = grafo.getCSR();
+            int n = grafo.getCantidadCiudades();
+            for (int u = 0; u < n; u++) {
+                for (int k = csr.desplazamientos[u]; k < csr.desplazamientos[u + 1]; k++) {
+                    assertTrue(componentes.getComponente(u) <= componentes.getComponente(csr.destinos[k]));
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    boolean hayRuta = grafo.getTiempo(i, j) != Double.POSITIVE_INFINITY;
+                    assertEquals(hayRuta, grafo.esAlcanzable(i, j));
+                    assertEquals(hayRuta, componentes.getComponente(i) == componentes.getComponente(j)
+                                          || componentes.alcanza(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    //Una cadena larga de un solo sentido no desborda la pila y, sin cierre, el alcance recorre las componentes
+    void testCadenaLargaSinCierre() {
+        int n = ComponentesFuertes.MAXIMO_COMPONENTES_CIERRE + 500;
+        ConstructorGrafo cadena = new ConstructorGrafo(n);
+        for (int i = 0; i + 1 < n; i++) {
+            cadena.agregarConexion("C" + i, "C" + (i + 1), 1, 1, 1, 1);
+        }
+        Grafo grafo = cadena.construir();
+        ComponentesFuertes componentes = grafo.getComponentes();
+        assertEquals(n, componentes.getCantidad());
+        assertEquals(1, componentes.getCantidadGrupos());
+        int primera = grafo.getIndiceCiudad("C0");
+        int ultima = grafo.getIndiceCiudad("C" + (n - 1));
+        assertTrue(grafo.esAlcanzable(primera, ultima));
+        assertFalse(grafo.esAlcanzable(ultima, primera));
+        assertTrue(componentes.alcanzaTodas(componentes.getComponente(primera)));
+        assertFalse(componentes.alcanzaTodas(componentes.getComponente(ultima)));
+    }
+
+    @Test
+    //floyd() por grupos de componentes da los mismos tiempos y rutas válidas con todos los motores de Floyd-Warshall
+    void testFloydPorGrupos() {
+        Grafo referencia = variosPaises(80);
+        referencia.setMotorRutas(MotorRutas.JOHNSON);
+        referencia.floyd();
+        assertTrue(referencia.getComponentes().getCantidadGrupos() >= 2);
+        int n = referencia.getCantidadCiudades();
+
+        for (MotorRutas motor : new MotorRutas[] {MotorRutas.CLASICO, MotorRutas.BLOQUES, MotorRutas.PARALELO}) {
+            Grafo grafo = variosPaises(80);
+            grafo.setMotorRutas(motor);
+            grafo.setTamanoBloque(16);
+            grafo.setParalelismo(3);
+            grafo.floyd();
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    double esperado = referencia.getTiempo(i, j);
+                    assertEquals(esperado, grafo.getTiempo(i, j), 1e-9);
+                    Ruta ruta = grafo.obtenerRuta(i, j);
+                    assertEquals(esperado == Double.POSITIVE_INFINITY, ruta == null);
+                    if (ruta != null && i != j) {
+                        double suma = 0;
+                        List<String> camino = ruta.getCamino();
+                        for (int k = 0; k + 1 < camino.size(); k++) {
+                            suma += grafo.getTiempo(camino.get(k), camino.get(k + 1));
+                        }
+                        assertEquals(esperado, suma, 1e-6);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    //El centro de cada componente es el mismo con y sin rutas de floyd(), y es la ciudad de menor excentricidad dentro de ella
+    void testCentrosPorComponente() {
+        Grafo sinRutas = variosPaises(60);
+        Grafo conRutas = variosPaises(60);
+        conRutas.floyd();
+        List<String> centros = sinRutas.obtenerCentrosPorComponente();
+        assertEquals(centros, conRutas.obtenerCentrosPorComponente());
+        assertFalse(sinRutas.hayRutasCalculadas());
+
+        ComponentesFuertes componentes = conRutas.getComponentes();
+        for (int c = 0; c < componentes.getCantidad(); c++) {
+            int[] miembros = componentes.getCiudades(c);
+            double menor = Double.POSITIVE_INFINITY;
+            for (int a : miembros) {
+                double excentricidad = 0;
+                for (int b : miembros) {
+                    if (a != b) excentricidad = Math.max(excentricidad, conRutas.getTiempo(a, b));
+                }
+                menor = Math.min(menor, excentricidad);
+            }
+            String centro = centros.get(c);
+            assertEquals(centro, conRutas.obtenerCentroComponente(conRutas.getNombreCiudad(miembros[0])));
+            double excentricidadCentro = 0;
+            for (int b : miembros) {
+                int a = conRutas.getIndiceCiudad(centro);
+                if (a != b) excentricidadCentro = Math.max(excentricidadCentro, conRutas.getTiempo(a, b));
+            }
+            assertEquals(menor, excentricidadCentro, 1e-9);
+            assertNotEquals(Double.POSITIVE_INFINITY, excentricidadCentro);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ConstructorGrafoTest.java
+ * Descripción: Pruebas de la carga de ciudades y conexiones en bloque con ConstructorGrafo
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+class ConstructorGrafoTest {
+
+    @Test
+    //Construir en bloque da las mismas rutas que agregar las conexiones una por una
+    void testMismasRutasQueCargaIncremental() {
+        Random random = new Random(21);
+        ConstructorGrafo constructor = new ConstructorGrafo();
+        Grafo incremental = new Grafo(1);
+        for (int c = 0; c < 400; c++) {
+            String a = "C" + random.nextInt(100);
+            String b = "C" + random.nextInt(100);
+            double normal = 1 + random.nextDouble() * 10;
+            constructor.agregarConexion(a, b, normal, normal * 2, normal * 3, normal * 4);
+            incremental.agregarConexion(a, b, normal, normal * 2, normal * 3, normal * 4);
+        }
+        Grafo grafo = constructor.construir();
+        assertEquals(incremental.getCiudades(), grafo.getCiudades());
+        for (String origen : grafo.getCiudades()) {
+            for (String destino : grafo.getCiudades()) {
+                Ruta esperada = incremental.obtenerRuta(origen, destino);
+                Ruta obtenida = grafo.obtenerRuta(origen, destino);
+                if (esperada == null) {
+                    assertNull(obtenida);
+                } else {
+                    assertEquals(esperada.getTiempo(), obtenida.getTiempo(), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    //Una conexión repetida se queda con los últimos tiempos y todas inician en condición NORMAL
+    void testConexionRepetida() {
+        ConstructorGrafo constructor = new ConstructorGrafo(1);
+        constructor.agregarConexion("Guatemala", "Antigua", 5.0, 6.0, 7.0, 10.0);
+        constructor.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        constructor.agregarConexion("Guatemala", "Antigua", 8.0, 9.0, 10.0, 12.0);
+        assertEquals(3, constructor.getCantidadCiudades());
+        assertEquals(3, constructor.getCantidadConexiones());
+
+        Grafo grafo = constructor.construir();
+        assertEquals(8.0, grafo.obtenerRuta("Guatemala", "Antigua").getTiempo(), 0.001);
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion("Guatemala", "Antigua"));
+        grafo.cambiarCondicionConexion("Guatemala", "Antigua", CondicionClimatica.TORMENTA);
+        assertEquals(14.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+    }
+
+    @Test
+    //Agregar en bloque a un grafo con rutas calculadas las descarta y se recalculan al consultar
+    void testAgregarAGrafoExistente() {
+        Grafo grafo = new Grafo(2);
+        grafo.agregarConexion("Guatemala", "Antigua", 5.0, 6.0, 7.0, 10.0);
+        grafo.floyd();
+        assertTrue(grafo.hayRutasCalculadas());
+
+        ConstructorGrafo constructor = new ConstructorGrafo();
+        constructor.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        constructor.agregarConexion("Escuintla", "Mazatenango", 4.0, 5.0, 6.0, 8.0);
+        grafo.agregarConexiones(constructor);
+        assertFalse(grafo.hayRutasCalculadas());
+        assertEquals(4, grafo.getCiudades().size());
+        assertEquals(11.0, grafo.getResultadoRutas().getDistancia(0, 3), 0.001);
+        assertEquals(11.0, grafo.obtenerRuta("Guatemala", "Mazatenango").getTiempo(), 0.001);
+    }
+}
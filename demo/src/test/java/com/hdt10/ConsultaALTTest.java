@@ -0,0 +1,183 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ConsultaALTTest.java
+ * Descripción: Pruebas de las consultas bidireccionales y ALT, comparadas contra Dijkstra
+ */
+
+package com.hdt10;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+import com.hdt10.Grafo.ConsultaPuntual;
+
+class ConsultaALTTest {
+
+    // Cuadrícula de carreteras en ambos sentidos con tiempos aleatorios y climas de distinta severidad
+    private Grafo crearCuadricula(int lado, long semilla) {
+        Grafo grafo = new Grafo(lado * lado);
+        Random random = new Random(semilla);
+        for (int i = 0; i < lado * lado; i++) {
+            grafo.agregarCiudad("C" + i); // El índice de cada ciudad coincide con su nombre
+        }
+        for (int f = 0; f < lado; f++) {
+            for (int c = 0; c < lado; c++) {
+                if (c + 1 < lado) conectarAmbos(grafo, f * lado + c, f * lado + c + 1, random);
+                if (f + 1 < lado) conectarAmbos(grafo, f * lado + c, (f + 1) * lado + c, random);
+            }
+        }
+        return grafo;
+    }
+
+    private void conectarAmbos(Grafo grafo, int a, int b, Random random) {
+        for (int sentido = 0; sentido < 2; sentido++) {
+            double normal = 1 + random.nextDouble() * 10;
+            double lluvia = normal * (1 + random.nextDouble() * 0.3);
+            String origen = "C" + (sentido == 0 ? a : b);
+            String destino = "C" + (sentido == 0 ? b : a);
+            grafo.agregarConexion(origen, destino, normal, lluvia, lluvia * 1.3, lluvia * 2);
+        }
+    }
+
+    // Verifica tiempo y camino de la consulta contra Dijkstra y devuelve las ciudades asentadas
+    private int verificar(Grafo grafo, ConsultaALT consulta, Dijkstra dijkstra, int origen, int destino) {
+        dijkstra.ejecutar(origen, destino);
+        double esperado = dijkstra.getDistancia(destino);
+        double obtenido = consulta.consultar(origen, destino);
+        assertEquals(esperado, obtenido, 1e-9);
+        if (esperado != Double.POSITIVE_INFINITY) {
+            List<Integer> camino = consulta.getCamino();
+            assertEquals(origen, (int) camino.get(0));
+            assertEquals(destino, (int) camino.get(camino.size() - 1));
+            GrafoCSR csr = grafo.getCSR();
+            double suma = 0;
+            for (int p = 0; p + 1 < camino.size(); p++) {
+                double mejor = Double.POSITIVE_INFINITY;
+                for (int k = csr.inicio(camino.get(p)); k < csr.fin(camino.get(p)); k++) {
+                    if (csr.destino(k) == camino.get(p + 1)) mejor = Math.min(mejor, csr.pesoActual(k));
+                }
+                suma += mejor;
+            }
+            assertEquals(esperado, suma, 1e-9);
+        }
+        return consulta.getAsentadas();
+    }
+
+    @Test
+    //ALT y la búsqueda bidireccional dan las mismas distancias que Dijkstra, y ALT asienta menos ciudades
+    void testMismasDistanciasQueDijkstra() {
+        Grafo grafo = crearCuadricula(30, 7);
+        GrafoCSR csr = grafo.getCSR();
+        Dijkstra dijkstra = new Dijkstra(csr);
+        ConsultaALT alt = new ConsultaALT(csr, 8);
+        ConsultaALT bidireccional = new ConsultaALT(csr, 0);
+        Random random = new Random(11);
+        long asentadasDijkstra = 0;
+        long asentadasALT = 0;
+        for (int q = 0; q < 200; q++) {
+            int origen = random.nextInt(900);
+            int destino = random.nextInt(900);
+            if (origen == destino) continue;
+            verificar(grafo, bidireccional, dijkstra, origen, destino);
+            asentadasALT += verificar(grafo, alt, dijkstra, origen, destino);
+            asentadasDijkstra += dijkstra.getAsentadas();
+        }
+        assertTrue(asentadasALT * 2 < asentadasDijkstra);
+    }
+
+    @Test
+    //Con climas mezclados las cotas siguen siendo válidas
+    void testClimasMezclados() {
+        Grafo grafo = crearCuadricula(15, 3);
+        grafo.setConsultaPuntual(ConsultaPuntual.ALT);
+        Random random = new Random(5);
+        CondicionClimatica[] condiciones = CondicionClimatica.values();
+        Dijkstra dijkstra = new Dijkstra(grafo.getCSR());
+        for (int paso = 0; paso < 40; paso++) {
+            int a = random.nextInt(225);
+            int b = (a % 15 + 1 < 15) ? a + 1 : a - 1;
+            grafo.cambiarCondicionConexion("C" + a, "C" + b, condiciones[random.nextInt(condiciones.length)]);
+            int origen = random.nextInt(225);
+            int destino = random.nextInt(225);
+            if (origen == destino) continue;
+            dijkstra.ejecutar(origen, destino);
+            Ruta ruta = grafo.obtenerRuta("C" + origen, "C" + destino);
+            assertEquals(dijkstra.getDistancia(destino), ruta.getTiempo(), 1e-9);
+        }
+    }
+
+    @Test
+    //Consultar con una condición para todas las conexiones equivale a usar esos pesos
+    void testConsultaPorCondicion() {
+        Grafo grafo = crearCuadricula(12, 9);
+        ConsultaALT alt = new ConsultaALT(grafo.getCSR(), 4);
+        Grafo nevado = crearCuadricula(12, 9);
+        for (int a = 0; a < 144; a++) {
+            for (int b = 0; b < 144; b++) {
+                if (nevado.existeConexion("C" + a, "C" + b)) {
+                    nevado.cambiarCondicionConexion("C" + a, "C" + b, CondicionClimatica.NIEVE);
+                }
+            }
+        }
+        Dijkstra dijkstra = new Dijkstra(nevado.getCSR());
+        for (int destino = 1; destino < 144; destino += 7) {
+            dijkstra.ejecutar(0, destino);
+            assertEquals(dijkstra.getDistancia(destino), alt.consultar(0, destino, CondicionClimatica.NIEVE), 1e-9);
+        }
+    }
+
+    @Test
+    //Las ciudades inalcanzables no tienen ruta
+    void testSinRuta() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("A", "B", 1, 1, 1, 1);
+        grafo.agregarConexion("C", "D", 1, 1, 1, 1);
+        grafo.agregarConexion("B", "C", 1, 1, 1, 1);
+        grafo.eliminarConexion("B", "C");
+        assertNull(grafo.obtenerRuta("A", "D"));
+        assertNull(grafo.obtenerRuta("D", "A"));
+        assertEquals(1.0, grafo.obtenerRuta("C", "D").getTiempo(), 0.001);
+    }
+
+    @Test
+    //Reemplazar los tiempos de una conexión existente conserva la vista y las consultas siguen siendo exactas
+    void testReemplazarTiemposConservaVista() {
+        for (ConsultaPuntual motor : ConsultaPuntual.values()) {
+            Grafo grafo = crearCuadricula(10, 13);
+            Grafo esperado = crearCuadricula(10, 13);
+            grafo.setConsultaPuntual(motor);
+            grafo.getTiempo(0, 99);
+            GrafoCSR vista = grafo.getCSR();
+            Random random = new Random(17);
+            for (int cambio = 0; cambio < 30; cambio++) {
+                int a = random.nextInt(99);
+                int b = (a % 10 + 1 < 10) ? a + 1 : a + 10;
+                if (b >= 100) continue;
+                // Unos tiempos suben y otros bajan, para invalidar o conservar las tablas de landmarks
+                double normal = 1 + random.nextDouble() * 10;
+                grafo.agregarConexion(a, b, normal, normal * 1.2, normal * 1.5, normal * 3);
+                esperado.agregarConexion(a, b, normal, normal * 1.2, normal * 1.5, normal * 3);
+                assertSame(vista, grafo.getCSR());
+                Dijkstra dijkstra = new Dijkstra(esperado.getCSR());
+                int origen = 50 + cambio % 10;
+                for (int destino = 1; destino < 100; destino += 11) {
+                    if (destino == origen) continue;
+                    dijkstra.ejecutar(origen, destino);
+                    assertEquals(dijkstra.getDistancia(destino), grafo.getTiempo(origen, destino), 1e-9);
+                }
+            }
+        }
+    }
+}
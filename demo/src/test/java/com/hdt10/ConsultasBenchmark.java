@@ -0,0 +1,120 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ConsultasBenchmark.java
+ * Descripción: Reporte de ciudades asentadas y tiempo por consulta de Dijkstra, Dijkstra bidireccional, ALT
+ *              y la jerarquía de contracción.
+ *              No es una prueba unitaria; se ejecuta a mano después de compilar las pruebas:
+ *              java -cp target/classes:target/test-classes com.hdt10.ConsultasBenchmark [lado] [consultas] [landmarks]
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+public class ConsultasBenchmark {
+
+    public static void main(String[] args) {
+        int lado = (args.length > 0) ? Integer.parseInt(args[0]) : 200;
+        int consultas = (args.length > 1) ? Integer.parseInt(args[1]) : 1000;
+        int landmarks = (args.length > 2) ? Integer.parseInt(args[2]) : Grafo.CANTIDAD_LANDMARKS_DEFECTO;
+        int n = lado * lado;
+
+        Grafo grafo = generarCuadricula(lado, new Random(42));
+        GrafoCSR csr = grafo.getCSR();
+        long inicio = System.nanoTime();
+        ConsultaALT alt = new ConsultaALT(csr, landmarks);
+        double preproceso = (System.nanoTime() - inicio) / 1e6;
+        inicio = System.nanoTime();
+        JerarquiaContraccion jerarquia = new JerarquiaContraccion(csr);
+        double preprocesoJerarquia = (System.nanoTime() - inicio) / 1e6;
+        inicio = System.nanoTime();
+        jerarquia.customizar();
+        double personalizacion = (System.nanoTime() - inicio) / 1e6;
+        ConsultaALT bidireccional = new ConsultaALT(csr, 0);
+        Dijkstra dijkstra = new Dijkstra(csr);
+
+        int[] origenes = new int[consultas];
+        int[] destinos = new int[consultas];
+        Random random = new Random(7);
+        for (int q = 0; q < consultas; q++) {
+            origenes[q] = random.nextInt(n);
+            do {
+                destinos[q] = random.nextInt(n);
+            } while (destinos[q] == origenes[q]);
+        }
+
+        System.out.println("Ciudades: " + n + ", conexiones: " + csr.getCantidadConexiones()
+                + ", consultas: " + consultas + ", landmarks: " + landmarks);
+        System.out.printf("Preproceso ALT (4 condiciones): %.1f ms%n", preproceso);
+        System.out.printf("Preproceso jerarquía: %.1f ms, %d atajos; personalización: %.1f ms%n",
+                preprocesoJerarquia, jerarquia.getCantidadAtajos(), personalizacion);
+        System.out.printf("%-15s %15s %15s %12s%n", "motor", "asentadas/cons", "% del grafo", "us/cons");
+
+        long asentadas = 0;
+        inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            dijkstra.ejecutar(origenes[q], destinos[q]);
+            asentadas += dijkstra.getAsentadas();
+        }
+        reportar("dijkstra", asentadas, System.nanoTime() - inicio, consultas, n);
+
+        asentadas = 0;
+        inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            bidireccional.consultar(origenes[q], destinos[q]);
+            asentadas += bidireccional.getAsentadas();
+        }
+        reportar("bidireccional", asentadas, System.nanoTime() - inicio, consultas, n);
+
+        asentadas = 0;
+        inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            alt.consultar(origenes[q], destinos[q]);
+            asentadas += alt.getAsentadas();
+        }
+        reportar("alt", asentadas, System.nanoTime() - inicio, consultas, n);
+
+        asentadas = 0;
+        inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            jerarquia.consultar(origenes[q], destinos[q]);
+            asentadas += jerarquia.getAsentadas();
+        }
+        reportar("jerarquia", asentadas, System.nanoTime() - inicio, consultas, n);
+    }
+
+    private static void reportar(String motor, long asentadas, long nanos, int consultas, int n) {
+        double promedio = (double) asentadas / consultas;
+        System.out.printf("%-15s %15.0f %14.2f%% %12.1f%n", motor, promedio, 100.0 * promedio / n,
+                nanos / 1e3 / consultas);
+    }
+
+    // Cuadrícula de carreteras en ambos sentidos, parecida a una red vial
+    private static Grafo generarCuadricula(int lado, Random random) {
+        Grafo grafo = new Grafo(lado * lado);
+        for (int f = 0; f < lado; f++) {
+            for (int c = 0; c < lado; c++) {
+                int a = f * lado + c;
+                if (c + 1 < lado) {
+                    conectar(grafo, a, a + 1, random);
+                    conectar(grafo, a + 1, a, random);
+                }
+                if (f + 1 < lado) {
+                    conectar(grafo, a, a + lado, random);
+                    conectar(grafo, a + lado, a, random);
+                }
+            }
+        }
+        return grafo;
+    }
+
+    private static void conectar(Grafo grafo, int a, int b, Random random) {
+        double normal = 1 + random.nextDouble() * 10;
+        grafo.agregarConexion("C" + a, "C" + b, normal, normal * 1.2, normal * 1.5, normal * 2);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ContencionBenchmark.java
+ * Descripción: Benchmark JMH de contención de GrafoConcurrente contra un Grafo protegido con synchronized,
+ *              con lectores de rutas y condiciones y escritores de condiciones en proporciones 7:1 y 1:1.
+ *              No es una prueba unitaria; se ejecuta a mano después de compilar las pruebas:
+ *              mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *              java -cp target/classes:target/test-classes:$(cat target/cp.txt) org.openjdk.jmh.Main ContencionBenchmark
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContencionBenchmark {
+    private static final CondicionClimatica[] CONDICIONES = CondicionClimatica.values();
+
+    @Param({"30"})
+    public int lado;
+
+    // "franjas" usa GrafoConcurrente; "global" serializa todo con synchronized sobre el Grafo
+    @Param({"franjas", "global"})
+    public String modo;
+
+    private int n;
+    private Grafo grafo;
+    private GrafoConcurrente concurrente;
+
+    @Setup
+    public void preparar() {
+        n = lado * lado;
+        grafo = new Grafo(n);
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int a = 0; a < n; a++) {
+            if (a % lado + 1 < lado) conectarAmbos(a, a + 1, random);
+            if (a + lado < n) conectarAmbos(a, a + lado, random);
+        }
+        grafo.floyd();
+        concurrente = new GrafoConcurrente(grafo);
+    }
+
+    private void conectarAmbos(int a, int b, Random random) {
+        double t = 1 + random.nextDouble() * 10;
+        grafo.agregarConexion("C" + a, "C" + b, t, t * 1.2, t * 1.5, t * 2);
+        grafo.agregarConexion("C" + b, "C" + a, t, t * 1.2, t * 1.5, t * 2);
+    }
+
+    private Object leer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String origen = "C" + random.nextInt(n);
+        String destino = "C" + random.nextInt(n);
+        if (modo.equals("franjas")) {
+            return random.nextBoolean() ? concurrente.obtenerRuta(origen, destino)
+                                        : concurrente.getCondicionConexion(origen, destino);
+        }
+        synchronized (grafo) {
+            return random.nextBoolean() ? grafo.obtenerRuta(origen, destino)
+                                        : grafo.getCondicionConexion(origen, destino);
+        }
+    }
+
+    private boolean escribir() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(n - 1);
+        CondicionClimatica condicion = CONDICIONES[random.nextInt(CONDICIONES.length)];
+        if (modo.equals("franjas")) {
+            return concurrente.cambiarCondicionConexion(a, a + 1, condicion);
+        }
+        synchronized (grafo) {
+            return grafo.cambiarCondicionConexion(a, a + 1, condicion);
+        }
+    }
+
+    @Benchmark
+    @Group("lecturas7a1")
+    @GroupThreads(7)
+    public Object lectores7a1() {
+        return leer();
+    }
+
+    @Benchmark
+    @Group("lecturas7a1")
+    @GroupThreads(1)
+    public boolean escritor7a1() {
+        return escribir();
+    }
+
+    @Benchmark
+    @Group("lecturas1a1")
+    @GroupThreads(4)
+    public Object lectores1a1() {
+        return leer();
+    }
+
+    @Benchmark
+    @Group("lecturas1a1")
+    @GroupThreads(4)
+    public boolean escritores1a1() {
+        return escribir();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: CreadorArchivoTest.java
+ * Descripción: Pruebas de los archivos sintéticos de CreadorArchivo
+ */
+
+package com.hdt10;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+
+class CreadorArchivoTest {
+    @TempDir
+    Path directorio;
+
+    @Test
+    //La misma semilla produce el mismo archivo y otra semilla uno distinto
+    void testSemillaReproducible() throws IOException {
+        for (Topologia topologia : Topologia.values()) {
+            Path a = directorio.resolve(topologia + "-a.txt");
+            Path b = directorio.resolve(topologia + "-b.txt");
+            Path c = directorio.resolve(topologia + "-c.txt");
+            CreadorArchivo.crearArchivoSintetico(a.toString(), topologia, 500, 7);
+            CreadorArchivo.crearArchivoSintetico(b.toString(), topologia, 500, 7);
+            CreadorArchivo.crearArchivoSintetico(c.toString(), topologia, 500, 8);
+            assertEquals(Files.readAllLines(a), Files.readAllLines(b));
+            assertNotEquals(Files.readAllLines(a), Files.readAllLines(c));
+        }
+    }
+
+    @Test
+    //La cantidad de conexiones corresponde a la topología
+    void testCantidadConexiones() {
+        // 10 x 10: 2 * 10 * 9 tramos, cada uno en ambos sentidos
+        assertEquals(360, CreadorArchivo.crearArchivoSintetico(directorio.resolve("c.txt").toString(),
+                                                               Topologia.CUADRICULA, 100, 1));
+        // Fila incompleta: 7 ciudades en filas de 3 tienen 4 tramos horizontales y 4 verticales
+        assertEquals(16, CreadorArchivo.crearArchivoSintetico(directorio.resolve("i.txt").toString(),
+                                                              Topologia.CUADRICULA, 7, 1));
+        // Grupo inicial de 4 ciudades (6 tramos) y 3 tramos por cada una de las otras 996
+        assertEquals(2 * (6 + 996 * 3), CreadorArchivo.crearArchivoSintetico(directorio.resolve("l.txt").toString(),
+                                                                             Topologia.LIBRE_ESCALA, 1000, 1));
+    }
+
+    @Test
+    //El archivo se carga con LectorArchivo y el mal clima nunca acelera una conexión
+    void testCargaYClimaOrdenado() throws IOException {
+        for (Topologia topologia : Topologia.values()) {
+            Path archivo = directorio.resolve(topologia + ".txt");
+            long conexiones = CreadorArchivo.crearArchivoSintetico(archivo.toString(), topologia, 400, 3);
+            List<String> lineas = Files.readAllLines(archivo);
+            assertEquals(conexiones, lineas.size());
+            for (String linea : lineas) {
+                String[] partes = linea.split(" ");
+                assertEquals(6, partes.length);
+                for (int t = 2; t < 5; t++) {
+                    assertTrue(Double.parseDouble(partes[t]) <= Double.parseDouble(partes[t + 1]), linea);
+                }
+            }
+
+            Grafo grafo = new Grafo(16);
+            assertTrue(LectorArchivo.cargarConexiones(archivo.toString(), grafo, false));
+            assertEquals(400, grafo.getCiudades().size());
+            // Todas las topologías son conexas, aun con tramos faltantes
+            grafo.floyd();
+            for (int c = 1; c < 400; c++) {
+                assertNotNull(grafo.obtenerRuta("C0", "C" + c));
+                assertNotNull(grafo.obtenerRuta("C" + c, "C0"));
+            }
+        }
+    }
+
+    @Test
+    //El grafo generado en memoria tiene las mismas conexiones, en el mismo orden, que el archivo sintético
+    void testGenerarIgualAlArchivo() throws IOException {
+        for (Topologia topologia : Topologia.values()) {
+            Path archivo = directorio.resolve(topologia + "-m.txt");
+            CreadorArchivo.crearArchivoSintetico(archivo.toString(), topologia, 300, 5);
+            List<String> lineas = Files.readAllLines(archivo);
+            ConstructorGrafo constructor = CreadorArchivo.generar(topologia, 300, 5);
+            assertEquals(300, constructor.getCantidadCiudades());
+            assertEquals(lineas.size(), constructor.getCantidadConexiones());
+            for (int e = 0; e < lineas.size(); e++) {
+                String[] partes = lineas.get(e).split(" ");
+                assertEquals(partes[0], constructor.getNombre(constructor.getOrigen(e)));
+                assertEquals(partes[1], constructor.getNombre(constructor.getDestino(e)));
+                assertEquals(Double.parseDouble(partes[2]), constructor.getPeso(CondicionClimatica.NORMAL, e), 0.005);
+                assertEquals(Double.parseDouble(partes[5]), constructor.getPeso(CondicionClimatica.TORMENTA, e), 0.005);
+            }
+        }
+    }
+}
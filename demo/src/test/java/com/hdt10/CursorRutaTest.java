@@ -0,0 +1,157 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: CursorRutaTest.java
+ * Descripción: Pruebas del recorrido de rutas con cursor, las consultas de solo tiempo o saltos y la ruta
+ *              reutilizable
+ */
+
+package com.hdt10;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.ConsultaPuntual;
+
+class CursorRutaTest {
+    private static List<String> recorrer(CursorRuta cursor) {
+        List<String> camino = new ArrayList<>();
+        while (cursor.siguiente()) {
+            camino.add(cursor.getNombreCiudad());
+        }
+        return camino;
+    }
+
+    // Compara el cursor, el tiempo, los saltos y la ruta reutilizable con obtenerRuta en todos los pares
+    private static void assertIgualAObtenerRuta(Grafo grafo) {
+        CursorRuta cursor = new CursorRuta();
+        Ruta reutilizable = new Ruta();
+        int n = grafo.getCantidadCiudades();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                Ruta ruta = grafo.obtenerRuta(i, j);
+                boolean hayRuta = grafo.recorrerRuta(i, j, cursor);
+                assertEquals(ruta != null, hayRuta);
+                assertEquals(ruta != null, grafo.obtenerRuta(i, j, reutilizable));
+                if (ruta == null) {
+                    assertEquals(Double.POSITIVE_INFINITY, grafo.getTiempo(i, j));
+                    assertEquals(-1, grafo.getSaltos(i, j));
+                    assertTrue(reutilizable.getCamino().isEmpty());
+                    continue;
+                }
+                assertEquals(ruta.getCamino(), recorrer(cursor));
+                assertEquals(ruta.getTiempo(), cursor.getTiempo());
+                assertEquals(ruta.getTiempo(), grafo.getTiempo(i, j));
+                assertEquals(ruta.getCamino().size() - 1, grafo.getSaltos(i, j));
+                assertEquals(ruta.getCamino(), reutilizable.getCamino());
+                assertEquals(ruta.getTiempo(), reutilizable.getTiempo());
+            }
+        }
+    }
+
+    @Test
+    //Con las rutas de floyd() el cursor sigue los sucesores y da lo mismo que obtenerRuta
+    void testCursorConFloyd() {
+        Grafo grafo = GeneradorGrafos.generar(Topologia.DISPERSO, 60, 3).construir();
+        grafo.floyd();
+        assertIgualAObtenerRuta(grafo);
+    }
+
+    @Test
+    //Sin rutas de floyd(), cada motor de consulta puntual llena el cursor con el mismo camino
+    void testCursorConConsultaPuntual() {
+        for (ConsultaPuntual consulta : ConsultaPuntual.values()) {
+            Grafo grafo = GeneradorGrafos.generar(Topologia.CARRETERAS, 40, 5).construir();
+            grafo.setConsultaPuntual(consulta);
+            assertFalse(grafo.hayRutasCalculadas());
+            assertIgualAObtenerRuta(grafo);
+        }
+    }
+
+    @Test
+    //El cursor se puede recorrer otra vez, y los índices o nombres que no existen no dan ruta
+    void testReiniciarYCiudadesInexistentes() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("A", "B", 1, 2, 3, 4);
+        grafo.agregarConexion("B", "C", 1, 2, 3, 4);
+        grafo.floyd();
+        CursorRuta cursor = new CursorRuta();
+        assertTrue(grafo.recorrerRuta("A", "C", cursor));
+        assertEquals(List.of("A", "B", "C"), recorrer(cursor));
+        assertFalse(cursor.siguiente());
+        cursor.reiniciar();
+        assertEquals(List.of("A", "B", "C"), recorrer(cursor));
+        assertEquals(2, grafo.getSaltos("A", "C"));
+        assertEquals(2.0, grafo.getTiempo("A", "C"));
+
+        assertFalse(grafo.recorrerRuta("A", "Z", cursor));
+        assertFalse(cursor.siguiente());
+        assertFalse(grafo.recorrerRuta(0, 7, cursor));
+        assertEquals(Double.POSITIVE_INFINITY, grafo.getTiempo(-1, 0));
+        assertEquals(-1, grafo.getSaltos("C", "A"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> grafo.obtenerRuta(0, 2, new Ruta(new ArrayList<>(), 0)));
+    }
+
+    @Test
+    //Consultar rutas con un cursor y una ruta reutilizables no crea objetos por consulta
+    void testSinAsignacionesPorConsulta() {
+        Grafo grafo = GeneradorGrafos.generar(Topologia.CUADRICULA, 400, 1).construir();
+        grafo.floyd();
+        InstantaneaRutas instantanea = grafo.publicarRutas();
+        CursorRuta cursor = new CursorRuta();
+        Ruta ruta = new Ruta();
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long hilo = Thread.currentThread().getId();
+
+        double suma = 0;
+        for (int repeticion = 0; repeticion < 2; repeticion++) {
+            long antes = hilos.getThreadAllocatedBytes(hilo);
+            for (int k = 0; k < 20000; k++) {
+                int i = (k * 7919) % 400;
+                int j = (k * 104729) % 400;
+                suma += grafo.getTiempo(i, j) + grafo.getSaltos(i, j);
+                grafo.obtenerRuta(i, j, ruta);
+                instantanea.obtenerRuta(j, i, cursor, ruta);
+                suma += ruta.getCamino().size();
+            }
+            long asignados = hilos.getThreadAllocatedBytes(hilo) - antes;
+            // La primera vuelta hace crecer la lista de la ruta; la segunda ya no debe asignar memoria
+            if (repeticion == 1) {
+                assertTrue(asignados < 4096, "Se asignaron " + asignados + " bytes");
+            }
+        }
+        assertTrue(suma > 0);
+    }
+
+    @Test
+    //toString escribe el tiempo igual que String.format("%.2f"), también con coma decimal o con otros dígitos
+    void testToStringComoFormat() {
+        Locale anterior = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            for (Locale idioma : new Locale[] {Locale.US, new Locale("es", "ES"), new Locale("ar", "EG"),
+                    new Locale("fa", "IR"), Locale.forLanguageTag("hi-IN-u-nu-deva")}) {
+                Locale.setDefault(Locale.Category.FORMAT, idioma);
+                for (double tiempo : new double[] {0, 10, 0.125, 1.115, 2.675, 0.005, 123456789.995, -0.001, -3.5}) {
+                    Ruta ruta = new Ruta(List.of("A", "B"), tiempo);
+                    assertEquals("Ruta: A -> B\nTiempo: " + String.format("%.2f", tiempo), ruta.toString());
+                }
+            }
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, anterior);
+        }
+    }
+}
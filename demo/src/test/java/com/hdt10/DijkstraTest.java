@@ -0,0 +1,109 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: DijkstraTest.java
+ * Descripción: Pruebas de las consultas con Dijkstra sobre la vista CSR, comparadas contra floyd()
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+class DijkstraTest {
+
+    // Red dispersa reproducible, con unas 4 conexiones por ciudad
+    private Grafo crearGrafoDisperso(int ciudades, long semilla) {
+        Grafo grafo = new Grafo(ciudades);
+        Random random = new Random(semilla);
+        for (int i = 0; i < ciudades; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int c = 0; c < ciudades * 4; c++) {
+            int origen = random.nextInt(ciudades);
+            int destino = random.nextInt(ciudades);
+            double normal = 1 + random.nextDouble() * 20;
+            grafo.agregarConexion("C" + origen, "C" + destino, normal, normal * 1.2, normal * 1.5, normal * 2);
+        }
+        return grafo;
+    }
+
+    @Test
+    //Sin floyd() las rutas se responden con Dijkstra y coinciden con las de floyd()
+    void testMismasRutasQueFloyd() {
+        int ciudades = 120;
+        Grafo conFloyd = crearGrafoDisperso(ciudades, 5);
+        Grafo sinFloyd = crearGrafoDisperso(ciudades, 5);
+        conFloyd.floyd();
+
+        for (int i = 0; i < ciudades; i++) {
+            for (int j = 0; j < ciudades; j++) {
+                Ruta esperada = conFloyd.obtenerRuta("C" + i, "C" + j);
+                Ruta obtenida = sinFloyd.obtenerRuta("C" + i, "C" + j);
+                if (esperada == null) {
+                    assertNull(obtenida);
+                    continue;
+                }
+                assertNotNull(obtenida);
+                assertEquals(esperada.getTiempo(), obtenida.getTiempo(), 1e-9);
+                assertEquals(esperada.getCamino(), obtenida.getCamino());
+            }
+        }
+        assertFalse(sinFloyd.hayRutasCalculadas());
+    }
+
+    @Test
+    //Los cambios de condición y de conexiones se reflejan en la siguiente consulta
+    void testCambiosSinFloyd() {
+        Grafo grafo = new Grafo(2);
+        grafo.agregarConexion("Guatemala", "Quetzaltenango", 5.0, 6.0, 7.0, 10.0);
+        grafo.agregarConexion("Quetzaltenango", "Antigua", 3.0, 4.0, 5.0, 8.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        grafo.agregarConexion("Guatemala", "Escuintla", 15.0, 18.0, 20.0, 25.0);
+
+        assertEquals(10.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+
+        grafo.cambiarCondicionConexion("Quetzaltenango", "Antigua", CondicionClimatica.TORMENTA);
+        assertEquals(15.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+
+        grafo.eliminarConexion("Guatemala", "Escuintla");
+        assertEquals(15.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        assertEquals(4, grafo.obtenerRuta("Guatemala", "Escuintla").getCamino().size());
+
+        // Reemplazar una conexión existente cambia también sus tiempos por condición
+        grafo.agregarConexion("Quetzaltenango", "Antigua", 1.0, 1.0, 1.0, 1.0);
+        grafo.cambiarCondicionConexion("Quetzaltenango", "Antigua", CondicionClimatica.TORMENTA);
+        assertEquals(8.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+
+        // Una ciudad sin ciclo no tiene ruta hacia sí misma
+        assertNull(grafo.obtenerRuta("Guatemala", "Guatemala"));
+        grafo.agregarConexion("Escuintla", "Guatemala", 4.0, 4.0, 4.0, 4.0);
+        assertEquals(12.0, grafo.obtenerRuta("Guatemala", "Guatemala").getTiempo(), 0.001);
+        assertFalse(grafo.hayRutasCalculadas());
+    }
+
+    @Test
+    //Con un destino, Dijkstra se detiene antes de asentar todo el grafo
+    void testDetenerseEnDestino() {
+        Grafo grafo = new Grafo(100);
+        for (int i = 0; i < 99; i++) {
+            grafo.agregarConexion("C" + i, "C" + (i + 1), 1, 1, 1, 1);
+        }
+        Dijkstra dijkstra = new Dijkstra(grafo.getCSR());
+        dijkstra.ejecutar(0, 5);
+        assertEquals(5.0, dijkstra.getDistancia(5), 0.001);
+        assertTrue(dijkstra.getAsentadas() <= 6);
+    }
+}
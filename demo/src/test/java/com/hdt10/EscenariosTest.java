@@ -0,0 +1,131 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: EscenariosTest.java
+ * Descripción: Pruebas de las rutas precalculadas para los escenarios de clima uniforme
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+import com.hdt10.Grafo.MotorRutas;
+
+class EscenariosTest {
+
+    // Red dirigida al azar; con la misma semilla se obtiene el mismo grafo
+    private Grafo crearGrafo(int ciudades, long semilla) {
+        Grafo grafo = new Grafo(ciudades);
+        Random random = new Random(semilla);
+        for (int i = 0; i < ciudades; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int c = 0; c < ciudades * 4; c++) {
+            double normal = 1 + random.nextDouble() * 10;
+            double lluvia = normal * (1 + random.nextDouble());
+            grafo.agregarConexion("C" + random.nextInt(ciudades), "C" + random.nextInt(ciudades),
+                                  normal, lluvia, lluvia * 1.5, normal * (1 + random.nextDouble() * 4));
+        }
+        return grafo;
+    }
+
+    // Pone todas las conexiones en la condición dada, una por una
+    private void ponerCondicion(Grafo grafo, int ciudades, CondicionClimatica condicion) {
+        for (int a = 0; a < ciudades; a++) {
+            for (int b = 0; b < ciudades; b++) {
+                grafo.cambiarCondicionConexion("C" + a, "C" + b, condicion);
+            }
+        }
+    }
+
+    private void verificarIguales(ResultadoRutas esperado, ResultadoRutas obtenido, int ciudades) {
+        for (int i = 0; i < ciudades; i++) {
+            for (int j = 0; j < ciudades; j++) {
+                assertEquals(esperado.getDistancia(i, j), obtenido.getDistancia(i, j), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    //Cada escenario coincide con calcular las rutas después de poner todas las conexiones en esa condición
+    void testEscenariosCoincidenConFloyd() {
+        for (MotorRutas motor : new MotorRutas[] {MotorRutas.BLOQUES, MotorRutas.JOHNSON}) {
+            Grafo grafo = crearGrafo(40, 3);
+            grafo.setMotorRutas(motor);
+            grafo.setParalelismo(4);
+            grafo.precalcularEscenarios();
+            assertTrue(grafo.hayEscenariosCalculados());
+
+            for (CondicionClimatica condicion : CondicionClimatica.values()) {
+                Grafo uniforme = crearGrafo(40, 3);
+                ponerCondicion(uniforme, 40, condicion);
+                uniforme.setMotorRutas(MotorRutas.CLASICO);
+                verificarIguales(uniforme.getResultadoRutas(), grafo.getResultadoEscenario(condicion), 40);
+            }
+        }
+    }
+
+    @Test
+    //Consultar con una condición no cambia las condiciones actuales de las conexiones
+    void testObtenerRutaPorCondicion() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("Guatemala", "Antigua", 5.0, 6.0, 7.0, 30.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 30.0);
+        grafo.agregarConexion("Guatemala", "Escuintla", 15.0, 18.0, 20.0, 25.0);
+
+        assertEquals(11.0, grafo.obtenerRuta("Guatemala", "Escuintla", CondicionClimatica.NIEVE).getTiempo(), 0.001);
+        assertEquals(3, grafo.obtenerRuta("Guatemala", "Escuintla", CondicionClimatica.NIEVE).getCamino().size());
+        assertEquals(25.0, grafo.obtenerRuta("Guatemala", "Escuintla", CondicionClimatica.TORMENTA).getTiempo(), 0.001);
+        assertEquals(2, grafo.obtenerRuta("Guatemala", "Escuintla", CondicionClimatica.TORMENTA).getCamino().size());
+        assertNull(grafo.obtenerRuta("Escuintla", "Guatemala", CondicionClimatica.NORMAL));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion("Guatemala", "Antigua"));
+        assertEquals(7.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+    }
+
+    @Test
+    //Activar un escenario reutiliza sus rutas y los cambios posteriores no alteran el escenario guardado
+    void testActivarEscenario() {
+        Grafo grafo = crearGrafo(30, 5);
+        grafo.precalcularEscenarios();
+        grafo.activarEscenario(CondicionClimatica.LLUVIA);
+        assertTrue(grafo.hayRutasCalculadas());
+        assertSame(grafo.getResultadoEscenario(CondicionClimatica.LLUVIA), grafo.getResultadoRutas());
+        for (CondicionClimatica condicion : grafo.getTodasLasCondiciones().values()) {
+            assertEquals(CondicionClimatica.LLUVIA, condicion);
+        }
+
+        // Un cambio de condición corrige una copia de las rutas, no el escenario
+        Grafo esperado = crearGrafo(30, 5);
+        ponerCondicion(esperado, 30, CondicionClimatica.LLUVIA);
+        ResultadoRutas lluvia = esperado.getResultadoRutas().copiar();
+        for (int a = 0; a < 30; a++) {
+            for (int b = 0; b < 30; b++) {
+                if (grafo.cambiarCondicionConexion("C" + a, "C" + b, CondicionClimatica.TORMENTA)) {
+                    esperado.cambiarCondicionConexion("C" + a, "C" + b, CondicionClimatica.TORMENTA);
+                    a = 30;
+                    break;
+                }
+            }
+        }
+        verificarIguales(esperado.getResultadoRutas(), grafo.getResultadoRutas(), 30);
+        verificarIguales(lluvia, grafo.getResultadoEscenario(CondicionClimatica.LLUVIA), 30);
+        assertTrue(grafo.hayEscenariosCalculados());
+
+        // Agregar una conexión cambia los pesos por condición y descarta los escenarios
+        grafo.agregarConexion("C0", "C1", 0.5, 0.5, 0.5, 0.5);
+        assertFalse(grafo.hayEscenariosCalculados());
+        assertEquals(0.5, grafo.obtenerRuta("C0", "C1", CondicionClimatica.TORMENTA).getTiempo(), 0.001);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: ExcentricidadesTest.java
+ * Descripción: Pruebas de las excentricidades, el centro, el radio, el diámetro y la periferia, con las rutas de
+ *              floyd() y con las cotas de los grafos dispersos
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+
+class ExcentricidadesTest {
+    private final static double INF = Double.POSITIVE_INFINITY;
+
+    // Excentricidades recorriendo todas las filas de floyd()
+    private static double[] excentricidadesDe(ResultadoRutas rutas) {
+        int n = rutas.getCantidadCiudades();
+        double[] excentricidad = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j) excentricidad[i] = Math.max(excentricidad[i], rutas.getDistancia(i, j));
+            }
+        }
+        return excentricidad;
+    }
+
+    // Compara todas las medidas del motor con las calculadas a mano desde las excentricidades
+    private static void assertMedidas(double[] esperada, Excentricidades motor) {
+        int n = esperada.length;
+        int centro = -1;
+        double diametro = 0;
+        for (int v = 0; v < n; v++) {
+            if (esperada[v] != INF && (centro == -1 || esperada[v] < esperada[centro])) centro = v;
+            diametro = Math.max(diametro, esperada[v]);
+        }
+        List<Integer> centrales = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            if (esperada[v] != INF) centrales.add(v);
+        }
+        centrales.sort((a, b) -> (esperada[a] != esperada[b]) ? Double.compare(esperada[a], esperada[b])
+                                                              : Integer.compare(a, b));
+
+        assertEquals(centrales.subList(0, Math.min(5, centrales.size())), motor.getMasCentrales(5));
+        assertEquals(centro, motor.getCentro());
+        assertEquals((centro == -1) ? INF : esperada[centro], motor.getRadio(), 1e-9);
+        assertEquals(diametro, motor.getDiametro(), 1e-9);
+        for (int v : motor.getPeriferia()) {
+            assertEquals(diametro, esperada[v], 1e-9);
+        }
+        for (int v = 0; v < n; v += 7) {
+            assertEquals(esperada[v], motor.getExcentricidad(v), 1e-9);
+        }
+    }
+
+    @Test
+    //Con cotas, sin rutas de floyd(), las medidas son las mismas que recorriendo la matriz completa
+    void testCotasIgualAMatriz() {
+        for (Topologia topologia : new Topologia[] {Topologia.DISPERSO, Topologia.CARRETERAS, Topologia.CUADRICULA}) {
+            for (int semilla = 1; semilla <= 3; semilla++) {
+                Grafo grafo = GeneradorGrafos.generar(topologia, 150, semilla).construir();
+                double[] esperada = excentricidadesDe(grafo.getResultadoRutas());
+                assertMedidas(esperada, new Excentricidades(grafo.getCSR(), grafo.getComponentes()));
+                assertMedidas(esperada, new Excentricidades(grafo.getResultadoRutas(), 1));
+            }
+        }
+    }
+
+    @Test
+    //La poda por cotas encuentra el centro de un grafo conexo sin buscar desde todas las ciudades
+    void testPodaPorCotas() {
+        for (Topologia topologia : new Topologia[] {Topologia.CUADRICULA, Topologia.DISPERSO}) {
+            Grafo grafo = GeneradorGrafos.generar(topologia, 400, 11).construir();
+            Excentricidades motor = new Excentricidades(grafo.getCSR(), grafo.getComponentes());
+            assertTrue(motor.getCentro() != -1);
+            assertTrue(motor.getBusquedas() < 400 / 4, topologia + ": " + motor.getBusquedas() + " búsquedas");
+        }
+    }
+
+    @Test
+    //El recorrido inicial en paralelo da lo mismo que en serie
+    void testRecorridoParalelo() {
+        Grafo grafo = GeneradorGrafos.generar(Topologia.DENSO, 300, 4).construir();
+        ResultadoRutas rutas = grafo.getResultadoRutas();
+        double[] esperada = excentricidadesDe(rutas);
+        Excentricidades paralelo = new Excentricidades(rutas, 4);
+        for (int v = 0; v < esperada.length; v++) {
+            assertEquals(esperada[v], paralelo.getExcentricidad(v));
+        }
+    }
+
+    @Test
+    //Las correcciones incrementales de floyd() marcan las filas que cambian y el centro sigue al día
+    void testActualizacionIncremental() {
+        ConstructorGrafo datos = GeneradorGrafos.generar(Topologia.CARRETERAS, 120, 5);
+        Grafo grafo = datos.construir();
+        grafo.floyd();
+        grafo.obtenerCentro();
+        grafo.publicarRutas(); // Las correcciones trabajan sobre una copia que debe conservar las excentricidades
+
+        CondicionClimatica[] condiciones = CondicionClimatica.values();
+        for (int paso = 0; paso < 20; paso++) {
+            int e = (paso * 37) % datos.getCantidadConexiones();
+            // Los índices del grafo construido son los del constructor
+            grafo.cambiarCondicionConexion(datos.getOrigen(e), datos.getDestino(e), condiciones[paso % condiciones.length]);
+            assertTrue(grafo.hayRutasCalculadas());
+
+            Grafo referencia = datos.construir();
+            for (int f = 0; f <= paso; f++) {
+                int ef = (f * 37) % datos.getCantidadConexiones();
+                referencia.cambiarCondicionConexion(datos.getOrigen(ef), datos.getDestino(ef),
+                                                    condiciones[f % condiciones.length]);
+            }
+            referencia.floyd();
+            assertEquals(referencia.obtenerCentro(), grafo.obtenerCentro());
+            assertEquals(referencia.getRadio(), grafo.getRadio(), 1e-9);
+            assertEquals(referencia.getDiametro(), grafo.getDiametro(), 1e-9);
+        }
+    }
+
+    @Test
+    //Con una ciudad aislada no hay centro y la periferia son todas las ciudades
+    void testCiudadesInalcanzables() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("A", "B", 1, 2, 3, 4);
+        grafo.agregarConexion("B", "C", 2, 3, 4, 5);
+        grafo.agregarConexion("C", "A", 4, 5, 6, 7);
+        assertEquals("A", grafo.obtenerCentro());
+        assertEquals(3, grafo.getRadio());
+        assertEquals(6, grafo.getDiametro());
+        assertEquals(List.of("B"), grafo.obtenerPeriferia());
+        assertEquals(List.of("A", "C", "B"), grafo.obtenerMasCentrales(5));
+        assertEquals(5, grafo.getExcentricidad("C"));
+
+        grafo.agregarCiudad("D");
+        assertEquals("No hay centro", grafo.obtenerCentro());
+        assertEquals(INF, grafo.getRadio());
+        assertEquals(INF, grafo.getDiametro());
+        assertEquals(List.of("A", "B", "C", "D"), grafo.obtenerPeriferia());
+        assertTrue(grafo.obtenerMasCentrales(2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> grafo.getExcentricidad("Z"));
+    }
+}
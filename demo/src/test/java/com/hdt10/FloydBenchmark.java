@@ -0,0 +1,88 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: FloydBenchmark.java
+ * Descripción: Reporte de aceleración de Floyd-Warshall por bloques, en serie y en paralelo, contra el triple
+ *              ciclo clásico.
+ *              No es una prueba unitaria; se ejecuta a mano después de compilar las pruebas:
+ *              java -cp target/classes:target/test-classes com.hdt10.FloydBenchmark [n] [tamanoBloque]
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class FloydBenchmark {
+    private static final int REPETICIONES = 3;
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+        int tamanoBloque = (args.length > 1) ? Integer.parseInt(args[1]) : FloydBloques.TAMANO_BLOQUE_DEFECTO;
+        int procesadores = Runtime.getRuntime().availableProcessors();
+
+        double[] dist = new double[n * n];
+        int[] next = new int[n * n];
+        generarGrafo(dist, next, n, new Random(42));
+
+        System.out.println("Ciudades: " + n + ", bloque: " + tamanoBloque + ", procesadores: " + procesadores);
+        double tiempoClasico = medir(null, dist, next, n);
+        System.out.printf("%-10s %10.1f ms%n", "clásico", tiempoClasico);
+        double tiempoSerie = medir(new FloydBloques(tamanoBloque, 1), dist, next, n);
+        System.out.printf("%-10s %10.1f ms   aceleración %.2fx%n", "bloques", tiempoSerie, tiempoClasico / tiempoSerie);
+
+        for (int hilos = 2; hilos <= procesadores; hilos *= 2) {
+            double tiempo = medir(new FloydBloques(tamanoBloque, hilos), dist, next, n);
+            System.out.printf("%-10s %10.1f ms   aceleración %.2fx (%.2fx sobre bloques)%n", hilos + " hilos", tiempo,
+                              tiempoClasico / tiempo, tiempoSerie / tiempo);
+        }
+    }
+
+    // Grafo disperso con unas 6 conexiones por ciudad
+    private static void generarGrafo(double[] dist, int[] next, int n, Random random) {
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0;
+            next[i * n + i] = i;
+            for (int c = 0; c < 6; c++) {
+                int j = random.nextInt(n);
+                if (j == i) continue; // No sobrescribir la diagonal
+                dist[i * n + j] = 1 + random.nextDouble() * 20;
+                next[i * n + j] = j;
+            }
+        }
+    }
+
+    // Triple ciclo del motor CLASICO de Grafo, como referencia
+    private static void clasico(double[] dist, int[] next, int n) {
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    if (dist[i * n + k] + dist[k * n + j] < dist[i * n + j]) {
+                        dist[i * n + j] = dist[i * n + k] + dist[k * n + j];
+                        next[i * n + j] = next[i * n + k];
+                    }
+    }
+
+    // Mejor tiempo de varias ejecuciones, en milisegundos; sin motor mide el triple ciclo clásico
+    private static double medir(FloydBloques motor, double[] dist, int[] next, int n) {
+        double mejor = Double.POSITIVE_INFINITY;
+        for (int r = 0; r < REPETICIONES; r++) {
+            double[] d = dist.clone();
+            int[] s = next.clone();
+            long inicio = System.nanoTime();
+            if (motor == null) {
+                clasico(d, s, n);
+            } else {
+                motor.ejecutar(d, s, n);
+            }
+            mejor = Math.min(mejor, (System.nanoTime() - inicio) / 1e6);
+        }
+        return mejor;
+    }
+}
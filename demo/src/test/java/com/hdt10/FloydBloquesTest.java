@@ -0,0 +1,145 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: FloydBloquesTest.java
+ * Descripción: Pruebas que comparan el motor de Floyd-Warshall por bloques contra el ciclo clásico de Grafo
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.MotorRutas;
+
+class FloydBloquesTest {
+
+    // Crea un grafo aleatorio reproducible; los pesos con decimales evitan empates entre rutas
+    private Grafo crearGrafoAleatorio(int ciudades, int conexiones, long semilla) {
+        Grafo grafo = new Grafo(ciudades);
+        Random random = new Random(semilla);
+        for (int i = 0; i < ciudades; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int c = 0; c < conexiones; c++) {
+            int origen = random.nextInt(ciudades);
+            int destino = random.nextInt(ciudades);
+            if (origen == destino) continue;
+            double normal = 1 + random.nextDouble() * 20;
+            grafo.agregarConexion("C" + origen, "C" + destino, normal, normal * 1.2, normal * 1.5, normal * 2);
+        }
+        return grafo;
+    }
+
+    private void compararMotores(int ciudades, int conexiones, int tamanoBloque) {
+        compararMotores(ciudades, conexiones, tamanoBloque, MotorRutas.BLOQUES);
+    }
+
+    private void compararMotores(int ciudades, int conexiones, int tamanoBloque, MotorRutas motor) {
+        Grafo clasico = crearGrafoAleatorio(ciudades, conexiones, 42);
+        Grafo bloques = crearGrafoAleatorio(ciudades, conexiones, 42);
+        bloques.setMotorRutas(motor);
+        bloques.setTamanoBloque(tamanoBloque);
+        bloques.setParalelismo(4);
+
+        clasico.floyd();
+        bloques.floyd();
+
+        for (int i = 0; i < ciudades; i++) {
+            for (int j = 0; j < ciudades; j++) {
+                Ruta esperada = clasico.obtenerRuta("C" + i, "C" + j);
+                Ruta obtenida = bloques.obtenerRuta("C" + i, "C" + j);
+                if (esperada == null) {
+                    assertNull(obtenida);
+                    continue;
+                }
+                assertNotNull(obtenida);
+                assertEquals(esperada.getTiempo(), obtenida.getTiempo(), 1e-9);
+                assertEquals(esperada.getCamino(), obtenida.getCamino());
+            }
+        }
+    }
+
+    @Test
+    //El motor por bloques debe dar las mismas rutas que el ciclo clásico
+    void testMismasRutasQueClasico() {
+        compararMotores(150, 600, 16);
+    }
+
+    @Test
+    //Tamaños de bloque que no dividen a n, de una sola ciudad y mayores que n
+    void testTamanosDeBloque() {
+        compararMotores(37, 120, 1);
+        compararMotores(37, 120, 5);
+        compararMotores(37, 120, 64);
+    }
+
+    @Test
+    //El motor por bloques también funciona con el grafo de GrafoTest
+    void testGrafoPequeno() {
+        Grafo grafo = new Grafo(10);
+        grafo.setMotorRutas(MotorRutas.BLOQUES);
+        grafo.setTamanoBloque(2);
+        grafo.agregarConexion("Guatemala", "Quetzaltenango", 5.0, 6.0, 7.0, 10.0);
+        grafo.agregarConexion("Quetzaltenango", "Antigua", 3.0, 4.0, 5.0, 8.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        grafo.agregarConexion("Guatemala", "Escuintla", 15.0, 18.0, 20.0, 25.0);
+        grafo.floyd();
+
+        Ruta ruta = grafo.obtenerRuta("Guatemala", "Escuintla");
+        assertNotNull(ruta);
+        assertEquals(10.0, ruta.getTiempo(), 0.001);
+        assertEquals(4, ruta.getCamino().size());
+        assertNull(grafo.obtenerRuta("Escuintla", "Guatemala"));
+    }
+
+    @Test
+    //El motor paralelo debe dar las mismas rutas que el ciclo clásico
+    void testParaleloMismasRutasQueClasico() {
+        compararMotores(150, 600, 16, MotorRutas.PARALELO);
+        compararMotores(37, 120, 5, MotorRutas.PARALELO);
+    }
+
+    @Test
+    //En paralelo, las matrices de distancias y sucesores son idénticas a las de la ejecución en serie
+    void testParaleloDeterminista() {
+        int n = 90;
+        Random random = new Random(7);
+        double[] distSerie = new double[n * n];
+        int[] nextSerie = new int[n * n];
+        Arrays.fill(distSerie, Double.POSITIVE_INFINITY);
+        Arrays.fill(nextSerie, -1);
+        for (int c = 0; c < 400; c++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            // Pesos enteros para provocar empates entre rutas
+            distSerie[i * n + j] = 1 + random.nextInt(5);
+            nextSerie[i * n + j] = j;
+        }
+        for (int i = 0; i < n; i++) {
+            distSerie[i * n + i] = 0;
+            nextSerie[i * n + i] = i;
+        }
+        double[] distParalelo = distSerie.clone();
+        int[] nextParalelo = nextSerie.clone();
+
+        new FloydBloques(8).ejecutar(distSerie, nextSerie, n);
+        for (int repeticion = 0; repeticion < 5; repeticion++) {
+            double[] dist = distParalelo.clone();
+            int[] next = nextParalelo.clone();
+            new FloydBloques(8, 4).ejecutar(dist, next, n);
+            assertArrayEquals(distSerie, dist);
+            assertArrayEquals(nextSerie, next);
+        }
+    }
+}
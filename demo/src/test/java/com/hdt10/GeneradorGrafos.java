@@ -0,0 +1,59 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: GeneradorGrafos.java
+ * Descripción: Grafos sintéticos reproducibles para las pruebas y los benchmarks. Los genera CreadorArchivo,
+ *              así que son los mismos que sus archivos sintéticos. Las ciudades se llaman C0, C1, ... en el
+ *              orden de sus índices.
+ */
+
+package com.hdt10;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+
+public class GeneradorGrafos {
+    private GeneradorGrafos() {
+    }
+
+    /**
+     * Genera las ciudades y conexiones de un grafo sintético.
+     *
+     * @param topologia Forma del grafo.
+     * @param ciudades Cantidad de ciudades.
+     * @param semilla Semilla del generador; la misma semilla produce el mismo grafo.
+     * @return Constructor con las ciudades y conexiones.
+     */
+    public static ConstructorGrafo generar(Topologia topologia, int ciudades, long semilla) {
+        return CreadorArchivo.generar(topologia, ciudades, semilla);
+    }
+
+    /**
+     * Escribe las conexiones de un constructor en el formato de LectorArchivo.
+     *
+     * @param constructor Conexiones a escribir.
+     * @param archivo Archivo destino; se reemplaza si existe.
+     * @throws IOException Si no se puede escribir.
+     */
+    public static void escribirArchivo(ConstructorGrafo constructor, Path archivo) throws IOException {
+        try (BufferedWriter escritor = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            for (int e = 0; e < constructor.getCantidadConexiones(); e++) {
+                escritor.write(String.format(Locale.ROOT, "%s %s %.3f %.3f %.3f %.3f%n",
+                        constructor.getNombre(constructor.getOrigen(e)), constructor.getNombre(constructor.getDestino(e)),
+                        constructor.getPeso(CondicionClimatica.NORMAL, e), constructor.getPeso(CondicionClimatica.LLUVIA, e),
+                        constructor.getPeso(CondicionClimatica.NIEVE, e), constructor.getPeso(CondicionClimatica.TORMENTA, e)));
+            }
+        }
+    }
+}
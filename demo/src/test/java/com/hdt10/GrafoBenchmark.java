@@ -0,0 +1,291 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: GrafoBenchmark.java
+ * Descripción: Benchmark JMH de las operaciones públicas de Grafo y de LectorArchivo sobre los grafos sintéticos
+ *              de GeneradorGrafos. Reporta operaciones por milisegundo y percentiles de latencia; con el perfil
+ *              de Maven "benchmarks" también la memoria asignada por operación (-prof gc):
+ *              mvn -P benchmarks -Djmh.args="GrafoBenchmark -p ciudades=1000"
+ */
+
+package com.hdt10;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrafoBenchmark {
+    private static final CondicionClimatica[] CONDICIONES = CondicionClimatica.values();
+
+    /**
+     * Grafo sintético en memoria y en archivo, compartido por todos los benchmarks de la misma combinación.
+     */
+    @State(Scope.Benchmark)
+    public static class Datos {
+        @Param({"CUADRICULA", "DISPERSO", "CARRETERAS", "DENSO"})
+        public Topologia topologia;
+
+        @Param({"250", "1000"})
+        public int ciudades;
+
+        ConstructorGrafo constructor;
+        Path archivo;
+        // Orígenes y destinos fijos de las tablas de tiempos
+        int[] origenesTabla;
+        int[] destinosTabla;
+
+        @Setup(Level.Trial)
+        public void generar() throws IOException {
+            constructor = GeneradorGrafos.generar(topologia, ciudades, 42);
+            archivo = Files.createTempFile("grafo-" + topologia, ".txt");
+            GeneradorGrafos.escribirArchivo(constructor, archivo);
+            origenesTabla = new int[32];
+            destinosTabla = new int[32];
+            for (int k = 0; k < 32; k++) {
+                origenesTabla[k] = (k * 7919) % ciudades;
+                destinosTabla[k] = (k * 104729 + 1) % ciudades;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void borrar() throws IOException {
+            Files.deleteIfExists(archivo);
+        }
+
+        String ciudadAlAzar() {
+            return constructor.getNombre(ThreadLocalRandom.current().nextInt(constructor.getCantidadCiudades()));
+        }
+
+        // Los índices del grafo construido son los del constructor
+        int indiceAlAzar() {
+            return ThreadLocalRandom.current().nextInt(constructor.getCantidadCiudades());
+        }
+
+        int conexionAlAzar() {
+            return ThreadLocalRandom.current().nextInt(constructor.getCantidadConexiones());
+        }
+    }
+
+    /**
+     * Grafo cargado sin rutas entre todas las ciudades; las consultas usan Dijkstra.
+     */
+    @State(Scope.Benchmark)
+    public static class SinRutas {
+        Grafo grafo;
+
+        @Setup(Level.Trial)
+        public void cargar(Datos datos) {
+            grafo = datos.constructor.construir();
+        }
+    }
+
+    /**
+     * Grafo con las rutas de floyd() vigentes y los escenarios de clima uniforme precalculados.
+     */
+    @State(Scope.Benchmark)
+    public static class ConRutas {
+        Grafo grafo;
+
+        @Setup(Level.Trial)
+        public void cargar(Datos datos) {
+            grafo = datos.constructor.construir();
+            grafo.agregarCiudad("Extra");
+            grafo.precalcularEscenarios();
+            grafo.floyd();
+            grafo.publicarRutas();
+        }
+    }
+
+    /**
+     * Ruta reutilizable de cada hilo.
+     */
+    @State(Scope.Thread)
+    public static class Reutilizables {
+        final Ruta ruta = new Ruta();
+    }
+
+    @Benchmark
+    public Grafo cargarArchivo(Datos datos) {
+        Grafo grafo = new Grafo(16);
+        LectorArchivo.cargarConexiones(datos.archivo.toString(), grafo, false);
+        return grafo;
+    }
+
+    @Benchmark
+    public Grafo construir(Datos datos) {
+        return datos.constructor.construir();
+    }
+
+    @Benchmark
+    public ResultadoRutas floyd(SinRutas estado) {
+        estado.grafo.floyd();
+        return estado.grafo.getResultadoRutas();
+    }
+
+    @Benchmark
+    public void precalcularEscenarios(SinRutas estado) {
+        estado.grafo.precalcularEscenarios();
+    }
+
+    @Benchmark
+    public Ruta obtenerRutaPuntual(Datos datos, SinRutas estado) {
+        return estado.grafo.obtenerRuta(datos.ciudadAlAzar(), datos.ciudadAlAzar());
+    }
+
+    @Benchmark
+    public Ruta obtenerRuta(Datos datos, ConRutas estado) {
+        return estado.grafo.obtenerRuta(datos.ciudadAlAzar(), datos.ciudadAlAzar());
+    }
+
+    @Benchmark
+    public Ruta obtenerRutaPorIndice(Datos datos, ConRutas estado) {
+        return estado.grafo.obtenerRuta(datos.indiceAlAzar(), datos.indiceAlAzar());
+    }
+
+    @Benchmark
+    public Ruta obtenerRutaReutilizable(Datos datos, ConRutas estado, Reutilizables reutilizables) {
+        estado.grafo.obtenerRuta(datos.indiceAlAzar(), datos.indiceAlAzar(), reutilizables.ruta);
+        return reutilizables.ruta;
+    }
+
+    @Benchmark
+    public double getTiempo(Datos datos, ConRutas estado) {
+        return estado.grafo.getTiempo(datos.indiceAlAzar(), datos.indiceAlAzar());
+    }
+
+    @Benchmark
+    public int getSaltos(Datos datos, ConRutas estado) {
+        return estado.grafo.getSaltos(datos.indiceAlAzar(), datos.indiceAlAzar());
+    }
+
+    @Benchmark
+    public double[] calcularTiempos(Datos datos, SinRutas estado) {
+        return estado.grafo.calcularTiempos(datos.origenesTabla, datos.destinosTabla);
+    }
+
+    // Referencia para calcularTiempos: la misma tabla consultando par por par
+    @Benchmark
+    public double[] tiemposParPorPar(Datos datos, SinRutas estado) {
+        double[] tiempos = new double[datos.origenesTabla.length * datos.destinosTabla.length];
+        for (int f = 0; f < datos.origenesTabla.length; f++) {
+            for (int c = 0; c < datos.destinosTabla.length; c++) {
+                tiempos[f * datos.destinosTabla.length + c] = estado.grafo.getTiempo(datos.origenesTabla[f],
+                                                                                     datos.destinosTabla[c]);
+            }
+        }
+        return tiempos;
+    }
+
+    @Benchmark
+    public Ruta obtenerRutaPorCondicion(Datos datos, ConRutas estado) {
+        return estado.grafo.obtenerRuta(datos.ciudadAlAzar(), datos.ciudadAlAzar(), CondicionClimatica.NIEVE);
+    }
+
+    @Benchmark
+    public Ruta obtenerRutaInstantanea(Datos datos, ConRutas estado) {
+        return estado.grafo.getInstantanea().obtenerRuta(datos.ciudadAlAzar(), datos.ciudadAlAzar());
+    }
+
+    @Benchmark
+    public String obtenerCentro(ConRutas estado) {
+        return estado.grafo.obtenerCentro();
+    }
+
+    // Centro sin rutas de floyd(), con cotas nuevas en cada llamada para medir la poda y no la caché
+    @Benchmark
+    public int obtenerCentroPorCotas(SinRutas estado) {
+        return new Excentricidades(estado.grafo.getCSR(), estado.grafo.getComponentes()).getCentro();
+    }
+
+    // Referencia para obtenerCentroPorCotas: recorrer todas las filas de floyd() sin excentricidades guardadas
+    @Benchmark
+    public int obtenerCentroRecorriendoMatriz(ConRutas estado) {
+        return new Excentricidades(estado.grafo.getResultadoRutas(), 1).getCentro();
+    }
+
+    @Benchmark
+    public CondicionClimatica getCondicionConexion(Datos datos, ConRutas estado) {
+        return estado.grafo.getCondicionConexion(datos.ciudadAlAzar(), datos.ciudadAlAzar());
+    }
+
+    @Benchmark
+    public boolean existeConexion(Datos datos, ConRutas estado) {
+        return estado.grafo.existeConexion(datos.ciudadAlAzar(), datos.ciudadAlAzar());
+    }
+
+    @Benchmark
+    public boolean existeConexionPorIndice(Datos datos, ConRutas estado) {
+        return estado.grafo.existeConexion(datos.indiceAlAzar(), datos.indiceAlAzar());
+    }
+
+    @Benchmark
+    public boolean cambiarCondicionConexion(Datos datos, ConRutas estado) {
+        int e = datos.conexionAlAzar();
+        CondicionClimatica condicion = CONDICIONES[ThreadLocalRandom.current().nextInt(CONDICIONES.length)];
+        return estado.grafo.cambiarCondicionConexion(datos.constructor.getOrigen(e), datos.constructor.getDestino(e),
+                                                     condicion);
+    }
+
+    @Benchmark
+    public ResumenLote aplicarLote(Datos datos, ConRutas estado) {
+        LoteClima lote = new LoteClima(8);
+        for (int c = 0; c < 8; c++) {
+            int e = datos.conexionAlAzar();
+            lote.agregar(datos.constructor.getOrigen(e), datos.constructor.getDestino(e),
+                         CONDICIONES[ThreadLocalRandom.current().nextInt(CONDICIONES.length)]);
+        }
+        return estado.grafo.aplicarLote(lote);
+    }
+
+    @Benchmark
+    public ResumenLote aplicarClimaPorSaltos(Datos datos, ConRutas estado) {
+        CondicionClimatica condicion = CONDICIONES[ThreadLocalRandom.current().nextInt(CONDICIONES.length)];
+        return estado.grafo.aplicarClimaPorSaltos(datos.ciudadAlAzar(), 1, condicion);
+    }
+
+    // Conexión temporal hacia una ciudad sin salidas, para no alterar las conexiones generadas
+    @Benchmark
+    public void agregarYEliminarConexion(Datos datos, ConRutas estado) {
+        String origen = datos.ciudadAlAzar();
+        estado.grafo.agregarConexion(origen, "Extra", 1.0, 2.0, 3.0, 4.0);
+        estado.grafo.eliminarConexion(origen, "Extra");
+    }
+
+    @Benchmark
+    public void activarEscenario(ConRutas estado) {
+        estado.grafo.activarEscenario(CONDICIONES[ThreadLocalRandom.current().nextInt(CONDICIONES.length)]);
+    }
+
+    @Benchmark
+    public InstantaneaRutas publicarRutas(ConRutas estado) {
+        return estado.grafo.publicarRutas();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: GrafoConcurrenteTest.java
+ * Descripción: Pruebas de GrafoConcurrente con lectores y escritores en varios hilos
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.CreadorArchivo.Topologia;
+import com.hdt10.Grafo.CondicionClimatica;
+
+class GrafoConcurrenteTest {
+    private static final CondicionClimatica[] CONDICIONES = CondicionClimatica.values();
+
+    // Cuadrícula en ambos sentidos con tiempos aleatorios; el índice de cada ciudad coincide con su nombre
+    private Grafo crearCuadricula(int lado, long semilla) {
+        Grafo grafo = new Grafo(lado * lado);
+        Random random = new Random(semilla);
+        for (int i = 0; i < lado * lado; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int a = 0; a < lado * lado; a++) {
+            if (a % lado + 1 < lado) conectarAmbos(grafo, a, a + 1, random);
+            if (a + lado < lado * lado) conectarAmbos(grafo, a, a + lado, random);
+        }
+        return grafo;
+    }
+
+    private void conectarAmbos(Grafo grafo, int a, int b, Random random) {
+        double t = 1 + random.nextDouble() * 10;
+        grafo.agregarConexion("C" + a, "C" + b, t, t * 1.5, t * 2, t * 4);
+        grafo.agregarConexion("C" + b, "C" + a, t, t * 1.5, t * 2, t * 4);
+    }
+
+    @Test
+    //Las operaciones desde un solo hilo se comportan igual que en Grafo
+    void testOperacionesBasicas() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("Guatemala", "Antigua", 5.0, 6.0, 7.0, 10.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        GrafoConcurrente concurrente = new GrafoConcurrente(grafo, 3);
+        assertEquals(7.0, concurrente.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        assertTrue(concurrente.existeConexion("Guatemala", "Antigua"));
+        assertFalse(concurrente.existeConexion("Antigua", "Guatemala"));
+        assertNull(concurrente.getCondicionConexion("Peten", "Antigua"));
+
+        assertTrue(concurrente.cambiarCondicionConexion("Guatemala", "Antigua", CondicionClimatica.TORMENTA));
+        assertFalse(concurrente.cambiarCondicionConexion("Antigua", "Guatemala", CondicionClimatica.TORMENTA));
+        assertEquals(CondicionClimatica.TORMENTA, concurrente.getCondicionConexion("Guatemala", "Antigua"));
+        assertEquals(12.0, concurrente.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+
+        concurrente.agregarConexion("Guatemala", "Escuintla", 9.0, 9.0, 9.0, 9.0);
+        assertEquals(9.0, concurrente.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        concurrente.eliminarConexion("Guatemala", "Escuintla");
+        assertEquals(12.0, concurrente.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        concurrente.agregarCiudad("Flores");
+        assertNull(concurrente.obtenerRuta("Guatemala", "Flores"));
+    }
+
+    @Test
+    //Con escritores y lectores simultáneos las rutas leídas son completas y el estado final es exacto
+    void testEscritoresYLectores() throws InterruptedException {
+        int lado = 10;
+        int n = lado * lado;
+        Grafo grafo = crearCuadricula(lado, 9);
+        GrafoConcurrente concurrente = new GrafoConcurrente(grafo, 4);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean terminar = new AtomicBoolean(false);
+        List<Thread> hilos = new ArrayList<>();
+
+        for (int h = 0; h < 3; h++) {
+            final long semilla = h;
+            hilos.add(new Thread(() -> {
+                Random random = new Random(semilla);
+                try {
+                    while (!terminar.get()) {
+                        int origen = random.nextInt(n);
+                        int destino = random.nextInt(n);
+                        if (origen == destino) continue;
+                        Ruta ruta = concurrente.obtenerRuta("C" + origen, "C" + destino);
+                        List<String> camino = ruta.getCamino();
+                        assertEquals("C" + origen, camino.get(0));
+                        assertEquals("C" + destino, camino.get(camino.size() - 1));
+                        if (origen % lado + 1 < lado) {
+                            assertTrue(concurrente.existeConexion("C" + origen, "C" + (origen + 1)));
+                        }
+                    }
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            }));
+        }
+        // Cada escritor cambia conexiones de su propia mitad de la cuadrícula
+        for (int h = 0; h < 2; h++) {
+            final int mitad = h;
+            hilos.add(new Thread(() -> {
+                Random random = new Random(100 + mitad);
+                try {
+                    for (int paso = 0; paso < 300; paso++) {
+                        int a = mitad * (n / 2) + random.nextInt(n / 2 - lado);
+                        concurrente.cambiarCondicionConexion(a, a + lado, CONDICIONES[random.nextInt(CONDICIONES.length)]);
+                    }
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            }));
+        }
+        for (Thread hilo : hilos) hilo.start();
+        for (int h = 3; h < hilos.size(); h++) hilos.get(h).join();
+        terminar.set(true);
+        for (Thread hilo : hilos) hilo.join();
+        if (error.get() != null) {
+            throw new AssertionError(error.get());
+        }
+
+        // Las rutas corregidas en paralelo coinciden con recalcular desde las condiciones finales
+        Grafo esperado = crearCuadricula(lado, 9);
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                CondicionClimatica condicion = concurrente.getCondicionConexion(a, b);
+                if (condicion != null) esperado.cambiarCondicionConexion(a, b, condicion);
+            }
+        }
+        esperado.floyd();
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                Ruta ruta = concurrente.obtenerRuta("C" + a, "C" + b);
+                assertEquals(esperado.getResultadoRutas().getDistancia(a, b),
+                             (ruta == null) ? Double.POSITIVE_INFINITY : ruta.getTiempo(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    //Las franjas se dimensionan con las ciudades del grafo: una por cada FILAS_POR_FRANJA, al menos 4 por procesador
+    void testCantidadFranjas() {
+        int minimo = 4 * Runtime.getRuntime().availableProcessors();
+        assertTrue(new GrafoConcurrente(new Grafo(4)).getCantidadFranjas() >= minimo);
+        int ciudades = 2 * minimo * GrafoConcurrente.FILAS_POR_FRANJA;
+        Grafo grande = GeneradorGrafos.generar(Topologia.DISPERSO, ciudades, 1).construir();
+        assertTrue(new GrafoConcurrente(grande).getCantidadFranjas() >= 2 * minimo);
+        assertEquals(4, new GrafoConcurrente(grande, 3).getCantidadFranjas());
+    }
+}
@@ -4,7 +4,7 @@
  * Ing. Douglas Barrios
  * @author: Marcelo Detlefsen, Julián Divas
  * Creación: 19/05/2025
- * última modificación: 19/05/2025
+ * última modificación: 17/10/2026
  * File Name: GrafoTest.java
  * Descripción: Clase con las pruebas unitarias de los métodos de la clase Grafo
  */
@@ -17,6 +17,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -226,4 +228,123 @@ class GrafoTest {
         // La ruta directa Guatemala a Escuintla tiene distancia 15, pero es más larga que Guatemala - Quetzaltenango -  Antigua - Escuintla
         assertTrue(rutaAD.getTiempo() < 15.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    //Recalcular varias veces parte de los pesos de las conexiones, no de las distancias anteriores
+    void testRecalcularDesdePesosDeConexiones() {
+        grafo.setActualizacionIncremental(false);
+        grafo.floyd();
+        grafo.floyd();
+        
+        // La ruta sigue pasando por Quetzaltenango y Antigua aunque se recalculó dos veces
+        Ruta ruta = grafo.obtenerRuta("Guatemala", "Escuintla");
+        assertEquals(4, ruta.getCamino().size());
+        
+        // Al eliminar un tramo, la ruta vuelve a la conexión directa original
+        grafo.eliminarConexion("Antigua", "Escuintla");
+        grafo.floyd();
+        ruta = grafo.obtenerRuta("Guatemala", "Escuintla");
+        assertEquals(15.0, ruta.getTiempo(), 0.001);
+        assertEquals(2, ruta.getCamino().size());
+        
+        // Guatemala -> Antigua sigue existiendo por Quetzaltenango, no como conexión directa
+        assertFalse(grafo.existeConexion("Guatemala", "Antigua"));
+        assertEquals(8.0, grafo.obtenerRuta("Guatemala", "Antigua").getTiempo(), 0.001);
+    }
+
+    @Test
+    //Consultar y cambiar condiciones con índices de ciudades, también en lote
+    void testCondicionesPorIndice() {
+        int guatemala = grafo.getIndiceCiudad("Guatemala");
+        int quetzaltenango = grafo.getIndiceCiudad("Quetzaltenango");
+        int antigua = grafo.getIndiceCiudad("Antigua");
+        int escuintla = grafo.getIndiceCiudad("Escuintla");
+        assertEquals(-1, grafo.getIndiceCiudad("Peten"));
+        assertEquals("Antigua", grafo.getNombreCiudad(antigua));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion(guatemala, quetzaltenango));
+        assertNull(grafo.getCondicionConexion(guatemala, antigua));
+        assertNull(grafo.getCondicionConexion(-1, antigua));
+        
+        int[] origenes = {guatemala, quetzaltenango, guatemala};
+        int[] destinos = {quetzaltenango, antigua, antigua};
+        CondicionClimatica[] condiciones = {CondicionClimatica.TORMENTA, CondicionClimatica.TORMENTA, CondicionClimatica.NIEVE};
+        assertEquals(2, grafo.cambiarCondiciones(origenes, destinos, condiciones, 3));
+        assertEquals(CondicionClimatica.TORMENTA, grafo.getCondicionConexion("Guatemala", "Quetzaltenango"));
+        assertEquals(CondicionClimatica.TORMENTA, grafo.getCondicionConexion(quetzaltenango, antigua));
+        
+        // Guatemala - Quetzaltenango - Antigua - Escuintla con tormenta cuesta 20, más que la conexión directa
+        assertEquals(15.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        assertEquals(4, grafo.getTodasLasCondiciones().size());
+        
+        // Solo se aplica la cantidad indicada de cambios
+        condiciones[0] = CondicionClimatica.NORMAL;
+        assertEquals(1, grafo.cambiarCondiciones(origenes, destinos, condiciones, 1));
+        assertEquals(CondicionClimatica.TORMENTA, grafo.getCondicionConexion(quetzaltenango, antigua));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion(antigua, escuintla));
+        
+        // Un cambio sin condición rechaza todos los anteriores
+        condiciones[0] = CondicionClimatica.LLUVIA;
+        condiciones[1] = null;
+        assertThrows(IllegalArgumentException.class, () -> grafo.cambiarCondiciones(origenes, destinos, condiciones, 2));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion(guatemala, quetzaltenango));
+        
+        grafo.eliminarConexion("Antigua", "Escuintla");
+        assertNull(grafo.getCondicionConexion(antigua, escuintla));
+        assertEquals(3, grafo.getTodasLasCondiciones().size());
+    }
+
+    @Test
+    //Las operaciones por índice dan lo mismo que por nombre y rechazan índices que no existen
+    void testOperacionesPorIndice() {
+        int guatemala = grafo.getIndiceCiudad("Guatemala");
+        int antigua = grafo.getIndiceCiudad("Antigua");
+        int escuintla = grafo.getIndiceCiudad("Escuintla");
+        assertEquals(4, grafo.getCantidadCiudades());
+        assertEquals(grafo.obtenerRuta("Guatemala", "Escuintla").getCamino(),
+                     grafo.obtenerRuta(guatemala, escuintla).getCamino());
+        assertEquals(10.0, grafo.obtenerRuta(guatemala, escuintla).getTiempo(), 0.001);
+        assertEquals(16.0, grafo.obtenerRuta(guatemala, escuintla, CondicionClimatica.NIEVE).getTiempo(), 0.001);
+        assertNull(grafo.obtenerRuta(guatemala, 4));
+        assertNull(grafo.obtenerRuta(-1, escuintla, CondicionClimatica.NIEVE));
+        assertTrue(grafo.existeConexion(antigua, escuintla));
+        assertFalse(grafo.existeConexion(escuintla, antigua));
+        assertFalse(grafo.existeConexion(antigua, 99));
+
+        grafo.agregarConexion(escuintla, antigua, 1.0, 1.0, 1.0, 1.0);
+        assertEquals(1.0, grafo.obtenerRuta("Escuintla", "Antigua").getTiempo(), 0.001);
+        grafo.eliminarConexion(guatemala, escuintla);
+        grafo.eliminarConexion(guatemala, 99);
+        assertFalse(grafo.existeConexion("Guatemala", "Escuintla"));
+        assertEquals(10.0, grafo.obtenerRuta(guatemala, escuintla).getTiempo(), 0.001);
+        assertThrows(IndexOutOfBoundsException.class, () -> grafo.agregarConexion(guatemala, 4, 1, 1, 1, 1));
+
+        // Los nombres devueltos son la misma instancia que se guardó al agregar la ciudad
+        assertSame(grafo.getNombreCiudad(antigua), grafo.getNombreCiudad(antigua));
+        assertSame(grafo.getNombreCiudad(antigua), grafo.obtenerRuta(guatemala, antigua).getCamino().get(2));
+    }
+
+    @Test
+    //Agregar y eliminar conexiones muchas veces reutiliza las posiciones eliminadas, sin hacer crecer los arreglos
+    void testEliminarYAgregarReutilizaPosiciones() {
+        int guatemala = grafo.getIndiceCiudad("Guatemala");
+        int antigua = grafo.getIndiceCiudad("Antigua");
+        int escuintla = grafo.getIndiceCiudad("Escuintla");
+        int capacidad = grafo.getCapacidadAristas();
+        for (int k = 0; k < 10000; k++) {
+            grafo.agregarConexion(escuintla, antigua, 1.0, 2.0, 3.0, 4.0);
+            grafo.agregarConexion(escuintla, guatemala, 1.0, 2.0, 3.0, 4.0);
+            grafo.eliminarConexion(escuintla, antigua);
+            assertEquals(9.0, grafo.obtenerRuta(escuintla, antigua).getTiempo(), 0.001);
+            grafo.eliminarConexion(escuintla, guatemala);
+        }
+        assertTrue(grafo.getCapacidadAristas() <= capacidad + 2, "Capacidad: " + grafo.getCapacidadAristas());
+
+        // Las listas de conexiones siguen completas después de reutilizar posiciones
+        assertFalse(grafo.existeConexion(escuintla, antigua));
+        assertFalse(grafo.existeConexion(escuintla, guatemala));
+        assertTrue(grafo.existeConexion("Quetzaltenango", "Antigua"));
+        assertTrue(grafo.existeConexion("Antigua", "Escuintla"));
+        assertNull(grafo.obtenerRuta(escuintla, antigua));
+        assertEquals(10.0, grafo.obtenerRuta(guatemala, escuintla).getTiempo(), 0.001);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: InstantaneaRutasTest.java
+ * Descripción: Pruebas de las instantáneas inmutables de rutas y su lectura desde varios hilos
+ */
+
+package com.hdt10;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+class InstantaneaRutasTest {
+
+    private Grafo crearGrafo() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("Guatemala", "Quetzaltenango", 5.0, 6.0, 7.0, 10.0);
+        grafo.agregarConexion("Quetzaltenango", "Antigua", 3.0, 4.0, 5.0, 8.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        grafo.agregarConexion("Guatemala", "Escuintla", 15.0, 18.0, 20.0, 25.0);
+        return grafo;
+    }
+
+    @Test
+    //Una instantánea publicada no cambia aunque el grafo se siga modificando
+    void testInstantaneaInmutable() {
+        Grafo grafo = crearGrafo();
+        assertNull(grafo.getInstantanea());
+        InstantaneaRutas primera = grafo.publicarRutas();
+        assertSame(primera, grafo.getInstantanea());
+        assertEquals(10.0, primera.getTiempo("Guatemala", "Escuintla"), 0.001);
+
+        // Un cambio de una sola conexión corrige una copia y no se publica hasta pedirlo
+        grafo.cambiarCondicionConexion("Antigua", "Escuintla", CondicionClimatica.TORMENTA);
+        assertEquals(14.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        assertSame(primera, grafo.getInstantanea());
+        assertEquals(10.0, primera.getTiempo("Guatemala", "Escuintla"), 0.001);
+        assertEquals(4, primera.obtenerRuta("Guatemala", "Escuintla").getCamino().size());
+
+        InstantaneaRutas segunda = grafo.publicarRutas();
+        assertTrue(segunda.getVersion() > primera.getVersion());
+        assertEquals(14.0, segunda.getTiempo("Guatemala", "Escuintla"), 0.001);
+
+        // Las ciudades nuevas aparecen en la siguiente publicación
+        grafo.agregarConexion("Escuintla", "Mazatenango", 4.0, 5.0, 6.0, 8.0);
+        assertNull(segunda.obtenerRuta("Guatemala", "Mazatenango"));
+        assertEquals(Double.POSITIVE_INFINITY, segunda.getTiempo("Guatemala", "Mazatenango"));
+        assertEquals(18.0, grafo.publicarRutas().obtenerRuta("Guatemala", "Mazatenango").getTiempo(), 0.001);
+    }
+
+    @Test
+    //Después de la primera publicación, los lotes y floyd() publican solos
+    void testPublicacionAutomatica() {
+        Grafo grafo = crearGrafo();
+        InstantaneaRutas primera = grafo.publicarRutas();
+        LoteClima lote = new LoteClima(1);
+        lote.agregar(grafo.getIndiceCiudad("Quetzaltenango"), grafo.getIndiceCiudad("Antigua"), CondicionClimatica.NIEVE);
+        grafo.aplicarLote(lote);
+        InstantaneaRutas segunda = grafo.getInstantanea();
+        assertNotSame(primera, segunda);
+        assertEquals(12.0, segunda.getTiempo("Guatemala", "Escuintla"), 0.001);
+        assertEquals(10.0, primera.getTiempo("Guatemala", "Escuintla"), 0.001);
+
+        grafo.floyd();
+        assertNotSame(segunda, grafo.getInstantanea());
+    }
+
+    @Test
+    //Los lectores de otros hilos siempre ven rutas completas y coherentes mientras llegan cambios de clima
+    void testLectoresConcurrentes() throws InterruptedException {
+        int lado = 12;
+        int n = lado * lado;
+        Grafo grafo = new Grafo(n);
+        Random random = new Random(3);
+        for (int i = 0; i < n; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int a = 0; a < n; a++) {
+            if (a % lado + 1 < lado) {
+                double t = 1 + random.nextDouble() * 10;
+                grafo.agregarConexion("C" + a, "C" + (a + 1), t, t * 2, t * 3, t * 5);
+                grafo.agregarConexion("C" + (a + 1), "C" + a, t, t * 2, t * 3, t * 5);
+            }
+            if (a + lado < n) {
+                double t = 1 + random.nextDouble() * 10;
+                grafo.agregarConexion("C" + a, "C" + (a + lado), t, t * 2, t * 3, t * 5);
+                grafo.agregarConexion("C" + (a + lado), "C" + a, t, t * 2, t * 3, t * 5);
+            }
+        }
+        grafo.publicarRutas();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread[] lectores = new Thread[3];
+        AtomicBoolean terminar = new AtomicBoolean(false);
+        for (int h = 0; h < lectores.length; h++) {
+            final long semilla = h;
+            lectores[h] = new Thread(() -> {
+                Random r = new Random(semilla);
+                try {
+                    while (!terminar.get()) {
+                        InstantaneaRutas instantanea = grafo.getInstantanea();
+                        String origen = "C" + r.nextInt(n);
+                        String destino = "C" + r.nextInt(n);
+                        if (origen.equals(destino)) continue;
+                        Ruta ruta = instantanea.obtenerRuta(origen, destino);
+                        // Cada tramo del camino debe ser coherente con las distancias de la misma instantánea
+                        List<String> camino = ruta.getCamino();
+                        assertEquals(origen, camino.get(0));
+                        assertEquals(destino, camino.get(camino.size() - 1));
+                        assertTrue(camino.size() <= n);
+                        assertEquals(ruta.getTiempo(), instantanea.getTiempo(origen, destino), 0);
+                    }
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            });
+            lectores[h].start();
+        }
+
+        CondicionClimatica[] condiciones = CondicionClimatica.values();
+        LoteClima lote = new LoteClima(8);
+        for (int paso = 0; paso < 60; paso++) {
+            lote.limpiar();
+            for (int k = 0; k < 8; k++) {
+                int a = random.nextInt(n - lado);
+                lote.agregar(a, a + lado, condiciones[random.nextInt(condiciones.length)]);
+            }
+            grafo.aplicarLote(lote);
+        }
+        terminar.set(true);
+        for (Thread lector : lectores) {
+            lector.join();
+        }
+        if (error.get() != null) {
+            throw new AssertionError(error.get());
+        }
+    }
+}
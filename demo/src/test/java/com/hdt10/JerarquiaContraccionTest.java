@@ -0,0 +1,174 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: JerarquiaContraccionTest.java
+ * Descripción: Pruebas de la jerarquía de contracción, comparada contra Dijkstra
+ */
+
+package com.hdt10;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+import com.hdt10.Grafo.ConsultaPuntual;
+
+class JerarquiaContraccionTest {
+
+    // Cuadrícula en ambos sentidos con tiempos aleatorios; el índice de cada ciudad coincide con su nombre
+    private Grafo crearCuadricula(int lado, long semilla) {
+        Grafo grafo = new Grafo(lado * lado);
+        Random random = new Random(semilla);
+        for (int i = 0; i < lado * lado; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int f = 0; f < lado; f++) {
+            for (int c = 0; c < lado; c++) {
+                int a = f * lado + c;
+                if (c + 1 < lado) {
+                    conectar(grafo, a, a + 1, random);
+                    conectar(grafo, a + 1, a, random);
+                }
+                if (f + 1 < lado) {
+                    conectar(grafo, a, a + lado, random);
+                    conectar(grafo, a + lado, a, random);
+                }
+            }
+        }
+        return grafo;
+    }
+
+    // Red dispersa dirigida con conexiones al azar, no siempre de ida y vuelta
+    private Grafo crearGrafoDisperso(int ciudades, long semilla) {
+        Grafo grafo = new Grafo(ciudades);
+        Random random = new Random(semilla);
+        for (int i = 0; i < ciudades; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int c = 0; c < ciudades * 3; c++) {
+            conectar(grafo, random.nextInt(ciudades), random.nextInt(ciudades), random);
+        }
+        return grafo;
+    }
+
+    private void conectar(Grafo grafo, int a, int b, Random random) {
+        double normal = 1 + random.nextDouble() * 10;
+        double lluvia = normal * (1 + random.nextDouble());
+        grafo.agregarConexion("C" + a, "C" + b, normal, lluvia, lluvia * 1.5, normal * 4);
+    }
+
+    // Verifica la distancia contra Dijkstra y que el camino desempacado use conexiones reales con esa suma
+    private void verificar(GrafoCSR csr, JerarquiaContraccion jerarquia, Dijkstra dijkstra, int origen, int destino) {
+        dijkstra.ejecutar(origen, destino);
+        double esperado = dijkstra.getDistancia(destino);
+        assertEquals(esperado, jerarquia.consultar(origen, destino), 1e-9);
+        if (esperado == Double.POSITIVE_INFINITY) {
+            assertNull(jerarquia.getCamino());
+            return;
+        }
+        List<Integer> camino = jerarquia.getCamino();
+        assertEquals(origen, (int) camino.get(0));
+        assertEquals(destino, (int) camino.get(camino.size() - 1));
+        double suma = 0;
+        for (int p = 0; p + 1 < camino.size(); p++) {
+            double tramo = Double.POSITIVE_INFINITY;
+            for (int k = csr.inicio(camino.get(p)); k < csr.fin(camino.get(p)); k++) {
+                if (csr.destino(k) == camino.get(p + 1)) tramo = csr.pesoActual(k);
+            }
+            suma += tramo;
+        }
+        assertEquals(esperado, suma, 1e-9);
+    }
+
+    @Test
+    //Las distancias y caminos de la jerarquía coinciden con Dijkstra y asientan pocas ciudades
+    void testMismasDistanciasQueDijkstra() {
+        Grafo grafo = crearCuadricula(25, 4);
+        GrafoCSR csr = grafo.getCSR();
+        JerarquiaContraccion jerarquia = new JerarquiaContraccion(csr);
+        Dijkstra dijkstra = new Dijkstra(csr);
+        Random random = new Random(8);
+        long asentadasDijkstra = 0;
+        long asentadasJerarquia = 0;
+        for (int q = 0; q < 300; q++) {
+            int origen = random.nextInt(625);
+            int destino = random.nextInt(625);
+            if (origen == destino) continue;
+            verificar(csr, jerarquia, dijkstra, origen, destino);
+            asentadasDijkstra += dijkstra.getAsentadas();
+            asentadasJerarquia += jerarquia.getAsentadas();
+        }
+        assertTrue(asentadasJerarquia * 2 < asentadasDijkstra);
+    }
+
+    @Test
+    //En un grafo dirigido con ciudades inalcanzables también coincide con Dijkstra
+    void testGrafoDirigidoDisperso() {
+        Grafo grafo = crearGrafoDisperso(200, 12);
+        GrafoCSR csr = grafo.getCSR();
+        JerarquiaContraccion jerarquia = new JerarquiaContraccion(csr);
+        Dijkstra dijkstra = new Dijkstra(csr);
+        for (int origen = 0; origen < 200; origen += 9) {
+            for (int destino = 0; destino < 200; destino++) {
+                if (origen != destino) verificar(csr, jerarquia, dijkstra, origen, destino);
+            }
+        }
+    }
+
+    @Test
+    //Cambiar condiciones climáticas solo vuelve a personalizar los pesos, sin reordenar las ciudades
+    void testPersonalizarTrasCambiosDeClima() {
+        Grafo grafo = crearCuadricula(15, 6);
+        grafo.setConsultaPuntual(ConsultaPuntual.JERARQUIA);
+        GrafoCSR csr = grafo.getCSR();
+        JerarquiaContraccion jerarquia = new JerarquiaContraccion(csr);
+        Dijkstra dijkstra = new Dijkstra(csr);
+        int[] niveles = new int[225];
+        for (int v = 0; v < 225; v++) niveles[v] = jerarquia.getNivel(v);
+
+        Random random = new Random(2);
+        CondicionClimatica[] condiciones = CondicionClimatica.values();
+        for (int paso = 0; paso < 60; paso++) {
+            int a = random.nextInt(225);
+            int b = (a + 15 < 225) ? a + 15 : a - 15;
+            grafo.cambiarCondicionConexion("C" + a, "C" + b, condiciones[random.nextInt(condiciones.length)]);
+            jerarquia.customizar();
+            int origen = random.nextInt(225);
+            int destino = random.nextInt(225);
+            if (origen == destino) continue;
+            verificar(csr, jerarquia, dijkstra, origen, destino);
+
+            // El mismo resultado a través de Grafo, que personaliza su propia jerarquía al consultar
+            dijkstra.ejecutar(origen, destino);
+            assertEquals(dijkstra.getDistancia(destino), grafo.obtenerRuta("C" + origen, "C" + destino).getTiempo(), 1e-9);
+        }
+        for (int v = 0; v < 225; v++) {
+            assertEquals(niveles[v], jerarquia.getNivel(v));
+        }
+    }
+
+    @Test
+    //Agregar o eliminar conexiones reconstruye la jerarquía en la siguiente consulta
+    void testCambiosDeConexiones() {
+        Grafo grafo = new Grafo(4);
+        grafo.setConsultaPuntual(ConsultaPuntual.JERARQUIA);
+        grafo.agregarConexion("Guatemala", "Antigua", 5.0, 6.0, 7.0, 10.0);
+        grafo.agregarConexion("Antigua", "Escuintla", 2.0, 3.0, 4.0, 6.0);
+        grafo.agregarConexion("Guatemala", "Escuintla", 15.0, 18.0, 20.0, 25.0);
+        assertEquals(7.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        assertEquals(3, grafo.obtenerRuta("Guatemala", "Escuintla").getCamino().size());
+
+        grafo.eliminarConexion("Antigua", "Escuintla");
+        assertEquals(15.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+        assertNull(grafo.obtenerRuta("Escuintla", "Guatemala"));
+    }
+}
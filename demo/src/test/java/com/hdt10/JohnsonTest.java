@@ -0,0 +1,107 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: JohnsonTest.java
+ * Descripción: Pruebas del motor de Johnson comparado contra Floyd-Warshall clásico
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.MotorRutas;
+
+class JohnsonTest {
+
+    private Grafo crearGrafoDisperso(int ciudades, int conexiones, long semilla) {
+        Grafo grafo = new Grafo(ciudades);
+        Random random = new Random(semilla);
+        for (int i = 0; i < ciudades; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int c = 0; c < conexiones; c++) {
+            int origen = random.nextInt(ciudades);
+            int destino = random.nextInt(ciudades);
+            double normal = 1 + random.nextDouble() * 20;
+            grafo.agregarConexion("C" + origen, "C" + destino, normal, normal * 1.2, normal * 1.5, normal * 2);
+        }
+        return grafo;
+    }
+
+    private void compararResultados(Grafo esperado, Grafo obtenido, int ciudades) {
+        ResultadoRutas a = esperado.getResultadoRutas();
+        ResultadoRutas b = obtenido.getResultadoRutas();
+        for (int i = 0; i < ciudades; i++) {
+            for (int j = 0; j < ciudades; j++) {
+                assertEquals(a.getDistancia(i, j), b.getDistancia(i, j), 1e-9, i + " -> " + j);
+                assertEquals(a.getSiguiente(i, j), b.getSiguiente(i, j), i + " -> " + j);
+            }
+        }
+    }
+
+    @Test
+    //Johnson en serie y en paralelo da las mismas distancias y sucesores que Floyd-Warshall
+    void testMismoResultadoQueFloyd() {
+        Grafo floyd = crearGrafoDisperso(150, 500, 9);
+        Grafo serie = crearGrafoDisperso(150, 500, 9);
+        Grafo paralelo = crearGrafoDisperso(150, 500, 9);
+        floyd.setMotorRutas(MotorRutas.CLASICO);
+        serie.setMotorRutas(MotorRutas.JOHNSON);
+        serie.setParalelismo(1);
+        paralelo.setMotorRutas(MotorRutas.JOHNSON);
+        paralelo.setParalelismo(4);
+        floyd.floyd();
+        serie.floyd();
+        paralelo.floyd();
+
+        compararResultados(floyd, serie, 150);
+        compararResultados(floyd, paralelo, 150);
+    }
+
+    @Test
+    //Con conexiones negativas (sin ciclos negativos) el repesado con Bellman-Ford mantiene las rutas exactas
+    void testPesosNegativos() {
+        Grafo floyd = crearGrafoDisperso(60, 200, 21);
+        Grafo johnson = crearGrafoDisperso(60, 200, 21);
+        for (Grafo grafo : new Grafo[] {floyd, johnson}) {
+            // Conexiones negativas hacia un sumidero, que no forman ciclo porque el sumidero no tiene salidas
+            grafo.agregarCiudad("Sumidero");
+            grafo.agregarConexion("C0", "Sumidero", -5, -5, -5, -5);
+            grafo.agregarConexion("C1", "Sumidero", -3, -3, -3, -3);
+        }
+        floyd.setMotorRutas(MotorRutas.CLASICO);
+        johnson.setMotorRutas(MotorRutas.JOHNSON);
+        floyd.floyd();
+        johnson.floyd();
+        compararResultados(floyd, johnson, 61);
+    }
+
+    @Test
+    //Un ciclo negativo no tiene rutas más cortas
+    void testCicloNegativo() {
+        Grafo grafo = new Grafo(3);
+        grafo.setMotorRutas(MotorRutas.JOHNSON);
+        grafo.agregarConexion("A", "B", 1, 1, 1, 1);
+        grafo.agregarConexion("B", "A", -2, -2, -2, -2);
+        assertThrows(IllegalStateException.class, grafo::floyd);
+    }
+
+    @Test
+    //AUTOMATICO usa Johnson en grafos dispersos y Floyd-Warshall en grafos densos
+    void testEleccionAutomatica() {
+        Grafo disperso = crearGrafoDisperso(200, 600, 1);
+        assertEquals(MotorRutas.JOHNSON, disperso.motorParaCalcular());
+
+        Grafo denso = crearGrafoDisperso(30, 600, 1);
+        denso.setParalelismo(1);
+        assertEquals(MotorRutas.BLOQUES, denso.motorParaCalcular());
+    }
+}
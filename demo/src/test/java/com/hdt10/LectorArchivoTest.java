@@ -0,0 +1,129 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: LectorArchivoTest.java
+ * Descripción: Pruebas de la carga de archivos de conexiones por trozos en paralelo
+ */
+
+package com.hdt10;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hdt10.CreadorArchivo.Topologia;
+
+class LectorArchivoTest {
+    @TempDir
+    Path directorio;
+
+    // Carga el archivo capturando lo que se imprime
+    private String cargar(Path archivo, Grafo grafo, int hilos, long tamanoMinimoTrozo) {
+        PrintStream salida = System.out;
+        ByteArrayOutputStream capturada = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(capturada, true, StandardCharsets.UTF_8));
+        try {
+            assertTrue(LectorArchivo.cargarConexiones(archivo.toString(), grafo, false, hilos, tamanoMinimoTrozo));
+        } finally {
+            System.setOut(salida);
+        }
+        return capturada.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    //Los trozos terminan justo después de un salto de línea
+    void testDividirEnTrozos() throws IOException {
+        Path archivo = directorio.resolve("trozos.txt");
+        CreadorArchivo.crearArchivoSintetico(archivo.toString(), Topologia.CUADRICULA, 400, 1);
+        byte[] bytes = Files.readAllBytes(archivo);
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long[] limites = LectorArchivo.dividirEnTrozos(canal, 4, 1000);
+            assertEquals(5, limites.length);
+            assertEquals(0, limites[0]);
+            assertEquals(bytes.length, limites[4]);
+            for (int t = 1; t < 4; t++) {
+                assertTrue(limites[t] > limites[t - 1]);
+                assertEquals('\n', bytes[(int) limites[t] - 1]);
+            }
+            assertEquals(1, LectorArchivo.dividirEnTrozos(canal, 4, bytes.length).length - 1);
+        }
+    }
+
+    @Test
+    //Leer en paralelo da las mismas ciudades, en el mismo orden, y los mismos tiempos que leer en un hilo
+    void testParaleloIgualASerie() throws IOException {
+        Path archivo = directorio.resolve("red.txt");
+        CreadorArchivo.crearArchivoSintetico(archivo.toString(), Topologia.CARRETERAS, 900, 5);
+        // Conexiones repetidas al final: se queda la última, aunque la primera esté en otro trozo
+        Files.write(archivo, "C0 C1 0.5 0.5 0.5 0.5\nC30 C0 0.25 1 2 3\n".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+
+        Grafo serie = new Grafo(16);
+        cargar(archivo, serie, 1, 1000);
+        Grafo paralelo = new Grafo(16);
+        cargar(archivo, paralelo, 4, 1000);
+        assertEquals(900, paralelo.getCiudades().size());
+        for (int c = 0; c < 900; c++) {
+            assertEquals(serie.getNombreCiudad(c), paralelo.getNombreCiudad(c));
+        }
+        assertEquals(0.5, paralelo.obtenerRuta("C0", "C1").getTiempo(), 1e-9);
+        assertEquals(0.25, paralelo.obtenerRuta("C30", "C0").getTiempo(), 1e-9);
+
+        serie.floyd();
+        paralelo.floyd();
+        for (int i = 0; i < 900; i++) {
+            for (int j = 0; j < 900; j++) {
+                assertEquals(serie.getResultadoRutas().getDistancia(i, j),
+                             paralelo.getResultadoRutas().getDistancia(i, j));
+            }
+        }
+    }
+
+    @Test
+    //Los errores se reportan con el número de línea del archivo aunque estén en trozos distintos
+    void testErroresConNumeroDeLinea() throws IOException {
+        StringBuilder contenido = new StringBuilder();
+        for (int l = 1; l <= 300; l++) {
+            if (l % 100 == 0) {
+                contenido.append("C").append(l).append(" C0 1 2\n");
+            } else if (l % 70 == 0) {
+                contenido.append("C").append(l).append(" C0 1 2 tres 4\n");
+            } else if (l % 50 == 0) {
+                contenido.append("# comentario\n\n");
+                l++;
+            } else {
+                contenido.append("C").append(l).append(" C").append(l + 1).append(" 1 2 3 4\n");
+            }
+        }
+        Path archivo = directorio.resolve("errores.txt");
+        Files.write(archivo, contenido.toString().getBytes(StandardCharsets.UTF_8));
+
+        String serie = cargar(archivo, new Grafo(16), 1, 1000);
+        String paralelo = cargar(archivo, new Grafo(16), 4, 1000);
+        assertEquals(serie, paralelo);
+        List<String> lineas = serie.lines().collect(Collectors.toList());
+        assertEquals(List.of("Error en línea 70: formato de número incorrecto.",
+                             "Error en línea 100: formato incorrecto. Se esperan al menos 6 valores.",
+                             "Error en línea 140: formato de número incorrecto.",
+                             "Error en línea 200: formato incorrecto. Se esperan al menos 6 valores.",
+                             "Error en línea 210: formato de número incorrecto.",
+                             "Error en línea 280: formato de número incorrecto.",
+                             "Error en línea 300: formato incorrecto. Se esperan al menos 6 valores."), lineas);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: LecturaBenchmark.java
+ * Descripción: Reporte en MB/s de la lectura de un archivo de conexiones generado con CreadorArchivo:
+ *              la lectura anterior (readLine, split y Double.parseDouble) contra TokenizadorConexiones.
+ *              La meta es leer a 100 MB/s o más con el tokenizador; como referencia se reporta también la
+ *              velocidad de solo leer los bytes del canal y contar las líneas. Al final compara la carga completa
+ *              del grafo desde el archivo de texto con la carga desde el mismo grafo en formato binario.
+ *              No es una prueba unitaria; se ejecuta a mano después de compilar las pruebas:
+ *              java -Xms2g -Xmx2g -cp target/classes:target/test-classes com.hdt10.LecturaBenchmark [ciudades]
+ *              (con el heap fijo, el tiempo no incluye los ajustes de tamaño del heap)
+ */
+
+package com.hdt10;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import com.hdt10.CreadorArchivo.Topologia;
+
+public class LecturaBenchmark {
+    private static final int REPETICIONES = 5;
+    private static final double META_MB_POR_SEGUNDO = 100;
+
+    public static void main(String[] args) throws IOException {
+        int ciudades = (args.length > 0) ? Integer.parseInt(args[0]) : 500000;
+        File archivo = File.createTempFile("conexiones", ".txt");
+        archivo.deleteOnExit();
+        long conexiones = CreadorArchivo.crearArchivoSintetico(archivo.getPath(), Topologia.CARRETERAS, ciudades, 42);
+        double megabytes = archivo.length() / 1e6;
+        System.out.printf("%d conexiones, %.1f MB%n", conexiones, megabytes);
+
+        double referencia = Double.MAX_VALUE;
+        double anterior = Double.MAX_VALUE;
+        double tokenizador = Double.MAX_VALUE;
+        for (int r = 0; r < REPETICIONES; r++) {
+            long inicio = System.nanoTime();
+            long lineas = contarLineas(archivo);
+            referencia = Math.min(referencia, (System.nanoTime() - inicio) / 1e9);
+            if (lineas != conexiones) throw new IllegalStateException("Se contaron " + lineas + " líneas");
+
+            inicio = System.nanoTime();
+            ConstructorGrafo constructor = leerConSplit(archivo);
+            anterior = Math.min(anterior, (System.nanoTime() - inicio) / 1e9);
+            verificar(constructor, conexiones);
+
+            inicio = System.nanoTime();
+            constructor = new ConstructorGrafo((int) (archivo.length() / 40));
+            try (FileChannel canal = FileChannel.open(archivo.toPath(), StandardOpenOption.READ)) {
+                new TokenizadorConexiones(constructor).leer(canal);
+            }
+            tokenizador = Math.min(tokenizador, (System.nanoTime() - inicio) / 1e9);
+            verificar(constructor, conexiones);
+        }
+        System.out.printf("%-14s %8.2f s %10.1f MB/s%n", "solo lectura", referencia, megabytes / referencia);
+        System.out.printf("%-14s %8.2f s %10.1f MB/s%n", "split", anterior, megabytes / anterior);
+        System.out.printf("%-14s %8.2f s %10.1f MB/s   aceleración %.1fx%n", "tokenizador", tokenizador,
+                          megabytes / tokenizador, anterior / tokenizador);
+        System.out.println((megabytes / tokenizador >= META_MB_POR_SEGUNDO) ? "Meta alcanzada" : "Meta no alcanzada");
+
+        File binario = File.createTempFile("conexiones", ".bin");
+        binario.deleteOnExit();
+        Grafo grafo = new Grafo(16);
+        LectorArchivo.cargarConexiones(archivo.getPath(), grafo, false);
+        ArchivoBinario.guardar(grafo, binario.getPath(), false);
+        double texto = Double.MAX_VALUE;
+        double formatoBinario = Double.MAX_VALUE;
+        for (int r = 0; r < REPETICIONES; r++) {
+            long inicio = System.nanoTime();
+            LectorArchivo.cargarConexiones(archivo.getPath(), new Grafo(16), false);
+            texto = Math.min(texto, (System.nanoTime() - inicio) / 1e9);
+
+            inicio = System.nanoTime();
+            grafo = ArchivoBinario.cargar(binario.getPath());
+            formatoBinario = Math.min(formatoBinario, (System.nanoTime() - inicio) / 1e9);
+            if (grafo.getCiudades().size() != ciudades) throw new IllegalStateException("Carga binaria incompleta");
+        }
+        System.out.printf("%-14s %8.2f s (%.1f MB)%n", "grafo texto", texto, megabytes);
+        System.out.printf("%-14s %8.2f s (%.1f MB)   aceleración %.1fx%n", "grafo binario", formatoBinario,
+                          binario.length() / 1e6, texto / formatoBinario);
+    }
+
+    // Cota de referencia: leer los bloques del canal y contar saltos de línea
+    private static long contarLineas(File archivo) throws IOException {
+        long lineas = 0;
+        byte[] bloque = new byte[TokenizadorConexiones.TAMANO_BUFFER];
+        try (FileChannel canal = FileChannel.open(archivo.toPath(), StandardOpenOption.READ)) {
+            int leidos;
+            while ((leidos = canal.read(ByteBuffer.wrap(bloque))) > 0) {
+                for (int p = 0; p < leidos; p++) {
+                    if (bloque[p] == '\n') lineas++;
+                }
+            }
+        }
+        return lineas;
+    }
+
+    // La lectura de LectorArchivo antes del tokenizador
+    private static ConstructorGrafo leerConSplit(File archivo) throws IOException {
+        ConstructorGrafo constructor = new ConstructorGrafo((int) (archivo.length() / 40));
+        try (BufferedReader br = new BufferedReader(new FileReader(archivo))) {
+            String linea;
+            while ((linea = br.readLine()) != null) {
+                if (linea.trim().isEmpty() || linea.trim().startsWith("#")) continue;
+                String[] partes = linea.trim().split("\\s+");
+                constructor.agregarConexion(partes[0], partes[1], Double.parseDouble(partes[2]),
+                        Double.parseDouble(partes[3]), Double.parseDouble(partes[4]), Double.parseDouble(partes[5]));
+            }
+        }
+        return constructor;
+    }
+
+    private static void verificar(ConstructorGrafo constructor, long conexiones) {
+        if (constructor.getCantidadConexiones() != conexiones) {
+            throw new IllegalStateException("Se leyeron " + constructor.getCantidadConexiones() + " conexiones");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: LoteClimaTest.java
+ * Descripción: Pruebas de los lotes de cambios de clima aplicados con un solo recálculo
+ */
+
+package com.hdt10;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+import com.hdt10.Grafo.EstrategiaRecalculo;
+
+class LoteClimaTest {
+    private static final CondicionClimatica[] CONDICIONES = CondicionClimatica.values();
+
+    // Cuadrícula en ambos sentidos con tiempos aleatorios; el índice de cada ciudad coincide con su nombre
+    private Grafo crearCuadricula(int lado, long semilla) {
+        Grafo grafo = new Grafo(lado * lado);
+        Random random = new Random(semilla);
+        for (int i = 0; i < lado * lado; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int f = 0; f < lado; f++) {
+            for (int c = 0; c < lado; c++) {
+                int a = f * lado + c;
+                if (c + 1 < lado) {
+                    conectar(grafo, a, a + 1, random);
+                    conectar(grafo, a + 1, a, random);
+                }
+                if (f + 1 < lado) {
+                    conectar(grafo, a, a + lado, random);
+                    conectar(grafo, a + lado, a, random);
+                }
+            }
+        }
+        return grafo;
+    }
+
+    private void conectar(Grafo grafo, int a, int b, Random random) {
+        double normal = 1 + random.nextDouble() * 10;
+        grafo.agregarConexion("C" + a, "C" + b, normal, normal * 1.5, normal * 2, normal * 4);
+    }
+
+    // Lote de cambios al azar sobre conexiones horizontales de la cuadrícula
+    private LoteClima crearLote(int lado, int cambios, long semilla) {
+        LoteClima lote = new LoteClima(4);
+        Random random = new Random(semilla);
+        for (int k = 0; k < cambios; k++) {
+            int f = random.nextInt(lado);
+            int c = random.nextInt(lado - 1);
+            lote.agregar(f * lado + c, f * lado + c + 1, CONDICIONES[random.nextInt(CONDICIONES.length)]);
+        }
+        return lote;
+    }
+
+    // Compara contra un grafo igual al que se le aplicaron los mismos cambios y se recalculó desde cero
+    private void verificarContraRecalculo(Grafo grafo, LoteClima lote, int lado, long semilla) {
+        Grafo esperado = crearCuadricula(lado, semilla);
+        for (int k = 0; k < lote.getCantidad(); k++) {
+            esperado.cambiarCondicionConexion(lote.getOrigen(k), lote.getDestino(k), lote.getCondicion(k));
+        }
+        esperado.floyd();
+        int n = lado * lado;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(esperado.getResultadoRutas().getDistancia(i, j),
+                             grafo.getResultadoRutas().getDistancia(i, j), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    //Un lote pequeño se corrige de forma incremental y da las mismas rutas que recalcular
+    void testLotePequenoIncremental() {
+        Grafo grafo = crearCuadricula(12, 1);
+        grafo.floyd();
+        LoteClima lote = crearLote(12, 5, 2);
+        ResumenLote resumen = grafo.aplicarLote(lote);
+        assertEquals(5, resumen.getConexionesTocadas());
+        assertTrue(resumen.getConexionesCambiadas() > 0);
+        assertEquals(EstrategiaRecalculo.INCREMENTAL, resumen.getEstrategia());
+        assertTrue(grafo.hayRutasCalculadas());
+        verificarContraRecalculo(grafo, lote, 12, 1);
+    }
+
+    @Test
+    //Un lote grande se aplica completo y se recalculan las rutas una sola vez
+    void testLoteGrandeCompleto() {
+        Grafo grafo = crearCuadricula(12, 3);
+        grafo.floyd();
+        LoteClima lote = crearLote(12, 200, 4);
+        ResumenLote resumen = grafo.aplicarLote(lote);
+        assertEquals(EstrategiaRecalculo.COMPLETA, resumen.getEstrategia());
+        assertTrue(grafo.hayRutasCalculadas());
+        verificarContraRecalculo(grafo, lote, 12, 3);
+    }
+
+    @Test
+    //Sin rutas calculadas o sin tiempos distintos no hay nada que recalcular
+    void testSinRecalculo() {
+        Grafo grafo = crearCuadricula(6, 5);
+        LoteClima lote = new LoteClima(2);
+        lote.agregar(0, 1, CondicionClimatica.NIEVE);
+        assertEquals(EstrategiaRecalculo.NINGUNA, grafo.aplicarLote(lote).getEstrategia());
+        assertFalse(grafo.hayRutasCalculadas());
+        assertEquals(CondicionClimatica.NIEVE, grafo.getCondicionConexion(0, 1));
+
+        grafo.floyd();
+        ResumenLote resumen = grafo.aplicarLote(lote);
+        assertEquals(1, resumen.getConexionesTocadas());
+        assertEquals(0, resumen.getConexionesCambiadas());
+        assertEquals(EstrategiaRecalculo.NINGUNA, resumen.getEstrategia());
+
+        // El lote se puede vaciar y reutilizar
+        lote.limpiar();
+        assertEquals(0, lote.getCantidad());
+        assertEquals(0, grafo.aplicarLote(lote).getConexionesTocadas());
+    }
+
+    @Test
+    //Si una conexión del lote no existe no se aplica ningún cambio
+    void testLoteTransaccional() {
+        Grafo grafo = crearCuadricula(6, 7);
+        grafo.floyd();
+        LoteClima lote = new LoteClima(2);
+        lote.agregar(0, 1, CondicionClimatica.TORMENTA);
+        lote.agregar(0, 35, CondicionClimatica.TORMENTA);
+        assertThrows(IllegalArgumentException.class, () -> grafo.aplicarLote(lote));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion(0, 1));
+        assertTrue(grafo.hayRutasCalculadas());
+    }
+
+    @Test
+    //Un cambio sin condición rechaza todo el lote y deja las rutas vigentes sin tocar
+    void testLoteSinCondicion() {
+        Grafo grafo = new Grafo(3);
+        grafo.agregarConexion("A", "B", 1, 1, 1, 100);
+        grafo.agregarConexion("B", "C", 1, 1, 1, 1);
+        grafo.agregarConexion("A", "C", 50, 50, 50, 50);
+        grafo.floyd();
+        LoteClima lote = new LoteClima(2);
+        lote.agregar(0, 1, CondicionClimatica.TORMENTA);
+        lote.agregar(1, 2, null);
+        assertThrows(IllegalArgumentException.class, () -> grafo.aplicarLote(lote));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion(0, 1));
+        assertTrue(grafo.hayRutasCalculadas());
+        assertEquals("Ruta: A -> B -> C\nTiempo: " + String.format("%.2f", 2.0), grafo.obtenerRuta("A", "C").toString());
+    }
+
+    @Test
+    //Una conexión repetida en el lote cuenta una vez y queda con su última condición
+    void testLoteConRepetidas() {
+        Grafo grafo = crearCuadricula(6, 9);
+        grafo.floyd();
+        LoteClima lote = new LoteClima(4);
+        lote.agregar(0, 1, CondicionClimatica.TORMENTA);
+        lote.agregar(2, 3, CondicionClimatica.NIEVE);
+        lote.agregar(0, 1, CondicionClimatica.NORMAL);
+        ResumenLote resumen = grafo.aplicarLote(lote);
+        assertEquals(2, resumen.getConexionesTocadas());
+        assertEquals(1, resumen.getConexionesCambiadas());
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion(0, 1));
+        assertEquals(CondicionClimatica.NIEVE, grafo.getCondicionConexion(2, 3));
+        verificarContraRecalculo(grafo, lote, 6, 9);
+
+        // Un cambio y su contrario sobre la misma conexión no cambian nada
+        lote.limpiar();
+        lote.agregar(4, 5, CondicionClimatica.TORMENTA);
+        lote.agregar(4, 5, CondicionClimatica.NORMAL);
+        resumen = grafo.aplicarLote(lote);
+        assertEquals(1, resumen.getConexionesTocadas());
+        assertEquals(0, resumen.getConexionesCambiadas());
+        assertEquals(EstrategiaRecalculo.NINGUNA, resumen.getEstrategia());
+    }
+}
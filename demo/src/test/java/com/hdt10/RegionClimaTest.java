@@ -0,0 +1,132 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: RegionClimaTest.java
+ * Descripción: Pruebas de los cambios de clima por región: por saltos, por radio y por grupo de ciudades
+ */
+
+package com.hdt10;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.Grafo.CondicionClimatica;
+import com.hdt10.Grafo.EstrategiaRecalculo;
+
+class RegionClimaTest {
+
+    // Cuadrícula en ambos sentidos con tiempos aleatorios; el índice de cada ciudad coincide con su nombre
+    private Grafo crearCuadricula(int lado, long semilla) {
+        Grafo grafo = new Grafo(lado * lado);
+        Random random = new Random(semilla);
+        for (int i = 0; i < lado * lado; i++) {
+            grafo.agregarCiudad("C" + i);
+        }
+        for (int f = 0; f < lado; f++) {
+            for (int c = 0; c < lado; c++) {
+                int a = f * lado + c;
+                if (c + 1 < lado) {
+                    conectar(grafo, a, a + 1, random);
+                    conectar(grafo, a + 1, a, random);
+                }
+                if (f + 1 < lado) {
+                    conectar(grafo, a, a + lado, random);
+                    conectar(grafo, a + lado, a, random);
+                }
+            }
+        }
+        return grafo;
+    }
+
+    private void conectar(Grafo grafo, int a, int b, Random random) {
+        double normal = 1 + random.nextDouble() * 10;
+        grafo.agregarConexion("C" + a, "C" + b, normal, normal * 1.5, normal * 2, normal * 6);
+    }
+
+    // Aplica a otro grafo igual las mismas condiciones una por una, recalcula y compara las distancias
+    private void verificarContraRecalculo(Grafo grafo, int lado, long semilla) {
+        Grafo esperado = crearCuadricula(lado, semilla);
+        for (Map.Entry<String, CondicionClimatica> conexion : grafo.getTodasLasCondiciones().entrySet()) {
+            String[] ciudades = conexion.getKey().split("->");
+            esperado.cambiarCondicionConexion(ciudades[0], ciudades[1], conexion.getValue());
+        }
+        esperado.floyd();
+        int n = lado * lado;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(esperado.getResultadoRutas().getDistancia(i, j),
+                             grafo.getResultadoRutas().getDistancia(i, j), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    //Por saltos se tocan las conexiones entre ciudades a k saltos, corrigiendo las rutas de forma incremental
+    void testClimaPorSaltos() {
+        Grafo grafo = crearCuadricula(30, 1);
+        grafo.floyd();
+        // El centro C465 y sus 4 vecinas: 8 conexiones entre ellas
+        ResumenLote resumen = grafo.aplicarClimaPorSaltos("C465", 1, CondicionClimatica.TORMENTA);
+        assertEquals(8, resumen.getConexionesTocadas());
+        assertEquals(8, resumen.getConexionesCambiadas());
+        assertEquals(EstrategiaRecalculo.INCREMENTAL, resumen.getEstrategia());
+        assertEquals(CondicionClimatica.TORMENTA, grafo.getCondicionConexion("C466", "C465"));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion("C466", "C467"));
+        verificarContraRecalculo(grafo, 30, 1);
+
+        // A 2 saltos hay 13 ciudades y 32 conexiones: las de tormenta bajan y las demás suben
+        resumen = grafo.aplicarClimaPorSaltos("C465", 2, CondicionClimatica.LLUVIA);
+        assertEquals(32, resumen.getConexionesTocadas());
+        assertEquals(EstrategiaRecalculo.INCREMENTAL, resumen.getEstrategia());
+        verificarContraRecalculo(grafo, 30, 1);
+        assertEquals(0, grafo.aplicarClimaPorSaltos("C0", 0, CondicionClimatica.NIEVE).getConexionesTocadas());
+    }
+
+    @Test
+    //Por radio se tocan las conexiones entre ciudades alcanzables en el tiempo dado
+    void testClimaPorRadio() {
+        Grafo grafo = crearCuadricula(15, 2);
+        grafo.floyd();
+        double radio = 12;
+        grafo.aplicarClimaPorRadio("C112", radio, CondicionClimatica.NIEVE);
+        Grafo original = crearCuadricula(15, 2);
+        original.floyd();
+        for (Map.Entry<String, CondicionClimatica> conexion : grafo.getTodasLasCondiciones().entrySet()) {
+            String[] ciudades = conexion.getKey().split("->");
+            int a = Integer.parseInt(ciudades[0].substring(1));
+            int b = Integer.parseInt(ciudades[1].substring(1));
+            boolean dentro = original.getResultadoRutas().getDistancia(112, a) <= radio || a == 112;
+            dentro &= original.getResultadoRutas().getDistancia(112, b) <= radio || b == 112;
+            assertEquals(dentro ? CondicionClimatica.NIEVE : CondicionClimatica.NORMAL, conexion.getValue());
+        }
+        verificarContraRecalculo(grafo, 15, 2);
+    }
+
+    @Test
+    //Una región con nombre se aplica completa; muchas conexiones cambiadas recalculan todas las rutas
+    void testClimaPorGrupo() {
+        Grafo grafo = crearCuadricula(6, 3);
+        grafo.floyd();
+        grafo.definirRegion("Occidente", Arrays.asList("C0", "C1", "C6", "C7"));
+        ResumenLote resumen = grafo.aplicarClimaRegion("Occidente", CondicionClimatica.TORMENTA);
+        assertEquals(8, resumen.getConexionesTocadas());
+        assertEquals(EstrategiaRecalculo.COMPLETA, resumen.getEstrategia());
+        assertEquals(CondicionClimatica.TORMENTA, grafo.getCondicionConexion("C7", "C6"));
+        assertEquals(CondicionClimatica.NORMAL, grafo.getCondicionConexion("C7", "C8"));
+        verificarContraRecalculo(grafo, 6, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> grafo.aplicarClimaRegion("Oriente", CondicionClimatica.NIEVE));
+        assertThrows(IllegalArgumentException.class, () -> grafo.definirRegion("Norte", Arrays.asList("C0", "Peten")));
+        assertThrows(IllegalArgumentException.class, () -> grafo.aplicarClimaPorSaltos("Peten", 1, CondicionClimatica.NIEVE));
+        assertThrows(IllegalArgumentException.class, () -> grafo.aplicarClimaPorRadio("C0", -1, CondicionClimatica.NIEVE));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: TablaCiudadesTest.java
+ * Descripción: Pruebas de la tabla de símbolos de los nombres de las ciudades
+ */
+
+package com.hdt10;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TablaCiudadesTest {
+    @Test
+    //Los índices son consecutivos, se conservan al crecer y cada nombre se guarda una sola vez
+    void testAgregarYBuscar() {
+        TablaCiudades tabla = new TablaCiudades(1);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, tabla.agregar("C" + i));
+        }
+        assertEquals(5000, tabla.size());
+        for (int i = 0; i < 5000; i++) {
+            String nombre = "C" + i;
+            assertEquals(i, tabla.buscar(nombre));
+            assertEquals(i, tabla.agregar(nombre));
+            assertEquals(nombre, tabla.getNombre(i));
+            assertSame(tabla.getNombre(i), tabla.getNombre(i));
+        }
+        assertEquals(5000, tabla.size());
+        assertEquals(-1, tabla.buscar("C5000"));
+        assertEquals(-1, tabla.buscar(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> tabla.getNombre(5000));
+    }
+
+    @Test
+    //Nombres distintos con el mismo hashCode no se confunden
+    void testColisiones() {
+        TablaCiudades tabla = new TablaCiudades(4);
+        // "Aa" y "BB" tienen el mismo hashCode
+        assertEquals(0, tabla.agregar("AaAa"));
+        assertEquals(1, tabla.agregar("BBBB"));
+        assertEquals(2, tabla.agregar("AaBB"));
+        assertEquals(3, tabla.agregar("BBAa"));
+        assertEquals(1, tabla.buscar("BBBB"));
+        assertEquals(3, tabla.buscar("BBAa"));
+        assertEquals(-1, tabla.buscar("AaAaAa"));
+    }
+
+    @Test
+    //El conjunto recorre los nombres en orden de índice y refleja los que se agregan; la copia no cambia
+    void testConjuntoYCopia() {
+        TablaCiudades tabla = new TablaCiudades(2);
+        tabla.agregar("Guatemala");
+        tabla.agregar("Cobán");
+        Set<String> conjunto = tabla.comoConjunto();
+        TablaCiudades copia = tabla.copiar();
+        tabla.agregar("Petén");
+
+        assertEquals(List.of("Guatemala", "Cobán", "Petén"), new ArrayList<>(conjunto));
+        assertTrue(conjunto.contains("Petén"));
+        assertFalse(conjunto.contains("Flores"));
+        assertEquals(Set.of("Guatemala", "Cobán", "Petén"), conjunto);
+        assertThrows(UnsupportedOperationException.class, () -> conjunto.remove("Cobán"));
+
+        assertEquals(2, copia.size());
+        assertEquals(-1, copia.buscar("Petén"));
+        assertEquals(1, copia.buscar("Cobán"));
+        assertEquals(2, copia.agregar("Flores"));
+        assertEquals(-1, tabla.buscar("Flores"));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: TablaRutasTest.java
+ * Descripción: Pruebas de la tabla de tiempos y rutas entre muchos orígenes y muchos destinos
+ */
+
+package com.hdt10;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.hdt10.CreadorArchivo.Topologia;
+
+class TablaRutasTest {
+    private static int[] indicesAlAzar(int cantidad, int n, int semilla) {
+        int[] indices = new int[cantidad];
+        for (int k = 0; k < cantidad; k++) {
+            indices[k] = (int) (((long) (k + semilla) * 7919) % n);
+        }
+        return indices;
+    }
+
+    // Compara cada celda de la tabla con getTiempo y obtenerRuta del mismo par
+    private static void assertIgualAConsultas(Grafo grafo, int[] origenes, int[] destinos, TablaRutas tabla) {
+        assertEquals(origenes.length, tabla.getCantidadOrigenes());
+        assertEquals(destinos.length, tabla.getCantidadDestinos());
+        double[] tiempos = tabla.getTiempos();
+        for (int f = 0; f < origenes.length; f++) {
+            for (int c = 0; c < destinos.length; c++) {
+                double esperado = grafo.getTiempo(origenes[f], destinos[c]);
+                assertEquals(esperado, tiempos[f * destinos.length + c], 1e-9);
+                assertEquals(esperado, tabla.getTiempo(f, c), 1e-9);
+                if (!tabla.tieneCaminos()) continue;
+                Ruta ruta = tabla.obtenerRuta(f, c);
+                if (esperado == Double.POSITIVE_INFINITY) {
+                    assertNull(ruta);
+                    continue;
+                }
+                // Con empates el camino puede ser otro, pero debe empezar, terminar y costar lo mismo
+                List<String> camino = ruta.getCamino();
+                assertEquals(grafo.getNombreCiudad(origenes[f]), camino.get(0));
+                assertEquals(grafo.getNombreCiudad(destinos[c]), camino.get(camino.size() - 1));
+                assertEquals(esperado, ruta.getTiempo(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    //Sin rutas de floyd(), los Dijkstra por origen dan lo mismo que las consultas par por par, en serie y en paralelo
+    void testConDijkstra() {
+        for (int paralelismo : new int[] {1, 4}) {
+            Grafo grafo = GeneradorGrafos.generar(Topologia.CARRETERAS, 300, 7).construir();
+            grafo.setParalelismo(paralelismo);
+            int[] origenes = indicesAlAzar(40, 300, 1);
+            int[] destinos = indicesAlAzar(25, 300, 3);
+            assertIgualAConsultas(grafo, origenes, destinos, grafo.calcularTablaRutas(origenes, destinos, true));
+            assertIgualAConsultas(grafo, origenes, destinos, grafo.calcularTablaRutas(origenes, destinos, false));
+            assertFalse(grafo.hayRutasCalculadas());
+        }
+    }
+
+    @Test
+    //Con las rutas de floyd() la tabla sale de la matriz, y corregirla después no cambia los caminos de la tabla
+    void testConFloyd() {
+        Grafo grafo = GeneradorGrafos.generar(Topologia.DISPERSO, 80, 2).construir();
+        grafo.floyd();
+        int[] origenes = indicesAlAzar(30, 80, 5);
+        int[] destinos = indicesAlAzar(30, 80, 9);
+        TablaRutas tabla = grafo.calcularTablaRutas(origenes, destinos, true);
+        assertIgualAConsultas(grafo, origenes, destinos, tabla);
+
+        Ruta antes = tabla.obtenerRuta(0, 1);
+        int u = grafo.getIndiceCiudad(antes.getCamino().get(0));
+        int v = grafo.getIndiceCiudad(antes.getCamino().get(1));
+        if (u != v) {
+            grafo.eliminarConexion(u, v);
+            assertTrue(grafo.hayRutasCalculadas());
+            assertEquals(antes.getCamino(), tabla.obtenerRuta(0, 1).getCamino());
+        }
+    }
+
+    @Test
+    //Los repetidos se calculan una vez, los inexistentes no tienen ruta y la diagonal es el ciclo más corto
+    void testRepetidosEInexistentes() {
+        Grafo grafo = new Grafo(4);
+        grafo.agregarConexion("A", "B", 1, 2, 3, 4);
+        grafo.agregarConexion("B", "C", 2, 3, 4, 5);
+        grafo.agregarConexion("C", "A", 4, 5, 6, 7);
+        grafo.agregarCiudad("D");
+        List<String> origenes = List.of("A", "Z", "A", "D");
+        List<String> destinos = List.of("A", "C", "C", "Z");
+
+        for (boolean conFloyd : new boolean[] {false, true}) {
+            if (conFloyd) grafo.floyd();
+            double inf = Double.POSITIVE_INFINITY;
+            double[] esperados = {7, 3, 3, inf,
+                                  inf, inf, inf, inf,
+                                  7, 3, 3, inf,
+                                  inf, inf, inf, inf};
+            double[] tiempos = grafo.calcularTiempos(origenes, destinos);
+            for (int k = 0; k < esperados.length; k++) {
+                assertEquals(esperados[k], tiempos[k]);
+            }
+            TablaRutas tabla = grafo.calcularTablaRutas(origenes, destinos, true);
+            assertEquals(List.of("A"), tabla.obtenerRuta(2, 0).getCamino());
+            assertEquals(List.of("A", "B", "C"), tabla.obtenerRuta(0, 2).getCamino());
+            assertNull(tabla.obtenerRuta(1, 1));
+            assertFalse(tabla.recorrerRuta(3, 0, new CursorRuta()));
+            assertThrows(IndexOutOfBoundsException.class, () -> tabla.getTiempo(4, 0));
+        }
+        TablaRutas sinCaminos = grafo.calcularTablaRutas(new int[] {0}, new int[] {2}, false);
+        assertThrows(IllegalStateException.class, () -> sinCaminos.obtenerRuta(0, 0));
+        assertEquals(0, grafo.calcularTiempos(new int[0], new int[] {1}).length);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Universidad del Valle de Guatemala
+ * Algoritmos y Estructuras de Datos
+ * Ing. Douglas Barrios
+ * @author: Marcelo Detlefsen, Julián Divas
+ * Creación: 17/10/2026
+ * última modificación: 17/10/2026
+ * File Name: TokenizadorConexionesTest.java
+ * Descripción: Pruebas de la lectura de archivos de conexiones byte por byte
+ */
+
+package com.hdt10;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hdt10.Grafo.CondicionClimatica;
+
+class TokenizadorConexionesTest {
+    @TempDir
+    Path directorio;
+
+    private ConstructorGrafo leer(String contenido, int tamanoBuffer) throws IOException {
+        Path archivo = directorio.resolve("conexiones.txt");
+        Files.write(archivo, contenido.getBytes(StandardCharsets.UTF_8));
+        ConstructorGrafo constructor = new ConstructorGrafo();
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            new TokenizadorConexiones(constructor, tamanoBuffer).leer(canal);
+        }
+        return constructor;
+    }
+
+    @Test
+    //Acepta lo mismo que la lectura con split: espacios, tabuladores, CRLF, comentarios y valores extra
+    void testFormatoFlexible() throws IOException {
+        ConstructorGrafo constructor = leer("# comentario\r\n"
+                + "\r\n"
+                + "  Guatemala\tAntigua 5 6.5 7.25 10  extra\r\n"
+                + "Antigua Escuintla 2 3 4\n"
+                + "Antigua Escuintla 2 3 x 6\n"
+                + "Escuintla  Guatemala 1e1 +2.0 .5 3.\n"
+                + "Xela Ciudad_de_Panamá 1 2 3 4", 16);
+        assertEquals(3, constructor.getCantidadConexiones());
+        assertEquals(5, constructor.getCantidadCiudades());
+        assertEquals("Guatemala", constructor.getNombre(constructor.getOrigen(0)));
+        assertEquals(7.25, constructor.getPeso(CondicionClimatica.NIEVE, 0));
+        assertEquals(constructor.getOrigen(0), constructor.getDestino(1));
+        assertEquals(10.0, constructor.getPeso(CondicionClimatica.NORMAL, 1));
+        assertEquals(2.0, constructor.getPeso(CondicionClimatica.LLUVIA, 1));
+        assertEquals(0.5, constructor.getPeso(CondicionClimatica.NIEVE, 1));
+        assertEquals(3.0, constructor.getPeso(CondicionClimatica.TORMENTA, 1));
+        assertEquals("Ciudad_de_Panamá", constructor.getNombre(constructor.getDestino(2)));
+    }
+
+    @Test
+    //Los decimales convertidos a mano son idénticos a Double.parseDouble
+    void testDecimalesExactos() throws IOException {
+        Random random = new Random(11);
+        String[] valores = new String[4000];
+        StringBuilder contenido = new StringBuilder();
+        for (int v = 0; v < valores.length; v += 4) {
+            for (int t = 0; t < 4; t++) {
+                double numero = random.nextDouble() * Math.pow(10, random.nextInt(12));
+                valores[v + t] = (t == 3) ? Double.toString(numero)
+                                          : String.format(Locale.ROOT, "%." + random.nextInt(20) + "f", numero);
+            }
+            contenido.append("A").append(v % 50).append(" B ").append(valores[v]).append(' ').append(valores[v + 1])
+                     .append(' ').append(valores[v + 2]).append(' ').append(valores[v + 3]).append('\n');
+        }
+        ConstructorGrafo constructor = leer(contenido.toString(), TokenizadorConexiones.TAMANO_BUFFER);
+        assertEquals(valores.length / 4, constructor.getCantidadConexiones());
+        CondicionClimatica[] condiciones = CondicionClimatica.values();
+        for (int v = 0; v < valores.length; v++) {
+            assertEquals(Double.parseDouble(valores[v]), constructor.getPeso(condiciones[v % 4], v / 4), valores[v]);
+        }
+    }
+
+    @Test
+    //Con un bloque pequeño las líneas que cruzan bloques o no caben en uno se leen completas
+    void testLineasEntreBloques() throws IOException {
+        StringBuilder contenido = new StringBuilder();
+        for (int c = 0; c < 200; c++) {
+            contenido.append("Ciudad").append(c).append(" Ciudad").append(c + 1).append(" 1 2 3 4\n");
+        }
+        String largo = "X".repeat(300);
+        contenido.append(largo).append(" Ciudad0 1 2 3 4\n");
+        ConstructorGrafo constructor = leer(contenido.toString(), 32);
+        assertEquals(201, constructor.getCantidadConexiones());
+        assertEquals(202, constructor.getCantidadCiudades());
+        assertEquals(largo, constructor.getNombre(constructor.getOrigen(200)));
+        assertEquals(0, constructor.getDestino(200));
+    }
+
+    @Test
+    //LectorArchivo carga el grafo con el tokenizador
+    void testCargarConexiones() throws IOException {
+        Path archivo = directorio.resolve("rutas.txt");
+        Files.write(archivo, "Guatemala Antigua 5 6 7 10\nAntigua Escuintla 2 3 4 6\n".getBytes(StandardCharsets.UTF_8));
+        Grafo grafo = new Grafo(4);
+        assertTrue(LectorArchivo.cargarConexiones(archivo.toString(), grafo));
+        assertEquals(7.0, grafo.obtenerRuta("Guatemala", "Escuintla").getTiempo(), 0.001);
+    }
+}